@@ -23,6 +23,8 @@ import java.util.List;
 import javax.enterprise.inject.spi.CDI;
 import javax.enterprise.inject.spi.CDIProvider;
 
+import org.jboss.weld.Container;
+import org.jboss.weld.ContainerState;
 import org.jboss.weld.SimpleCDI;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.manager.BeanManagers;
@@ -42,7 +44,8 @@ public class WeldProvider implements CDIProvider {
          */
         private final BeanManagerImpl fallbackBeanManager;
 
-        public EnvironmentCDI() {
+        public EnvironmentCDI(Container container) {
+            super(container);
             // sort the managers by their ID and use the first one as the fallback BeanManager
             // this guarantees that we consistently use the same BM
             List<BeanManagerImpl> managers = new ArrayList<BeanManagerImpl>(getContainer().beanDeploymentArchives().values());
@@ -54,11 +57,26 @@ public class WeldProvider implements CDIProvider {
         protected BeanManagerImpl unsatisfiedBeanManager(String callerClassName) {
             return fallbackBeanManager;
         }
+
+        @Override
+        protected BeanManagerImpl getFlatBeanManager() {
+            // every caller ends up with the fallback BeanManager, no need to identify the caller
+            return getContainer().beanDeploymentArchives().size() == 1 ? fallbackBeanManager : null;
+        }
     }
 
     @Override
     public CDI<Object> getCDI() {
-        return new EnvironmentCDI();
+        // CDI.current() asks for a new instance every time, reuse the one created for the current container once it's initialized
+        Container container = Container.instance();
+        SimpleCDI cdi = container.getCDI();
+        if (!(cdi instanceof EnvironmentCDI)) {
+            cdi = new EnvironmentCDI(container);
+            if (container.getState() == ContainerState.INITIALIZED) {
+                container.setCDI(cdi);
+            }
+        }
+        return cdi;
     }
 
 }
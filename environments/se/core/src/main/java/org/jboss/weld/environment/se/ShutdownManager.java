@@ -16,8 +16,12 @@
  */
 package org.jboss.weld.environment.se;
 
+import java.lang.management.ManagementFactory;
+
 import javax.enterprise.inject.Vetoed;
 import javax.enterprise.inject.spi.BeanManager;
+import javax.management.JMException;
+import javax.management.ObjectName;
 
 import org.jboss.weld.bootstrap.api.Bootstrap;
 import org.jboss.weld.environment.se.logging.WeldSELogger;
@@ -30,10 +34,12 @@ public class ShutdownManager {
 
     private final Bootstrap bootstrap;
     private final BeanManager beanManager;
+    private final ObjectName runtimeMetricsName;
 
-    ShutdownManager(Bootstrap bootstrap, BeanManager beanManager) {
+    ShutdownManager(Bootstrap bootstrap, BeanManager beanManager, ObjectName runtimeMetricsName) {
         this.bootstrap = bootstrap;
         this.beanManager = beanManager;
+        this.runtimeMetricsName = runtimeMetricsName;
     }
 
     /**
@@ -47,6 +53,7 @@ public class ShutdownManager {
                 try {
                     beanManager.fireEvent(new Object(), DestroyedLiteral.APPLICATION);
                 } finally {
+                    unregisterRuntimeMetrics();
                     bootstrap.shutdown();
                 }
             } else {
@@ -56,4 +63,15 @@ public class ShutdownManager {
         }
     }
 
+    private void unregisterRuntimeMetrics() {
+        if (runtimeMetricsName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(runtimeMetricsName);
+        } catch (JMException e) {
+            WeldSELogger.LOG.catchingDebug(e);
+        }
+    }
+
 }
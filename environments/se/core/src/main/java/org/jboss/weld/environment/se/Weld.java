@@ -20,6 +20,7 @@ import static org.jboss.weld.config.ConfigurationKey.EXECUTOR_THREAD_POOL_TYPE;
 import static org.jboss.weld.executor.ExecutorServicesFactory.ThreadPoolType.COMMON;
 
 import java.lang.annotation.Annotation;
+import java.lang.management.ManagementFactory;
 import java.security.AccessController;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -31,7 +32,11 @@ import javax.enterprise.inject.Vetoed;
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.BeanManager;
 import javax.enterprise.inject.spi.Extension;
+import javax.management.JMException;
+import javax.management.ObjectName;
 
+import org.jboss.weld.Container;
+import org.jboss.weld.bootstrap.RuntimeMetrics;
 import org.jboss.weld.bootstrap.WeldBootstrap;
 import org.jboss.weld.bootstrap.api.Bootstrap;
 import org.jboss.weld.bootstrap.api.CDI11Bootstrap;
@@ -52,6 +57,7 @@ import org.jboss.weld.environment.deployment.discovery.DiscoveryStrategyFactory;
 import org.jboss.weld.environment.logging.CommonLogger;
 import org.jboss.weld.environment.se.contexts.ThreadScoped;
 import org.jboss.weld.environment.se.events.ContainerInitialized;
+import org.jboss.weld.environment.se.logging.WeldSELogger;
 import org.jboss.weld.literal.InitializedLiteral;
 import org.jboss.weld.metadata.MetadataImpl;
 import org.jboss.weld.resources.spi.ClassFileServices;
@@ -85,6 +91,8 @@ public class Weld {
 
     public static final String ARCHIVE_ISOLATION_SYSTEM_PROPERTY = "org.jboss.weld.se.archive.isolation";
 
+    private static final String RUNTIME_METRICS_OBJECT_NAME_PREFIX = "org.jboss.weld:type=RuntimeMetrics,container=";
+
     static {
         if (!(SingletonProvider.instance() instanceof RegistrySingletonProvider)) {
             // make sure RegistrySingletonProvider is used (required for supporting multiple parallel Weld instances)
@@ -158,7 +166,7 @@ public class Weld {
         final BeanManager manager = bootstrap.getManager(deployment.loadBeanDeploymentArchive(WeldContainer.class));
 
         // Set up the ShutdownManager for later
-        this.shutdownManager = new ShutdownManager(bootstrap, manager);
+        this.shutdownManager = new ShutdownManager(bootstrap, manager, registerRuntimeMetrics());
 
         WeldContainer container = getInstanceByType(manager, WeldContainer.class);
 
@@ -168,6 +176,28 @@ public class Weld {
         return container;
     }
 
+    /**
+     * Registers the runtime metrics of this container as a platform MBean, provided the metrics are enabled.
+     *
+     * @return the name of the registered MBean or <code>null</code>
+     * @see ConfigurationKey#RUNTIME_METRICS
+     */
+    private ObjectName registerRuntimeMetrics() {
+        RuntimeMetrics metrics = Container.instance(containerId).services().get(RuntimeMetrics.class);
+        if (metrics == null || !metrics.isEnabled()) {
+            return null;
+        }
+        String name = RUNTIME_METRICS_OBJECT_NAME_PREFIX + ObjectName.quote(containerId);
+        try {
+            ObjectName objectName = new ObjectName(name);
+            ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, objectName);
+            return objectName;
+        } catch (JMException e) {
+            WeldSELogger.LOG.unableToRegisterRuntimeMetrics(name, e);
+            return null;
+        }
+    }
+
     private Iterable<Metadata<Extension>> loadExtensions(ClassLoader classLoader, Bootstrap bootstrap) {
         Iterable<Metadata<Extension>> iter = bootstrap.loadExtensions(classLoader);
         if (extensions != null) {
@@ -1,6 +1,11 @@
 package org.jboss.weld.environment.se.logging;
 
 import org.jboss.logging.Logger;
+import org.jboss.logging.Logger.Level;
+import org.jboss.logging.annotations.Cause;
+import org.jboss.logging.annotations.LogMessage;
+import org.jboss.logging.annotations.Message;
+import org.jboss.logging.annotations.Message.Format;
 import org.jboss.logging.annotations.MessageLogger;
 import org.jboss.weld.environment.logging.Category;
 import org.jboss.weld.environment.logging.WeldEnvironmentLogger;
@@ -18,4 +23,8 @@ import org.jboss.weld.environment.logging.WeldEnvironmentLogger;
 public interface WeldSELogger extends WeldEnvironmentLogger {
     WeldSELogger LOG = Logger.getMessageLogger(WeldSELogger.class, Category.BOOTSTRAP.getName());
 
+    @LogMessage(level = Level.WARN)
+    @Message(id = 2000, value = "Unable to register the runtime metrics MBean {0}", format = Format.MESSAGE_FORMAT)
+    void unableToRegisterRuntimeMetrics(Object name, @Cause Throwable cause);
+
 }
@@ -0,0 +1,75 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.events.generic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.enterprise.util.TypeLiteral;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests that the event type resolved for a generic runtime type is cached and survives garbage collection, so that it is not resolved again for
+ * every event fired.
+ */
+@RunWith(Arquillian.class)
+public class GenericEventTypeTest {
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).addClass(ListObserver.class);
+    }
+
+    @Inject
+    ListObserver observer;
+
+    @Test
+    public void testEventTypeRetainedAfterGarbageCollection() throws Exception {
+        WeakReference<Type> eventTypeReference = fireEvent();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNotNull(eventTypeReference.get());
+        observer.fire(new ArrayList<String>());
+        assertSame(eventTypeReference.get(), ListObserver.lastEventType);
+    }
+
+    private WeakReference<Type> fireEvent() {
+        observer.fire(new ArrayList<String>());
+        Type eventType = ListObserver.lastEventType;
+        assertEquals(new TypeLiteral<ArrayList<String>>() {
+        }.getType(), eventType);
+        ListObserver.lastEventType = null;
+        return new WeakReference<Type>(eventType);
+    }
+
+}
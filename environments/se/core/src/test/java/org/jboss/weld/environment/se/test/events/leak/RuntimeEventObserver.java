@@ -0,0 +1,57 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.events.leak;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+@ApplicationScoped
+public class RuntimeEventObserver {
+
+    static final AtomicInteger OBJECTS = new AtomicInteger();
+
+    static final AtomicInteger SUPPLIERS = new AtomicInteger();
+
+    @Inject
+    private Event<Object> event;
+
+    @Inject
+    private Event<Supplier<String>> supplierEvent;
+
+    void fire(Object payload) {
+        event.fire(payload);
+    }
+
+    @SuppressWarnings("unchecked")
+    void fireSupplier(Object payload) {
+        supplierEvent.fire((Supplier<String>) payload);
+    }
+
+    void observeObject(@Observes Object payload) {
+        OBJECTS.incrementAndGet();
+    }
+
+    void observeSupplier(@Observes Supplier<?> payload) {
+        SUPPLIERS.incrementAndGet();
+    }
+
+}
@@ -0,0 +1,87 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.events.leak;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import javax.enterprise.inject.spi.BeanManager;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests that firing an event whose runtime type is defined by a throwaway class loader does not prevent the class loader from being garbage
+ * collected.
+ */
+@RunWith(Arquillian.class)
+public class RuntimeEventTypeTest {
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).addClass(RuntimeEventObserver.class);
+    }
+
+    @Inject
+    RuntimeEventObserver observer;
+
+    @Inject
+    BeanManager beanManager;
+
+    @Test
+    public void testClassLoaderOfEventTypeNotRetained() throws Exception {
+        RuntimeEventObserver.OBJECTS.set(0);
+        RuntimeEventObserver.SUPPLIERS.set(0);
+        WeakReference<ClassLoader> classLoaderReference = fireEvents();
+        assertEquals(9, RuntimeEventObserver.OBJECTS.get());
+        assertEquals(9, RuntimeEventObserver.SUPPLIERS.get());
+        for (int i = 0; i < 50 && classLoaderReference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(classLoaderReference.get());
+    }
+
+    private WeakReference<ClassLoader> fireEvents() throws Exception {
+        URL location = Payload.class.getProtectionDomain().getCodeSource().getLocation();
+        URLClassLoader classLoader = new URLClassLoader(new URL[] { location }, null);
+        Class<?> payloadClass = classLoader.loadClass(Payload.class.getName());
+        assertNotSame(Payload.class, payloadClass);
+        // the event type of a generic payload references the class loader
+        Class<?> genericPayloadClass = classLoader.loadClass(GenericPayload.class.getName());
+        for (int i = 0; i < 3; i++) {
+            observer.fire(payloadClass.newInstance());
+            beanManager.fireEvent(payloadClass.newInstance());
+            observer.fireSupplier(genericPayloadClass.newInstance());
+        }
+        assertEquals(2, beanManager.resolveObserverMethods(payloadClass.newInstance()).size());
+        classLoader.close();
+        return new WeakReference<ClassLoader>(classLoader);
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.provider;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.lang.ref.WeakReference;
+
+import javax.enterprise.inject.spi.CDI;
+
+import org.jboss.weld.environment.se.Weld;
+import org.junit.Test;
+
+/**
+ * Tests that the {@link CDI} instance cached for a container does not outlive the container.
+ */
+public class CDIInstanceReleasedTest {
+
+    @Test
+    public void testCDIInstanceReleasedAfterShutdown() throws Exception {
+        WeakReference<CDI<Object>> reference = initializeAndShutdown();
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(reference.get());
+    }
+
+    private WeakReference<CDI<Object>> initializeAndShutdown() {
+        Weld weld = new Weld();
+        try {
+            weld.initialize();
+            CDI<Object> cdi = CDI.current();
+            assertSame(cdi, CDI.current());
+            assertNotNull(cdi.getBeanManager());
+            return new WeakReference<CDI<Object>>(cdi);
+        } finally {
+            weld.shutdown();
+        }
+    }
+
+}
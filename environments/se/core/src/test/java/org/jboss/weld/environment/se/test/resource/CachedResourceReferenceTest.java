@@ -0,0 +1,101 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.resource;
+
+import static org.junit.Assert.assertEquals;
+
+import javax.enterprise.inject.spi.Unmanaged;
+import javax.enterprise.inject.spi.Unmanaged.UnmanagedInstance;
+
+import org.jboss.weld.bootstrap.api.CDI11Bootstrap;
+import org.jboss.weld.bootstrap.spi.Deployment;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+import org.jboss.weld.injection.spi.ResourceInjectionServices;
+import org.jboss.weld.resources.spi.ResourceLoader;
+import org.junit.Test;
+
+/**
+ * Tests that a cacheable resource reference is created once per resource injection point and declaring bean, no matter how many injection targets
+ * are built, and released when the container is shut down.
+ */
+public class CachedResourceReferenceTest {
+
+    private static final String GREETING = "greeting";
+    private static final String FAREWELL = "farewell";
+    private static final String INHERITED = "inherited";
+
+    @Test
+    public void testReferenceCreatedOncePerInjectionPoint() {
+        TestResourceInjectionServices services = new TestResourceInjectionServices();
+        Weld weld = createWeld(services);
+        try {
+            WeldContainer container = weld.initialize();
+            for (int i = 0; i < 10; i++) {
+                ResourceConsumer consumer = container.instance().select(ResourceConsumer.class).get();
+                assertEquals(GREETING, consumer.getGreeting());
+                assertEquals(FAREWELL, consumer.getFarewell());
+                // every Unmanaged builds a new injection target
+                UnmanagedInstance<ResourceConsumer> instance = new Unmanaged<ResourceConsumer>(container.getBeanManager(), ResourceConsumer.class)
+                        .newInstance();
+                consumer = instance.produce().inject().postConstruct().get();
+                assertEquals(GREETING, consumer.getGreeting());
+                assertEquals(FAREWELL, consumer.getFarewell());
+                instance.preDestroy().dispose();
+            }
+            // one reference for the bean and one for the non-contextual instances
+            assertEquals(2, services.getCreated(GREETING));
+            assertEquals(2, services.getCreated(FAREWELL));
+            assertEquals(0, services.getReleased(GREETING));
+            assertEquals(0, services.getReleased(FAREWELL));
+        } finally {
+            weld.shutdown();
+        }
+        assertEquals(2, services.getReleased(GREETING));
+        assertEquals(2, services.getReleased(FAREWELL));
+    }
+
+    @Test
+    public void testReferenceCreatedPerDeclaringBean() {
+        TestResourceInjectionServices services = new TestResourceInjectionServices();
+        Weld weld = createWeld(services);
+        try {
+            WeldContainer container = weld.initialize();
+            for (int i = 0; i < 10; i++) {
+                assertEquals(INHERITED, container.instance().select(FirstResourceConsumer.class).get().getInherited());
+                assertEquals(INHERITED, container.instance().select(SecondResourceConsumer.class).get().getInherited());
+            }
+            // the beans share the inherited injection point but not the reference
+            assertEquals(2, services.getCreated(INHERITED));
+        } finally {
+            weld.shutdown();
+        }
+        assertEquals(2, services.getReleased(INHERITED));
+    }
+
+    private static Weld createWeld(final TestResourceInjectionServices services) {
+        return new Weld() {
+            @Override
+            protected Deployment createDeployment(ResourceLoader resourceLoader, CDI11Bootstrap bootstrap) {
+                Deployment deployment = super.createDeployment(resourceLoader, bootstrap);
+                deployment.getServices().add(ResourceInjectionServices.class, services);
+                return deployment;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.resource;
+
+import javax.annotation.Resource;
+import javax.enterprise.context.Dependent;
+
+@Dependent
+public class ResourceConsumer {
+
+    @Resource(name = "greeting")
+    String greeting;
+
+    private String farewell;
+
+    @Resource(name = "farewell")
+    void setFarewell(String farewell) {
+        this.farewell = farewell;
+    }
+
+    public String getGreeting() {
+        return greeting;
+    }
+
+    public String getFarewell() {
+        return farewell;
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.environment.se.test.resource;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Resource;
+import javax.enterprise.inject.spi.InjectionPoint;
+
+import org.jboss.weld.injection.CacheableResourceInjectionServices;
+import org.jboss.weld.injection.spi.ResourceInjectionServices;
+import org.jboss.weld.injection.spi.ResourceReference;
+import org.jboss.weld.injection.spi.ResourceReferenceFactory;
+
+/**
+ * Resolves a resource to its name and counts the created and released references per resource name.
+ */
+class TestResourceInjectionServices implements ResourceInjectionServices, CacheableResourceInjectionServices {
+
+    private final ConcurrentMap<String, AtomicInteger> created = new ConcurrentHashMap<String, AtomicInteger>();
+
+    private final ConcurrentMap<String, AtomicInteger> released = new ConcurrentHashMap<String, AtomicInteger>();
+
+    @Override
+    public ResourceReferenceFactory<Object> registerResourceInjectionPoint(InjectionPoint injectionPoint) {
+        return registerResourceInjectionPoint(getName(injectionPoint), null);
+    }
+
+    @Override
+    public ResourceReferenceFactory<Object> registerResourceInjectionPoint(final String jndiName, String mappedName) {
+        return new ResourceReferenceFactory<Object>() {
+
+            @Override
+            public ResourceReference<Object> createResource() {
+                increment(created, jndiName);
+                return new ResourceReference<Object>() {
+
+                    @Override
+                    public Object getInstance() {
+                        return jndiName;
+                    }
+
+                    @Override
+                    public void release() {
+                        increment(released, jndiName);
+                    }
+                };
+            }
+        };
+    }
+
+    @Override
+    public Object resolveResource(InjectionPoint injectionPoint) {
+        return getName(injectionPoint);
+    }
+
+    @Override
+    public Object resolveResource(String jndiName, String mappedName) {
+        return jndiName;
+    }
+
+    @Override
+    public boolean isResourceReferenceCacheable(InjectionPoint injectionPoint) {
+        return true;
+    }
+
+    @Override
+    public void cleanup() {
+    }
+
+    int getCreated(String name) {
+        return get(created, name);
+    }
+
+    int getReleased(String name) {
+        return get(released, name);
+    }
+
+    private static String getName(InjectionPoint injectionPoint) {
+        // the annotation of a setter injection point is declared on the method
+        return ((AnnotatedElement) injectionPoint.getMember()).getAnnotation(Resource.class).name();
+    }
+
+    private static void increment(ConcurrentMap<String, AtomicInteger> counters, String name) {
+        counters.computeIfAbsent(name, (key) -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private static int get(ConcurrentMap<String, AtomicInteger> counters, String name) {
+        AtomicInteger counter = counters.get(name);
+        return counter != null ? counter.get() : 0;
+    }
+
+}
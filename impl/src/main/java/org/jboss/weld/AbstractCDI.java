@@ -19,8 +19,15 @@ package org.jboss.weld;
 import static org.jboss.weld.util.reflection.Reflections.cast;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import javax.enterprise.inject.Instance;
 import javax.enterprise.inject.spi.CDI;
@@ -95,24 +102,137 @@ public abstract class AbstractCDI<T> extends CDI<T> {
     }
 
     /**
-     * Examines {@link StackTraceElement}s to figure out which class invoked a method on {@link CDI}.
+     * Figures out which class invoked a method on {@link CDI}. The {@code StackWalker} is used if available (Java 9+). Otherwise, the class context of
+     * the current thread is examined if available, which is considerably cheaper than capturing the stack trace. If neither is available,
+     * {@link StackTraceElement}s are examined.
      */
     protected String getCallingClassName() {
+        String callingClassName;
+        if (CallerStackWalker.isAvailable()) {
+            callingClassName = CallerStackWalker.walk(this::findCallingClassName);
+        } else {
+            Class<?>[] classContext = CallerClassContext.get();
+            callingClassName = classContext != null ? findCallingClassName(Arrays.stream(classContext).map(Class::getName).iterator()) : null;
+        }
+        if (callingClassName == null) {
+            // fall back to the stack trace
+            callingClassName = findCallingClassName(Arrays.stream(Thread.currentThread().getStackTrace()).map(StackTraceElement::getClassName)
+                    .iterator());
+        }
+        if (callingClassName == null) {
+            throw BeanManagerLogger.LOG.unableToIdentifyBeanManager();
+        }
+        return callingClassName;
+    }
+
+    /**
+     *
+     * @param classNames the class names on the call stack, the innermost first
+     * @return the calling class name or <code>null</code> if the caller cannot be identified
+     */
+    private String findCallingClassName(Iterator<String> classNames) {
         boolean outerSubclassReached = false;
-        for (StackTraceElement element : Thread.currentThread().getStackTrace()) {
+        while (classNames.hasNext()) {
+            String className = classNames.next();
             // the method call that leads to the first invocation of this class or its subclass is considered the caller
-            if (!knownClassNames.contains(element.getClassName())) {
+            if (!knownClassNames.contains(className)) {
                 if (outerSubclassReached) {
-                    return element.getClassName();
+                    return className;
                 }
             } else {
                 outerSubclassReached = true;
             }
         }
-        throw BeanManagerLogger.LOG.unableToIdentifyBeanManager();
+        return null;
     }
 
     private Instance<T> getInstance() {
         return cast(BeanManagerProxy.unwrap(getBeanManager()).instance());
     }
+
+    /**
+     * Exposes {@link SecurityManager#getClassContext()} which returns the classes on the call stack without the overhead of filling in the stack
+     * trace. The instance is never installed as the security manager.
+     */
+    private static final class CallerClassContext extends SecurityManager {
+
+        private static final CallerClassContext INSTANCE = create();
+
+        private static CallerClassContext create() {
+            try {
+                return new CallerClassContext();
+            } catch (SecurityException e) {
+                // not allowed to create a security manager
+                return null;
+            }
+        }
+
+        static Class<?>[] get() {
+            return INSTANCE != null ? INSTANCE.getClassContext() : null;
+        }
+    }
+
+    /**
+     * Walks the call stack lazily using {@code java.lang.StackWalker}. The API is accessed through method handles as it's not available on Java 8.
+     */
+    private static final class CallerStackWalker {
+
+        // null on Java 8
+        private static final MethodHandle WALK;
+
+        private static final MethodHandle GET_CLASS_NAME;
+
+        static {
+            MethodHandle walk = null;
+            MethodHandle getClassName = null;
+            try {
+                Lookup lookup = MethodHandles.publicLookup();
+                Class<?> stackWalkerClass = Class.forName("java.lang.StackWalker");
+                Class<?> stackFrameClass = Class.forName("java.lang.StackWalker$StackFrame");
+                Object stackWalker = lookup.findStatic(stackWalkerClass, "getInstance", MethodType.methodType(stackWalkerClass)).invoke();
+                walk = lookup.findVirtual(stackWalkerClass, "walk", MethodType.methodType(Object.class, Function.class)).bindTo(stackWalker);
+                getClassName = lookup.findVirtual(stackFrameClass, "getClassName", MethodType.methodType(String.class)).asType(
+                        MethodType.methodType(String.class, Object.class));
+            } catch (Throwable e) {
+                // Java 8
+                walk = null;
+                getClassName = null;
+            }
+            WALK = walk;
+            GET_CLASS_NAME = getClassName;
+        }
+
+        private CallerStackWalker() {
+        }
+
+        static boolean isAvailable() {
+            return WALK != null;
+        }
+
+        /**
+         *
+         * @param function the function is given the class names on the call stack, the innermost first
+         * @return the result of the function
+         */
+        static String walk(Function<Iterator<String>, String> function) {
+            Function<Stream<?>, String> walker = (frames) -> function.apply(frames.map(CallerStackWalker::getClassName).iterator());
+            try {
+                return (String) (Object) WALK.invokeExact(walker);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private static String getClassName(Object frame) {
+            try {
+                return (String) GET_CLASS_NAME.invokeExact(frame);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
 }
@@ -110,6 +110,9 @@ public class Container {
 
     private ContainerState state = ContainerState.STOPPED;
 
+    // The instance returned by CDI.current(), cached by the container so that it never outlives the container
+    private volatile SimpleCDI cdi;
+
     public Container(String contextId, BeanManagerImpl deploymentManager, ServiceRegistry deploymentServices) {
         this.deploymentManager = deploymentManager;
         this.managers = new ConcurrentHashMap<String, BeanManagerImpl>();
@@ -141,6 +144,7 @@ public class Container {
         beanDeploymentArchives.clear();
         deploymentServices.cleanup();
         deploymentManager.cleanup();
+        cdi = null;
         instance.clear(contextId);
     }
 
@@ -211,4 +215,21 @@ public class Container {
         this.state = state;
     }
 
+    /**
+     *
+     * @return the cached {@link javax.enterprise.inject.spi.CDI} instance of this container, or <code>null</code> if no instance is cached
+     */
+    public SimpleCDI getCDI() {
+        return cdi;
+    }
+
+    /**
+     * The given instance is cached until the container is cleaned up. Should only be called once the container is initialized.
+     *
+     * @param cdi
+     */
+    public void setCDI(SimpleCDI cdi) {
+        this.cdi = cdi;
+    }
+
 }
@@ -16,8 +16,11 @@
  */
 package org.jboss.weld;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -25,6 +28,7 @@ import org.jboss.weld.bean.builtin.BeanManagerProxy;
 import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
 import org.jboss.weld.logging.BeanManagerLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.cache.ComputingCache;
 import org.jboss.weld.util.cache.ComputingCacheBuilder;
 
@@ -51,10 +55,17 @@ public class SimpleCDI extends AbstractCDI<Object> {
             if (callerClassName == null) {
                 throw BeanManagerLogger.LOG.unableToIdentifyBeanManager();
             }
-            Set<BeanManagerImpl> managers = new HashSet<BeanManagerImpl>();
-            for (Map.Entry<BeanDeploymentArchive, BeanManagerImpl> entry : container.beanDeploymentArchives().entrySet()) {
-                for (String className : entry.getKey().getBeanClasses()) {
-                    if (className.equals(callerClassName)) {
+            Set<BeanManagerImpl> managers;
+            if (container.getState() == ContainerState.INITIALIZED) {
+                // the set of bean deployment archives does not change anymore
+                managers = classNameToManagers.get().get(callerClassName);
+                if (managers == null) {
+                    managers = Collections.emptySet();
+                }
+            } else {
+                managers = new HashSet<BeanManagerImpl>();
+                for (Map.Entry<BeanDeploymentArchive, BeanManagerImpl> entry : container.beanDeploymentArchives().entrySet()) {
+                    if (entry.getKey().getBeanClasses().contains(callerClassName)) {
                         managers.add(entry.getValue());
                     }
                 }
@@ -71,6 +82,8 @@ public class SimpleCDI extends AbstractCDI<Object> {
     }
 
     private final ComputingCache<String, BeanManagerProxy> beanManagers;
+    private final LazyValueHolder<Map<String, Set<BeanManagerImpl>>> classNameToManagers;
+    private final LazyValueHolder<Optional<BeanManagerProxy>> flatBeanManager;
     private final Container container;
 
     public SimpleCDI() {
@@ -80,6 +93,38 @@ public class SimpleCDI extends AbstractCDI<Object> {
     public SimpleCDI(Container container) {
         this.container = container;
         beanManagers = ComputingCacheBuilder.newBuilder().setWeakValues().build(new ClassNameToBeanManager());
+        classNameToManagers = LazyValueHolder.forSupplier(this::buildClassNameIndex);
+        flatBeanManager = LazyValueHolder.forSupplier(() -> {
+            BeanManagerImpl manager = getFlatBeanManager();
+            return manager != null ? Optional.of(new BeanManagerProxy(manager)) : Optional.empty();
+        });
+    }
+
+    private Map<String, Set<BeanManagerImpl>> buildClassNameIndex() {
+        Map<String, Set<BeanManagerImpl>> index = new HashMap<String, Set<BeanManagerImpl>>();
+        for (Map.Entry<BeanDeploymentArchive, BeanManagerImpl> entry : container.beanDeploymentArchives().entrySet()) {
+            for (String className : entry.getKey().getBeanClasses()) {
+                Set<BeanManagerImpl> managers = index.get(className);
+                if (managers == null) {
+                    index.put(className, Collections.singleton(entry.getValue()));
+                } else if (!managers.contains(entry.getValue())) {
+                    managers = new HashSet<BeanManagerImpl>(managers);
+                    managers.add(entry.getValue());
+                    index.put(className, managers);
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Callback that allows the caller detection to be skipped altogether, e.g. in a flat deployment where every caller is supposed to use the
+     * same bean manager. Only invoked once the container is initialized.
+     *
+     * @return the bean manager used for all the callers, or <code>null</code> if the caller has to be identified
+     */
+    protected BeanManagerImpl getFlatBeanManager() {
+        return null;
     }
 
     /**
@@ -102,6 +147,12 @@ public class SimpleCDI extends AbstractCDI<Object> {
         if (state.equals(ContainerState.STOPPED) || state.equals(ContainerState.SHUTDOWN)) {
             throw BeanManagerLogger.LOG.beanManagerNotAvailable();
         }
+        if (state == ContainerState.INITIALIZED) {
+            Optional<BeanManagerProxy> flat = flatBeanManager.get();
+            if (flat.isPresent()) {
+                return flat.get();
+            }
+        }
         return beanManagers.getValue(getCallingClassName());
     }
 
@@ -116,5 +167,7 @@ public class SimpleCDI extends AbstractCDI<Object> {
 
     public void cleanup() {
         beanManagers.clear();
+        classNameToManagers.clear();
+        flatBeanManager.clear();
     }
 }
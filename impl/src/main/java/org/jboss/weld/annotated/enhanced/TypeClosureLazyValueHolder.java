@@ -19,7 +19,9 @@ package org.jboss.weld.annotated.enhanced;
 import java.lang.reflect.Type;
 import java.util.Set;
 
+import org.jboss.weld.resources.SharedObjectCache;
 import org.jboss.weld.util.LazyValueHolder;
+import org.jboss.weld.util.collections.ImmutableSet;
 import org.jboss.weld.util.reflection.HierarchyDiscovery;
 
 /**
@@ -32,13 +34,33 @@ public class TypeClosureLazyValueHolder extends LazyValueHolder<Set<Type>> {
 
     private final Type type;
 
+    private final SharedObjectCache cache;
+
     public TypeClosureLazyValueHolder(Type type) {
+        this(type, null);
+    }
+
+    /**
+     *
+     * @param type
+     * @param cache the cache used to intern the types of the closure, may be null
+     */
+    public TypeClosureLazyValueHolder(Type type, SharedObjectCache cache) {
         this.type = type;
+        this.cache = cache;
     }
 
     @Override
     protected Set<Type> computeValue() {
-        return new HierarchyDiscovery(type).getTypeClosure();
+        Set<Type> typeClosure = new HierarchyDiscovery(type).getTypeClosure();
+        if (cache == null) {
+            return typeClosure;
+        }
+        ImmutableSet.Builder<Type> builder = ImmutableSet.builder();
+        for (Type closureType : typeClosure) {
+            builder.add(cache.getSharedType(closureType));
+        }
+        return builder.build();
     }
 
 }
@@ -34,6 +34,7 @@ import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedMember;
 import org.jboss.weld.bootstrap.BeanDeployerEnvironment;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
 import org.jboss.weld.injection.CurrentInjectionPoint;
+import org.jboss.weld.injection.producer.AbstractMemberProducer;
 import org.jboss.weld.logging.BeanLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
@@ -198,6 +199,15 @@ public abstract class AbstractProducerBean<X, T, S extends Member> extends Abstr
         }
     }
 
+    @Override
+    protected DependentInstanceTracking computeDependentInstanceTracking() {
+        if (getProducer() instanceof AbstractMemberProducer<?, ?> && ((AbstractMemberProducer<?, ?>) getProducer()).getDisposalMethod() == null) {
+            // there is no disposer method to call when destroying an instance
+            return DependentInstanceTracking.IF_HAS_DEPENDENTS;
+        }
+        return DependentInstanceTracking.ALWAYS;
+    }
+
     /**
      * Returns the declaring bean
      *
@@ -0,0 +1,41 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean;
+
+import javax.enterprise.context.Dependent;
+
+/**
+ * Determines whether a {@link Dependent} instance of a bean needs to be recorded by the creational context of the instance it belongs to, so that
+ * it can be destroyed together with the instance. The policy is computed once per bean.
+ *
+ * @see RIBean#getDependentInstanceTracking()
+ * @see TrivialDestruction
+ */
+public enum DependentInstanceTracking {
+
+    /**
+     * The instance is always recorded, e.g. because the bean declares a {@link javax.annotation.PreDestroy} callback, is intercepted or declares a
+     * disposer method.
+     */
+    ALWAYS,
+    /**
+     * Destroying the instance itself is a no-op. The instance is only recorded if it has dependent objects which need to be destroyed, i.e. if its
+     * own creational context recorded any dependent instances or resource references. Since the same rule applies to the dependent objects of the
+     * instance, an instance is recorded if and only if anything in its transitive dependency graph needs to be destroyed.
+     */
+    IF_HAS_DEPENDENTS,
+}
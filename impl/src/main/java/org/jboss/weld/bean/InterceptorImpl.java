@@ -34,6 +34,8 @@ import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedType;
 import org.jboss.weld.bean.interceptor.CdiInterceptorFactory;
 import org.jboss.weld.exceptions.WeldException;
 import org.jboss.weld.experimental.ExperimentalInvocationContext;
+import org.jboss.weld.injection.MemberAccessors;
+import org.jboss.weld.interceptor.SharedInterceptor;
 import org.jboss.weld.interceptor.proxy.InterceptorMethodInvocation;
 import org.jboss.weld.interceptor.proxy.WeldInvocationContext;
 import org.jboss.weld.interceptor.reader.InterceptorMetadataImpl;
@@ -71,7 +73,8 @@ public class InterceptorImpl<T> extends ManagedBean<T> implements Interceptor<T>
     @SuppressWarnings("unchecked")
     private InterceptorClassMetadata<T> initInterceptorMetadata() {
         CdiInterceptorFactory<T> reference = new CdiInterceptorFactory<T>(this);
-        return new InterceptorMetadataImpl<T>((Class<T>) getBeanClass(), reference, InterceptorMetadataUtils.buildMethodMap(getEnhancedAnnotated(), false, getBeanManager()));
+        return new InterceptorMetadataImpl<T>((Class<T>) getBeanClass(), reference, InterceptorMetadataUtils.buildMethodMap(getEnhancedAnnotated(), false, getBeanManager()),
+                getEnhancedAnnotated().isAnnotationPresent(SharedInterceptor.class), getBeanManager().getServices().get(MemberAccessors.class));
     }
 
     @Override
@@ -138,6 +141,12 @@ public class InterceptorImpl<T> extends ManagedBean<T> implements Interceptor<T>
         }
     }
 
+    @Override
+    protected DependentInstanceTracking computeDependentInstanceTracking() {
+        // interceptor instances are always tracked
+        return DependentInstanceTracking.ALWAYS;
+    }
+
     @Override
     public String toString() {
         return "Interceptor [" + getBeanClass() + " intercepts " + Formats.formatAnnotations(getInterceptorBindings()) + "]";
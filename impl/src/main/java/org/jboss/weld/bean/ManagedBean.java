@@ -148,6 +148,18 @@ public class ManagedBean<T> extends AbstractClassBean<T> {
         return null;
     }
 
+    @Override
+    protected DependentInstanceTracking computeDependentInstanceTracking() {
+        if (getProducer() instanceof BasicInjectionTarget<?> && !hasInterceptors()) {
+            BasicInjectionTarget<?> injectionTarget = (BasicInjectionTarget<?>) getProducer();
+            if (!injectionTarget.getLifecycleCallbackInvoker().hasPreDestroyMethods()) {
+                // there is no @PreDestroy callback to call when destroying an instance, decorators are dependent objects of the instance
+                return DependentInstanceTracking.IF_HAS_DEPENDENTS;
+            }
+        }
+        return DependentInstanceTracking.ALWAYS;
+    }
+
     /**
      * Creates an instance of the bean
      *
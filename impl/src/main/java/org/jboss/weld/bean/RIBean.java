@@ -27,6 +27,7 @@ import org.jboss.weld.bootstrap.BeanDeployerEnvironment;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
 import org.jboss.weld.resolution.QualifierInstance;
+import org.jboss.weld.resolution.QualifierSet;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 
 /**
@@ -39,7 +40,9 @@ public abstract class RIBean<T> extends CommonBean<T> implements PassivationCapa
     protected final BeanManagerImpl beanManager;
     private boolean initialized;
     private volatile Set<QualifierInstance> qualifiers;
+    private volatile QualifierSet qualifierSet;
     private ContextualInstanceStrategy<T> contextualInstanceStrategy;
+    private volatile DependentInstanceTracking dependentInstanceTracking;
 
     protected RIBean(BeanAttributes<T> attributes, BeanIdentifier identifier, BeanManagerImpl beanManager) {
         super(attributes, identifier);
@@ -112,10 +115,43 @@ public abstract class RIBean<T> extends CommonBean<T> implements PassivationCapa
         return qualifiers;
     }
 
+    /**
+     *
+     * @return the qualifier set used to match the qualifiers during typesafe resolution
+     */
+    public QualifierSet getQualifierSet() {
+        if (qualifierSet == null) {
+            qualifierSet = QualifierSet.of(getQualifierInstances(), beanManager.getServices().get(MetaAnnotationStore.class));
+        }
+        return qualifierSet;
+    }
+
     public ContextualInstanceStrategy<T> getContextualInstanceStrategy() {
         return contextualInstanceStrategy;
     }
 
+    /**
+     * Returns the policy for tracking the {@link Dependent} instances of this bean. The policy is computed on the first invocation, which happens at
+     * the end of the bootstrap for dependent beans.
+     *
+     * @return the dependent instance tracking policy
+     */
+    public DependentInstanceTracking getDependentInstanceTracking() {
+        DependentInstanceTracking tracking = dependentInstanceTracking;
+        if (tracking == null) {
+            tracking = computeDependentInstanceTracking();
+            this.dependentInstanceTracking = tracking;
+        }
+        return tracking;
+    }
+
+    /**
+     * Subclasses may relax the default policy if destroying an instance of the bean is a no-op, apart from destroying its dependent objects.
+     */
+    protected DependentInstanceTracking computeDependentInstanceTracking() {
+        return DependentInstanceTracking.ALWAYS;
+    }
+
     @Override
     public void setAttributes(BeanAttributes<T> attributes) {
         super.setAttributes(attributes);
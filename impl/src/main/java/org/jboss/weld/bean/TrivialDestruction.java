@@ -0,0 +1,36 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean;
+
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+
+/**
+ * May be implemented by a custom {@link javax.enterprise.inject.spi.Bean} to declare that its {@link Contextual#destroy(Object, CreationalContext)}
+ * method does nothing but release the creational context. A {@link javax.enterprise.context.Dependent} instance of such a bean is then only recorded
+ * by the creational context of the instance it belongs to if it has dependent objects itself. This saves memory in long-lived beans which obtain
+ * many dependent instances, e.g. using {@link javax.enterprise.inject.Instance#get()}.
+ *
+ * @see DependentInstanceTracking#IF_HAS_DEPENDENTS
+ */
+public interface TrivialDestruction {
+
+    /**
+     * @return <code>true</code> if destroying an instance of the bean is a no-op, <code>false</code> otherwise
+     */
+    boolean isDestructionTrivial();
+}
@@ -17,18 +17,24 @@
 package org.jboss.weld.bean.builtin;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.security.AccessController;
+import java.security.PrivilegedActionException;
 import java.util.Collections;
 import java.util.Set;
 
 import javax.enterprise.context.Dependent;
+import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.spi.InjectionPoint;
 
+import org.jboss.weld.bean.DependentInstanceTracking;
 import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.bean.attributes.ImmutableBeanAttributes;
 import org.jboss.weld.bootstrap.BeanDeployerEnvironment;
 import org.jboss.weld.literal.AnyLiteral;
 import org.jboss.weld.literal.DefaultLiteral;
 import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.security.GetMethodAction;
 import org.jboss.weld.serialization.spi.BeanIdentifier;
 import org.jboss.weld.util.collections.Arrays2;
 import org.jboss.weld.util.collections.ImmutableSet;
@@ -62,6 +68,20 @@ public abstract class AbstractBuiltInBean<T> extends RIBean<T> {
         // No-op
     }
 
+    @Override
+    protected DependentInstanceTracking computeDependentInstanceTracking() {
+        // built-in beans only need to be destroyed if they override destroy()
+        try {
+            Method destroy = AccessController.doPrivileged(new GetMethodAction(getClass(), "destroy", Object.class, CreationalContext.class));
+            if (RIBean.class.equals(destroy.getDeclaringClass())) {
+                return DependentInstanceTracking.IF_HAS_DEPENDENTS;
+            }
+        } catch (PrivilegedActionException ignored) {
+            // fall back to the default policy
+        }
+        return DependentInstanceTracking.ALWAYS;
+    }
+
     @Override
     public Set<InjectionPoint> getInjectionPoints() {
         return Collections.emptySet();
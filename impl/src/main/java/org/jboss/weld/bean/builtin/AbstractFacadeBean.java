@@ -25,6 +25,7 @@ import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.spi.Decorator;
 import javax.enterprise.inject.spi.InjectionPoint;
 
+import org.jboss.weld.bean.DependentInstanceTracking;
 import org.jboss.weld.bean.proxy.ProxyFactory;
 import org.jboss.weld.injection.CurrentInjectionPoint;
 import org.jboss.weld.injection.EmptyInjectionPoint;
@@ -51,6 +52,12 @@ public abstract class AbstractFacadeBean<T> extends AbstractDecorableBuiltInBean
         creationalContext.release();
     }
 
+    @Override
+    protected DependentInstanceTracking computeDependentInstanceTracking() {
+        // the dependent objects of a facade, e.g. obtained by Instance.get(), are only created after the facade
+        return DependentInstanceTracking.ALWAYS;
+    }
+
     @Override
     protected Class<T> getProxyClass() {
         return proxyClass;
@@ -36,7 +36,7 @@ public class InstanceBean extends AbstractFacadeBean<Instance<?>> {
     private static final Type PROVIDER_TYPE = new TypeLiteral<Provider<Object>>() {
         private static final long serialVersionUID = -5256050387550468441L;
     }.getType();
-    private static final Set<Type> DEFAULT_TYPES = Arrays2.<Type>asSet(INSTANCE_TYPE, PROVIDER_TYPE, Object.class);
+    private static final Set<Type> DEFAULT_TYPES = Arrays2.<Type>asSet(WeldInstance.class, INSTANCE_TYPE, PROVIDER_TYPE, Object.class);
 
     public InstanceBean(BeanManagerImpl manager) {
         super(manager, Reflections.<Class<Instance<?>>>cast(Instance.class));
@@ -23,8 +23,11 @@ import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
+import java.util.Arrays;
 import java.util.Iterator;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.enterprise.context.spi.AlterableContext;
 import javax.enterprise.context.spi.Context;
@@ -34,6 +37,8 @@ import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.InjectionPoint;
 import javax.enterprise.util.TypeLiteral;
 
+import org.jboss.weld.Container;
+import org.jboss.weld.ContainerState;
 import org.jboss.weld.bean.proxy.ProxyMethodHandler;
 import org.jboss.weld.bean.proxy.ProxyObject;
 import org.jboss.weld.context.WeldCreationalContext;
@@ -58,16 +63,22 @@ import org.jboss.weld.util.reflection.Reflections;
  * @author Gavin King
  */
 @edu.umd.cs.findbugs.annotations.SuppressWarnings(value = { "SE_NO_SUITABLE_CONSTRUCTOR", "SE_BAD_FIELD" }, justification = "Uses SerializationProxy")
-public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements Instance<T>, Serializable {
+public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements WeldInstance<T>, Serializable {
 
     private static final long serialVersionUID = -376721889693284887L;
 
+    // the maximum number of child instances cached by a single instance
+    private static final int SELECT_CACHE_SIZE = 32;
+
     private final transient Set<Bean<?>> allBeans;
     private final transient Bean<?> bean;
 
     private final transient CurrentInjectionPoint currentInjectionPoint;
     private final transient InjectionPoint ip;
 
+    // child instances cached per required type and qualifiers, lazily initialized
+    private transient volatile ConcurrentMap<SelectKey, InstanceImpl<?>> selectCache;
+
     public static <I> Instance<I> of(InjectionPoint injectionPoint, CreationalContext<I> creationalContext,
             BeanManagerImpl beanManager) {
         return new InstanceImpl<I>(injectionPoint, creationalContext, beanManager);
@@ -125,24 +136,62 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements I
         return allBeans.isEmpty();
     }
 
-    public Instance<T> select(Annotation... qualifiers) {
+    public WeldInstance<T> select(Annotation... qualifiers) {
         return selectInstance(this.getType(), qualifiers);
     }
 
-    public <U extends T> Instance<U> select(Class<U> subtype, Annotation... qualifiers) {
+    public <U extends T> WeldInstance<U> select(Class<U> subtype, Annotation... qualifiers) {
         return selectInstance(subtype, qualifiers);
     }
 
-    public <U extends T> Instance<U> select(TypeLiteral<U> subtype, Annotation... qualifiers) {
+    public <U extends T> WeldInstance<U> select(TypeLiteral<U> subtype, Annotation... qualifiers) {
         return selectInstance(subtype.getType(), qualifiers);
     }
 
-    private <U extends T> Instance<U> selectInstance(Type subtype, Annotation[] newQualifiers) {
+    private <U extends T> WeldInstance<U> selectInstance(Type subtype, Annotation[] newQualifiers) {
+        if (!Reflections.isCacheable(newQualifiers)) {
+            return newInstance(subtype, newQualifiers);
+        }
+        ConcurrentMap<SelectKey, InstanceImpl<?>> cache = selectCache;
+        if (cache == null) {
+            synchronized (this) {
+                cache = selectCache;
+                if (cache == null) {
+                    cache = new ConcurrentHashMap<SelectKey, InstanceImpl<?>>();
+                    selectCache = cache;
+                }
+            }
+        }
+        SelectKey key = new SelectKey(subtype, newQualifiers);
+        InstanceImpl<?> instance = cache.get(key);
+        if (instance == null) {
+            instance = newInstance(subtype, newQualifiers);
+            // the set of beans may only be cached once the container is initialized
+            if (cache.size() < SELECT_CACHE_SIZE && Container.instance(getBeanManager()).getState() == ContainerState.INITIALIZED) {
+                InstanceImpl<?> previous = cache.putIfAbsent(key, instance);
+                if (previous != null) {
+                    instance = previous;
+                }
+            }
+        }
+        return cast(instance);
+    }
+
+    private <U extends T> InstanceImpl<U> newInstance(Type subtype, Annotation[] newQualifiers) {
         InjectionPoint modifiedInjectionPoint = new FacadeInjectionPoint(getBeanManager(), getInjectionPoint(), subtype, getQualifiers(),
                 newQualifiers);
         return new InstanceImpl<U>(modifiedInjectionPoint, getCreationalContext(), getBeanManager());
     }
 
+    @Override
+    public Handle<T> getHandle() {
+        if (bean == null) {
+            // unsatisfied or ambiguous
+            get();
+        }
+        return new HandleImpl(bean);
+    }
+
     @Override
     public void destroy(T instance) {
         Preconditions.checkNotNull(instance);
@@ -205,6 +254,72 @@ public class InstanceImpl<T> extends AbstractFacade<T, Instance<T>> implements I
 
     }
 
+    private static final class SelectKey {
+
+        private final Type type;
+        private final Annotation[] qualifiers;
+        private final int hashCode;
+
+        private SelectKey(Type type, Annotation[] qualifiers) {
+            this.type = type;
+            this.qualifiers = qualifiers.clone();
+            this.hashCode = type.hashCode() ^ Arrays.hashCode(qualifiers);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof SelectKey)) {
+                return false;
+            }
+            SelectKey that = (SelectKey) obj;
+            return type.equals(that.type) && Arrays.equals(qualifiers, that.qualifiers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private final class HandleImpl implements Handle<T> {
+
+        private final Bean<?> bean;
+        private final boolean normalScoped;
+        // the client proxy of a normal-scoped bean
+        private volatile T reference;
+
+        private HandleImpl(Bean<?> bean) {
+            this.bean = bean;
+            this.normalScoped = getBeanManager().isNormalScope(bean.getScope());
+        }
+
+        @Override
+        public T get() {
+            if (!normalScoped) {
+                return getBeanInstance(bean);
+            }
+            T reference = this.reference;
+            if (reference == null) {
+                reference = getBeanInstance(bean);
+                this.reference = reference;
+            }
+            return reference;
+        }
+
+        @Override
+        public Bean<?> getBean() {
+            return bean;
+        }
+
+        @Override
+        public String toString() {
+            return "Handle for " + bean;
+        }
+    }
+
     final class InstanceImplIterator implements Iterator<T> {
 
         private final Iterator<Bean<?>> delegate;
@@ -0,0 +1,82 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bean.builtin;
+
+import java.lang.annotation.Annotation;
+
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.util.TypeLiteral;
+
+/**
+ * Weld-specific extension of {@link Instance}. Every {@link Instance} provided by Weld implements this interface and it may also be injected
+ * directly.
+ *
+ * <p>
+ * The result of {@link #select(Class, Annotation...)} is cached per required type and qualifiers, so that repeated lookups of the same child
+ * {@link Instance} do not perform typesafe resolution again. If the same bean is looked up many times, {@link #getHandle()} may be used to obtain
+ * a pre-resolved handle instead.
+ * </p>
+ *
+ * <p>
+ * This API is experimental and will change!
+ * </p>
+ *
+ * @param <T> the required bean type
+ */
+public interface WeldInstance<T> extends Instance<T> {
+
+    /**
+     * Returns a handle for the bean which satisfies the required type and qualifiers. Unlike {@link #get()}, {@link Handle#get()} never
+     * resolves the bean again and, in case of a normal-scoped bean, always returns the same client proxy.
+     *
+     * @return the handle
+     * @throws javax.enterprise.inject.UnsatisfiedResolutionException if there is no bean with the required type and qualifiers
+     * @throws javax.enterprise.inject.AmbiguousResolutionException if there is more than one bean with the required type and qualifiers
+     */
+    Handle<T> getHandle();
+
+    @Override
+    WeldInstance<T> select(Annotation... qualifiers);
+
+    @Override
+    <U extends T> WeldInstance<U> select(Class<U> subtype, Annotation... qualifiers);
+
+    @Override
+    <U extends T> WeldInstance<U> select(TypeLiteral<U> subtype, Annotation... qualifiers);
+
+    /**
+     * A pre-resolved bean.
+     *
+     * @param <T> the required bean type
+     */
+    interface Handle<T> {
+
+        /**
+         * Obtains a contextual reference of the bean. The rules are the same as for {@link Instance#get()}, i.e. a new {@link javax.enterprise.context.Dependent}
+         * instance is created for each invocation and is destroyed together with the owning {@link Instance}.
+         *
+         * @return the contextual reference
+         */
+        T get();
+
+        /**
+         * @return the resolved bean
+         */
+        Bean<?> getBean();
+    }
+}
@@ -51,6 +51,8 @@ import org.jboss.classfilewriter.code.CodeAttribute;
 import org.jboss.classfilewriter.util.Boxing;
 import org.jboss.classfilewriter.util.DescriptorUtils;
 import org.jboss.weld.Container;
+import org.jboss.weld.bootstrap.BootstrapProfiler;
+import org.jboss.weld.bootstrap.api.ServiceRegistry;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.exceptions.DefinitionException;
 import org.jboss.weld.exceptions.WeldException;
@@ -103,6 +105,9 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
 
     private final ProxyInstantiator proxyInstantiator;
 
+    // null if the bootstrap profiling is disabled
+    private final BootstrapProfiler profiler;
+
     protected static final BytecodeMethodResolver DEFAULT_METHOD_RESOLVER = new DefaultBytecodeMethodResolver();
 
     protected static final String LJAVA_LANG_REFLECT_METHOD = "Ljava/lang/reflect/Method;";
@@ -185,7 +190,10 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
         additionalInterfaces.clear();
         additionalInterfaces.addAll(list);
 
-        this.proxyInstantiator = Container.instance(contextId).services().get(ProxyInstantiator.class);
+        ServiceRegistry services = Container.instance(contextId).services();
+        this.proxyInstantiator = services.get(ProxyInstantiator.class);
+        BootstrapProfiler profiler = services.get(BootstrapProfiler.class);
+        this.profiler = profiler != null && profiler.isEnabled() ? profiler : null;
     }
 
     static String getProxyName(String contextId, Class<?> proxiedBeanType, Set<? extends Type> typeClosure, Bean<?> bean) {
@@ -462,6 +470,9 @@ public class ProxyFactory<T> implements PrivilegedAction<T> {
         }
         Class<T> proxyClass = cast(ClassFileUtils.toClass(proxyClassType, classLoader, domain));
         BeanLogger.LOG.createdProxyClass(proxyClass, Arrays.toString(proxyClass.getInterfaces()));
+        if (profiler != null) {
+            profiler.proxyGenerated();
+        }
         return proxyClass;
     }
 
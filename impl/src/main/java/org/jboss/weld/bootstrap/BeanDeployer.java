@@ -45,6 +45,7 @@ import org.jboss.weld.bootstrap.events.ProcessAnnotatedTypeImpl;
 import org.jboss.weld.ejb.EjbDescriptors;
 import org.jboss.weld.ejb.InternalEjbDescriptor;
 import org.jboss.weld.ejb.spi.EjbServices;
+import org.jboss.weld.executor.TaskGraph;
 import org.jboss.weld.injection.producer.InterceptionModelInitializer;
 import org.jboss.weld.interceptor.spi.model.InterceptionModel;
 import org.jboss.weld.logging.BootstrapLogger;
@@ -130,6 +131,20 @@ public class BeanDeployer extends AbstractBeanDeployer<BeanDeployerEnvironment>
         return this;
     }
 
+    /**
+     * Adds a task loading the given classes to the given graph.
+     *
+     * @return the task which is finished once all the classes are loaded
+     */
+    public TaskGraph.Task addClasses(TaskGraph graph, final Iterable<String> classes, TaskGraph.Task... dependencies) {
+        return graph.add("addClasses " + getManager().getId(), new Runnable() {
+            @Override
+            public void run() {
+                addClasses(classes);
+            }
+        }, dependencies);
+    }
+
     protected AnnotatedTypeLoader createAnnotatedTypeLoader() {
         if (classFileServices != null) {
             // Since FastProcessAnnotatedTypeResolver is installed after BeanDeployers are created, we need to query deploymentManager's services instead of the manager of this deployer
@@ -147,30 +162,35 @@ public class BeanDeployer extends AbstractBeanDeployer<BeanDeployerEnvironment>
         Set<SlimAnnotatedTypeContext<?>> classesToBeRemoved = new HashSet<SlimAnnotatedTypeContext<?>>();
 
         for (SlimAnnotatedTypeContext<?> annotatedTypeContext : getEnvironment().getAnnotatedTypes()) {
-            SlimAnnotatedType<?> annotatedType = annotatedTypeContext.getAnnotatedType();
-            final ProcessAnnotatedTypeImpl<?> event = containerLifecycleEvents.fireProcessAnnotatedType(getManager(), annotatedTypeContext);
-
-            // process the result
-            if (event != null) {
-                if (event.isVeto()) {
-                    getEnvironment().vetoJavaClass(annotatedType.getJavaClass());
-                    classesToBeRemoved.add(annotatedTypeContext);
-                } else {
-                    boolean dirty = event.isDirty();
-                    if (dirty) {
-                        classesToBeRemoved.add(annotatedTypeContext); // remove the original class
-                        classesToBeAdded.add(SlimAnnotatedTypeContext.of(event.getResultingAnnotatedType(), classTransformer, annotatedTypeContext.getExtension()));
-                    }
-                    processPriority(event.getResultingAnnotatedType());
-                }
-            } else {
-                processPriority(annotatedType);
-            }
+            processAnnotatedType(annotatedTypeContext, classesToBeAdded, classesToBeRemoved);
         }
         getEnvironment().removeAnnotatedTypes(classesToBeRemoved);
         getEnvironment().addAnnotatedTypes(classesToBeAdded);
     }
 
+    protected void processAnnotatedType(SlimAnnotatedTypeContext<?> annotatedTypeContext, Set<SlimAnnotatedTypeContext<?>> classesToBeAdded,
+            Set<SlimAnnotatedTypeContext<?>> classesToBeRemoved) {
+        SlimAnnotatedType<?> annotatedType = annotatedTypeContext.getAnnotatedType();
+        final ProcessAnnotatedTypeImpl<?> event = containerLifecycleEvents.fireProcessAnnotatedType(getManager(), annotatedTypeContext);
+
+        // process the result
+        if (event != null) {
+            if (event.isVeto()) {
+                getEnvironment().vetoJavaClass(annotatedType.getJavaClass());
+                classesToBeRemoved.add(annotatedTypeContext);
+            } else {
+                boolean dirty = event.isDirty();
+                if (dirty) {
+                    classesToBeRemoved.add(annotatedTypeContext); // remove the original class
+                    classesToBeAdded.add(SlimAnnotatedTypeContext.of(event.getResultingAnnotatedType(), classTransformer, annotatedTypeContext.getExtension()));
+                }
+                processPriority(event.getResultingAnnotatedType());
+            }
+        } else {
+            processPriority(annotatedType);
+        }
+    }
+
     public void registerAnnotatedTypes() {
         for (SlimAnnotatedTypeContext<?> ctx : getEnvironment().getAnnotatedTypes()) {
             annotatedTypeStore.put(ctx.getAnnotatedType());
@@ -187,6 +207,20 @@ public class BeanDeployer extends AbstractBeanDeployer<BeanDeployerEnvironment>
         ejbSupport.createSessionBeans(getEnvironment(), otherWeldClasses, getManager());
     }
 
+    /**
+     * Adds a task creating class beans to the given graph.
+     *
+     * @return the task which is finished once all the class beans are created
+     */
+    public TaskGraph.Task createClassBeans(TaskGraph graph, TaskGraph.Task... dependencies) {
+        return graph.add("createClassBeans " + getManager().getId(), new Runnable() {
+            @Override
+            public void run() {
+                createClassBeans();
+            }
+        }, dependencies);
+    }
+
     protected void createClassBean(SlimAnnotatedType<?> annotatedType, SetMultimap<Class<?>, SlimAnnotatedType<?>> otherWeldClasses) {
         boolean managedBeanOrDecorator = !getEnvironment().getEjbDescriptors().contains(annotatedType.getJavaClass()) && Beans.isTypeManagedBeanOrDecoratorOrInterceptor(annotatedType);
         if (managedBeanOrDecorator) {
@@ -276,6 +310,21 @@ public class BeanDeployer extends AbstractBeanDeployer<BeanDeployerEnvironment>
         }
     }
 
+    /**
+     * Adds a task creating the producers, disposer methods and observer methods declared by the class beans to the given graph. The class beans are
+     * only obtained once the task is started, i.e. the beans vetoed by the dependencies are not processed.
+     *
+     * @return the task which is finished once all the producers and observers are created
+     */
+    public TaskGraph.Task createProducersAndObservers(TaskGraph graph, TaskGraph.Task... dependencies) {
+        return graph.add("createProducersAndObservers " + getManager().getId(), new Runnable() {
+            @Override
+            public void run() {
+                createProducersAndObservers();
+            }
+        }, dependencies);
+    }
+
     public void processProducerAttributes() {
         processBeanAttributes(getEnvironment().getProducerFields());
         searchForNewBeanDeclarations(getEnvironment().getProducerFields());
@@ -320,6 +369,20 @@ public class BeanDeployer extends AbstractBeanDeployer<BeanDeployerEnvironment>
         }
     }
 
+    /**
+     * Adds a task calling {@link RIBean#initializeAfterBeanDiscovery()} on the given beans to the given graph.
+     *
+     * @return the task which is finished once all the beans are initialized
+     */
+    public TaskGraph.Task doAfterBeanDiscovery(TaskGraph graph, final List<? extends Bean<?>> beanList, TaskGraph.Task... dependencies) {
+        return graph.add("doAfterBeanDiscovery " + getManager().getId(), new Runnable() {
+            @Override
+            public void run() {
+                doAfterBeanDiscovery(beanList);
+            }
+        }, dependencies);
+    }
+
     public void registerCdiInterceptorsForMessageDrivenBeans() {
         EjbServices ejbServices = getManager().getServices().get(EjbServices.class);
         for (InternalEjbDescriptor<?> descriptor : getEnvironment().getEjbDescriptors()) {
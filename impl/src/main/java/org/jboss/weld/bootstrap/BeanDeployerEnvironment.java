@@ -57,6 +57,7 @@ import org.jboss.weld.ejb.InternalEjbDescriptor;
 import org.jboss.weld.injection.attributes.WeldInjectionPointAttributes;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.resolution.ResolvableBuilder;
+import org.jboss.weld.resolution.SharedAssignabilityRules;
 import org.jboss.weld.resolution.TypeSafeDisposerResolver;
 import org.jboss.weld.resources.ClassTransformer;
 import org.jboss.weld.util.InjectionPoints;
@@ -131,7 +132,8 @@ public class BeanDeployerEnvironment {
         this.decorators = decorators;
         this.interceptors = interceptors;
         this.ejbDescriptors = ejbDescriptors;
-        this.disposalMethodResolver = new TypeSafeDisposerResolver(allDisposalBeans, manager.getServices().get(WeldConfiguration.class));
+        this.disposalMethodResolver = new TypeSafeDisposerResolver(allDisposalBeans, manager.getServices().get(WeldConfiguration.class),
+                manager.getServices().get(SharedAssignabilityRules.class).getBeanTypeRules());
         this.classTransformer = manager.getServices().get(ClassTransformer.class);
         this.newManagedBeanClasses = newManagedBeanClasses;
         this.newSessionBeanDescriptorsFromInjectionPoint = newSessionBeanDescriptorsFromInjectionPoint;
@@ -53,6 +53,7 @@ import org.jboss.weld.bootstrap.spi.Metadata;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.ejb.EjbDescriptors;
 import org.jboss.weld.ejb.spi.EjbServices;
+import org.jboss.weld.executor.TaskGraph;
 import org.jboss.weld.injection.producer.InjectionTargetService;
 import org.jboss.weld.interceptor.builder.InterceptorsApiAbstraction;
 import org.jboss.weld.logging.BootstrapLogger;
@@ -189,6 +190,15 @@ public class BeanDeployment {
         beanDeployer.addClasses(obtainClasses());
     }
 
+    /**
+     * Adds the tasks transforming the classes of this archive into {@link javax.enterprise.inject.spi.AnnotatedType} instances to the given graph.
+     *
+     * @return the task which is finished once all the classes are processed
+     */
+    public TaskGraph.Task createClasses(TaskGraph graph) {
+        return beanDeployer.addClasses(graph, obtainClasses());
+    }
+
     /**
      * Initializes module enablement.
      *
@@ -212,6 +222,26 @@ public class BeanDeployment {
     }
 
     public void createBeans(Environment environment) {
+        createBuiltInBeans(environment);
+        beanDeployer.createClassBeans();
+    }
+
+    /**
+     * Adds the tasks creating the built-in and class beans of this archive to the given graph.
+     *
+     * @return the task which is finished once all the beans are created
+     */
+    public TaskGraph.Task createBeans(TaskGraph graph, final Environment environment) {
+        TaskGraph.Task builtInBeans = graph.add("createBuiltInBeans " + beanManager.getId(), new Runnable() {
+            @Override
+            public void run() {
+                createBuiltInBeans(environment);
+            }
+        });
+        return beanDeployer.createClassBeans(graph, builtInBeans);
+    }
+
+    private void createBuiltInBeans(Environment environment) {
         getBeanManager().getServices().get(WeldModules.class).preBeanRegistration(this, environment);
 
         /*
@@ -238,10 +268,6 @@ public class BeanDeployment {
         for (ContextHolder<? extends Context> context : contexts) {
             beanDeployer.addBuiltInBean(ContextBean.of(context, beanManager));
         }
-
-        // TODO Register the context beans
-        beanDeployer.createClassBeans();
-
     }
 
     public void deploySpecialized(Environment environment) {
@@ -260,4 +286,31 @@ public class BeanDeployment {
         beanDeployer.doAfterBeanDiscovery(beanManager.getInterceptors());
         beanDeployer.registerCdiInterceptorsForMessageDrivenBeans();
     }
+
+    /**
+     * Adds the tasks initializing {@link InjectionTargetService} and all the beans, decorators and interceptors of this archive to the given graph.
+     *
+     * @param previous the task returned for the previous archive, may be <code>null</code> - the interceptors of message-driven beans are registered
+     *        with {@link EjbServices} in the order of archives
+     * @return the task which is finished once the archive is fully initialized
+     */
+    public TaskGraph.Task afterBeanDiscovery(TaskGraph graph, Environment environment, TaskGraph.Task previous) {
+        TaskGraph.Task injectionTargets = graph.add("initializeInjectionTargets " + beanManager.getId(), new Runnable() {
+            @Override
+            public void run() {
+                beanManager.getServices().get(InjectionTargetService.class).initialize();
+            }
+        });
+        TaskGraph.Task beans = beanDeployer.doAfterBeanDiscovery(graph, beanManager.getBeans(), injectionTargets);
+        TaskGraph.Task decorators = beanDeployer.doAfterBeanDiscovery(graph, beanManager.getDecorators(), beans);
+        TaskGraph.Task interceptors = beanDeployer.doAfterBeanDiscovery(graph, beanManager.getInterceptors(), decorators);
+        Runnable registerInterceptors = new Runnable() {
+            @Override
+            public void run() {
+                beanDeployer.registerCdiInterceptorsForMessageDrivenBeans();
+            }
+        };
+        String name = "registerCdiInterceptorsForMessageDrivenBeans " + beanManager.getId();
+        return previous != null ? graph.add(name, registerInterceptors, interceptors, previous) : graph.add(name, registerInterceptors, interceptors);
+    }
 }
@@ -0,0 +1,448 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.enterprise.inject.spi.ObserverMethod;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.executor.TaskGraph;
+import org.jboss.weld.logging.BootstrapLogger;
+
+/**
+ * Collects timing information about the bootstrap - wall time per bootstrap phase, wall and CPU time per bean deployment archive and per extension
+ * observer method, the number of classes loaded by the JVM and the number of proxy classes generated. Once the bootstrap is finished, the collected
+ * data are rendered as JSON, logged and made available through {@link #getReport()}.
+ *
+ * <p>
+ * The CPU time is only measured for the work performed by a single thread, i.e. an archive step, a task of a {@link TaskGraph} or an observer
+ * notification. A bootstrap phase may also use {@link org.jboss.weld.manager.api.ExecutorServices} outside of a task graph, therefore no CPU time is
+ * reported for the phases.
+ * </p>
+ *
+ * <p>
+ * If the profiler is disabled (the default), all the methods return immediately and {@link #start()} returns <code>null</code>. The wall time of the
+ * bootstrap phases is still measured if the {@link RuntimeMetrics} are enabled.
+ * </p>
+ *
+ * @see org.jboss.weld.config.ConfigurationKey#BOOTSTRAP_PROFILING
+ */
+public class BootstrapProfiler implements Service {
+
+    private static final String SPI_PACKAGE_PREFIX = "javax.enterprise.inject.spi.";
+
+    private final boolean enabled;
+    private final ThreadMXBean threads;
+    private final ClassLoadingMXBean classLoading;
+    private final RuntimeMetrics metrics;
+
+    private final List<PhaseRecord> phases;
+    private final ConcurrentMap<String, TimeRecords> archives;
+    private final ConcurrentMap<ObserverMethod<?>, TimeRecords> observers;
+    private final LongAdder proxiesGenerated;
+
+    private volatile String report;
+
+    public BootstrapProfiler(boolean enabled) {
+        this(enabled, null);
+    }
+
+    public BootstrapProfiler(boolean enabled, RuntimeMetrics metrics) {
+        this.enabled = enabled;
+        this.metrics = metrics != null && metrics.isEnabled() ? metrics : null;
+        this.threads = ManagementFactory.getThreadMXBean();
+        this.classLoading = ManagementFactory.getClassLoadingMXBean();
+        this.phases = Collections.synchronizedList(new ArrayList<PhaseRecord>());
+        this.archives = new ConcurrentHashMap<String, TimeRecords>();
+        this.observers = new ConcurrentHashMap<ObserverMethod<?>, TimeRecords>();
+        this.proxiesGenerated = new LongAdder();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts a measurement in the current thread.
+     *
+     * @return the measurement or <code>null</code> if the profiler is disabled
+     */
+    public Measurement start() {
+        if (!enabled) {
+            return null;
+        }
+        return new Measurement(System.nanoTime(), currentThreadCpuTime());
+    }
+
+    /**
+     * Starts a bootstrap phase. Unlike {@link #start()}, the CPU time is not measured.
+     *
+     * @return the measurement or <code>null</code> if neither the profiler nor the runtime metrics are enabled
+     */
+    public Measurement startPhase() {
+        if (!enabled) {
+            return metrics != null ? new Measurement(System.nanoTime(), -1) : null;
+        }
+        return new Measurement(System.nanoTime(), -1, classLoading.getTotalLoadedClassCount(), proxiesGenerated.sum());
+    }
+
+    /**
+     * Finishes a bootstrap phase started by {@link #startPhase()}.
+     */
+    public void endPhase(String phase, Measurement measurement) {
+        if (measurement == null) {
+            return;
+        }
+        long time = System.nanoTime() - measurement.time;
+        if (metrics != null) {
+            metrics.bootPhaseFinished(phase, time);
+        }
+        if (!enabled) {
+            return;
+        }
+        phases.add(new PhaseRecord(phase, time, classLoading.getTotalLoadedClassCount() - measurement.loadedClasses, proxiesGenerated.sum()
+                - measurement.proxiesGenerated));
+    }
+
+    /**
+     * Records the work performed in the current thread for the given bean deployment archive.
+     */
+    public void archiveStepFinished(String archive, String step, Measurement measurement) {
+        if (measurement == null) {
+            return;
+        }
+        record(archives, archive, step, System.nanoTime() - measurement.time, cpuTimeDelta(measurement.cpuTime, currentThreadCpuTime()));
+    }
+
+    /**
+     * Records the work performed by the tasks of the given graph. The tasks are attributed to the bean deployment archives by their group.
+     */
+    public void graphExecuted(TaskGraph graph) {
+        if (!enabled) {
+            return;
+        }
+        for (TaskGraph.Task task : graph.getTasks()) {
+            if (task.getGroup() != null) {
+                record(archives, task.getGroup(), graph.getName(), task.getDuration(), task.getCpuTime());
+            }
+        }
+    }
+
+    /**
+     * Records the notification of an extension observer method.
+     */
+    public void observerNotified(ObserverMethod<?> observer, Class<?> eventType, Measurement measurement) {
+        if (measurement == null) {
+            return;
+        }
+        record(observers, observer, getEventTypeName(eventType), System.nanoTime() - measurement.time, cpuTimeDelta(measurement.cpuTime,
+                currentThreadCpuTime()));
+    }
+
+    /**
+     * Container lifecycle events are identified by the SPI interface (e.g. <code>ProcessManagedBean</code>) rather than the implementation class.
+     */
+    private static String getEventTypeName(Class<?> eventType) {
+        for (Class<?> clazz = eventType; clazz != null; clazz = clazz.getSuperclass()) {
+            for (Class<?> iface : clazz.getInterfaces()) {
+                if (iface.getName().startsWith(SPI_PACKAGE_PREFIX)) {
+                    return iface.getSimpleName();
+                }
+            }
+        }
+        return eventType.getSimpleName();
+    }
+
+    public void proxyGenerated() {
+        if (enabled) {
+            proxiesGenerated.increment();
+        }
+    }
+
+    private <K> void record(ConcurrentMap<K, TimeRecords> map, K key, String step, long time, long cpuTime) {
+        TimeRecords records = map.get(key);
+        if (records == null) {
+            records = new TimeRecords();
+            TimeRecords previous = map.putIfAbsent(key, records);
+            if (previous != null) {
+                records = previous;
+            }
+        }
+        records.get(step).add(time, cpuTime);
+    }
+
+    /**
+     * Renders the collected data as JSON and logs the report. The collected data are discarded afterwards.
+     */
+    void finish() {
+        if (!enabled) {
+            return;
+        }
+        report = render();
+        BootstrapLogger.LOG.bootstrapProfile(report);
+        phases.clear();
+        archives.clear();
+        observers.clear();
+    }
+
+    /**
+     * @return the report in JSON format, or <code>null</code> if the profiler is disabled or the bootstrap is not finished yet
+     */
+    public String getReport() {
+        return report;
+    }
+
+    @Override
+    public void cleanup() {
+        report = null;
+        phases.clear();
+        archives.clear();
+        observers.clear();
+    }
+
+    private String render() {
+        StringBuilder builder = new StringBuilder();
+        long totalTime = 0;
+        long totalLoadedClasses = 0;
+        long totalProxies = 0;
+        List<PhaseRecord> phaseRecords;
+        synchronized (phases) {
+            phaseRecords = new ArrayList<PhaseRecord>(phases);
+        }
+        for (PhaseRecord phase : phaseRecords) {
+            totalTime += phase.time;
+            totalLoadedClasses += phase.loadedClasses;
+            totalProxies += phase.proxiesGenerated;
+        }
+        builder.append('{');
+        appendTime(builder, totalTime);
+        appendCounts(builder, totalLoadedClasses, totalProxies);
+
+        builder.append(",\"phases\":[");
+        for (int i = 0; i < phaseRecords.size(); i++) {
+            PhaseRecord phase = phaseRecords.get(i);
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"name\":");
+            appendString(builder, phase.name);
+            builder.append(',');
+            appendTime(builder, phase.time);
+            appendCounts(builder, phase.loadedClasses, phase.proxiesGenerated);
+            builder.append('}');
+        }
+        builder.append(']');
+
+        builder.append(",\"archives\":[");
+        boolean first = true;
+        for (Map.Entry<String, TimeRecords> entry : sortByTime(archives)) {
+            if (!first) {
+                builder.append(',');
+            }
+            first = false;
+            builder.append("{\"id\":");
+            appendString(builder, entry.getKey());
+            builder.append(',');
+            appendTimeRecords(builder, entry.getValue(), "steps");
+            builder.append('}');
+        }
+        builder.append(']');
+
+        builder.append(",\"extensionObservers\":[");
+        first = true;
+        for (Map.Entry<ObserverMethod<?>, TimeRecords> entry : sortByTime(observers)) {
+            if (!first) {
+                builder.append(',');
+            }
+            first = false;
+            builder.append("{\"extension\":");
+            appendString(builder, entry.getKey().getBeanClass().getName());
+            builder.append(",\"observer\":");
+            appendString(builder, entry.getKey().toString());
+            builder.append(',');
+            appendTimeRecords(builder, entry.getValue(), "events");
+            builder.append('}');
+        }
+        builder.append(']');
+        builder.append('}');
+        return builder.toString();
+    }
+
+    private static <K> List<Map.Entry<K, TimeRecords>> sortByTime(Map<K, TimeRecords> map) {
+        List<Map.Entry<K, TimeRecords>> entries = new ArrayList<Map.Entry<K, TimeRecords>>(map.entrySet());
+        Collections.sort(entries, new Comparator<Map.Entry<K, TimeRecords>>() {
+            @Override
+            public int compare(Map.Entry<K, TimeRecords> o1, Map.Entry<K, TimeRecords> o2) {
+                return Long.compare(o2.getValue().getTime(), o1.getValue().getTime());
+            }
+        });
+        return entries;
+    }
+
+    private void appendTimeRecords(StringBuilder builder, TimeRecords records, String name) {
+        appendTimes(builder, records.getTime(), records.getCpuTime());
+        builder.append(",\"").append(name).append("\":{");
+        boolean first = true;
+        for (Map.Entry<String, TimeRecord> entry : records.records.entrySet()) {
+            if (!first) {
+                builder.append(',');
+            }
+            first = false;
+            appendString(builder, entry.getKey());
+            builder.append(":{\"count\":").append(entry.getValue().count.sum()).append(',');
+            appendTimes(builder, entry.getValue().time.sum(), entry.getValue().cpuTime.sum());
+            builder.append('}');
+        }
+        builder.append('}');
+    }
+
+    private static void appendTime(StringBuilder builder, long time) {
+        builder.append("\"time\":").append(TimeUnit.NANOSECONDS.toMillis(time));
+    }
+
+    private void appendTimes(StringBuilder builder, long time, long cpuTime) {
+        appendTime(builder, time);
+        // -1 indicates that CPU time measurement is not supported by the JVM
+        builder.append(",\"cpuTime\":").append(cpuTime < 0 || !threads.isThreadCpuTimeSupported() ? -1 : TimeUnit.NANOSECONDS.toMillis(cpuTime));
+    }
+
+    private static void appendCounts(StringBuilder builder, long loadedClasses, long proxiesGenerated) {
+        builder.append(",\"classesLoaded\":").append(loadedClasses);
+        builder.append(",\"proxiesGenerated\":").append(proxiesGenerated);
+    }
+
+    private static void appendString(StringBuilder builder, String value) {
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                builder.append('\\').append(c);
+            } else if (Character.isISOControl(c)) {
+                builder.append(String.format("\\u%04x", (int) c));
+            } else {
+                builder.append(c);
+            }
+        }
+        builder.append('"');
+    }
+
+    private long currentThreadCpuTime() {
+        return threads.isCurrentThreadCpuTimeSupported() ? threads.getCurrentThreadCpuTime() : -1;
+    }
+
+    private static long cpuTimeDelta(long start, long end) {
+        // both values are measured in the same thread
+        return (start < 0 || end < 0) ? -1 : end - start;
+    }
+
+    /**
+     * A measurement started by {@link BootstrapProfiler#start()} or {@link BootstrapProfiler#startPhase()}.
+     */
+    public static final class Measurement {
+
+        private final long time;
+        private final long cpuTime;
+        private final long loadedClasses;
+        private final long proxiesGenerated;
+
+        private Measurement(long time, long cpuTime) {
+            this(time, cpuTime, 0, 0);
+        }
+
+        private Measurement(long time, long cpuTime, long loadedClasses, long proxiesGenerated) {
+            this.time = time;
+            this.cpuTime = cpuTime;
+            this.loadedClasses = loadedClasses;
+            this.proxiesGenerated = proxiesGenerated;
+        }
+    }
+
+    private static final class PhaseRecord {
+
+        private final String name;
+        private final long time;
+        private final long loadedClasses;
+        private final long proxiesGenerated;
+
+        private PhaseRecord(String name, long time, long loadedClasses, long proxiesGenerated) {
+            this.name = name;
+            this.time = time;
+            this.loadedClasses = loadedClasses;
+            this.proxiesGenerated = proxiesGenerated;
+        }
+    }
+
+    private static final class TimeRecords {
+
+        private final ConcurrentMap<String, TimeRecord> records = new ConcurrentHashMap<String, TimeRecord>();
+
+        private TimeRecord get(String name) {
+            TimeRecord record = records.get(name);
+            if (record == null) {
+                record = new TimeRecord();
+                TimeRecord previous = records.putIfAbsent(name, record);
+                if (previous != null) {
+                    record = previous;
+                }
+            }
+            return record;
+        }
+
+        private long getTime() {
+            long time = 0;
+            for (TimeRecord record : records.values()) {
+                time += record.time.sum();
+            }
+            return time;
+        }
+
+        private long getCpuTime() {
+            long cpuTime = 0;
+            for (TimeRecord record : records.values()) {
+                cpuTime += record.cpuTime.sum();
+            }
+            return cpuTime;
+        }
+    }
+
+    private static final class TimeRecord {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder time = new LongAdder();
+        private final LongAdder cpuTime = new LongAdder();
+
+        private void add(long time, long cpuTime) {
+            this.count.increment();
+            this.time.add(time);
+            if (cpuTime > 0) {
+                this.cpuTime.add(cpuTime);
+            }
+        }
+    }
+}
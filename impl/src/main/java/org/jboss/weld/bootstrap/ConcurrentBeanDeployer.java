@@ -16,7 +16,11 @@
  */
 package org.jboss.weld.bootstrap;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.enterprise.inject.spi.Bean;
 
@@ -27,8 +31,11 @@ import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
 import org.jboss.weld.ejb.EjbDescriptors;
 import org.jboss.weld.executor.IterativeWorkerTaskFactory;
+import org.jboss.weld.executor.TaskGraph;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.manager.api.ExecutorServices;
+import org.jboss.weld.util.LazyValueHolder;
+import org.jboss.weld.util.collections.ImmutableList;
 import org.jboss.weld.util.collections.SetMultimap;
 
 /**
@@ -59,6 +66,59 @@ public class ConcurrentBeanDeployer extends BeanDeployer {
         return this;
     }
 
+    /**
+     * {@link javax.enterprise.inject.spi.ProcessAnnotatedType} events which are only observed by thread-safe extension observer methods are
+     * delivered concurrently. The remaining events are delivered sequentially in the calling thread.
+     *
+     * @see org.jboss.weld.bootstrap.events.ThreadSafeExtension
+     */
+    @Override
+    public void processAnnotatedTypes() {
+        if (!containerLifecycleEvents.isProcessAnnotatedTypeObserved()) {
+            super.processAnnotatedTypes();
+            return;
+        }
+        final Set<SlimAnnotatedTypeContext<?>> classesToBeAdded = ConcurrentHashMap.newKeySet();
+        final Set<SlimAnnotatedTypeContext<?>> classesToBeRemoved = ConcurrentHashMap.newKeySet();
+        List<SlimAnnotatedTypeContext<?>> threadSafe = new ArrayList<SlimAnnotatedTypeContext<?>>();
+
+        for (SlimAnnotatedTypeContext<?> annotatedTypeContext : getEnvironment().getAnnotatedTypes()) {
+            if (containerLifecycleEvents.isProcessAnnotatedTypeThreadSafe(annotatedTypeContext)) {
+                threadSafe.add(annotatedTypeContext);
+            } else {
+                processAnnotatedType(annotatedTypeContext, classesToBeAdded, classesToBeRemoved);
+            }
+        }
+        if (!threadSafe.isEmpty()) {
+            executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<SlimAnnotatedTypeContext<?>>(threadSafe) {
+                @Override
+                protected void doWork(SlimAnnotatedTypeContext<?> annotatedTypeContext) {
+                    processAnnotatedType(annotatedTypeContext, classesToBeAdded, classesToBeRemoved);
+                }
+            });
+        }
+        getEnvironment().removeAnnotatedTypes(classesToBeRemoved);
+        getEnvironment().addAnnotatedTypes(classesToBeAdded);
+    }
+
+    @Override
+    public TaskGraph.Task addClasses(TaskGraph graph, Iterable<String> classes, TaskGraph.Task... dependencies) {
+        final String name = "addClasses " + getManager().getId();
+        final AnnotatedTypeLoader loader = createAnnotatedTypeLoader();
+        List<TaskGraph.Task> batches = new ArrayList<TaskGraph.Task>();
+        for (final List<String> batch : TaskGraph.partition(classes)) {
+            batches.add(graph.add(name, new Runnable() {
+                @Override
+                public void run() {
+                    for (String className : batch) {
+                        addClass(className, loader);
+                    }
+                }
+            }, dependencies));
+        }
+        return batches.isEmpty() ? graph.add(name, null, dependencies) : graph.join(name, batches);
+    }
+
     @Override
     public void createClassBeans() {
         final SetMultimap<Class<?>, SlimAnnotatedType<?>> otherWeldClasses = SetMultimap.newConcurrentSetMultimap();
@@ -74,6 +134,31 @@ public class ConcurrentBeanDeployer extends BeanDeployer {
         ejbSupport.createSessionBeans(getEnvironment(), otherWeldClasses, getManager());
     }
 
+    @Override
+    public TaskGraph.Task createClassBeans(TaskGraph graph, TaskGraph.Task... dependencies) {
+        final SetMultimap<Class<?>, SlimAnnotatedType<?>> otherWeldClasses = SetMultimap.newConcurrentSetMultimap();
+        List<TaskGraph.Task> batches = new ArrayList<TaskGraph.Task>();
+        for (final List<SlimAnnotatedTypeContext<?>> batch : TaskGraph.<SlimAnnotatedTypeContext<?>> partition(getEnvironment().getAnnotatedTypes())) {
+            batches.add(graph.add("createClassBeans " + getManager().getId(), new Runnable() {
+                @Override
+                public void run() {
+                    for (SlimAnnotatedTypeContext<?> ctx : batch) {
+                        createClassBean(ctx.getAnnotatedType(), otherWeldClasses);
+                    }
+                }
+            }, dependencies));
+        }
+        if (batches.isEmpty()) {
+            batches.addAll(Arrays.asList(dependencies));
+        }
+        return graph.add("createSessionBeans " + getManager().getId(), new Runnable() {
+            @Override
+            public void run() {
+                ejbSupport.createSessionBeans(getEnvironment(), otherWeldClasses, getManager());
+            }
+        }, batches);
+    }
+
     @Override
     public void createProducersAndObservers() {
         executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<AbstractClassBean<?>>(getEnvironment().getClassBeans()) {
@@ -84,11 +169,76 @@ public class ConcurrentBeanDeployer extends BeanDeployer {
         });
     }
 
+    @Override
+    public TaskGraph.Task createProducersAndObservers(TaskGraph graph, TaskGraph.Task... dependencies) {
+        final String name = "createProducersAndObservers " + getManager().getId();
+        // Class beans may be vetoed by the dependencies - the batches are only taken once the first of them is started
+        final LazyValueHolder<List<AbstractClassBean<?>>> classBeans = LazyValueHolder.forSupplier(() -> ImmutableList.copyOf(getEnvironment()
+                .getClassBeans()));
+        // The number of class beans can only decrease
+        final int count = ImmutableList.copyOf(getEnvironment().getClassBeans()).size();
+        List<TaskGraph.Task> batches = new ArrayList<TaskGraph.Task>();
+        for (int from = 0; from < count; from += TaskGraph.DEFAULT_BATCH_SIZE) {
+            final int batchStart = from;
+            batches.add(graph.add(name, new Runnable() {
+                @Override
+                public void run() {
+                    List<AbstractClassBean<?>> beans = classBeans.get();
+                    for (int i = batchStart; i < Math.min(batchStart + TaskGraph.DEFAULT_BATCH_SIZE, beans.size()); i++) {
+                        createObserversProducersDisposers(beans.get(i));
+                    }
+                }
+            }, dependencies));
+        }
+        return batches.isEmpty() ? graph.add(name, null, dependencies) : graph.join(name, batches);
+    }
+
     @Override
     public void doAfterBeanDiscovery(List<? extends Bean<?>> beanList) {
         executor.invokeAllAndCheckForExceptions(new AfterBeanDiscoveryInitializerFactory(beanList));
     }
 
+    @Override
+    public TaskGraph.Task doAfterBeanDiscovery(TaskGraph graph, List<? extends Bean<?>> beanList, TaskGraph.Task... dependencies) {
+        final String name = "doAfterBeanDiscovery " + getManager().getId();
+        List<TaskGraph.Task> batches = new ArrayList<TaskGraph.Task>();
+        for (final List<Bean<?>> batch : TaskGraph.<Bean<?>> partition(beanList)) {
+            batches.add(graph.add(name, new Runnable() {
+                @Override
+                public void run() {
+                    for (Bean<?> bean : batch) {
+                        if (bean instanceof RIBean<?>) {
+                            ((RIBean<?>) bean).initializeAfterBeanDiscovery();
+                        }
+                    }
+                }
+            }, dependencies));
+        }
+        return batches.isEmpty() ? graph.add(name, null, dependencies) : graph.join(name, batches);
+    }
+
+    /**
+     * If all the extension observer methods which may receive the {@link javax.enterprise.inject.spi.ProcessBean} events are thread-safe, the
+     * events for different beans are delivered concurrently.
+     *
+     * @see org.jboss.weld.bootstrap.events.ThreadSafeExtension
+     */
+    @Override
+    public AbstractBeanDeployer<BeanDeployerEnvironment> fireBeanEvents() {
+        if (!containerLifecycleEvents.isProcessBeanThreadSafe()
+                || !(containerLifecycleEvents.isProcessBeanObserved() || containerLifecycleEvents.isProcessInjectionTargetObserved() || containerLifecycleEvents
+                        .isProcessProducerObserved())) {
+            return super.fireBeanEvents();
+        }
+        executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<RIBean<?>>(getEnvironment().getBeans()) {
+            @Override
+            protected void doWork(RIBean<?> bean) {
+                fireBeanEvents(bean);
+            }
+        });
+        return this;
+    }
+
     @Override
     public AbstractBeanDeployer<BeanDeployerEnvironment> initializeBeans() {
         executor.invokeAllAndCheckForExceptions(new IterativeWorkerTaskFactory<RIBean<?>>(getEnvironment().getBeans()) {
@@ -0,0 +1,47 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an {@link javax.enterprise.context.ApplicationScoped} or {@link javax.inject.Singleton} managed bean or producer which should be
+ * instantiated at the end of the bootstrap rather than when first used. The client proxy of the bean is generated and the injection points of
+ * the bean are resolved at the same time. The annotation is ignored for beans of other scopes.
+ *
+ * <p>
+ * The beans are initialized once the container is initialized, i.e. the callbacks of the bean may use the container as usual, e.g. by means of
+ * {@link javax.enterprise.inject.spi.CDI#current()}.
+ * </p>
+ *
+ * <p>
+ * Eager initialization may also be enabled for all the beans whose class name matches
+ * {@link org.jboss.weld.config.ConfigurationKey#EAGER_INITIALIZATION}.
+ * </p>
+ */
+@Documented
+@Retention(RUNTIME)
+@Target({ TYPE, METHOD, FIELD })
+public @interface Eager {
+}
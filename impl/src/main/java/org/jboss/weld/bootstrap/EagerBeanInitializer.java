@@ -0,0 +1,163 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.spi.Context;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.InjectionPoint;
+import javax.inject.Singleton;
+
+import org.jboss.weld.bean.AbstractBean;
+import org.jboss.weld.bean.AbstractProducerBean;
+import org.jboss.weld.executor.TaskGraph;
+import org.jboss.weld.executor.TaskGraph.Task;
+import org.jboss.weld.logging.BootstrapLogger;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.util.Beans;
+
+/**
+ * Instantiates the {@link ApplicationScoped} and {@link Singleton} beans selected for eager initialization, i.e. the beans annotated with
+ * {@link Eager} and the beans whose class name matches the configured pattern. For each bean, the contextual instance is created (and thus all its
+ * injection points are resolved) and the client proxy is generated.
+ *
+ * <p>
+ * The plan is a {@link TaskGraph} in which a bean depends on the eager beans injected into it (and on the declaring bean in case of a producer), so
+ * that independent beans may be initialized in parallel. Dependency cycles are broken arbitrarily - this is safe because a cycle between normal-scoped
+ * beans is resolved using client proxies anyway. The plan must be built before the bootstrap services are cleaned up.
+ * </p>
+ *
+ * <p>
+ * A failure to initialize a bean is logged and does not prevent the deployment from starting - the bean is then initialized lazily as usual.
+ * </p>
+ */
+final class EagerBeanInitializer {
+
+    private final Pattern pattern;
+    private final SpecializationAndEnablementRegistry registry;
+    private final Map<Bean<?>, BeanManagerImpl> beans;
+    private final Map<Bean<?>, Task> tasks;
+    private final Set<Bean<?>> visiting;
+    private final TaskGraph graph;
+
+    EagerBeanInitializer(String pattern, SpecializationAndEnablementRegistry registry) {
+        this.pattern = pattern.isEmpty() ? null : Pattern.compile(pattern);
+        this.registry = registry;
+        this.beans = new LinkedHashMap<Bean<?>, BeanManagerImpl>();
+        this.tasks = new HashMap<Bean<?>, Task>();
+        this.visiting = new HashSet<Bean<?>>();
+        this.graph = new TaskGraph("eagerInitialization");
+    }
+
+    /**
+     * Builds the initialization plan for the beans of the given bean deployments.
+     *
+     * @return the graph to be executed, or <code>null</code> if there are no beans to initialize
+     */
+    TaskGraph plan(Collection<BeanDeployment> beanDeployments) {
+        for (BeanDeployment beanDeployment : beanDeployments) {
+            BeanManagerImpl manager = beanDeployment.getBeanManager();
+            for (Bean<?> bean : manager.getBeans()) {
+                if (!beans.containsKey(bean) && isEager(bean, manager)) {
+                    beans.put(bean, manager);
+                }
+            }
+        }
+        if (beans.isEmpty()) {
+            return null;
+        }
+        for (Map.Entry<Bean<?>, BeanManagerImpl> entry : beans.entrySet()) {
+            visit(entry.getKey(), entry.getValue());
+        }
+        return graph;
+    }
+
+    private boolean isEager(Bean<?> bean, BeanManagerImpl manager) {
+        if (!(bean instanceof AbstractBean<?, ?>)) {
+            // built-in, extension and custom beans
+            return false;
+        }
+        if (!ApplicationScoped.class.equals(bean.getScope()) && !Singleton.class.equals(bean.getScope())) {
+            return false;
+        }
+        if (!((AbstractBean<?, ?>) bean).getAnnotated().isAnnotationPresent(Eager.class)
+                && (pattern == null || !pattern.matcher(bean.getBeanClass().getName()).matches())) {
+            return false;
+        }
+        return Beans.isBeanEnabled(bean, manager.getEnabled()) && !registry.isSpecializedInAnyBeanDeployment(bean);
+    }
+
+    private Task visit(Bean<?> bean, BeanManagerImpl manager) {
+        Task task = tasks.get(bean);
+        if (task != null || !visiting.add(bean)) {
+            // already planned or a dependency cycle
+            return task;
+        }
+        List<Task> dependencies = new ArrayList<Task>();
+        if (bean instanceof AbstractProducerBean<?, ?, ?>) {
+            addDependency(((AbstractProducerBean<?, ?, ?>) bean).getDeclaringBean(), dependencies);
+        }
+        for (InjectionPoint injectionPoint : bean.getInjectionPoints()) {
+            if (!injectionPoint.isDelegate()) {
+                addDependency(resolve(injectionPoint, manager), dependencies);
+            }
+        }
+        task = graph.add(bean.toString(), () -> initialize(bean, manager), dependencies);
+        tasks.put(bean, task);
+        return task;
+    }
+
+    private void addDependency(Bean<?> dependency, List<Task> dependencies) {
+        if (dependency != null && beans.containsKey(dependency)) {
+            Task task = visit(dependency, beans.get(dependency));
+            if (task != null) {
+                dependencies.add(task);
+            }
+        }
+    }
+
+    private static Bean<?> resolve(InjectionPoint injectionPoint, BeanManagerImpl manager) {
+        try {
+            return manager.resolve(manager.getBeans(injectionPoint));
+        } catch (RuntimeException e) {
+            // the dependency is only used to order the initialization
+            return null;
+        }
+    }
+
+    private static <T> void initialize(Bean<T> bean, BeanManagerImpl manager) {
+        try {
+            Context context = manager.getContext(bean.getScope());
+            context.get(bean, manager.createCreationalContext(bean));
+            if (manager.isNormalScope(bean.getScope())) {
+                manager.getClientProxyProvider().getClientProxy(bean);
+            }
+        } catch (RuntimeException e) {
+            BootstrapLogger.LOG.unableToEagerlyInitialize(bean, e);
+        }
+    }
+}
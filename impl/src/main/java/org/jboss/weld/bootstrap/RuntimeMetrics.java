@@ -0,0 +1,513 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.weld.Container;
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.context.LockContentionMonitor;
+import org.jboss.weld.context.LockContentionMonitor.LockStatistics;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.resolution.TypeSafeResolver;
+
+/**
+ * Counters and gauges of the container runtime. The counters are {@link LongAdder}s updated directly by the contexts, the {@link org.jboss.weld.event.ObserverNotifier}
+ * and the bootstrap, therefore the overhead is negligible even under contention. The values are only aggregated when {@link #collect()} is called,
+ * e.g. when a monitoring system scrapes the metrics.
+ *
+ * <p>
+ * If the metrics are disabled (the default), the components do not maintain any counters - {@link #getScopeMetrics(Class)} returns <code>null</code> and the
+ * other methods return immediately.
+ * </p>
+ *
+ * @see org.jboss.weld.config.ConfigurationKey#RUNTIME_METRICS
+ */
+public class RuntimeMetrics implements Service, RuntimeMetricsMXBean {
+
+    /**
+     * The maximum number of event types tracked separately. The events of other types are counted under {@link #OTHER_EVENT_TYPES}.
+     */
+    static final int MAX_EVENT_TYPES = 1000;
+
+    static final String OTHER_EVENT_TYPES = "other";
+
+    private static final String SCOPE = "scope";
+
+    private static final String RESOLVER = "resolver";
+
+    /**
+     * The maximum number of beans with a separate lock wait time sample - the most contended ones are selected.
+     */
+    static final int MAX_LOCKS = 10;
+
+    private static final String LOCK = "lock";
+
+    private static final String BEAN = "bean";
+
+    private static final String LOCK_CONVERSATION = "conversation";
+
+    private final boolean enabled;
+
+    private final String contextId;
+
+    private final ConcurrentMap<Class<? extends Annotation>, ScopeMetrics> scopes;
+
+    // Keyed by the class name so that the runtime types of events are not retained
+    private final ConcurrentMap<String, LongAdder> events;
+
+    private final LongAdder otherEvents;
+
+    private final LongAdder asyncEventsSubmitted;
+
+    private final LongAdder asyncEventsDelivered;
+
+    private final LongAdder sessionsCreated;
+
+    private final LongAdder sessionsDestroyed;
+
+    private final LongAdder conversationsBegun;
+
+    private final LongAdder conversationsEnded;
+
+    private final Map<String, Long> bootPhases;
+
+    public RuntimeMetrics(boolean enabled, String contextId) {
+        this.enabled = enabled;
+        this.contextId = contextId;
+        this.scopes = new ConcurrentHashMap<Class<? extends Annotation>, ScopeMetrics>();
+        this.events = new ConcurrentHashMap<String, LongAdder>();
+        this.otherEvents = new LongAdder();
+        this.asyncEventsSubmitted = new LongAdder();
+        this.asyncEventsDelivered = new LongAdder();
+        this.sessionsCreated = new LongAdder();
+        this.sessionsDestroyed = new LongAdder();
+        this.conversationsBegun = new LongAdder();
+        this.conversationsEnded = new LongAdder();
+        this.bootPhases = Collections.synchronizedMap(new LinkedHashMap<String, Long>());
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     *
+     * @param scope
+     * @return the metrics of the given scope, or <code>null</code> if the metrics are disabled
+     */
+    public ScopeMetrics getScopeMetrics(Class<? extends Annotation> scope) {
+        if (!enabled) {
+            return null;
+        }
+        return scopes.computeIfAbsent(scope, (key) -> new ScopeMetrics());
+    }
+
+    /**
+     *
+     * @param eventClass the runtime type of the event object
+     */
+    public void eventFired(Class<?> eventClass) {
+        if (!enabled) {
+            return;
+        }
+        String eventType = eventClass.getName();
+        LongAdder counter = events.get(eventType);
+        if (counter == null) {
+            if (events.size() >= MAX_EVENT_TYPES) {
+                otherEvents.increment();
+                return;
+            }
+            counter = events.computeIfAbsent(eventType, (key) -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    public void asyncEventSubmitted() {
+        if (enabled) {
+            asyncEventsSubmitted.increment();
+        }
+    }
+
+    public void asyncEventDelivered() {
+        if (enabled) {
+            asyncEventsDelivered.increment();
+        }
+    }
+
+    public void sessionCreated() {
+        if (enabled) {
+            sessionsCreated.increment();
+        }
+    }
+
+    public void sessionDestroyed() {
+        if (enabled) {
+            sessionsDestroyed.increment();
+        }
+    }
+
+    public void conversationBegun() {
+        if (enabled) {
+            conversationsBegun.increment();
+        }
+    }
+
+    public void conversationEnded() {
+        if (enabled) {
+            conversationsEnded.increment();
+        }
+    }
+
+    /**
+     *
+     * @param phase
+     * @param duration the wall time in nanoseconds
+     */
+    void bootPhaseFinished(String phase, long duration) {
+        if (enabled) {
+            bootPhases.put(phase, duration);
+        }
+    }
+
+    /**
+     * Aggregates the current values. Gauges which depend on the deployment, e.g. the resolution cache size, are only included while the container is
+     * available.
+     *
+     * @return the metrics, or an empty list if the metrics are disabled
+     */
+    public List<Metric> collect() {
+        if (!enabled) {
+            return Collections.emptyList();
+        }
+        List<Metric> metrics = new ArrayList<Metric>();
+
+        Metric created = new Metric("weld_instances_created_total", "Contextual instances created", Metric.Type.COUNTER, SCOPE);
+        Metric destroyed = new Metric("weld_instances_destroyed_total", "Contextual instances destroyed (not tracked for @Dependent)", Metric.Type.COUNTER,
+                SCOPE);
+        Metric activations = new Metric("weld_context_activations_total", "Context activations", Metric.Type.COUNTER, SCOPE);
+        for (Map.Entry<Class<? extends Annotation>, ScopeMetrics> entry : scopes.entrySet()) {
+            String scope = entry.getKey().getName();
+            created.addValue(scope, entry.getValue().getInstancesCreated());
+            destroyed.addValue(scope, entry.getValue().getInstancesDestroyed());
+            activations.addValue(scope, entry.getValue().getActivations());
+        }
+        metrics.add(created);
+        metrics.add(destroyed);
+        metrics.add(activations);
+
+        long sessions = sessionsCreated.sum();
+        metrics.add(new Metric("weld_sessions_created_total", "HTTP sessions created", Metric.Type.COUNTER, null).addValue(null, sessions));
+        metrics.add(new Metric("weld_sessions_active", "Active HTTP sessions", Metric.Type.GAUGE, null).addValue(null, sessions - sessionsDestroyed.sum()));
+        long conversations = conversationsBegun.sum();
+        metrics.add(new Metric("weld_conversations_begun_total", "Long-running conversations begun", Metric.Type.COUNTER, null).addValue(null,
+                conversations));
+        metrics.add(new Metric("weld_conversations_active", "Active long-running conversations", Metric.Type.GAUGE, null).addValue(null, conversations
+                - conversationsEnded.sum()));
+
+        Metric eventsFired = new Metric("weld_events_fired_total", "Events fired", Metric.Type.COUNTER, "type");
+        for (Map.Entry<String, LongAdder> entry : events.entrySet()) {
+            eventsFired.addValue(entry.getKey(), entry.getValue().sum());
+        }
+        long other = otherEvents.sum();
+        if (other > 0) {
+            eventsFired.addValue(OTHER_EVENT_TYPES, other);
+        }
+        metrics.add(eventsFired);
+        long asyncEvents = asyncEventsSubmitted.sum();
+        metrics.add(new Metric("weld_async_events_total", "Asynchronous events submitted", Metric.Type.COUNTER, null).addValue(null, asyncEvents));
+        metrics.add(new Metric("weld_async_events_pending", "Asynchronous events waiting for or being delivered", Metric.Type.GAUGE, null).addValue(null,
+                asyncEvents - asyncEventsDelivered.sum()));
+
+        collectResolverMetrics(metrics);
+        collectLockMetrics(metrics);
+
+        Metric phases = new Metric("weld_bootstrap_phase_milliseconds", "Wall time of the bootstrap phases", Metric.Type.GAUGE, "phase");
+        synchronized (bootPhases) {
+            for (Map.Entry<String, Long> entry : bootPhases.entrySet()) {
+                phases.addValue(entry.getKey(), TimeUnit.NANOSECONDS.toMillis(entry.getValue()));
+            }
+        }
+        metrics.add(phases);
+        return metrics;
+    }
+
+    private void collectResolverMetrics(List<Metric> metrics) {
+        if (!Container.available(contextId)) {
+            return;
+        }
+        Map<String, Set<TypeSafeResolver<?, ?, ?, ?>>> resolvers = new TreeMap<String, Set<TypeSafeResolver<?, ?, ?, ?>>>();
+        for (BeanManagerImpl manager : Container.instance(contextId).beanDeploymentArchives().values()) {
+            // the resolvers may be shared
+            addResolver(resolvers, BEAN, manager.getBeanResolver());
+            addResolver(resolvers, "decorator", manager.getDecoratorResolver());
+            addResolver(resolvers, "interceptor", manager.getInterceptorResolver());
+            addResolver(resolvers, "observer", manager.getAccessibleLenientObserverNotifier().getResolver());
+        }
+        Metric size = new Metric("weld_resolver_cache_size", "Cached resolutions", Metric.Type.GAUGE, RESOLVER);
+        Metric lookups = new Metric("weld_resolver_cache_lookups_total", "Cached resolution requests", Metric.Type.COUNTER, RESOLVER);
+        Metric misses = new Metric("weld_resolver_cache_misses_total", "Cached resolution requests which required the resolution", Metric.Type.COUNTER,
+                RESOLVER);
+        for (Map.Entry<String, Set<TypeSafeResolver<?, ?, ?, ?>>> entry : resolvers.entrySet()) {
+            long sizeValue = 0;
+            long lookupsValue = 0;
+            long missesValue = 0;
+            for (TypeSafeResolver<?, ?, ?, ?> resolver : entry.getValue()) {
+                sizeValue += resolver.getCacheSize();
+                lookupsValue += resolver.getCacheLookups();
+                missesValue += resolver.getCacheMisses();
+            }
+            size.addValue(entry.getKey(), sizeValue);
+            lookups.addValue(entry.getKey(), lookupsValue);
+            misses.addValue(entry.getKey(), missesValue);
+        }
+        metrics.add(size);
+        metrics.add(lookups);
+        metrics.add(misses);
+    }
+
+    private void collectLockMetrics(List<Metric> metrics) {
+        if (!Container.available(contextId)) {
+            return;
+        }
+        LockContentionMonitor monitor = Container.instance(contextId).services().get(LockContentionMonitor.class);
+        if (monitor == null || !monitor.isEnabled()) {
+            return;
+        }
+        LockStatistics beans = monitor.getBeanTotals();
+        LockStatistics conversations = monitor.getConversationTotals();
+        metrics.add(new Metric("weld_lock_contentions_total", "Contended lock acquisitions", Metric.Type.COUNTER, LOCK).addValue(BEAN,
+                beans.getContentions()).addValue(LOCK_CONVERSATION, conversations.getContentions()));
+        metrics.add(new Metric("weld_lock_wait_milliseconds_total", "Time spent waiting for contended locks", Metric.Type.COUNTER, LOCK).addValue(
+                BEAN, TimeUnit.NANOSECONDS.toMillis(beans.getWaitTime())).addValue(LOCK_CONVERSATION,
+                        TimeUnit.NANOSECONDS.toMillis(conversations.getWaitTime())));
+        metrics.add(new Metric("weld_busy_conversations_total", "Conversations which could not be locked within the concurrent access timeout",
+                Metric.Type.COUNTER, null).addValue(null, conversations.getTimeouts()));
+        Metric beanWaitTime = new Metric("weld_bean_lock_wait_milliseconds_total", "Time spent waiting for the creation lock of the most contended beans",
+                Metric.Type.COUNTER, BEAN);
+        int count = 0;
+        for (LockStatistics statistics : monitor.getBeanLocks()) {
+            if (count++ >= MAX_LOCKS) {
+                break;
+            }
+            beanWaitTime.addValue(statistics.getKey(), TimeUnit.NANOSECONDS.toMillis(statistics.getWaitTime()));
+        }
+        metrics.add(beanWaitTime);
+    }
+
+    private static void addResolver(Map<String, Set<TypeSafeResolver<?, ?, ?, ?>>> resolvers, String name, TypeSafeResolver<?, ?, ?, ?> resolver) {
+        resolvers.computeIfAbsent(name, (key) -> Collections.newSetFromMap(new IdentityHashMap<TypeSafeResolver<?, ?, ?, ?>, Boolean>())).add(resolver);
+    }
+
+    @Override
+    public Map<String, Long> getMetrics() {
+        Map<String, Long> result = new LinkedHashMap<String, Long>();
+        for (Metric metric : collect()) {
+            for (Map.Entry<String, Long> entry : metric.getValues().entrySet()) {
+                result.put(metric.getSampleName(entry.getKey()), entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String getPrometheusText() {
+        StringBuilder builder = new StringBuilder();
+        try {
+            writePrometheusText(collect(), builder);
+        } catch (IOException e) {
+            // StringBuilder does not throw IOException
+            throw new IllegalStateException(e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Writes the metrics in the Prometheus text exposition format (version 0.0.4).
+     *
+     * @param metrics
+     * @param out
+     * @throws IOException
+     */
+    public static void writePrometheusText(List<Metric> metrics, Appendable out) throws IOException {
+        for (Metric metric : metrics) {
+            out.append("# HELP ").append(metric.getName()).append(' ').append(metric.getHelp()).append('\n');
+            out.append("# TYPE ").append(metric.getName()).append(' ').append(metric.getType().toString()).append('\n');
+            for (Map.Entry<String, Long> entry : metric.getValues().entrySet()) {
+                out.append(metric.getSampleName(entry.getKey())).append(' ').append(entry.getValue().toString()).append('\n');
+            }
+        }
+    }
+
+    @Override
+    public void cleanup() {
+        scopes.clear();
+        events.clear();
+        bootPhases.clear();
+    }
+
+    /**
+     * The counters of a single scope. The instance is obtained once by the context of the scope and then updated directly.
+     */
+    public static final class ScopeMetrics {
+
+        private final LongAdder instancesCreated = new LongAdder();
+
+        private final LongAdder instancesDestroyed = new LongAdder();
+
+        private final LongAdder activations = new LongAdder();
+
+        public void instanceCreated() {
+            instancesCreated.increment();
+        }
+
+        public void instanceDestroyed() {
+            instancesDestroyed.increment();
+        }
+
+        public void contextActivated() {
+            activations.increment();
+        }
+
+        public long getInstancesCreated() {
+            return instancesCreated.sum();
+        }
+
+        public long getInstancesDestroyed() {
+            return instancesDestroyed.sum();
+        }
+
+        public long getActivations() {
+            return activations.sum();
+        }
+
+    }
+
+    /**
+     * A metric family, i.e. a named counter or gauge with an optional label. Each label value has its own value.
+     */
+    public static final class Metric {
+
+        public enum Type {
+
+            COUNTER("counter"), GAUGE("gauge");
+
+            private final String value;
+
+            Type(String value) {
+                this.value = value;
+            }
+
+            @Override
+            public String toString() {
+                return value;
+            }
+
+        }
+
+        private final String name;
+
+        private final String help;
+
+        private final Type type;
+
+        private final String label;
+
+        private final Map<String, Long> values;
+
+        Metric(String name, String help, Type type, String label) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+            this.label = label;
+            this.values = new TreeMap<String, Long>();
+        }
+
+        Metric addValue(String labelValue, long value) {
+            values.put(labelValue != null ? labelValue : "", value);
+            return this;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getHelp() {
+            return help;
+        }
+
+        public Type getType() {
+            return type;
+        }
+
+        /**
+         *
+         * @return the label name or <code>null</code> if the metric has no label
+         */
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         *
+         * @return the values keyed by the label value, the key is an empty string if the metric has no label
+         */
+        public Map<String, Long> getValues() {
+            return Collections.unmodifiableMap(values);
+        }
+
+        String getSampleName(String labelValue) {
+            if (label == null) {
+                return name;
+            }
+            StringBuilder builder = new StringBuilder(name);
+            builder.append('{').append(label).append("=\"");
+            for (int i = 0; i < labelValue.length(); i++) {
+                char c = labelValue.charAt(i);
+                switch (c) {
+                    case '\\':
+                        builder.append("\\\\");
+                        break;
+                    case '"':
+                        builder.append("\\\"");
+                        break;
+                    case '\n':
+                        builder.append("\\n");
+                        break;
+                    default:
+                        builder.append(c);
+                }
+            }
+            return builder.append("\"}").toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,38 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap;
+
+import java.util.Map;
+
+/**
+ * JMX view of the {@link RuntimeMetrics}.
+ */
+public interface RuntimeMetricsMXBean {
+
+    /**
+     *
+     * @return the current values keyed by the sample name, e.g. <code>weld_instances_created_total{scope="javax.enterprise.context.RequestScoped"}</code>
+     */
+    Map<String, Long> getMetrics();
+
+    /**
+     *
+     * @return the current values in the Prometheus text exposition format
+     */
+    String getPrometheusText();
+
+}
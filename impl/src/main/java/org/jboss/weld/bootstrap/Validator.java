@@ -76,7 +76,9 @@ import org.jboss.weld.bean.ProducerMethod;
 import org.jboss.weld.bean.SessionBean;
 import org.jboss.weld.bean.WeldDecorator;
 import org.jboss.weld.bean.builtin.AbstractBuiltInBean;
+import org.jboss.weld.bean.builtin.AbstractBuiltInMetadataBean;
 import org.jboss.weld.bean.builtin.AbstractDecorableBuiltInBean;
+import org.jboss.weld.bean.builtin.InjectionPointBean;
 import org.jboss.weld.bean.builtin.ee.EEResourceProducerField;
 import org.jboss.weld.bean.interceptor.CdiInterceptorFactory;
 import org.jboss.weld.bootstrap.api.Service;
@@ -233,6 +235,9 @@ public class Validator implements Service {
                                 validateInterceptorDecoratorInjectionPointPassivationCapable(injectionPoint, resolvedBean, beanManager, classBean);
                             }
                         }
+                        if (interceptorMetadata.isShared()) {
+                            validateSharedInterceptorInjectionPoints(interceptorClass, factory.getInjectionTarget().getInjectionPoints(), beanManager);
+                        }
                     }
                 }
             }
@@ -564,6 +569,25 @@ public class Validator implements Service {
         for (InjectionPoint injectionPoint : interceptor.getInjectionPoints()) {
             validateInjectionPoint(injectionPoint, manager);
         }
+        if (interceptor instanceof InterceptorImpl<?> && ((InterceptorImpl<?>) interceptor).getInterceptorMetadata().isShared()) {
+            validateSharedInterceptorInjectionPoints(interceptor, interceptor.getInjectionPoints(), manager);
+        }
+    }
+
+    /**
+     * The instance of a shared interceptor is reused for all the intercepted instances and so it may not hold dependent objects or metadata of a
+     * particular intercepted instance.
+     */
+    private void validateSharedInterceptorInjectionPoints(Object interceptor, Set<InjectionPoint> injectionPoints, BeanManagerImpl manager) {
+        for (InjectionPoint injectionPoint : injectionPoints) {
+            Bean<?> resolvedBean = manager.resolve(manager.getBeans(injectionPoint));
+            if (resolvedBean == null || !Dependent.class.equals(resolvedBean.getScope())) {
+                continue;
+            }
+            if (!(resolvedBean instanceof AbstractBuiltInBean<?>) || resolvedBean instanceof AbstractBuiltInMetadataBean<?> || resolvedBean instanceof InjectionPointBean) {
+                throw ValidatorLogger.LOG.sharedInterceptorInjectsDependentBean(interceptor, resolvedBean, injectionPoint);
+            }
+        }
     }
 
     public void validateDecorators(Collection<? extends Decorator<?>> decorators, BeanManagerImpl manager) {
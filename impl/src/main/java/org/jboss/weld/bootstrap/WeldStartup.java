@@ -19,9 +19,11 @@ package org.jboss.weld.bootstrap;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javax.enterprise.context.ApplicationScoped;
 import javax.enterprise.context.ConversationScoped;
@@ -72,6 +74,8 @@ import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.context.ApplicationContext;
 import org.jboss.weld.context.DependentContext;
+import org.jboss.weld.context.DependentInstanceLeakDetector;
+import org.jboss.weld.context.LockContentionMonitor;
 import org.jboss.weld.context.RequestContext;
 import org.jboss.weld.context.SingletonContext;
 import org.jboss.weld.context.bound.BoundConversationContext;
@@ -90,9 +94,12 @@ import org.jboss.weld.event.CurrentEventMetadata;
 import org.jboss.weld.event.DefaultObserverNotifierFactory;
 import org.jboss.weld.event.GlobalObserverNotifierService;
 import org.jboss.weld.executor.ExecutorServicesFactory;
+import org.jboss.weld.executor.TaskGraph;
 import org.jboss.weld.injection.CurrentInjectionPoint;
+import org.jboss.weld.injection.MemberAccessors;
 import org.jboss.weld.injection.ResourceInjectionFactory;
 import org.jboss.weld.injection.producer.InjectionTargetService;
+import org.jboss.weld.interceptor.proxy.SharedInterceptorInstances;
 import org.jboss.weld.logging.BootstrapLogger;
 import org.jboss.weld.logging.VersionLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
@@ -103,6 +110,7 @@ import org.jboss.weld.metadata.cache.MetaAnnotationStore;
 import org.jboss.weld.module.EjbSupport;
 import org.jboss.weld.module.ObserverNotifierFactory;
 import org.jboss.weld.module.WeldModules;
+import org.jboss.weld.resolution.SharedAssignabilityRules;
 import org.jboss.weld.resources.ClassTransformer;
 import org.jboss.weld.resources.DefaultResourceLoader;
 import org.jboss.weld.resources.MemberTransformer;
@@ -183,6 +191,12 @@ public class WeldStartup {
         WeldConfiguration configuration = new WeldConfiguration(registry, deployment);
         registry.add(WeldConfiguration.class, configuration);
 
+        RuntimeMetrics metrics = new RuntimeMetrics(configuration.getBooleanProperty(ConfigurationKey.RUNTIME_METRICS), contextId);
+        registry.add(RuntimeMetrics.class, metrics);
+        BootstrapProfiler profiler = new BootstrapProfiler(configuration.getBooleanProperty(ConfigurationKey.BOOTSTRAP_PROFILING), metrics);
+        registry.add(BootstrapProfiler.class, profiler);
+        BootstrapProfiler.Measurement phase = profiler.startPhase();
+
         if (!registry.contains(ScheduledExecutorServiceFactory.class)) {
             registry.add(ScheduledExecutorServiceFactory.class, new SingleThreadScheduledExecutorServiceFactory());
         }
@@ -221,6 +235,7 @@ public class WeldStartup {
 
         Container.currentId.remove();
 
+        profiler.endPhase("startContainer", phase);
         return new WeldRuntime(contextId, deploymentManager, bdaMapping.getBdaToBeanManagerMap());
     }
 
@@ -259,6 +274,7 @@ public class WeldStartup {
         }
         services.add(MemberTransformer.class, new MemberTransformer(services.get(ClassTransformer.class)));
         services.add(MetaAnnotationStore.class, new MetaAnnotationStore(services.get(ClassTransformer.class)));
+        services.add(SharedAssignabilityRules.class, new SharedAssignabilityRules(configuration.getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE)));
 
         BeanIdentifierIndex beanIdentifierIndex = null;
         if (configuration.getBooleanProperty(ConfigurationKey.BEAN_IDENTIFIER_INDEX_OPTIMIZATION)) {
@@ -268,6 +284,11 @@ public class WeldStartup {
 
         services.add(ContextualStore.class, new ContextualStoreImpl(contextId, beanIdentifierIndex));
         services.add(CurrentInjectionPoint.class, new CurrentInjectionPoint());
+        services.add(SharedInterceptorInstances.class, new SharedInterceptorInstances());
+        services.add(DependentInstanceLeakDetector.class, new DependentInstanceLeakDetector(
+                configuration.getIntegerProperty(ConfigurationKey.DEPENDENT_INSTANCE_LEAK_THRESHOLD), services.get(CurrentInjectionPoint.class)));
+        services.add(LockContentionMonitor.class, new LockContentionMonitor(configuration.getBooleanProperty(ConfigurationKey.CONTEXT_LOCK_MONITORING)));
+        services.add(MemberAccessors.class, new MemberAccessors(configuration.getBooleanProperty(ConfigurationKey.INJECTION_GENERATED_ACCESSORS)));
         services.add(CurrentEventMetadata.class, new CurrentEventMetadata());
         services.add(SpecializationAndEnablementRegistry.class, new SpecializationAndEnablementRegistry());
         services.add(MissingDependenciesRegistry.class, new MissingDependenciesRegistry());
@@ -345,6 +366,8 @@ public class WeldStartup {
         if (deploymentManager == null) {
             throw BootstrapLogger.LOG.managerNotInitialized();
         }
+        final BootstrapProfiler profiler = getProfiler();
+        final BootstrapProfiler.Measurement phase = profiler.startPhase();
 
         Set<BeanDeployment> physicalBeanDeploymentArchives = new HashSet<BeanDeployment>(getBeanDeployments());
 
@@ -366,49 +389,68 @@ public class WeldStartup {
         BeforeBeanDiscoveryImpl.fire(deploymentManager, deployment, bdaMapping, contexts);
 
         // for each physical BDA transform its classes into AnnotatedType instances
+        TaskGraph createClasses = new TaskGraph("createClasses");
         for (BeanDeployment beanDeployment : physicalBeanDeploymentArchives) {
-            beanDeployment.createClasses();
+            beanDeployment.createClasses(createClasses.group(beanDeployment.getBeanManager().getId()));
         }
+        execute(createClasses);
 
         // Re-Read the deployment structure, bdaMapping will be the physical
         // structure, extensions and any classes added using addAnnotatedType
         // outside the physical BDA
         deploymentVisitor.visit();
 
-        for (BeanDeployment beanDeployment : getBeanDeployments()) {
-            beanDeployment.createTypes();
-        }
+        forEachBeanDeployment("createTypes", BeanDeployment::createTypes);
 
         AfterTypeDiscoveryImpl.fire(deploymentManager, deployment, bdaMapping, contexts);
 
-        for (BeanDeployment beanDeployment : getBeanDeployments()) {
-            beanDeployment.createEnablement();
-        }
+        forEachBeanDeployment("createEnablement", BeanDeployment::createEnablement);
+        profiler.endPhase("startInitialization", phase);
     }
 
 
     public void deployBeans() {
+        final BootstrapProfiler profiler = getProfiler();
+        final BootstrapProfiler.Measurement phase = profiler.startPhase();
+        TaskGraph createBeans = new TaskGraph("createBeans");
         for (BeanDeployment deployment : getBeanDeployments()) {
-            deployment.createBeans(environment);
+            deployment.createBeans(createBeans.group(deployment.getBeanManager().getId()), environment);
+        }
+        execute(createBeans);
+        // we must use separate graphs, otherwise cyclic specialization would not work
+        // ProcessBeanAttributes is delivered to the extensions in the order of archives. Vetoing a specializing bean enables the specialized bean which
+        // may belong to another archive, therefore the producers and observers are only created once all the class beans are processed.
+        TaskGraph createProducersAndObservers = new TaskGraph("createProducersAndObservers");
+        TaskGraph.Task classBeanAttributes = null;
+        for (BeanDeployment deployment : getBeanDeployments()) {
+            classBeanAttributes = createProducersAndObservers.group(deployment.getBeanManager().getId()).add(
+                    "processClassBeanAttributes " + deployment.getBeanManager().getId(), deployment.getBeanDeployer()::processClassBeanAttributes,
+                    dependencies(classBeanAttributes));
         }
-        // we must use separate loops, otherwise cyclic specialization would not work
         for (BeanDeployment deployment : getBeanDeployments()) {
-            deployment.getBeanDeployer().processClassBeanAttributes();
-            deployment.getBeanDeployer().createProducersAndObservers();
+            deployment.getBeanDeployer().createProducersAndObservers(createProducersAndObservers.group(deployment.getBeanManager().getId()),
+                    dependencies(classBeanAttributes).toArray(new TaskGraph.Task[0]));
         }
+        execute(createProducersAndObservers);
+        // The @New beans of an archive are not subject to specialization, they only depend on the producers of the archive being processed
+        TaskGraph createNewBeans = new TaskGraph("createNewBeans");
+        TaskGraph.Task producerAttributes = null;
         for (BeanDeployment deployment : getBeanDeployments()) {
-            deployment.getBeanDeployer().processProducerAttributes();
-            deployment.getBeanDeployer().createNewBeans();
+            String id = deployment.getBeanManager().getId();
+            producerAttributes = createNewBeans.group(id).add("processProducerAttributes " + id, deployment.getBeanDeployer()::processProducerAttributes,
+                    dependencies(producerAttributes));
+            createNewBeans.add("createNewBeans " + id, deployment.getBeanDeployer()::createNewBeans, producerAttributes);
         }
+        execute(createNewBeans);
 
-        for (BeanDeployment beanDeployment : getBeanDeployments()) {
-            beanDeployment.deploySpecialized(environment);
-        }
+        // The following steps remain barriers between archives. Both fire ProcessBean and the other bean events to the extensions in the order of
+        // archives and register the beans with the bean managers. All the decorators and interceptors must be registered before any bean is
+        // initialized - a bean may be decorated or intercepted by a decorator or an interceptor of another archive. Similarly, the initialization of a
+        // specializing bean or a producer declared by it relies on the specialized bean of another archive being initialized.
+        forEachBeanDeployment("deploySpecialized", (deployment) -> deployment.deploySpecialized(environment));
 
         // TODO keep a list of new bdas, add them all in, and deploy beans for them, then merge into existing
-        for (BeanDeployment beanDeployment : getBeanDeployments()) {
-            beanDeployment.deployBeans(environment);
-        }
+        forEachBeanDeployment("deploy", (deployment) -> deployment.deployBeans(environment));
 
         getContainer().setState(ContainerState.DISCOVERED);
 
@@ -425,27 +467,79 @@ public class WeldStartup {
         // outside the physical structure
         deploymentVisitor.visit();
 
+        // The set of beans is final once AfterBeanDiscovery is delivered. The initialization of a bean only modifies the state of the bean itself, the
+        // beans, decorators and interceptors of the other archives are only read and the resolvers are thread-safe. Therefore, the archives may be
+        // initialized concurrently - within an archive, the order of the steps is kept. Only the interceptors of message-driven beans are registered
+        // in the order of archives as EjbServices is not required to be thread-safe.
+        TaskGraph afterBeanDiscovery = new TaskGraph("afterBeanDiscovery");
+        TaskGraph.Task archiveInitialized = null;
         for (BeanDeployment beanDeployment : getBeanDeployments()) {
-            beanDeployment.getBeanManager().getServices().get(InjectionTargetService.class).initialize();
-            beanDeployment.afterBeanDiscovery(environment);
+            archiveInitialized = beanDeployment.afterBeanDiscovery(afterBeanDiscovery.group(beanDeployment.getBeanManager().getId()), environment,
+                    archiveInitialized);
         }
+        execute(afterBeanDiscovery);
         getContainer().putBeanDeployments(bdaMapping);
         getContainer().setState(ContainerState.DEPLOYED);
+        profiler.endPhase("deployBeans", phase);
+    }
+
+    /**
+     * Performs the given action for each bean deployment. If {@link BootstrapProfiler} is enabled, the time spent is recorded for each bean
+     * deployment archive.
+     */
+    private void forEachBeanDeployment(String step, Consumer<BeanDeployment> action) {
+        BootstrapProfiler profiler = getProfiler();
+        for (BeanDeployment beanDeployment : getBeanDeployments()) {
+            BootstrapProfiler.Measurement measurement = profiler.start();
+            action.accept(beanDeployment);
+            profiler.archiveStepFinished(beanDeployment.getBeanManager().getId(), step, measurement);
+        }
+    }
+
+    private static List<TaskGraph.Task> dependencies(TaskGraph.Task task) {
+        return task != null ? Collections.singletonList(task) : Collections.<TaskGraph.Task> emptyList();
+    }
+
+    private BootstrapProfiler getProfiler() {
+        return deploymentManager.getServices().get(BootstrapProfiler.class);
+    }
+
+    /**
+     * Executes the given graph using {@link ExecutorServices} if concurrent deployment is enabled. Otherwise, the tasks are executed sequentially.
+     */
+    private void execute(TaskGraph graph) {
+        ServiceRegistry services = deploymentManager.getServices();
+        ExecutorServices executor = null;
+        if (services.get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.CONCURRENT_DEPLOYMENT)) {
+            executor = services.get(ExecutorServices.class);
+        }
+        graph.execute(executor);
+        getProfiler().graphExecuted(graph);
+        if (BootstrapLogger.LOG.isDebugEnabled()) {
+            BootstrapLogger.LOG.taskGraphExecuted(graph.getName(), graph.getTime(), graph.getCriticalPath());
+        }
     }
 
     public void validateBeans() {
         BootstrapLogger.LOG.validatingBeans();
-        for (BeanDeployment beanDeployment : getBeanDeployments()) {
+        // Not a task graph - ConcurrentValidator validates the beans of an archive concurrently and waits for the results, i.e. a task of the graph
+        // would block waiting for other tasks submitted to the same executor
+        final BootstrapProfiler profiler = getProfiler();
+        final BootstrapProfiler.Measurement phase = profiler.startPhase();
+        forEachBeanDeployment("validate", (beanDeployment) -> {
             BeanManagerImpl beanManager = beanDeployment.getBeanManager();
             beanManager.getBeanResolver().clear();
             deployment.getServices().get(Validator.class).validateDeployment(beanManager, beanDeployment);
             beanManager.getServices().get(InjectionTargetService.class).validate();
-        }
+        });
         getContainer().setState(ContainerState.VALIDATED);
         AfterDeploymentValidationImpl.fire(deploymentManager);
+        profiler.endPhase("validateBeans", phase);
     }
 
     public void endInitialization() {
+        final BootstrapProfiler profiler = getProfiler();
+        final BootstrapProfiler.Measurement phase = profiler.startPhase();
 
         final BeanIdentifierIndex index = deploymentManager.getServices().get(BeanIdentifierIndex.class);
         if (index != null) {
@@ -453,6 +547,9 @@ public class WeldStartup {
             index.build(getBeansForBeanIdentifierIndex());
         }
 
+        // The eager initialization plan relies on bootstrap services which are cleaned up below
+        final TaskGraph eagerInitialization = planEagerInitialization();
+
         // TODO rebuild the manager accessibility graph if the bdas have changed
         // Register the managers so external requests can handle them
         // clear the TypeSafeResolvers, so data that is only used at startup
@@ -469,6 +566,10 @@ public class WeldStartup {
             for (Bean<?> bean : beanManager.getBeans()) {
                 if (bean instanceof RIBean<?>) {
                     RIBean<?> riBean = (RIBean<?>) bean;
+                    if (riBean.isDependent()) {
+                        // compute the policy upfront so that it is not computed when the first instance is created
+                        riBean.getDependentInstanceTracking();
+                    }
                     riBean.cleanupAfterBoot();
                 }
             }
@@ -489,7 +590,22 @@ public class WeldStartup {
             beanDeployment.getBeanDeployer().cleanup();
         }
 
+        // The eagerly initialized beans are created by a fully initialized container, i.e. the same way as if they were used for the first time
+        // right after the bootstrap. E.g. CDI.current() used in a @PostConstruct callback behaves as usual.
         getContainer().setState(ContainerState.INITIALIZED);
+
+        if (eagerInitialization != null) {
+            execute(eagerInitialization);
+            BootstrapLogger.LOG.beansEagerlyInitialized(eagerInitialization.getTasks().size(), eagerInitialization.getTime());
+        }
+        profiler.endPhase("endInitialization", phase);
+        profiler.finish();
+    }
+
+    private TaskGraph planEagerInitialization() {
+        final ServiceRegistry services = deploymentManager.getServices();
+        final String pattern = services.get(WeldConfiguration.class).getStringProperty(ConfigurationKey.EAGER_INITIALIZATION);
+        return new EagerBeanInitializer(pattern, services.get(SpecializationAndEnablementRegistry.class)).plan(getBeanDeployments());
     }
 
     private void flushCaches() {
@@ -534,7 +650,8 @@ public class WeldStartup {
         contexts.add(new ContextHolder<BoundConversationContext>(new BoundConversationContextImpl(contextId, beanIdentifierIndex), BoundConversationContext.class, BoundLiteral.INSTANCE));
         contexts.add(new ContextHolder<BoundRequestContext>(new BoundRequestContextImpl(contextId), BoundRequestContext.class, BoundLiteral.INSTANCE));
         contexts.add(new ContextHolder<RequestContext>(new RequestContextImpl(contextId), RequestContext.class, UnboundLiteral.INSTANCE));
-        contexts.add(new ContextHolder<DependentContext>(new DependentContextImpl(services.get(ContextualStore.class)), DependentContext.class, UnboundLiteral.INSTANCE));
+        contexts.add(new ContextHolder<DependentContext>(new DependentContextImpl(services.get(ContextualStore.class), services.get(DependentInstanceLeakDetector.class),
+                services.get(RuntimeMetrics.class)), DependentContext.class, UnboundLiteral.INSTANCE));
 
         services.get(WeldModules.class).postContextRegistration(contextId, services, contexts);
 
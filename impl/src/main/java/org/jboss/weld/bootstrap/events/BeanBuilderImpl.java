@@ -39,6 +39,7 @@ import javax.enterprise.inject.spi.InjectionTarget;
 import javax.enterprise.inject.spi.PassivationCapable;
 
 import org.jboss.weld.bean.BeanIdentifiers;
+import org.jboss.weld.bean.TrivialDestruction;
 import org.jboss.weld.bootstrap.BeanDeployment;
 import org.jboss.weld.bootstrap.BeanDeploymentArchiveMapping;
 import org.jboss.weld.bootstrap.ContextHolder;
@@ -183,8 +184,7 @@ public final class BeanBuilderImpl<T> extends BeanAttributesBuilder<T, BeanBuild
         Preconditions.checkArgumentNotNull(callback, CALLBACK_PARAM);
         this.createCallback = cast(CreateCallback.fromProduceWith(callback));
         if (this.destroyCallback == null) {
-            this.destroyCallback = new DestroyCallback<T>((i) -> {
-            });
+            this.destroyCallback = DestroyCallback.trivial();
         }
         return cast(this);
     }
@@ -194,8 +194,7 @@ public final class BeanBuilderImpl<T> extends BeanAttributesBuilder<T, BeanBuild
         Preconditions.checkArgumentNotNull(callback, CALLBACK_PARAM);
         this.createCallback = cast(CreateCallback.fromProduceWith(callback));
         if (this.destroyCallback == null) {
-            this.destroyCallback = new DestroyCallback<T>((i) -> {
-            });
+            this.destroyCallback = DestroyCallback.trivial();
         }
         return cast(this);
     }
@@ -242,7 +241,7 @@ public final class BeanBuilderImpl<T> extends BeanAttributesBuilder<T, BeanBuild
      *
      * @param <T> the class of the bean instance
      */
-    static class ImmutableBean<T> extends ForwardingBeanAttributes<T> implements Bean<T>, PassivationCapable {
+    static class ImmutableBean<T> extends ForwardingBeanAttributes<T> implements Bean<T>, PassivationCapable, TrivialDestruction {
 
         private final String id;
 
@@ -292,6 +291,11 @@ public final class BeanBuilderImpl<T> extends BeanAttributesBuilder<T, BeanBuild
             destroyCallback.destroy(instance, creationalContext);
         }
 
+        @Override
+        public boolean isDestructionTrivial() {
+            return destroyCallback.isTrivial();
+        }
+
         @Override
         public Class<?> getBeanClass() {
             return beanClass;
@@ -369,6 +373,10 @@ public final class BeanBuilderImpl<T> extends BeanAttributesBuilder<T, BeanBuild
 
         private final Consumer<T> simple;
 
+        static <T> DestroyCallback<T> trivial() {
+            return new DestroyCallback<T>((Consumer<T>) null);
+        }
+
         public DestroyCallback(Consumer<T> callback) {
             this.destroy = null;
             this.simple = callback;
@@ -382,11 +390,15 @@ public final class BeanBuilderImpl<T> extends BeanAttributesBuilder<T, BeanBuild
         void destroy(T instance, CreationalContext<T> ctx) {
             if (simple != null) {
                 simple.accept(instance);
-            } else {
+            } else if (destroy != null) {
                 destroy.accept(instance, ctx);
             }
         }
 
+        boolean isTrivial() {
+            return simple == null && destroy == null;
+        }
+
     }
 
     static class DeploymentFinder {
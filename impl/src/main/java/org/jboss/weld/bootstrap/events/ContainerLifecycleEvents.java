@@ -24,6 +24,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Default;
 import javax.enterprise.inject.spi.Annotated;
 import javax.enterprise.inject.spi.AnnotatedMethod;
 import javax.enterprise.inject.spi.AnnotatedType;
@@ -69,6 +71,9 @@ public class ContainerLifecycleEvents extends AbstractBootstrapService {
     private boolean processInjectionTargetObserved;
     private boolean processProducerObserved;
     private boolean processObserverMethodObserved;
+    // false if there is an extension observer which may receive the given event and is not thread-safe
+    private boolean processAnnotatedTypeThreadSafe = true;
+    private boolean processBeanThreadSafe = true;
     private final RequiredAnnotationDiscovery discovery;
 
     private final ContainerLifecycleEventPreloader preloader;
@@ -81,9 +86,41 @@ public class ContainerLifecycleEvents extends AbstractBootstrapService {
     public void processObserverMethod(ObserverMethod<?> observer) {
         if (observer instanceof ExtensionObserverMethodImpl<?, ?>) {
             processObserverMethodType(observer.getObservedType());
+            if (!((ExtensionObserverMethodImpl<?, ?>) observer).isThreadSafe() && !isQualified(observer)) {
+                processThreadUnsafeObserverMethodType(observer.getObservedType());
+            }
         }
     }
 
+    private void processThreadUnsafeObserverMethodType(Type observedType) {
+        Class<?> rawType = Reflections.getRawType(observedType);
+        if (isRelated(rawType, ProcessAnnotatedType.class)) {
+            processAnnotatedTypeThreadSafe = false;
+        }
+        // ProcessInjectionTarget and ProcessProducer are fired together with ProcessBean
+        if (isRelated(rawType, ProcessBean.class) || isRelated(rawType, ProcessInjectionTarget.class) || isRelated(rawType, ProcessProducer.class)) {
+            processBeanThreadSafe = false;
+        }
+    }
+
+    /**
+     * Container lifecycle events are fired without qualifiers and thus are never delivered to an observer method with a qualifier other than
+     * {@link Any} or {@link Default}.
+     */
+    private static boolean isQualified(ObserverMethod<?> observer) {
+        for (Annotation qualifier : observer.getObservedQualifiers()) {
+            Class<? extends Annotation> type = qualifier.annotationType();
+            if (!Any.class.equals(type) && !Default.class.equals(type)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isRelated(Class<?> observedType, Class<?> eventType) {
+        return observedType.isAssignableFrom(eventType) || eventType.isAssignableFrom(observedType);
+    }
+
     protected void processObserverMethodType(Type observedType) {
         if (everythingObserved) {
             return;
@@ -144,6 +181,36 @@ public class ContainerLifecycleEvents extends AbstractBootstrapService {
         return processInjectionPointObserved;
     }
 
+    /**
+     * Indicates whether the {@link ProcessAnnotatedType} event for the given type may be delivered concurrently with other events, i.e. whether
+     * all the extension observer methods which may receive the event are thread-safe.
+     *
+     * @see org.jboss.weld.bootstrap.events.ThreadSafeExtension
+     */
+    public boolean isProcessAnnotatedTypeThreadSafe(SlimAnnotatedTypeContext<?> annotatedTypeContext) {
+        final Set<ExtensionObserverMethodImpl<?, ?>> observers = annotatedTypeContext.getResolvedProcessAnnotatedTypeObservers();
+        if (observers != null) {
+            // observers resolved by FastProcessAnnotatedTypeResolver
+            for (ExtensionObserverMethodImpl<?, ?> observer : observers) {
+                if (!observer.isThreadSafe()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return processAnnotatedTypeThreadSafe;
+    }
+
+    /**
+     * Indicates whether the {@link ProcessBean}, {@link ProcessInjectionTarget} and {@link ProcessProducer} events may be delivered concurrently,
+     * i.e. whether all the extension observer methods which may receive the events are thread-safe.
+     *
+     * @see org.jboss.weld.bootstrap.events.ThreadSafeExtension
+     */
+    public boolean isProcessBeanThreadSafe() {
+        return processBeanThreadSafe;
+    }
+
     public <T> ProcessAnnotatedTypeImpl<T> fireProcessAnnotatedType(BeanManagerImpl beanManager, SlimAnnotatedTypeContext<T> annotatedTypeContext) {
         if (!isProcessAnnotatedTypeObserved()) {
             return null;
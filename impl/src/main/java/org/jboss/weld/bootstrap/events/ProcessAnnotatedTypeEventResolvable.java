@@ -36,7 +36,9 @@ import javax.enterprise.inject.spi.WithAnnotations;
 import org.jboss.weld.annotated.slim.SlimAnnotatedType;
 import org.jboss.weld.annotated.slim.backed.BackedAnnotatedType;
 import org.jboss.weld.annotated.slim.unbacked.UnbackedAnnotatedType;
+import org.jboss.weld.metadata.cache.MetaAnnotationStore;
 import org.jboss.weld.resolution.QualifierInstance;
+import org.jboss.weld.resolution.QualifierSet;
 import org.jboss.weld.resolution.Resolvable;
 import org.jboss.weld.util.collections.Sets;
 import org.jboss.weld.util.reflection.ParameterizedTypeImpl;
@@ -89,6 +91,11 @@ public class ProcessAnnotatedTypeEventResolvable implements Resolvable {
         return QUALIFIERS;
     }
 
+    @Override
+    public QualifierSet getQualifierSet(MetaAnnotationStore store) {
+        return QualifierSet.ANY;
+    }
+
     /**
      * Returns true if and only if the underlying {@link AnnotatedType} contains any of the given annotation types.
      */
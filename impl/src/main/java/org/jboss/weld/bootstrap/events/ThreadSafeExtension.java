@@ -0,0 +1,44 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.bootstrap.events;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Declares that the {@link javax.enterprise.inject.spi.ProcessAnnotatedType} and {@link javax.enterprise.inject.spi.ProcessBean} observer methods
+ * of the annotated portable extension are thread-safe, i.e. they may be notified concurrently from multiple threads and do not rely on the thread
+ * they are notified in (e.g. the thread context class loader).
+ *
+ * <p>
+ * If concurrent deployment is enabled and all the extension observer methods resolved for a given event are declared thread-safe, Weld may
+ * deliver the events for different types or beans in parallel using {@link org.jboss.weld.manager.api.ExecutorServices}. The observer methods of
+ * other extensions are always notified sequentially in the bootstrap thread. The observer methods of a single event are always notified in the
+ * order defined by their priorities.
+ * </p>
+ *
+ * @see org.jboss.weld.config.ConfigurationKey#CONCURRENT_DEPLOYMENT
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface ThreadSafeExtension {
+}
@@ -37,6 +37,35 @@ public enum ConfigurationKey {
      */
     CONCURRENT_DEPLOYMENT("org.jboss.weld.bootstrap.concurrentDeployment", true),
 
+    /**
+     * If set to <code>true</code>, the work performed during bootstrap that is not needed for validation is deferred until the first instance of a bean is
+     * requested. Currently, the enhanced subclasses of intercepted and decorated beans are not generated eagerly. This may significantly speed up the
+     * bootstrap of an application which only uses a small fraction of its beans. On the other hand, some problems (e.g. a failure to generate an enhanced
+     * subclass) are not detected before the first instance of the given bean is created.
+     *
+     * The lazy bean initialization is disabled by default.
+     */
+    LAZY_BEAN_INITIALIZATION("org.jboss.weld.bootstrap.lazyBeanInitialization", false),
+
+    /**
+     * If set to <code>true</code>, the wall and CPU time spent in each bootstrap phase, bean deployment archive and extension observer method is recorded
+     * together with the number of classes loaded and proxy classes generated. The report is logged in JSON format at the end of the bootstrap and is also
+     * available through {@link org.jboss.weld.bootstrap.BootstrapProfiler}.
+     *
+     * The bootstrap profiling is disabled by default.
+     */
+    BOOTSTRAP_PROFILING("org.jboss.weld.bootstrap.profiling", false),
+
+    /**
+     * A regular expression. If a non-empty string, all the {@link javax.enterprise.context.ApplicationScoped} and {@link javax.inject.Singleton} beans
+     * whose bean class name matches this pattern are instantiated at the end of the bootstrap, together with the beans annotated with
+     * {@link org.jboss.weld.bootstrap.Eager}. The beans are initialized in parallel if concurrent deployment is enabled, a bean is always initialized
+     * after the eager beans it depends on.
+     *
+     * The eager initialization is disabled by default.
+     */
+    EAGER_INITIALIZATION("org.jboss.weld.bootstrap.eagerInitialization", ""),
+
     /**
      * The number of threads used by ContainerLifecycleEventPreloader. The ContainerLifecycleEventPreloader allows observer methods for container lifecycle
      * events to be resolved upfront while the deployment is waiting for classloader or reflection API.
@@ -82,12 +111,45 @@ public enum ConfigurationKey {
     /**
      * Weld caches already resolved injection points in order to resolve them faster in the future. There exists a separate type safe resolver for beans,
      * decorators, disposers, interceptors and observers. Each of them stores resolved injection points in its cache, which maximum size is bounded by a default
-     * value (common to all of them).
+     * value (common to all of them). The same bound applies to the memoized results of the type assignability checks shared by all the resolvers.
      *
      * @see <a href="https://issues.jboss.org/browse/WELD-1323">WELD-1323</a>
      */
     RESOLUTION_CACHE_SIZE("org.jboss.weld.resolution.cacheSize", 0x100000L),
 
+    /**
+     * If set to a positive number, Weld warns once a single creational context holds this number of dependent instances, and again every time the
+     * number doubles. The owning bean and the injection point are reported. This usually indicates that a bean with a long-lived scope calls
+     * {@link javax.enterprise.inject.Instance#get()} repeatedly without destroying the dependent instances.
+     *
+     * The leak detection is disabled by default.
+     *
+     * @see org.jboss.weld.context.DependentInstanceLeakDetector
+     */
+    DEPENDENT_INSTANCE_LEAK_THRESHOLD("org.jboss.weld.context.dependentInstanceLeakThreshold", 0),
+
+    /**
+     * If set to <code>true</code>, Weld records the number of contended acquisitions and the wait time of the creation locks of contextual instances and
+     * of the concurrent access locks of long-running conversations, together with the number of {@link javax.enterprise.context.BusyConversationException}s.
+     * The statistics are kept per bean identifier and per conversation id and are exposed by Probe and by the runtime metrics.
+     *
+     * The monitoring is disabled by default. Once enabled, an uncontended acquisition is still not affected.
+     *
+     * @see org.jboss.weld.context.LockContentionMonitor
+     */
+    CONTEXT_LOCK_MONITORING("org.jboss.weld.context.lockMonitoring", false),
+
+    /**
+     * If set to <code>true</code>, Weld maintains counters and gauges of the container runtime - instances created and destroyed per scope, context
+     * activations, active sessions and conversations, events fired per type, pending asynchronous events, resolution cache statistics and bootstrap
+     * phase timings. The values are exposed by Probe in the Prometheus text format and by Weld SE as a JMX MBean.
+     *
+     * The runtime metrics are disabled by default.
+     *
+     * @see org.jboss.weld.bootstrap.RuntimeMetrics
+     */
+    RUNTIME_METRICS("org.jboss.weld.metrics.enabled", false),
+
     /**
      * For debug purposes, it's possible to dump the generated bytecode of proxies and subclasses.
      */
@@ -123,6 +185,14 @@ public enum ConfigurationKey {
      */
     INJECTABLE_REFERENCE_OPTIMIZATION("org.jboss.weld.injection.injectableReferenceOptimization", false),
 
+    /**
+     * If set to <code>true</code>, the bean constructors, injected fields, initializer methods, lifecycle callbacks and interceptor methods are invoked
+     * through a class generated per declaring class instead of reflection. Reflection is still used for the members the generated class cannot access, e.g. private members.
+     *
+     * The generated accessors are disabled by default as an additional class is defined in each package and class loader of the application.
+     */
+    INJECTION_GENERATED_ACCESSORS("org.jboss.weld.injection.generatedAccessors", false),
+
     /**
      * A regular expression. If a non-empty string and the base type for an AnnotatedType or a declaring type for an AnnotatedMember matches this pattern the
      * type is excluded from monitoring, i.e. the invocation monitor interceptor is not associated.
@@ -134,11 +204,34 @@ public enum ConfigurationKey {
      */
     PROBE_INVOCATION_MONITOR_SKIP_JAVABEAN_PROPERTIES("org.jboss.weld.probe.invocationMonitor.skipJavaBeanProperties", true),
 
+    /**
+     * The maximum number of invocation trees kept by Probe. Once the limit is reached, a new invocation tree replaces the oldest one.
+     */
+    PROBE_INVOCATION_MONITOR_CAPACITY("org.jboss.weld.probe.invocationMonitor.capacity", 5000),
+
+    /**
+     * If set to a number greater than one, only the invocation tree of every Nth entry point is recorded. The aggregated method statistics are
+     * recorded for all the invocations.
+     */
+    PROBE_INVOCATION_MONITOR_SAMPLING("org.jboss.weld.probe.invocationMonitor.sampling", 1),
+
+    /**
+     * If set to <code>true</code> no invocation trees are recorded, only the aggregated statistics per business method (number of invocations, total
+     * time and a latency histogram).
+     */
+    PROBE_INVOCATION_MONITOR_AGGREGATION("org.jboss.weld.probe.invocationMonitor.aggregation", false),
+
     /**
      * A regular expression. If a non-empty string and the runtime class of the event object matches this pattern the event is excluded from monitoring.
      */
     PROBE_EVENT_MONITOR_EXCLUDE_TYPE("org.jboss.weld.probe.eventMonitor.excludeType", ""),
 
+    /**
+     * The maximum number of fired events kept by Probe. Once the limit is reached, a new event replaces the oldest one. The counters per event type are
+     * not affected.
+     */
+    PROBE_EVENT_MONITOR_CAPACITY("org.jboss.weld.probe.eventMonitor.capacity", 5000),
+
     /**
      * This optimization is used to reduce the HTTP session replication overhead. However, the inconsistency detection mechanism may cause problems in some
      * development environments.
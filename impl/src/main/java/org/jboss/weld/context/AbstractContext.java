@@ -23,6 +23,8 @@ import javax.enterprise.context.spi.CreationalContext;
 
 import org.jboss.weld.Container;
 import org.jboss.weld.bean.WrappedContextual;
+import org.jboss.weld.bootstrap.RuntimeMetrics;
+import org.jboss.weld.bootstrap.RuntimeMetrics.ScopeMetrics;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
 import org.jboss.weld.context.api.ContextualInstance;
 import org.jboss.weld.context.beanstore.BeanStore;
@@ -49,6 +51,13 @@ public abstract class AbstractContext implements AlterableContext {
 
     private final ServiceRegistry serviceRegistry;
 
+    private final RuntimeMetrics metrics;
+
+    // lazily initialized, the scope may not be known at construction time
+    private volatile ScopeMetrics scopeMetrics;
+
+    private final LockContentionMonitor lockMonitor;
+
     /**
      * Constructor
      *
@@ -56,6 +65,10 @@ public abstract class AbstractContext implements AlterableContext {
     public AbstractContext(String contextId, boolean multithreaded) {
         this.multithreaded = multithreaded;
         this.serviceRegistry = Container.instance(contextId).services();
+        RuntimeMetrics metrics = serviceRegistry.get(RuntimeMetrics.class);
+        this.metrics = metrics != null && metrics.isEnabled() ? metrics : null;
+        LockContentionMonitor lockMonitor = serviceRegistry.get(LockContentionMonitor.class);
+        this.lockMonitor = lockMonitor != null && lockMonitor.isEnabled() ? lockMonitor : null;
     }
 
     /**
@@ -88,6 +101,9 @@ public abstract class AbstractContext implements AlterableContext {
             try {
                 if (multithreaded) {
                     lock = beanStore.lock(id);
+                    if (lockMonitor != null && lock.getWaitTime() > 0L) {
+                        lockMonitor.beanLockContended(id.asString(), getScope(), lock.getWaitTime());
+                    }
                     beanInstance = beanStore.get(id);
                     if (beanInstance != null) {
                         return beanInstance.getInstance();
@@ -97,6 +113,9 @@ public abstract class AbstractContext implements AlterableContext {
                 if (instance != null) {
                     beanInstance = new SerializableContextualInstanceImpl<Contextual<T>, T>(contextual, instance, creationalContext, serviceRegistry.get(ContextualStore.class));
                     beanStore.put(id, beanInstance);
+                    if (metrics != null) {
+                        getScopeMetrics().instanceCreated();
+                    }
                 }
                 return instance;
             } finally {
@@ -146,6 +165,27 @@ public abstract class AbstractContext implements AlterableContext {
     private <T> void destroyContextualInstance(ContextualInstance<T> instance) {
         instance.getContextual().destroy(instance.getInstance(), instance.getCreationalContext());
         ContextLogger.LOG.contextualInstanceRemoved(instance, this);
+        if (metrics != null) {
+            getScopeMetrics().instanceDestroyed();
+        }
+    }
+
+    /**
+     * Should be called when the context is activated.
+     */
+    protected void contextActivated() {
+        if (metrics != null) {
+            getScopeMetrics().contextActivated();
+        }
+    }
+
+    private ScopeMetrics getScopeMetrics() {
+        ScopeMetrics scopeMetrics = this.scopeMetrics;
+        if (scopeMetrics == null) {
+            scopeMetrics = metrics.getScopeMetrics(getScope());
+            this.scopeMetrics = scopeMetrics;
+        }
+        return scopeMetrics;
     }
 
     /**
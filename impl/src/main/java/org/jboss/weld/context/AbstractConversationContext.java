@@ -39,6 +39,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import javax.enterprise.context.ConversationScoped;
 
 import org.jboss.weld.Container;
+import org.jboss.weld.bootstrap.RuntimeMetrics;
 import org.jboss.weld.context.beanstore.BoundBeanStore;
 import org.jboss.weld.context.beanstore.ConversationNamingScheme;
 import org.jboss.weld.context.beanstore.NamingScheme;
@@ -79,6 +80,13 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
     private final BeanManagerImpl manager;
 
     private final BeanIdentifierIndex beanIdentifierIndex;
+
+    // null if the runtime metrics are disabled
+    private final RuntimeMetrics metrics;
+
+    // null if the lock monitoring is disabled
+    private final LockContentionMonitor lockMonitor;
+
     private final LazyValueHolder<FastEvent<String>> conversationDestroyedEvent = new LazyValueHolder<FastEvent<String>>() {
         @Override
         protected FastEvent<String> computeValue() {
@@ -94,6 +102,10 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         this.associated = new ThreadLocal<R>();
         this.manager = Container.instance(contextId).deploymentManager();
         this.beanIdentifierIndex = beanIdentifierIndex;
+        RuntimeMetrics metrics = Container.instance(contextId).services().get(RuntimeMetrics.class);
+        this.metrics = metrics != null && metrics.isEnabled() ? metrics : null;
+        LockContentionMonitor lockMonitor = Container.instance(contextId).services().get(LockContentionMonitor.class);
+        this.lockMonitor = lockMonitor != null && lockMonitor.isEnabled() ? lockMonitor : null;
     }
 
     @Override
@@ -228,6 +240,7 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
         }
         if (!isActive()) {
             super.setActive(true);
+            contextActivated();
         } else {
             ConversationLogger.LOG.contextAlreadyActive(getRequest());
         }
@@ -251,6 +264,9 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
                 } else {
                     // CDI 6.7.4 we must activate a new transient conversation before we throw the exception
                     associateRequestWithNewConversation();
+                    if (lockMonitor != null) {
+                        lockMonitor.conversationBusy(cid);
+                    }
                     throw ConversationLogger.LOG.conversationLockTimedout(cid);
                 }
             } else {
@@ -328,6 +344,9 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
 
     public void conversationPromotedToLongRunning(ConversationImpl conversation) {
         getConversationMap().put(conversation.getId(), conversation);
+        if (metrics != null) {
+            metrics.conversationBegun();
+        }
     }
 
     @Override
@@ -403,6 +422,11 @@ public abstract class AbstractConversationContext<R, S> extends AbstractBoundCon
             destroy();
             getBeanStore().detach();
             setBeanStore(null);
+            // counted here rather than in Conversation.end() so that the conversations destroyed after a timeout or together with the session are
+            // not missed
+            if (metrics != null) {
+                metrics.conversationEnded();
+            }
             conversationDestroyedEvent.get().fire(id);
         }
     }
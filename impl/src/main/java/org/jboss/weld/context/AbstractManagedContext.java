@@ -29,6 +29,7 @@ public abstract class AbstractManagedContext extends AbstractContext implements
 
     public void activate() {
         setActive(true);
+        contextActivated();
     }
 
     public boolean isValid() {
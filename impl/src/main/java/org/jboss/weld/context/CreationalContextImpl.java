@@ -154,6 +154,15 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, WeldCreat
         return WeldCollections.immutableListView(dependentInstances);
     }
 
+    int getDependentInstancesCount() {
+        return dependentInstances.size();
+    }
+
+    @Override
+    public boolean hasDependents() {
+        return !dependentInstances.isEmpty() || (resourceReferences != null && !resourceReferences.isEmpty());
+    }
+
     // Serialization
     protected Object writeReplace() throws ObjectStreamException {
         synchronized (dependentInstances) {
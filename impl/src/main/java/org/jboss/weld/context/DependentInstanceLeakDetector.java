@@ -0,0 +1,266 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.context;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.inject.spi.InjectionPoint;
+
+import org.jboss.weld.bean.builtin.AbstractBuiltInBean;
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.injection.CurrentInjectionPoint;
+import org.jboss.weld.logging.ContextLogger;
+
+/**
+ * Watches the number of dependent instances held by a single {@link CreationalContextImpl}. A typical leak is an application scoped bean which calls
+ * {@link javax.enterprise.inject.Instance#get()} for a dependent bean repeatedly - the dependent instances are only destroyed together with the
+ * application scoped bean.
+ *
+ * <p>
+ * A warning is logged once a creational context holds {@link #getThreshold()} dependent instances and then every time the number of instances
+ * doubles, i.e. if the context keeps growing. The owning bean and the injection point through which the last dependent instance was obtained are
+ * reported and also kept in memory so that tools (e.g. Probe) can display them, see {@link #getLeaks()}.
+ * </p>
+ *
+ * <p>
+ * If the detector is disabled (the default), {@link org.jboss.weld.context.unbound.DependentContextImpl} does not call it at all.
+ * </p>
+ *
+ * @see org.jboss.weld.config.ConfigurationKey#DEPENDENT_INSTANCE_LEAK_THRESHOLD
+ */
+public class DependentInstanceLeakDetector implements Service {
+
+    /**
+     * The maximum number of distinct leaks kept in memory.
+     */
+    static final int MAX_LEAKS = 1000;
+
+    private static final String UNKNOWN_INJECTION_POINT = "-";
+
+    private final int threshold;
+
+    private final CurrentInjectionPoint currentInjectionPoint;
+
+    private final ConcurrentMap<LeakKey, Leak> leaks;
+
+    public DependentInstanceLeakDetector(int threshold, CurrentInjectionPoint currentInjectionPoint) {
+        this.threshold = threshold;
+        this.currentInjectionPoint = currentInjectionPoint;
+        this.leaks = new ConcurrentHashMap<LeakKey, Leak>();
+    }
+
+    public boolean isEnabled() {
+        return threshold > 0;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Notifies the detector that a dependent instance was just registered with the parent of the given creational context.
+     *
+     * @param creationalContext the creational context of the dependent instance
+     */
+    public void dependentInstanceAdded(WeldCreationalContext<?> creationalContext) {
+        if (!isEnabled() || !(creationalContext instanceof CreationalContextImpl<?>)) {
+            return;
+        }
+        CreationalContextImpl<?> parent = ((CreationalContextImpl<?>) creationalContext).getParentCreationalContext();
+        if (parent == null) {
+            return;
+        }
+        int size = parent.getDependentInstancesCount();
+        if (isReportedSize(size)) {
+            report(parent, size);
+        }
+    }
+
+    /**
+     * @return <code>true</code> if the given size is the threshold multiplied by a power of two
+     */
+    boolean isReportedSize(int size) {
+        if (size < threshold || size % threshold != 0) {
+            return false;
+        }
+        return Integer.bitCount(size / threshold) == 1;
+    }
+
+    private void report(CreationalContextImpl<?> context, int size) {
+        Contextual<?> owner = getOwner(context);
+        InjectionPoint injectionPoint = currentInjectionPoint.peek();
+        String injectionPointInfo = injectionPoint != null ? injectionPoint.toString() : UNKNOWN_INJECTION_POINT;
+        ContextLogger.LOG.dependentInstanceLeakDetected(size, owner, injectionPointInfo);
+
+        LeakKey key = new LeakKey(owner, injectionPointInfo);
+        Leak leak = leaks.get(key);
+        if (leak == null) {
+            if (leaks.size() >= MAX_LEAKS) {
+                return;
+            }
+            Leak newLeak = new Leak(owner, injectionPointInfo);
+            leak = leaks.putIfAbsent(key, newLeak);
+            if (leak == null) {
+                leak = newLeak;
+            }
+        }
+        leak.update(size);
+    }
+
+    /**
+     * Built-in beans such as {@link javax.enterprise.inject.Instance} only hold the dependent instances on behalf of the bean they were injected
+     * into. Therefore, the nearest bean which is not a built-in bean is considered the owner.
+     */
+    private static Contextual<?> getOwner(CreationalContextImpl<?> context) {
+        for (CreationalContextImpl<?> ctx = context; ctx != null; ctx = ctx.getParentCreationalContext()) {
+            if (ctx.getContextual() != null && !(ctx.getContextual() instanceof AbstractBuiltInBean<?>)) {
+                return ctx.getContextual();
+            }
+        }
+        return context.getContextual();
+    }
+
+    /**
+     * @return the detected leaks, the most recently reported first
+     */
+    public List<Leak> getLeaks() {
+        List<Leak> result = new ArrayList<Leak>(leaks.values());
+        Collections.sort(result, (leak1, leak2) -> Long.compare(leak2.getLastDetected(), leak1.getLastDetected()));
+        return result;
+    }
+
+    /**
+     * @return the number of removed leaks
+     */
+    public int clear() {
+        int count = leaks.size();
+        leaks.clear();
+        return count;
+    }
+
+    @Override
+    public void cleanup() {
+        leaks.clear();
+    }
+
+    /**
+     * A creational context which exceeded the threshold.
+     */
+    public static final class Leak {
+
+        private final Contextual<?> owner;
+
+        private final String injectionPoint;
+
+        private final long firstDetected;
+
+        private volatile long lastDetected;
+
+        private volatile int size;
+
+        private volatile int warnings;
+
+        private Leak(Contextual<?> owner, String injectionPoint) {
+            this.owner = owner;
+            this.injectionPoint = injectionPoint;
+            this.firstDetected = System.currentTimeMillis();
+        }
+
+        private synchronized void update(int size) {
+            this.lastDetected = System.currentTimeMillis();
+            this.warnings++;
+            if (size > this.size) {
+                this.size = size;
+            }
+        }
+
+        /**
+         * @return the bean which (transitively) holds the dependent instances
+         */
+        public Contextual<?> getOwner() {
+            return owner;
+        }
+
+        /**
+         * @return the description of the injection point through which the last reported dependent instance was obtained
+         */
+        public String getInjectionPoint() {
+            return injectionPoint;
+        }
+
+        /**
+         * @return the largest number of dependent instances reported
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * @return the number of warnings logged
+         */
+        public int getWarnings() {
+            return warnings;
+        }
+
+        public long getFirstDetected() {
+            return firstDetected;
+        }
+
+        public long getLastDetected() {
+            return lastDetected;
+        }
+
+        @Override
+        public String toString() {
+            return "Leak [owner=" + owner + ", injectionPoint=" + injectionPoint + ", size=" + size + "]";
+        }
+    }
+
+    private static final class LeakKey {
+
+        private final Contextual<?> owner;
+
+        private final String injectionPoint;
+
+        private LeakKey(Contextual<?> owner, String injectionPoint) {
+            this.owner = owner;
+            this.injectionPoint = injectionPoint;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(owner) ^ injectionPoint.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof LeakKey)) {
+                return false;
+            }
+            LeakKey that = (LeakKey) obj;
+            return owner == that.owner && injectionPoint.equals(that.injectionPoint);
+        }
+    }
+}
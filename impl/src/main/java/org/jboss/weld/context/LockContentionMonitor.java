@@ -0,0 +1,282 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.context;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.weld.bootstrap.api.Service;
+
+/**
+ * Records the contention on the locks used by the contexts - the creation lock of a contextual instance (see
+ * {@link org.jboss.weld.context.beanstore.LockStore}) and the concurrent access lock of a long-running conversation. Only contended acquisitions are
+ * recorded, i.e. an uncontended acquisition does not even read the clock.
+ *
+ * <p>
+ * The statistics are kept per bean identifier and per conversation id. The number of distinct keys is limited by {@link #MAX_ENTRIES}, the totals
+ * are always maintained.
+ * </p>
+ *
+ * @see org.jboss.weld.config.ConfigurationKey#CONTEXT_LOCK_MONITORING
+ */
+public class LockContentionMonitor implements Service {
+
+    /**
+     * The maximum number of bean identifiers and conversation ids kept in memory.
+     */
+    static final int MAX_ENTRIES = 1000;
+
+    public static final Comparator<LockStatistics> WAIT_TIME_COMPARATOR = (o1, o2) -> Long.compare(o2.getWaitTime(), o1.getWaitTime());
+
+    private final boolean enabled;
+
+    private final ConcurrentMap<String, LockStatistics> beans;
+
+    private final ConcurrentMap<String, LockStatistics> conversations;
+
+    private final LockStatistics beanTotals;
+
+    private final LockStatistics conversationTotals;
+
+    public LockContentionMonitor(boolean enabled) {
+        this.enabled = enabled;
+        this.beans = new ConcurrentHashMap<String, LockStatistics>();
+        this.conversations = new ConcurrentHashMap<String, LockStatistics>();
+        this.beanTotals = new LockStatistics(null, null);
+        this.conversationTotals = new LockStatistics(null, null);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * A thread had to wait for the creation lock of a contextual instance.
+     *
+     * @param beanIdentifier
+     * @param scope
+     * @param waitTime the wait time in nanoseconds
+     */
+    public void beanLockContended(String beanIdentifier, Class<? extends Annotation> scope, long waitTime) {
+        if (!enabled) {
+            return;
+        }
+        beanTotals.contended(waitTime);
+        LockStatistics statistics = get(beans, beanIdentifier, scope);
+        if (statistics != null) {
+            statistics.contended(waitTime);
+        }
+    }
+
+    /**
+     * A thread had to wait for the concurrent access lock of a long-running conversation.
+     *
+     * @param conversationId
+     * @param waitTime the wait time in nanoseconds
+     */
+    public void conversationLockContended(String conversationId, long waitTime) {
+        if (!enabled) {
+            return;
+        }
+        conversationTotals.contended(waitTime);
+        LockStatistics statistics = get(conversations, conversationId, null);
+        if (statistics != null) {
+            statistics.contended(waitTime);
+        }
+    }
+
+    /**
+     * The concurrent access lock of a long-running conversation was not acquired within the timeout, i.e. a {@link BusyConversationException} is
+     * thrown.
+     *
+     * @param conversationId
+     */
+    public void conversationBusy(String conversationId) {
+        if (!enabled) {
+            return;
+        }
+        conversationTotals.timedOut();
+        LockStatistics statistics = get(conversations, conversationId, null);
+        if (statistics != null) {
+            statistics.timedOut();
+        }
+    }
+
+    private static LockStatistics get(ConcurrentMap<String, LockStatistics> map, String key, Class<? extends Annotation> scope) {
+        if (key == null) {
+            return null;
+        }
+        LockStatistics statistics = map.get(key);
+        if (statistics == null) {
+            if (map.size() >= MAX_ENTRIES) {
+                return null;
+            }
+            statistics = map.computeIfAbsent(key, (k) -> new LockStatistics(k, scope));
+        }
+        return statistics;
+    }
+
+    /**
+     * @return the statistics per bean identifier, the longest total wait time first
+     */
+    public List<LockStatistics> getBeanLocks() {
+        return sort(beans);
+    }
+
+    /**
+     * @return the statistics per conversation id, the longest total wait time first
+     */
+    public List<LockStatistics> getConversationLocks() {
+        return sort(conversations);
+    }
+
+    private static List<LockStatistics> sort(ConcurrentMap<String, LockStatistics> map) {
+        List<LockStatistics> result = new ArrayList<LockStatistics>(map.values());
+        Collections.sort(result, WAIT_TIME_COMPARATOR);
+        return result;
+    }
+
+    /**
+     * @return the totals of all the creation locks
+     */
+    public LockStatistics getBeanTotals() {
+        return beanTotals;
+    }
+
+    /**
+     * @return the totals of all the conversation locks, {@link LockStatistics#getTimeouts()} is the number of {@link BusyConversationException}s
+     */
+    public LockStatistics getConversationTotals() {
+        return conversationTotals;
+    }
+
+    /**
+     * @return the number of removed entries
+     */
+    public int clear() {
+        int count = beans.size() + conversations.size();
+        beans.clear();
+        conversations.clear();
+        beanTotals.reset();
+        conversationTotals.reset();
+        return count;
+    }
+
+    @Override
+    public void cleanup() {
+        beans.clear();
+        conversations.clear();
+    }
+
+    /**
+     * The contention statistics of a single lock or a group of locks.
+     */
+    public static final class LockStatistics {
+
+        private final String key;
+
+        private final Class<? extends Annotation> scope;
+
+        private final LongAdder contentions;
+
+        private final LongAdder waitTime;
+
+        private final AtomicLong maxWaitTime;
+
+        private final LongAdder timeouts;
+
+        private LockStatistics(String key, Class<? extends Annotation> scope) {
+            this.key = key;
+            this.scope = scope;
+            this.contentions = new LongAdder();
+            this.waitTime = new LongAdder();
+            this.maxWaitTime = new AtomicLong();
+            this.timeouts = new LongAdder();
+        }
+
+        private void contended(long time) {
+            contentions.increment();
+            waitTime.add(time);
+            long currentMax = maxWaitTime.get();
+            while (time > currentMax && !maxWaitTime.compareAndSet(currentMax, time)) {
+                currentMax = maxWaitTime.get();
+            }
+        }
+
+        private void timedOut() {
+            timeouts.increment();
+        }
+
+        private void reset() {
+            contentions.reset();
+            waitTime.reset();
+            maxWaitTime.set(0);
+            timeouts.reset();
+        }
+
+        /**
+         * @return the bean identifier or the conversation id
+         */
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * @return the scope of the bean or <code>null</code> for a conversation
+         */
+        public Class<? extends Annotation> getScope() {
+            return scope;
+        }
+
+        /**
+         * @return the number of contended acquisitions
+         */
+        public long getContentions() {
+            return contentions.sum();
+        }
+
+        /**
+         * @return the total wait time in nanoseconds
+         */
+        public long getWaitTime() {
+            return waitTime.sum();
+        }
+
+        /**
+         * @return the maximum wait time in nanoseconds
+         */
+        public long getMaxWaitTime() {
+            return maxWaitTime.get();
+        }
+
+        /**
+         * @return the number of {@link BusyConversationException}s, always 0 for a bean
+         */
+        public long getTimeouts() {
+            return timeouts.sum();
+        }
+
+    }
+
+}
@@ -67,6 +67,12 @@ public interface WeldCreationalContext<T> extends org.jboss.weld.construction.ap
      */
     List<ContextualInstance<?>> getDependentInstances();
 
+    /**
+     * @return <code>true</code> if any dependent instance or resource reference is recorded by this {@link CreationalContext}, <code>false</code>
+     *         otherwise
+     */
+    boolean hasDependents();
+
     /**
      * Destroys dependent instance
      * @param instance
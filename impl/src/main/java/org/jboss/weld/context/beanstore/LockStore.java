@@ -51,8 +51,13 @@ public class LockStore implements Serializable {
                 locks.put(id, refLock);
             }
         }
+        if (refLock.lock.tryLock()) {
+            return refLock;
+        }
+        // Contended - measure the wait time
+        long start = System.nanoTime();
         refLock.lock.lock();
-        return refLock;
+        return new ContendedLock(refLock, Math.max(System.nanoTime() - start, 1L));
     }
 
     private class ReferenceCountedLock implements LockedBean {
@@ -75,5 +80,27 @@ public class LockStore implements Serializable {
         }
     }
 
+    private static class ContendedLock implements LockedBean {
+
+        private final LockedBean delegate;
+
+        private final long waitTime;
+
+        private ContendedLock(LockedBean delegate, long waitTime) {
+            this.delegate = delegate;
+            this.waitTime = waitTime;
+        }
+
+        @Override
+        public void unlock() {
+            delegate.unlock();
+        }
+
+        @Override
+        public long getWaitTime() {
+            return waitTime;
+        }
+
+    }
 
 }
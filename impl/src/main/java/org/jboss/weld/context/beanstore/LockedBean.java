@@ -25,4 +25,13 @@ package org.jboss.weld.context.beanstore;
 public interface LockedBean {
 
     void unlock();
+
+    /**
+     *
+     * @return the time in nanoseconds the current thread waited for the lock, or <code>0</code> if the lock was acquired without contention
+     */
+    default long getWaitTime() {
+        return 0L;
+    }
+
 }
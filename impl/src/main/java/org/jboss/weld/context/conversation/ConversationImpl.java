@@ -27,6 +27,7 @@ import javax.inject.Inject;
 
 import org.jboss.weld.context.AbstractConversationContext;
 import org.jboss.weld.context.ConversationContext;
+import org.jboss.weld.context.LockContentionMonitor;
 import org.jboss.weld.context.ManagedConversation;
 import org.jboss.weld.logging.ConversationLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
@@ -51,12 +52,16 @@ public class ConversationImpl implements ManagedConversation, Serializable {
 
     private BeanManagerImpl manager;
 
+    // null if the lock monitoring is disabled
+    private transient LockContentionMonitor lockMonitor;
+
     @Inject
     public ConversationImpl(BeanManagerImpl manager) {
         this.manager = manager;
         this._transient = true;
         this.timeout = isContextActive() ? getActiveConversationContext().getDefaultTimeout() : 0;
         this.concurrencyLock = new ReentrantLock();
+        this.lockMonitor = getLockMonitor(manager);
         touch();
     }
 
@@ -161,12 +166,19 @@ public class ConversationImpl implements ManagedConversation, Serializable {
     @Override
     public boolean lock(long timeout) {
         verifyConversationContextActive();
-        boolean success;
-        try {
-            success = concurrencyLock.tryLock(timeout, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            success = false;
+        boolean success = concurrencyLock.tryLock();
+        if (!success) {
+            // Contended - measure the wait time
+            long start = System.nanoTime();
+            try {
+                success = concurrencyLock.tryLock(timeout, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                success = false;
+            }
+            if (lockMonitor != null) {
+                lockMonitor.conversationLockContended(id, Math.max(System.nanoTime() - start, 1L));
+            }
         }
         if (success) {
             ConversationLogger.LOG.conversationLocked(this);
@@ -205,8 +217,14 @@ public class ConversationImpl implements ManagedConversation, Serializable {
         return (ConversationContext) manager.getUnwrappedContext(ConversationScoped.class);
     }
 
+    private static LockContentionMonitor getLockMonitor(BeanManagerImpl manager) {
+        LockContentionMonitor lockMonitor = manager.getServices().get(LockContentionMonitor.class);
+        return lockMonitor != null && lockMonitor.isEnabled() ? lockMonitor : null;
+    }
+
     private Object readResolve() throws ObjectStreamException {
         this.concurrencyLock = new ReentrantLock();
+        this.lockMonitor = getLockMonitor(manager);
         return this;
     }
 
@@ -28,18 +28,18 @@ import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.Dependent;
 import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
-import javax.enterprise.inject.spi.Decorator;
-import javax.enterprise.inject.spi.Interceptor;
 
-import org.jboss.weld.bean.AbstractProducerBean;
-import org.jboss.weld.bean.ManagedBean;
+import org.jboss.weld.bean.DependentInstanceTracking;
+import org.jboss.weld.bean.RIBean;
+import org.jboss.weld.bean.TrivialDestruction;
+import org.jboss.weld.bootstrap.RuntimeMetrics;
+import org.jboss.weld.bootstrap.RuntimeMetrics.ScopeMetrics;
 import org.jboss.weld.context.DependentContext;
+import org.jboss.weld.context.DependentInstanceLeakDetector;
 import org.jboss.weld.context.SerializableContextualInstanceImpl;
 import org.jboss.weld.context.WeldCreationalContext;
 import org.jboss.weld.context.api.ContextualInstance;
 import org.jboss.weld.exceptions.UnsupportedOperationException;
-import org.jboss.weld.injection.producer.AbstractMemberProducer;
-import org.jboss.weld.injection.producer.BasicInjectionTarget;
 import org.jboss.weld.serialization.spi.ContextualStore;
 
 /**
@@ -51,8 +51,18 @@ public class DependentContextImpl implements DependentContext {
 
     private final ContextualStore contextualStore;
 
+    private final DependentInstanceLeakDetector leakDetector;
+
+    private final ScopeMetrics metrics;
+
     public DependentContextImpl(ContextualStore contextualStore) {
+        this(contextualStore, null, null);
+    }
+
+    public DependentContextImpl(ContextualStore contextualStore, DependentInstanceLeakDetector leakDetector, RuntimeMetrics metrics) {
         this.contextualStore = contextualStore;
+        this.leakDetector = leakDetector != null && leakDetector.isEnabled() ? leakDetector : null;
+        this.metrics = metrics != null ? metrics.getScopeMetrics(Dependent.class) : null;
     }
 
     /**
@@ -67,6 +77,9 @@ public class DependentContextImpl implements DependentContext {
         }
         if (creationalContext != null) {
             T instance = contextual.create(creationalContext);
+            if (metrics != null) {
+                metrics.instanceCreated();
+            }
             if (creationalContext instanceof WeldCreationalContext<?>) {
                 addDependentInstance(instance, contextual, (WeldCreationalContext<T>) creationalContext);
             }
@@ -77,39 +90,27 @@ public class DependentContextImpl implements DependentContext {
     }
 
     protected <T> void addDependentInstance(T instance, Contextual<T> contextual, WeldCreationalContext<T> creationalContext) {
-        // by this we are making sure that the dependent instance has no transitive dependency with @PreDestroy / disposal method
-        if (creationalContext.getDependentInstances().isEmpty()) {
-            if (contextual instanceof ManagedBean<?> && ! isInterceptorOrDecorator(contextual)) {
-                ManagedBean<?> managedBean = (ManagedBean<?>) contextual;
-                if (managedBean.getProducer() instanceof BasicInjectionTarget<?>) {
-                    BasicInjectionTarget<?> injectionTarget = (BasicInjectionTarget<?>) managedBean.getProducer();
-                    if (!injectionTarget.getLifecycleCallbackInvoker().hasPreDestroyMethods() && !injectionTarget.hasInterceptors()) {
-                        // there is no @PreDestroy callback to call when destroying this dependent instance
-                        // therefore, we do not need to keep the reference
-                        return;
-                    }
-                }
-            }
-            if (contextual instanceof AbstractProducerBean<?, ?, ?>) {
-                AbstractProducerBean<?, ?, ?> producerBean = (AbstractProducerBean<?, ?, ?>) contextual;
-                if (producerBean.getProducer() instanceof AbstractMemberProducer<?, ?>) {
-                    AbstractMemberProducer<?, ?> producer = (AbstractMemberProducer<?, ?>) producerBean.getProducer();
-                    if (producer.getDisposalMethod() == null) {
-                        // there is no disposal method to call when destroying this dependent instance
-                        // therefore, we do not need to keep the reference
-                        return;
-                    }
-                }
-            }
+        // the policy is computed per bean, the dependent objects of the instance itself (if any) take care of transitive dependencies
+        if (getDependentInstanceTracking(contextual) == DependentInstanceTracking.IF_HAS_DEPENDENTS && !creationalContext.hasDependents()) {
+            // there is nothing to call when destroying this dependent instance
+            // therefore, we do not need to keep the reference
+            return;
         }
-
-        // Only add the dependent instance if none of the conditions above is met
         ContextualInstance<T> beanInstance = new SerializableContextualInstanceImpl<Contextual<T>, T>(contextual, instance, creationalContext, contextualStore);
         creationalContext.addDependentInstance(beanInstance);
+        if (leakDetector != null) {
+            leakDetector.dependentInstanceAdded(creationalContext);
+        }
     }
 
-    private boolean isInterceptorOrDecorator(Contextual<?> contextual) {
-        return contextual instanceof Interceptor<?> || contextual instanceof Decorator<?>;
+    private static DependentInstanceTracking getDependentInstanceTracking(Contextual<?> contextual) {
+        if (contextual instanceof RIBean<?>) {
+            return ((RIBean<?>) contextual).getDependentInstanceTracking();
+        }
+        if (contextual instanceof TrivialDestruction && ((TrivialDestruction) contextual).isDestructionTrivial()) {
+            return DependentInstanceTracking.IF_HAS_DEPENDENTS;
+        }
+        return DependentInstanceTracking.ALWAYS;
     }
 
     public <T> T get(Contextual<T> contextual) {
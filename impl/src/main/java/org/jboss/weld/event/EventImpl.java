@@ -16,16 +16,16 @@
  */
 package org.jboss.weld.event;
 
-import static org.jboss.weld.util.collections.WeldCollections.putIfAbsent;
-
 import java.io.ObjectInputStream;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
 import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.Map;
+import java.lang.reflect.WildcardType;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 
 import javax.enterprise.event.Event;
@@ -41,6 +41,8 @@ import org.jboss.weld.logging.EventLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.util.Preconditions;
 import org.jboss.weld.util.Types;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
 import org.jboss.weld.util.reflection.EventObjectTypeResolverBuilder;
 import org.jboss.weld.util.reflection.Formats;
 import org.jboss.weld.util.reflection.HierarchyDiscovery;
@@ -59,7 +61,6 @@ public class EventImpl<T> extends AbstractFacade<T, Event<T>> implements Experim
     private static final String EVENT_ARGUMENT_NAME = "event";
     private static final String SUBTYPE_ARGUMENT_NAME = "subtype";
     private static final long serialVersionUID = 656782657242515455L;
-    private static final int DEFAULT_CACHE_CAPACITY = 4;
 
     public static <E> EventImpl<E> of(InjectionPoint injectionPoint, BeanManagerImpl beanManager) {
         return new EventImpl<E>(injectionPoint, beanManager);
@@ -67,12 +68,14 @@ public class EventImpl<T> extends AbstractFacade<T, Event<T>> implements Experim
 
     private final transient HierarchyDiscovery injectionPointTypeHierarchy;
     private transient volatile CachedObservers lastCachedObservers;
-    private final transient Map<Class<?>, CachedObservers> cachedObservers;
+    // The runtime types of events may be generated dynamically, the cache must not prevent their class loaders from being garbage collected - neither the
+    // keys nor the cached observers hold the runtime type or its class loader strongly
+    private final transient ComputingCache<Class<?>, CachedObservers> cachedObservers;
 
     private EventImpl(InjectionPoint injectionPoint, BeanManagerImpl beanManager) {
         super(injectionPoint, null, beanManager);
         this.injectionPointTypeHierarchy = new HierarchyDiscovery(getType());
-        this.cachedObservers = new ConcurrentHashMap<Class<?>, CachedObservers>(DEFAULT_CACHE_CAPACITY);
+        this.cachedObservers = ComputingCacheBuilder.newBuilder().setWeakKeys().build(this::createCachedObservers);
     }
 
     /**
@@ -90,7 +93,7 @@ public class EventImpl<T> extends AbstractFacade<T, Event<T>> implements Experim
         Preconditions.checkArgumentNotNull(event, EVENT_ARGUMENT_NAME);
         CachedObservers observers = getObservers(event);
         // we can do lenient here as the event type is checked within #getObservers()
-        getBeanManager().getGlobalLenientObserverNotifier().notify(observers.observers, event, observers.syncMetadata);
+        getBeanManager().getGlobalLenientObserverNotifier().notify(observers.observers, event, observers.getMetadata(event.getClass(), false));
     }
 
     @Override
@@ -109,22 +112,18 @@ public class EventImpl<T> extends AbstractFacade<T, Event<T>> implements Experim
     private <U extends T> CompletionStage<U> fireAsyncInternal(U event, Executor executor) {
         CachedObservers observers = getObservers(event);
         // we can do lenient here as the event type is checked within #getObservers()
-        return getBeanManager().getGlobalLenientObserverNotifier().notifyAsync(observers.observers, event, observers.asyncMetadata, executor);
+        return getBeanManager().getGlobalLenientObserverNotifier().notifyAsync(observers.observers, event, observers.getMetadata(event.getClass(), true),
+                executor);
     }
 
     private CachedObservers getObservers(T event) {
         Class<?> runtimeType = event.getClass();
         CachedObservers lastResolvedObservers = this.lastCachedObservers;
         // fast track for cases when the same type is used repeatedly
-        if (lastResolvedObservers != null && lastResolvedObservers.rawType.equals(runtimeType)) {
+        if (lastResolvedObservers != null && lastResolvedObservers.rawType.get() == runtimeType) {
             return lastResolvedObservers;
         }
-        lastResolvedObservers = cachedObservers.get(runtimeType);
-        if (lastResolvedObservers == null) {
-            // this is not atomic and less elegant than computeIfAbsent but is faster and atomicity does not really matter here
-            // as createCachedObservers() does not have any side effects
-            lastResolvedObservers = putIfAbsent(cachedObservers, runtimeType, createCachedObservers(runtimeType));
-        }
+        lastResolvedObservers = cachedObservers.getValue(runtimeType);
         return this.lastCachedObservers = lastResolvedObservers;
     }
 
@@ -132,9 +131,7 @@ public class EventImpl<T> extends AbstractFacade<T, Event<T>> implements Experim
         final Type eventType = getEventType(runtimeType);
         // this performs type check
         final ResolvedObservers<T> observers = getBeanManager().getGlobalStrictObserverNotifier().resolveObserverMethods(eventType, getQualifiers());
-        final EventMetadata syncMetadata = new EventMetadataImpl(eventType, getInjectionPoint(), getQualifiers(), false);
-        final EventMetadata asyncMetadata = new EventMetadataImpl(eventType, getInjectionPoint(), getQualifiers(), true);
-        return new CachedObservers(runtimeType, observers, syncMetadata, asyncMetadata);
+        return new CachedObservers(runtimeType, eventType, observers);
     }
 
     @Override
@@ -206,17 +203,100 @@ public class EventImpl<T> extends AbstractFacade<T, Event<T>> implements Experim
 
     }
 
+    /**
+     * Returns true if holding the given event type strongly would prevent the class loader of the runtime type from being garbage collected, i.e. if the
+     * event type references a class defined by that class loader or by its descendant, and the class loader is not already reachable from the
+     * specified type of this facade.
+     */
+    private boolean retainsClassLoader(Type eventType, Class<?> runtimeType) {
+        ClassLoader classLoader = runtimeType.getClassLoader();
+        return classLoader != null && referencesClassLoader(eventType, classLoader) && !referencesClassLoader(getType(), classLoader);
+    }
+
+    private static boolean referencesClassLoader(Type type, ClassLoader classLoader) {
+        if (type instanceof Class<?>) {
+            Class<?> clazz = (Class<?>) type;
+            if (clazz.isArray()) {
+                return referencesClassLoader(clazz.getComponentType(), classLoader);
+            }
+            for (ClassLoader loader = clazz.getClassLoader(); loader != null; loader = loader.getParent()) {
+                if (loader == classLoader) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterizedType = (ParameterizedType) type;
+            if (referencesClassLoader(parameterizedType.getRawType(), classLoader)
+                    || (parameterizedType.getOwnerType() != null && referencesClassLoader(parameterizedType.getOwnerType(), classLoader))) {
+                return true;
+            }
+            return referencesClassLoader(parameterizedType.getActualTypeArguments(), classLoader);
+        }
+        if (type instanceof GenericArrayType) {
+            return referencesClassLoader(((GenericArrayType) type).getGenericComponentType(), classLoader);
+        }
+        if (type instanceof WildcardType) {
+            WildcardType wildcardType = (WildcardType) type;
+            return referencesClassLoader(wildcardType.getUpperBounds(), classLoader) || referencesClassLoader(wildcardType.getLowerBounds(), classLoader);
+        }
+        // a type variable references its generic declaration
+        return true;
+    }
+
+    private static boolean referencesClassLoader(Type[] types, ClassLoader classLoader) {
+        for (Type type : types) {
+            if (referencesClassLoader(type, classLoader)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The observers resolved for a runtime type. The runtime type is only held weakly. The event type is held strongly unless it would retain the class
+     * loader of the runtime type. The event metadata are only created if an observer requires them.
+     */
     private class CachedObservers {
-        private final Class<?> rawType;
+        private final WeakReference<Class<?>> rawType;
+        // null if the event type is the runtime type or if it would retain the class loader of the runtime type
+        private final Type eventType;
+        // only used if the event type would retain the class loader of the runtime type
+        private final WeakReference<Type> weakEventType;
         private final ResolvedObservers<T> observers;
-        private final EventMetadata syncMetadata;
-        private final EventMetadata asyncMetadata;
 
-        private CachedObservers(Class<?> rawType, ResolvedObservers<T> observers, EventMetadata syncMetadata, EventMetadata asyncMetadata) {
-            this.rawType = rawType;
+        private CachedObservers(Class<?> rawType, Type eventType, ResolvedObservers<T> observers) {
+            this.rawType = new WeakReference<Class<?>>(rawType);
+            if (rawType.equals(eventType)) {
+                this.eventType = null;
+                this.weakEventType = null;
+            } else if (retainsClassLoader(eventType, rawType)) {
+                this.eventType = null;
+                this.weakEventType = new WeakReference<Type>(eventType);
+            } else {
+                this.eventType = eventType;
+                this.weakEventType = null;
+            }
             this.observers = observers;
-            this.syncMetadata = syncMetadata;
-            this.asyncMetadata = asyncMetadata;
+        }
+
+        private EventMetadata getMetadata(Class<?> runtimeType, boolean isAsync) {
+            if (!observers.isMetadataRequired()) {
+                return null;
+            }
+            Type type = eventType;
+            if (type == null) {
+                type = runtimeType;
+                if (weakEventType != null) {
+                    type = weakEventType.get();
+                    if (type == null) {
+                        // The event type was garbage collected
+                        type = getEventType(runtimeType);
+                    }
+                }
+            }
+            return new EventMetadataImpl(type, getInjectionPoint(), getQualifiers(), isAsync);
         }
     }
 }
@@ -27,6 +27,7 @@ import javax.enterprise.event.Observes;
 import javax.enterprise.inject.spi.Extension;
 import javax.enterprise.inject.spi.ObserverMethod;
 import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import javax.enterprise.inject.spi.ProcessBean;
 import javax.enterprise.inject.spi.ProcessSyntheticAnnotatedType;
 import javax.enterprise.inject.spi.WithAnnotations;
 
@@ -34,7 +35,9 @@ import org.jboss.weld.Container;
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedMethod;
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedParameter;
 import org.jboss.weld.bean.RIBean;
+import org.jboss.weld.bootstrap.BootstrapProfiler;
 import org.jboss.weld.bootstrap.events.NotificationListener;
+import org.jboss.weld.bootstrap.events.ThreadSafeExtension;
 import org.jboss.weld.injection.MethodInjectionPoint;
 import org.jboss.weld.injection.InjectionPointFactory;
 import org.jboss.weld.logging.EventLogger;
@@ -52,12 +55,16 @@ import org.jboss.weld.util.reflection.Reflections;
 public class ExtensionObserverMethodImpl<T, X> extends ObserverMethodImpl<T, X> {
 
     private final Container containerLifecycleEventDeliveryLock;
+    private final BootstrapProfiler profiler;
+    private final boolean threadSafe;
     private final Set<Class<? extends Annotation>> requiredTypeAnnotations;
     private volatile Set<Class<? extends Annotation>> requiredScopeTypeAnnotations;
 
     protected ExtensionObserverMethodImpl(EnhancedAnnotatedMethod<T, ? super X> observer, RIBean<X> declaringBean, BeanManagerImpl manager) {
         super(observer, declaringBean, manager);
         this.containerLifecycleEventDeliveryLock = Container.instance(manager);
+        this.profiler = manager.getServices().get(BootstrapProfiler.class);
+        this.threadSafe = initThreadSafe(declaringBean);
         this.requiredTypeAnnotations = initRequiredTypeAnnotations(observer);
     }
 
@@ -70,6 +77,18 @@ public class ExtensionObserverMethodImpl<T, X> extends ObserverMethodImpl<T, X>
         return Collections.emptySet();
     }
 
+    /**
+     * Only {@link ProcessAnnotatedType} and {@link ProcessBean} observers of an extension annotated with {@link ThreadSafeExtension} are
+     * considered thread-safe.
+     */
+    private boolean initThreadSafe(RIBean<X> declaringBean) {
+        if (!declaringBean.getBeanClass().isAnnotationPresent(ThreadSafeExtension.class)) {
+            return false;
+        }
+        Class<?> rawObserverType = Reflections.getRawType(getObservedType());
+        return ProcessAnnotatedType.class.isAssignableFrom(rawObserverType) || ProcessBean.class.isAssignableFrom(rawObserverType);
+    }
+
     @Override
     protected void checkRequiredTypeAnnotations(EnhancedAnnotatedParameter<?, ?> eventParameter) {
         Class<?> rawObserverType = Reflections.getRawType(getObservedType());
@@ -116,11 +135,37 @@ public class ExtensionObserverMethodImpl<T, X> extends ObserverMethodImpl<T, X>
 
     @Override
     protected void sendEvent(T event, Object receiver, CreationalContext<?> creationalContext) {
-        synchronized (containerLifecycleEventDeliveryLock) {
+        if (threadSafe) {
+            // thread-safe observers may be notified concurrently
+            doSendEvent(event, receiver, creationalContext);
+        } else {
+            synchronized (containerLifecycleEventDeliveryLock) {
+                doSendEvent(event, receiver, creationalContext);
+            }
+        }
+    }
+
+    private void doSendEvent(T event, Object receiver, CreationalContext<?> creationalContext) {
+        if (profiler != null && profiler.isEnabled()) {
+            BootstrapProfiler.Measurement measurement = profiler.start();
+            try {
+                super.sendEvent(event, receiver, creationalContext);
+            } finally {
+                profiler.observerNotified(this, event.getClass(), measurement);
+            }
+        } else {
             super.sendEvent(event, receiver, creationalContext);
         }
     }
 
+    /**
+     * @return <code>true</code> if this observer method may be notified concurrently
+     * @see ThreadSafeExtension
+     */
+    public boolean isThreadSafe() {
+        return threadSafe;
+    }
+
     public Collection<Class<? extends Annotation>> getRequiredAnnotations() {
         return requiredTypeAnnotations;
     }
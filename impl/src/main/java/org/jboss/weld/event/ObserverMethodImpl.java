@@ -56,6 +56,8 @@ import org.jboss.weld.injection.attributes.SpecialParameterInjectionPoint;
 import org.jboss.weld.injection.attributes.WeldInjectionPointAttributes;
 import org.jboss.weld.logging.EventLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+import org.jboss.weld.resolution.QualifierSet;
 import org.jboss.weld.resources.SharedObjectCache;
 import org.jboss.weld.util.Observers;
 import org.jboss.weld.util.collections.ImmutableSet;
@@ -99,6 +101,8 @@ public class ObserverMethodImpl<T, X> implements ExperimentalObserverMethod<T> {
 
     private final MethodInvocationStrategy notificationStrategy;
 
+    private volatile QualifierSet observedQualifierSet;
+
     /**
      * Creates an Observer which describes and encapsulates an observer method (8.5).
      *
@@ -240,6 +244,18 @@ public class ObserverMethodImpl<T, X> implements ExperimentalObserverMethod<T> {
         return bindings;
     }
 
+    /**
+     *
+     * @return the qualifier set of the observed qualifiers used to match the qualifiers during observer resolution
+     */
+    public QualifierSet getObservedQualifierSet() {
+        if (observedQualifierSet == null) {
+            MetaAnnotationStore store = beanManager.getServices().get(MetaAnnotationStore.class);
+            observedQualifierSet = QualifierSet.of(store.getQualifierInstances(bindings), store);
+        }
+        return observedQualifierSet;
+    }
+
     @Override
     public Type getObservedType() {
         return eventType;
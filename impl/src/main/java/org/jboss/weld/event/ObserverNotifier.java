@@ -23,14 +23,20 @@ import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import javax.enterprise.inject.spi.EventMetadata;
 import javax.enterprise.inject.spi.ObserverMethod;
 
+import org.jboss.weld.bootstrap.RuntimeMetrics;
 import org.jboss.weld.bootstrap.api.ServiceRegistry;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.injection.ThreadLocalStack.ThreadLocalStackReference;
 import org.jboss.weld.logging.UtilLogger;
 import org.jboss.weld.manager.api.ExecutorServices;
@@ -63,7 +69,15 @@ public class ObserverNotifier {
     private final boolean strict;
     protected final CurrentEventMetadata currentEventMetadata;
     private final ComputingCache<Type, RuntimeException> eventTypeCheckCache;
+    // The resolved observers of the event types provided by the application at runtime, keyed by the event type and then by the qualifiers. Unlike the
+    // resolver cache, this cache does not prevent the class loader of an event type from being garbage collected.
+    private final ComputingCache<Type, ConcurrentMap<Set<QualifierInstance>, ResolvedObservers<?>>> eventTypeResolutions;
+    // The total number of the resolved observers held by eventTypeResolutions is bounded by the resolution cache size
+    private final long eventTypeResolutionsMaxSize;
+    private final AtomicLong eventTypeResolutionsSize;
     private final Executor asyncEventExecutor;
+    // null if the runtime metrics are disabled
+    private final RuntimeMetrics metrics;
 
     protected ObserverNotifier(TypeSafeObserverResolver resolver, ServiceRegistry services, boolean strict) {
         this.resolver = resolver;
@@ -71,22 +85,48 @@ public class ObserverNotifier {
         this.strict = strict;
         this.currentEventMetadata = services.get(CurrentEventMetadata.class);
         if (strict) {
-            eventTypeCheckCache = ComputingCacheBuilder.newBuilder().build(new EventTypeCheck());
+            // event types are provided by the application at runtime
+            eventTypeCheckCache = ComputingCacheBuilder.newBuilder().setWeakKeys().build(new EventTypeCheck());
         } else {
             eventTypeCheckCache = null; // not necessary
         }
+        this.eventTypeResolutions = ComputingCacheBuilder.newBuilder().setWeakKeys().build((type) -> new ConcurrentHashMap<>());
+        this.eventTypeResolutionsMaxSize = services.get(WeldConfiguration.class).getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE);
+        this.eventTypeResolutionsSize = new AtomicLong();
         // fall back to FJP.commonPool() if ExecutorServices are not installed
         this.asyncEventExecutor = services.getOptional(ExecutorServices.class).map((e) -> e.getTaskExecutor()).orElse(ForkJoinPool.commonPool());
+        this.metrics = services.getOptional(RuntimeMetrics.class).filter(RuntimeMetrics::isEnabled).orElse(null);
     }
 
     public <T> ResolvedObservers<T> resolveObserverMethods(T event, Annotation... bindings) {
         checkEventObjectType(event);
-        return this.<T>resolveObserverMethods(buildEventResolvable(event.getClass(), bindings));
+        return this.<T>resolveObserverMethods(event.getClass(), buildEventResolvable(event.getClass(), bindings));
     }
 
     public <T> ResolvedObservers<T> resolveObserverMethods(Type eventType, Set<Annotation> qualifiers) {
         checkEventObjectType(eventType);
-        return this.<T>resolveObserverMethods(buildEventResolvable(eventType, qualifiers));
+        return this.<T>resolveObserverMethods(eventType, buildEventResolvable(eventType, qualifiers));
+    }
+
+    /**
+     * The observers of the event types provided by the application at runtime are not cached by the resolver - the resolver cache holds the
+     * resolvable, i.e. the type closure of the event type, strongly.
+     */
+    private <T> ResolvedObservers<T> resolveObserverMethods(Type eventType, Resolvable resolvable) {
+        ConcurrentMap<Set<QualifierInstance>, ResolvedObservers<?>> resolutions = eventTypeResolutions.getValue(eventType);
+        ResolvedObservers<?> observers = resolutions.get(resolvable.getQualifiers());
+        if (observers == null) {
+            ResolvedObservers<?> resolved = resolver.resolve(resolvable, false);
+            observers = resolutions.putIfAbsent(resolvable.getQualifiers(), resolved);
+            if (observers == null) {
+                observers = resolved;
+                // the same policy as the resolver cache - all the resolutions are discarded once the bound is exceeded
+                if (eventTypeResolutionsSize.incrementAndGet() > eventTypeResolutionsMaxSize) {
+                    clearEventTypeResolutions();
+                }
+            }
+        }
+        return cast(observers);
     }
 
     public <T> ResolvedObservers<T> resolveObserverMethods(Resolvable resolvable) {
@@ -104,7 +144,7 @@ public class ObserverNotifier {
     public void fireEvent(Type eventType, Object event, EventMetadata metadata, Annotation... qualifiers) {
         checkEventObjectType(eventType);
         // we use the array of qualifiers for resolution so that we can catch duplicate qualifiers
-        notify(resolveObserverMethods(buildEventResolvable(eventType, qualifiers)), event, metadata);
+        notify(resolveObserverMethods(eventType, buildEventResolvable(eventType, qualifiers)), event, metadata);
     }
 
     public void fireEvent(Object event, Resolvable resolvable) {
@@ -133,8 +173,18 @@ public class ObserverNotifier {
             .create();
     }
 
+    private void clearEventTypeResolutions() {
+        eventTypeResolutions.clear();
+        eventTypeResolutionsSize.set(0);
+    }
+
+    public TypeSafeObserverResolver getResolver() {
+        return resolver;
+    }
+
     public void clear() {
         resolver.clear();
+        clearEventTypeResolutions();
         if (eventTypeCheckCache != null) {
             eventTypeCheckCache.clear();
         }
@@ -185,6 +235,9 @@ public class ObserverNotifier {
     }
 
     public <T> void notify(ResolvedObservers<T> observers, T event, EventMetadata metadata) {
+        if (metrics != null) {
+            metrics.eventFired(event.getClass());
+        }
         if (!observers.isMetadataRequired()) {
             metadata = null;
         }
@@ -212,6 +265,9 @@ public class ObserverNotifier {
     }
 
     public <T, U extends T> CompletionStage<U> notifyAsync(ResolvedObservers<T> observers, U event, EventMetadata metadata, Executor executor) {
+        if (metrics != null) {
+            metrics.eventFired(event.getClass());
+        }
         if (!observers.isMetadataRequired()) {
             metadata = null;
         }
@@ -223,9 +279,20 @@ public class ObserverNotifier {
         if (executor == null) {
             executor = asyncEventExecutor;
         }
+        if (metrics == null) {
+            return new AsyncEventDeliveryStage<>(() -> {
+                notifySyncObservers(observers, event, metadata);
+                return event;
+            }, executor);
+        }
+        metrics.asyncEventSubmitted();
         return new AsyncEventDeliveryStage<>(() -> {
-            notifySyncObservers(observers, event, metadata);
-            return event;
+            try {
+                notifySyncObservers(observers, event, metadata);
+                return event;
+            } finally {
+                metrics.asyncEventDelivered();
+            }
         }, executor);
     }
 }
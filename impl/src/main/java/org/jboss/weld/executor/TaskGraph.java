@@ -0,0 +1,408 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.executor;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.weld.exceptions.DeploymentException;
+import org.jboss.weld.exceptions.WeldException;
+import org.jboss.weld.manager.api.ExecutorServices;
+
+/**
+ * A dependency graph of bootstrap tasks. Unlike {@link IterativeWorkerTaskFactory} there is no barrier between independent tasks - a task is
+ * started as soon as all the tasks it depends on are finished. Therefore, e.g. a slow bean deployment archive does not stall the processing of
+ * other archives.
+ *
+ * <p>
+ * Tasks may only depend on tasks which were added to the graph before. As a result, the insertion order is always a valid topological order
+ * which is used if no {@link ExecutorServices} is available. A task must never block waiting for another task submitted to the same executor.
+ * </p>
+ *
+ * <p>
+ * The execution time and CPU time of each task is recorded so that the critical path of the graph can be reported.
+ * </p>
+ */
+public class TaskGraph {
+
+    /**
+     * The default number of items processed by a single task created by {@link #partition(Iterable)}.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 32;
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final String name;
+    private final List<Task> tasks;
+    private String group;
+
+    // execution state, guarded by lock
+    private final Object lock = new Object();
+    private int remaining;
+    private int running;
+    private Throwable failure;
+
+    private volatile long start;
+    private volatile long end;
+
+    public TaskGraph(String name) {
+        this.name = name;
+        this.tasks = new ArrayList<Task>();
+    }
+
+    /**
+     * Adds a new task to the graph.
+     *
+     * @param name the name of the task, used for reporting
+     * @param work the work to be done, may be <code>null</code> if the task only joins other tasks
+     * @param dependencies the tasks which must be finished before the new task is started
+     * @return the new task
+     */
+    public Task add(String name, Runnable work, Task... dependencies) {
+        return add(name, work, Arrays.asList(dependencies));
+    }
+
+    /**
+     * Adds a new task to the graph.
+     *
+     * @param name the name of the task, used for reporting
+     * @param work the work to be done, may be <code>null</code> if the task only joins other tasks
+     * @param dependencies the tasks which must be finished before the new task is started
+     * @return the new task
+     */
+    public Task add(String name, Runnable work, Collection<Task> dependencies) {
+        for (Task dependency : dependencies) {
+            if (dependency.graph != this) {
+                throw new IllegalArgumentException("Task " + dependency + " does not belong to " + this);
+            }
+        }
+        Task task = new Task(this, name, group, work, new ArrayList<Task>(dependencies));
+        for (Task dependency : dependencies) {
+            dependency.dependents.add(task);
+        }
+        tasks.add(task);
+        return task;
+    }
+
+    /**
+     * All the tasks added subsequently are assigned to the given group, e.g. a bean deployment archive. The group is only used for reporting.
+     *
+     * @param group the group, may be <code>null</code>
+     * @return this graph
+     */
+    public TaskGraph group(String group) {
+        this.group = group;
+        return this;
+    }
+
+    /**
+     * Adds a task which does no work and finishes once all the given tasks are finished.
+     */
+    public Task join(String name, Collection<Task> dependencies) {
+        return add(name, null, dependencies);
+    }
+
+    /**
+     * Executes all the tasks of the graph and waits for them to finish. If any task fails, no other tasks are started and the failure is
+     * rethrown once the running tasks are finished.
+     *
+     * @param executor the executor used to run the tasks, if <code>null</code> the tasks are executed sequentially in the calling thread
+     */
+    public void execute(ExecutorServices executor) {
+        start = System.nanoTime();
+        try {
+            if (executor == null) {
+                executeSequentially();
+            } else {
+                executeConcurrently(executor);
+            }
+        } finally {
+            end = System.nanoTime();
+        }
+    }
+
+    private void executeSequentially() {
+        for (Task task : tasks) {
+            task.run();
+        }
+    }
+
+    private void executeConcurrently(ExecutorServices executor) {
+        synchronized (lock) {
+            remaining = tasks.size();
+            running = 0;
+            failure = null;
+        }
+        List<Task> roots = new ArrayList<Task>();
+        for (Task task : tasks) {
+            task.pendingDependencies.set(task.dependencies.size());
+            if (task.dependencies.isEmpty()) {
+                roots.add(task);
+            }
+        }
+        for (Task task : roots) {
+            submit(task, executor);
+        }
+        synchronized (lock) {
+            try {
+                while (remaining > 0 && (failure == null || running > 0)) {
+                    lock.wait();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DeploymentException(e);
+            }
+            if (failure != null) {
+                if (failure instanceof RuntimeException) {
+                    throw (RuntimeException) failure;
+                }
+                if (failure instanceof Error) {
+                    throw (Error) failure;
+                }
+                throw new WeldException(failure);
+            }
+        }
+    }
+
+    private void submit(final Task task, final ExecutorServices executor) {
+        synchronized (lock) {
+            if (failure != null) {
+                return;
+            }
+            running++;
+        }
+        try {
+            executor.getTaskExecutor().execute(new Runnable() {
+                @Override
+                public void run() {
+                    boolean successful = false;
+                    try {
+                        task.run();
+                        successful = true;
+                    } catch (Throwable e) {
+                        fail(e);
+                    }
+                    if (successful) {
+                        for (Task dependent : task.dependents) {
+                            if (dependent.pendingDependencies.decrementAndGet() == 0) {
+                                submit(dependent, executor);
+                            }
+                        }
+                    }
+                    synchronized (lock) {
+                        running--;
+                        remaining--;
+                        lock.notifyAll();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            synchronized (lock) {
+                running--;
+            }
+            fail(e);
+        }
+    }
+
+    private void fail(Throwable e) {
+        synchronized (lock) {
+            if (failure == null) {
+                failure = e;
+            }
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Returns the chain of tasks which determined the total execution time of the graph, i.e. starting with the task which finished last, each
+     * task is preceded by its dependency which finished last.
+     *
+     * @return the critical path, or an empty list if the graph has not been executed yet
+     */
+    public List<Task> getCriticalPath() {
+        Task last = null;
+        for (Task task : tasks) {
+            if (task.isFinished() && (last == null || task.end > last.end)) {
+                last = task;
+            }
+        }
+        if (last == null) {
+            return Collections.emptyList();
+        }
+        List<Task> path = new ArrayList<Task>();
+        for (Task task = last; task != null; task = task.getLastFinishedDependency()) {
+            path.add(task);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * @return the execution time of the whole graph in milliseconds
+     */
+    public long getTime() {
+        return TimeUnit.NANOSECONDS.toMillis(end - start);
+    }
+
+    public List<Task> getTasks() {
+        return Collections.unmodifiableList(tasks);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskGraph [" + name + ", tasks: " + tasks.size() + "]";
+    }
+
+    /**
+     * Splits the given items into batches of {@link #DEFAULT_BATCH_SIZE} items. Each batch is supposed to be processed by a single task.
+     */
+    public static <T> List<List<T>> partition(Iterable<? extends T> items) {
+        return partition(items, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Splits the given items into batches of the given size.
+     */
+    public static <T> List<List<T>> partition(Iterable<? extends T> items, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Invalid batch size: " + batchSize);
+        }
+        List<List<T>> batches = new ArrayList<List<T>>();
+        List<T> batch = null;
+        for (Iterator<? extends T> iterator = items.iterator(); iterator.hasNext();) {
+            if (batch == null || batch.size() == batchSize) {
+                batch = new ArrayList<T>(batchSize);
+                batches.add(batch);
+            }
+            batch.add(iterator.next());
+        }
+        return batches;
+    }
+
+    private static long currentThreadCpuTime() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : -1;
+    }
+
+    /**
+     * A node of a {@link TaskGraph}.
+     */
+    public static final class Task {
+
+        private final TaskGraph graph;
+        private final String name;
+        private final String group;
+        private final Runnable work;
+        private final List<Task> dependencies;
+        private final List<Task> dependents;
+        private final AtomicInteger pendingDependencies;
+
+        private volatile long start;
+        private volatile long end;
+        private volatile long cpuTime;
+
+        private Task(TaskGraph graph, String name, String group, Runnable work, List<Task> dependencies) {
+            this.graph = graph;
+            this.name = name;
+            this.group = group;
+            this.work = work;
+            this.dependencies = dependencies;
+            this.dependents = new ArrayList<Task>();
+            this.pendingDependencies = new AtomicInteger();
+        }
+
+        private void run() {
+            final long cpuStart = currentThreadCpuTime();
+            start = System.nanoTime();
+            try {
+                if (work != null) {
+                    work.run();
+                }
+            } finally {
+                end = System.nanoTime();
+                cpuTime = cpuStart < 0 ? -1 : currentThreadCpuTime() - cpuStart;
+            }
+        }
+
+        private Task getLastFinishedDependency() {
+            Task last = null;
+            for (Task dependency : dependencies) {
+                if (dependency.isFinished() && (last == null || dependency.end > last.end)) {
+                    last = dependency;
+                }
+            }
+            return last;
+        }
+
+        boolean isFinished() {
+            return end != 0L;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getGroup() {
+            return group;
+        }
+
+        public List<Task> getDependencies() {
+            return Collections.unmodifiableList(dependencies);
+        }
+
+        /**
+         * @return the execution time of the task in nanoseconds
+         */
+        public long getDuration() {
+            return end - start;
+        }
+
+        /**
+         * @return the CPU time of the task in nanoseconds, or -1 if CPU time measurement is not supported
+         */
+        public long getCpuTime() {
+            return cpuTime;
+        }
+
+        /**
+         * @return the time in nanoseconds elapsed between the start of the graph execution and the start of this task
+         */
+        public long getStartOffset() {
+            return start - graph.start;
+        }
+
+        @Override
+        public String toString() {
+            if (isFinished()) {
+                return name + " (" + TimeUnit.NANOSECONDS.toMillis(getDuration()) + " ms)";
+            }
+            return name;
+        }
+    }
+}
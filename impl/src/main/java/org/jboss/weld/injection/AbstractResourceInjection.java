@@ -34,15 +34,19 @@ abstract class AbstractResourceInjection<T> implements ResourceInjection<T> {
 
     private final ResourceReferenceFactory<T> factory;
 
+    // a cached reference is not released together with the instance
+    private final boolean cached;
+
     AbstractResourceInjection(ResourceReferenceFactory<T> factory) {
         super();
         this.factory = factory;
+        this.cached = factory instanceof CachingResourceReferenceFactory<?>;
     }
 
     @Override
     public T getResourceReference(CreationalContext<?> ctx) {
         ResourceReference<T> reference = factory.createResource();
-        if (ctx instanceof WeldCreationalContext<?>) {
+        if (!cached && ctx instanceof WeldCreationalContext<?>) {
             Reflections.<WeldCreationalContext<?>> cast(ctx).addDependentResourceReference(reference);
         }
         return reference.getInstance();
@@ -0,0 +1,48 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.injection;
+
+import javax.enterprise.inject.spi.InjectionPoint;
+
+/**
+ * An optional interface which may be implemented by the integrator's resource injection services, i.e.
+ * {@link org.jboss.weld.injection.spi.ResourceInjectionServices}, {@link org.jboss.weld.injection.spi.JpaInjectionServices},
+ * {@link org.jboss.weld.injection.spi.JaxwsInjectionServices} and {@link org.jboss.weld.injection.spi.EjbInjectionServices}.
+ *
+ * <p>
+ * By default, the {@link org.jboss.weld.injection.spi.ResourceReferenceFactory} registered for a resource injection point is asked for a new
+ * {@link org.jboss.weld.injection.spi.ResourceReference} whenever an instance is injected, which usually means a JNDI lookup. If the integrator
+ * declares the reference of an injection point cacheable, the reference is created once and reused for all the instances. The reference is released
+ * when the container is shut down.
+ * </p>
+ *
+ * <p>
+ * Only references which are immutable for the lifetime of the deployment may be cached, e.g. a data source, an environment entry or a stateless
+ * session bean reference. A transaction-scoped persistence context or a stateful session bean reference must never be cached.
+ * </p>
+ */
+public interface CacheableResourceInjectionServices {
+
+    /**
+     *
+     * @param injectionPoint the resource injection point registered with the services
+     * @return <code>true</code> if the resource reference for the given injection point may be shared by all the instances, <code>false</code>
+     *         otherwise
+     */
+    boolean isResourceReferenceCacheable(InjectionPoint injectionPoint);
+
+}
@@ -0,0 +1,85 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.injection;
+
+import org.jboss.weld.injection.spi.ResourceReference;
+import org.jboss.weld.injection.spi.ResourceReferenceFactory;
+
+/**
+ * Creates the resource reference once and then always returns the same reference. The reference may not be released by the instances it's injected
+ * into - it's released when the container is shut down. There is a single factory per resource injection point, see
+ * {@link ResourceInjectionFactory#getCachingResourceReferenceFactory(Object, javax.enterprise.inject.spi.InjectionPoint, java.util.function.Supplier)}.
+ *
+ * @param <T>
+ * @see CacheableResourceInjectionServices
+ */
+class CachingResourceReferenceFactory<T> implements ResourceReferenceFactory<T> {
+
+    private final ResourceReferenceFactory<T> delegate;
+
+    private volatile SharedResourceReference<T> reference;
+
+    CachingResourceReferenceFactory(ResourceReferenceFactory<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public ResourceReference<T> createResource() {
+        SharedResourceReference<T> result = reference;
+        if (result == null) {
+            synchronized (this) {
+                result = reference;
+                if (result == null) {
+                    result = new SharedResourceReference<T>(delegate.createResource());
+                    reference = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Releases the reference if it was created.
+     */
+    synchronized void release() {
+        if (reference != null) {
+            reference.delegate.release();
+            reference = null;
+        }
+    }
+
+    private static class SharedResourceReference<T> implements ResourceReference<T> {
+
+        private final ResourceReference<T> delegate;
+
+        private SharedResourceReference(ResourceReference<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public T getInstance() {
+            return delegate.getInstance();
+        }
+
+        @Override
+        public void release() {
+            // Released by ResourceInjectionFactory.cleanup()
+        }
+
+    }
+
+}
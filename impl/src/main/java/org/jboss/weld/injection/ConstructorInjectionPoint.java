@@ -58,12 +58,14 @@ public class ConstructorInjectionPoint<T> extends AbstractCallableInjectionPoint
     private final AnnotatedConstructor<T> constructor;
     private final ConstructorSignature signature;
     private final Constructor<T> accessibleConstructor;
+    private final MemberAccess access;
 
     protected ConstructorInjectionPoint(EnhancedAnnotatedConstructor<T> constructor, Bean<T> declaringBean, Class<?> declaringComponentClass, InjectionPointFactory factory, BeanManagerImpl manager) {
         super(constructor, declaringBean, declaringComponentClass, false, factory, manager);
         this.constructor = constructor.slim();
         this.signature = constructor.getSignature();
         this.accessibleConstructor = AccessController.doPrivileged(new GetAccessibleCopyOfMember<Constructor<T>>(constructor.getJavaMember()));
+        this.access = MemberAccessors.getAccess(manager, constructor.getJavaMember());
     }
 
     public T newInstance(BeanManagerImpl manager, CreationalContext<?> ctx) {
@@ -115,6 +117,14 @@ public class ConstructorInjectionPoint<T> extends AbstractCallableInjectionPoint
     }
 
     protected T newInstance(Object[] parameterValues) {
+        if (access != null && access.isAvailable()) {
+            try {
+                return Reflections.<T> cast(access.newInstance(parameterValues));
+            } catch (Throwable e) {
+                rethrowException(e);
+            }
+            return null;
+        }
         try {
             return accessibleConstructor.newInstance(parameterValues);
         } catch (IllegalArgumentException e) {
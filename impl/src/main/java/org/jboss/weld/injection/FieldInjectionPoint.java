@@ -56,13 +56,19 @@ public class FieldInjectionPoint<T, X> extends ForwardingInjectionPointAttribute
     private final boolean cacheable;
     private transient Bean<?> cachedBean;
     private final transient Field accessibleField;
+    private final transient MemberAccess access;
 
     private final FieldInjectionPointAttributes<T, X> attributes;
 
     protected FieldInjectionPoint(FieldInjectionPointAttributes<T, X> attributes) {
+        this(attributes, null);
+    }
+
+    protected FieldInjectionPoint(FieldInjectionPointAttributes<T, X> attributes, BeanManagerImpl manager) {
         this.attributes = attributes;
         this.cacheable = isCacheableInjectionPoint(attributes);
         this.accessibleField = AccessController.doPrivileged(new GetAccessibleCopyOfMember<Field>(attributes.getMember()));
+        this.access = (manager != null) ? MemberAccessors.getAccess(manager, attributes.getMember()) : null;
     }
 
     protected static boolean isCacheableInjectionPoint(WeldInjectionPointAttributes<?, ?> attributes) {
@@ -75,13 +81,6 @@ public class FieldInjectionPoint<T, X> extends ForwardingInjectionPointAttribute
 
     public void inject(Object declaringInstance, BeanManagerImpl manager, CreationalContext<?> creationalContext) {
         try {
-            Object instanceToInject = declaringInstance;
-            if (!(instanceToInject instanceof DecoratorProxy)) {
-                // if declaringInstance is a proxy, unwrap it
-                if (declaringInstance instanceof TargetInstanceProxy) {
-                    instanceToInject = Reflections.<TargetInstanceProxy<T>> cast(declaringInstance).getTargetInstance();
-                }
-            }
             Object objectToInject;
             if (!cacheable) {
                 objectToInject = manager.getInjectableReference(this, creationalContext);
@@ -91,7 +90,7 @@ public class FieldInjectionPoint<T, X> extends ForwardingInjectionPointAttribute
                 }
                 objectToInject = manager.getInjectableReference(this, cachedBean, creationalContext);
             }
-            accessibleField.set(instanceToInject, objectToInject);
+            set(declaringInstance, objectToInject);
         } catch (IllegalArgumentException e) {
             rethrowException(e);
         } catch (IllegalAccessException e) {
@@ -99,6 +98,32 @@ public class FieldInjectionPoint<T, X> extends ForwardingInjectionPointAttribute
         }
     }
 
+    /**
+     * Sets the field of the given instance to the given injectable reference.
+     *
+     * @param declaringInstance the instance to inject into, a proxy is unwrapped
+     * @param objectToInject
+     * @throws IllegalAccessException
+     */
+    void set(Object declaringInstance, Object objectToInject) throws IllegalAccessException {
+        Object instanceToInject = declaringInstance;
+        if (!(instanceToInject instanceof DecoratorProxy)) {
+            // if declaringInstance is a proxy, unwrap it
+            if (declaringInstance instanceof TargetInstanceProxy) {
+                instanceToInject = Reflections.<TargetInstanceProxy<T>> cast(declaringInstance).getTargetInstance();
+            }
+        }
+        if (access != null && access.isAvailable()) {
+            access.set(instanceToInject, objectToInject);
+        } else {
+            accessibleField.set(instanceToInject, objectToInject);
+        }
+    }
+
+    boolean isCacheable() {
+        return cacheable;
+    }
+
     @Override
     protected FieldInjectionPointAttributes<T, X> delegate() {
         return attributes;
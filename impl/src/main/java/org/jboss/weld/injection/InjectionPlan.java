@@ -0,0 +1,218 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.injection;
+
+import static org.jboss.weld.injection.Exceptions.rethrowException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.AmbiguousResolutionException;
+import javax.enterprise.inject.CreationException;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.InjectionPoint;
+
+import org.jboss.weld.logging.UtilLogger;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.util.collections.Arrays2;
+import org.jboss.weld.util.reflection.Reflections;
+
+/**
+ * A compiled form of the field injection and initializer method invocation of an injection target. The plan is a flat array of steps in the order
+ * of injection, i.e. the fields and then the initializer methods of each class in the hierarchy starting with the top-most superclass.
+ *
+ * <p>
+ * The beans of the injection points are resolved when the plan is compiled. Moreover, if a client proxy is always injected for an injection point
+ * (the resolved bean is normal-scoped) the client proxy is obtained when the plan is compiled, i.e. no context is looked up during injection.
+ * Injection points which cannot be resolved in advance (delegate injection points, {@link InjectionPoint} and {@link javax.enterprise.inject.Instance}
+ * injection points) are resolved during injection as usual.
+ * </p>
+ *
+ * <p>
+ * A plan should only be compiled once the deployment is validated, so that the resolution is final.
+ * </p>
+ *
+ * @see BeanManagerImpl#getClientProxyReference(InjectionPoint, Bean)
+ */
+public final class InjectionPlan {
+
+    private static final int FIELD = 0;
+    private static final int INITIALIZER = 1;
+    private static final int DYNAMIC_INITIALIZER = 2;
+
+    private final Step[] steps;
+
+    private InjectionPlan(Step[] steps) {
+        this.steps = steps;
+    }
+
+    /**
+     *
+     * @param injectableFields the injectable fields per class in the hierarchy
+     * @param initializerMethods the initializer methods per class in the hierarchy
+     * @param manager
+     * @return the compiled plan
+     */
+    public static InjectionPlan compile(List<? extends Iterable<? extends FieldInjectionPoint<?, ?>>> injectableFields,
+            List<? extends Iterable<? extends MethodInjectionPoint<?, ?>>> initializerMethods, BeanManagerImpl manager) {
+        if (injectableFields.size() != initializerMethods.size()) {
+            throw UtilLogger.LOG.invalidQuantityInjectableFieldsAndInitializerMethods(injectableFields, initializerMethods);
+        }
+        List<Step> steps = new ArrayList<Step>();
+        for (int i = 0; i < injectableFields.size(); i++) {
+            for (FieldInjectionPoint<?, ?> field : injectableFields.get(i)) {
+                steps.add(new Step(FIELD, field, null, new Reference[] { compile(field, field.isCacheable(), manager) }));
+            }
+            for (MethodInjectionPoint<?, ?> method : initializerMethods.get(i)) {
+                steps.add(compile(method, manager));
+            }
+        }
+        return new InjectionPlan(steps.toArray(new Step[steps.size()]));
+    }
+
+    private static Step compile(MethodInjectionPoint<?, ?> method, BeanManagerImpl manager) {
+        if (!(method instanceof StaticMethodInjectionPoint<?, ?>) || method.hasTransientReferenceParameter) {
+            // @TransientReference parameters require a separate creational context per invocation
+            return new Step(DYNAMIC_INITIALIZER, null, method, null);
+        }
+        List<ParameterInjectionPoint<?, ?>> parameters = Reflections.cast(method.getParameterInjectionPoints());
+        Reference[] references = new Reference[parameters.size()];
+        for (int i = 0; i < references.length; i++) {
+            ParameterInjectionPoint<?, ?> parameter = parameters.get(i);
+            references[i] = compile(parameter, FieldInjectionPoint.isCacheableInjectionPoint(parameter), manager);
+        }
+        return new Step(INITIALIZER, null, method, references);
+    }
+
+    private static Reference compile(InjectionPoint injectionPoint, boolean cacheable, BeanManagerImpl manager) {
+        if (!cacheable) {
+            return new Reference(injectionPoint, null, null);
+        }
+        Bean<?> bean;
+        try {
+            bean = manager.resolve(manager.getBeans(injectionPoint));
+        } catch (AmbiguousResolutionException e) {
+            // Report the problem during injection
+            bean = null;
+        }
+        if (bean == null) {
+            return new Reference(injectionPoint, null, null);
+        }
+        return new Reference(injectionPoint, bean, manager.getClientProxyReference(injectionPoint, bean));
+    }
+
+    /**
+     * Injects the fields and calls the initializer methods of the given instance.
+     *
+     * @param instance
+     * @param ctx
+     * @param manager
+     */
+    public void inject(Object instance, CreationalContext<?> ctx, BeanManagerImpl manager) {
+        for (Step step : steps) {
+            switch (step.kind) {
+                case FIELD:
+                    try {
+                        step.field.set(instance, step.references[0].get(manager, ctx));
+                    } catch (IllegalArgumentException e) {
+                        rethrowException(e);
+                    } catch (IllegalAccessException e) {
+                        rethrowException(e);
+                    }
+                    break;
+                case INITIALIZER:
+                    ((StaticMethodInjectionPoint<?, ?>) step.method).invoke(instance, getParameterValues(step.references, manager, ctx),
+                            CreationException.class);
+                    break;
+                default:
+                    step.method.invoke(instance, null, manager, ctx, CreationException.class);
+                    break;
+            }
+        }
+    }
+
+    private static Object[] getParameterValues(Reference[] references, BeanManagerImpl manager, CreationalContext<?> ctx) {
+        if (references.length == 0) {
+            return Arrays2.EMPTY_ARRAY;
+        }
+        Object[] values = new Object[references.length];
+        for (int i = 0; i < references.length; i++) {
+            values[i] = references[i].get(manager, ctx);
+        }
+        return values;
+    }
+
+    /**
+     *
+     * @return the number of steps
+     */
+    public int size() {
+        return steps.length;
+    }
+
+    private static final class Step {
+
+        private final int kind;
+
+        private final FieldInjectionPoint<?, ?> field;
+
+        private final MethodInjectionPoint<?, ?> method;
+
+        private final Reference[] references;
+
+        private Step(int kind, FieldInjectionPoint<?, ?> field, MethodInjectionPoint<?, ?> method, Reference[] references) {
+            this.kind = kind;
+            this.field = field;
+            this.method = method;
+            this.references = references;
+        }
+
+    }
+
+    /**
+     * The injectable reference of a single injection point.
+     */
+    private static final class Reference {
+
+        private final InjectionPoint injectionPoint;
+
+        // null if the bean must be resolved during injection
+        private final Bean<?> bean;
+
+        // the client proxy if it's always injected
+        private final Object clientProxy;
+
+        private Reference(InjectionPoint injectionPoint, Bean<?> bean, Object clientProxy) {
+            this.injectionPoint = injectionPoint;
+            this.bean = bean;
+            this.clientProxy = clientProxy;
+        }
+
+        private Object get(BeanManagerImpl manager, CreationalContext<?> ctx) {
+            if (clientProxy != null) {
+                return clientProxy;
+            }
+            if (bean != null) {
+                return manager.getInjectableReference(injectionPoint, bean, ctx);
+            }
+            return manager.getInjectableReference(injectionPoint, ctx);
+        }
+
+    }
+
+}
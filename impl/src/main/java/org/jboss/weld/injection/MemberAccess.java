@@ -0,0 +1,64 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.injection;
+
+import org.jboss.weld.injection.MemberAccessors.ClassMembers;
+
+/**
+ * Direct access to a single constructor, field or method through the {@link MemberAccessor} generated for the declaring class. The accessor is
+ * generated lazily, i.e. when {@link #isAvailable()} is called for the first time. If the accessor cannot be generated, the caller is expected to
+ * use reflection instead.
+ *
+ * @see MemberAccessors#getAccess(java.lang.reflect.Member)
+ */
+public final class MemberAccess {
+
+    private final ClassMembers members;
+
+    private final int index;
+
+    MemberAccess(ClassMembers members, int index) {
+        this.members = members;
+        this.index = index;
+    }
+
+    /**
+     *
+     * @return <code>true</code> if the accessor for the declaring class is available, <code>false</code> if reflection must be used
+     */
+    public boolean isAvailable() {
+        return members.getAccessor() != null;
+    }
+
+    public Object newInstance(Object[] parameters) {
+        return members.getAccessor().newInstance(index, parameters);
+    }
+
+    public void set(Object instance, Object value) {
+        members.getAccessor().set(index, instance, value);
+    }
+
+    public Object invoke(Object instance, Object[] parameters) {
+        return members.getAccessor().invoke(index, instance, parameters);
+    }
+
+    @Override
+    public String toString() {
+        return "MemberAccess [class=" + members.getJavaClass().getName() + ", index=" + index + "]";
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.injection;
+
+/**
+ * Provides direct access to the members of a single class. Implementations are generated at runtime by {@link MemberAccessors} and perform the
+ * constructor calls, field assignments and method invocations without reflection.
+ *
+ * <p>
+ * A member is identified by its index. Constructors, fields and methods are indexed separately. Exceptions thrown by a constructor or a method are not
+ * wrapped.
+ * </p>
+ *
+ * <p>
+ * This interface is not meant to be implemented by applications.
+ * </p>
+ *
+ * @see MemberAccess
+ */
+public interface MemberAccessor {
+
+    /**
+     *
+     * @param index the index of the constructor
+     * @param parameters
+     * @return the new instance
+     */
+    Object newInstance(int index, Object[] parameters);
+
+    /**
+     *
+     * @param index the index of the field
+     * @param instance
+     * @param value
+     */
+    void set(int index, Object instance, Object value);
+
+    /**
+     *
+     * @param index the index of the method
+     * @param instance the receiver, ignored for a static method
+     * @param parameters
+     * @return the value returned from the method, <code>null</code> for a void method
+     */
+    Object invoke(int index, Object instance, Object[] parameters);
+
+}
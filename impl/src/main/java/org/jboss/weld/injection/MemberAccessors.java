@@ -0,0 +1,436 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.injection;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.ProtectionDomain;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.interceptor.AroundConstruct;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.AroundTimeout;
+
+import org.jboss.classfilewriter.AccessFlag;
+import org.jboss.classfilewriter.ClassFile;
+import org.jboss.classfilewriter.ClassMethod;
+import org.jboss.classfilewriter.code.BranchEnd;
+import org.jboss.classfilewriter.code.CodeAttribute;
+import org.jboss.classfilewriter.code.TableSwitchBuilder;
+import org.jboss.classfilewriter.util.Boxing;
+import org.jboss.classfilewriter.util.DescriptorUtils;
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.logging.BeanLogger;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.security.GetDeclaredConstructorsAction;
+import org.jboss.weld.security.GetDeclaredFieldsAction;
+import org.jboss.weld.security.GetDeclaredMethodsAction;
+import org.jboss.weld.security.GetProtectionDomainAction;
+import org.jboss.weld.util.LazyValueHolder;
+import org.jboss.weld.util.bytecode.BytecodeUtils;
+import org.jboss.weld.util.bytecode.ClassFileUtils;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.jboss.weld.util.collections.ImmutableList;
+import org.jboss.weld.util.collections.ImmutableMap;
+
+/**
+ * Generates {@link MemberAccessor}s so that bean instances can be created and injected and their lifecycle callbacks and interceptor methods invoked
+ * without reflection. A single accessor class is generated per declaring class. It is defined in the package and the class loader of the declaring
+ * class so that it may also access package-private and protected members.
+ *
+ * <p>
+ * Only the members which are annotated with {@link Inject} in the Java class (and the no-arg constructor) and the methods annotated with one of the
+ * {@link #SUPPORTED_METHOD_ANNOTATIONS} are supported. A member is not supported if it is private, if it is a final or a long/double field or if the
+ * generated class would not be able to access one of its parameter types. The callers fall back to reflection for members which are not supported
+ * and for classes the accessor cannot be generated for.
+ * </p>
+ *
+ * @see org.jboss.weld.config.ConfigurationKey#INJECTION_GENERATED_ACCESSORS
+ */
+public class MemberAccessors implements Service {
+
+    static final String ACCESSOR_SUFFIX = "$$_WeldMemberAccessor";
+
+    private static final String JAVA = "java.";
+
+    private static final String INIT = "<init>";
+
+    private static final String NO_ARG_VOID_DESCRIPTOR = "()V";
+
+    private static final String OBJECT_ARRAY_DESCRIPTOR = "[Ljava/lang/Object;";
+
+    /**
+     * A method is supported if annotated with any of these annotations.
+     */
+    static final List<Class<? extends Annotation>> SUPPORTED_METHOD_ANNOTATIONS = ImmutableList.of(Inject.class, PostConstruct.class, PreDestroy.class,
+            AroundInvoke.class, AroundTimeout.class, AroundConstruct.class);
+
+    private static final Comparator<Member> MEMBER_COMPARATOR = (m1, m2) -> m1.toString().compareTo(m2.toString());
+
+    private final boolean enabled;
+
+    private final ComputingCache<Class<?>, ClassMembers> classes;
+
+    public MemberAccessors(boolean enabled) {
+        this.enabled = enabled;
+        this.classes = ComputingCacheBuilder.newBuilder().<Class<?>, ClassMembers> build(ClassMembers::new);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     *
+     * @param member
+     * @return the direct access to the given constructor, field or method or <code>null</code> if the member is not supported
+     */
+    public MemberAccess getAccess(Member member) {
+        if (!enabled || !isSupported(member.getDeclaringClass())) {
+            return null;
+        }
+        return classes.getValue(member.getDeclaringClass()).getAccess(member);
+    }
+
+    /**
+     *
+     * @param manager
+     * @param member
+     * @return the direct access to the given member or <code>null</code> if the member is not supported or the service is not available
+     */
+    static MemberAccess getAccess(BeanManagerImpl manager, Member member) {
+        MemberAccessors accessors = manager.getServices().get(MemberAccessors.class);
+        return accessors != null ? accessors.getAccess(member) : null;
+    }
+
+    private static boolean isSupported(Class<?> javaClass) {
+        return javaClass.getClassLoader() != null && !javaClass.isInterface() && !javaClass.isArray() && !javaClass.getName().startsWith(JAVA);
+    }
+
+    @Override
+    public void cleanup() {
+        classes.clear();
+    }
+
+    /**
+     * The supported members of a single class and the lazily generated accessor.
+     */
+    static final class ClassMembers {
+
+        private final Class<?> javaClass;
+
+        private final List<Constructor<?>> constructors;
+
+        private final List<Field> fields;
+
+        private final List<Method> methods;
+
+        private final Map<Member, MemberAccess> access;
+
+        private final LazyValueHolder<Optional<MemberAccessor>> accessor;
+
+        private ClassMembers(Class<?> javaClass) {
+            this.javaClass = javaClass;
+            this.constructors = sort(getSupportedConstructors(javaClass));
+            this.fields = sort(getSupportedFields(javaClass));
+            this.methods = sort(getSupportedMethods(javaClass));
+            ImmutableMap.Builder<Member, MemberAccess> builder = ImmutableMap.builder();
+            addAccess(builder, constructors);
+            addAccess(builder, fields);
+            addAccess(builder, methods);
+            this.access = builder.build();
+            this.accessor = LazyValueHolder.forSupplier(this::generateAccessor);
+        }
+
+        private void addAccess(ImmutableMap.Builder<Member, MemberAccess> builder, List<? extends Member> members) {
+            for (int i = 0; i < members.size(); i++) {
+                builder.put(members.get(i), new MemberAccess(this, i));
+            }
+        }
+
+        Class<?> getJavaClass() {
+            return javaClass;
+        }
+
+        MemberAccess getAccess(Member member) {
+            return access.get(member);
+        }
+
+        MemberAccessor getAccessor() {
+            return accessor.get().orElse(null);
+        }
+
+        private Optional<MemberAccessor> generateAccessor() {
+            if (access.isEmpty()) {
+                return Optional.empty();
+            }
+            ClassLoader classLoader = javaClass.getClassLoader();
+            String accessorName = javaClass.getName() + ACCESSOR_SUFFIX;
+            try {
+                if (loadClass(MemberAccessor.class.getName(), classLoader) != MemberAccessor.class) {
+                    // The generated class would not implement the interface visible to Weld
+                    BeanLogger.LOG.memberAccessorNotGenerated(javaClass, null);
+                    return Optional.empty();
+                }
+                Class<?> accessorClass = loadClass(accessorName, classLoader);
+                if (accessorClass == null) {
+                    try {
+                        ProtectionDomain domain = AccessController.doPrivileged(new GetProtectionDomainAction(javaClass));
+                        accessorClass = ClassFileUtils.toClass(createAccessorClass(accessorName), classLoader, domain);
+                    } catch (Throwable e) {
+                        // The class might have been defined by another container in the meantime
+                        accessorClass = loadClass(accessorName, classLoader);
+                        if (accessorClass == null) {
+                            throw e;
+                        }
+                    }
+                }
+                BeanLogger.LOG.generatedMemberAccessor(accessorClass);
+                return Optional.of((MemberAccessor) accessorClass.newInstance());
+            } catch (Throwable e) {
+                BeanLogger.LOG.memberAccessorNotGenerated(javaClass, e);
+                return Optional.empty();
+            }
+        }
+
+        private ClassFile createAccessorClass(String accessorName) {
+            ClassFile file = new ClassFile(accessorName, Object.class.getName(), MemberAccessor.class.getName());
+            CodeAttribute code = file.addMethod(AccessFlag.PUBLIC, INIT, BytecodeUtils.VOID_CLASS_DESCRIPTOR).getCodeAttribute();
+            code.aload(0);
+            code.invokespecial(Object.class.getName(), INIT, NO_ARG_VOID_DESCRIPTOR);
+            code.returnInstruction();
+
+            ClassMethod newInstance = file.addMethod(AccessFlag.PUBLIC, "newInstance", DescriptorUtils.makeDescriptor(Object.class),
+                    BytecodeUtils.INT_CLASS_DESCRIPTOR, OBJECT_ARRAY_DESCRIPTOR);
+            addSwitch(newInstance.getCodeAttribute(), constructors.size(), (i) -> {
+                CodeAttribute b = newInstance.getCodeAttribute();
+                Constructor<?> constructor = constructors.get(i);
+                b.newInstruction(javaClass);
+                b.dup();
+                loadParameters(b, 2, constructor.getParameterTypes());
+                b.invokespecial(constructor);
+                b.returnInstruction();
+            });
+
+            ClassMethod set = file.addMethod(AccessFlag.PUBLIC, "set", BytecodeUtils.VOID_CLASS_DESCRIPTOR, BytecodeUtils.INT_CLASS_DESCRIPTOR,
+                    DescriptorUtils.makeDescriptor(Object.class), DescriptorUtils.makeDescriptor(Object.class));
+            addSwitch(set.getCodeAttribute(), fields.size(), (i) -> {
+                CodeAttribute b = set.getCodeAttribute();
+                Field field = fields.get(i);
+                b.aload(2);
+                b.checkcast(javaClass);
+                b.aload(3);
+                cast(b, field.getType());
+                b.putfield(javaClass.getName(), field.getName(), field.getType());
+                b.returnInstruction();
+            });
+
+            ClassMethod invoke = file.addMethod(AccessFlag.PUBLIC, "invoke", DescriptorUtils.makeDescriptor(Object.class),
+                    BytecodeUtils.INT_CLASS_DESCRIPTOR, DescriptorUtils.makeDescriptor(Object.class), OBJECT_ARRAY_DESCRIPTOR);
+            addSwitch(invoke.getCodeAttribute(), methods.size(), (i) -> {
+                CodeAttribute b = invoke.getCodeAttribute();
+                Method method = methods.get(i);
+                if (Modifier.isStatic(method.getModifiers())) {
+                    loadParameters(b, 3, method.getParameterTypes());
+                    b.invokestatic(method);
+                } else {
+                    b.aload(2);
+                    b.checkcast(javaClass);
+                    loadParameters(b, 3, method.getParameterTypes());
+                    b.invokevirtual(method);
+                }
+                if (void.class.equals(method.getReturnType())) {
+                    b.aconstNull();
+                } else {
+                    Boxing.boxIfNessesary(b, DescriptorUtils.makeDescriptor(method.getReturnType()));
+                }
+                b.returnInstruction();
+            });
+            return file;
+        }
+
+        @Override
+        public String toString() {
+            return "ClassMembers [javaClass=" + javaClass + ", constructors=" + constructors + ", fields=" + fields + ", methods=" + methods + "]";
+        }
+
+    }
+
+    private static Class<?> loadClass(String name, ClassLoader classLoader) {
+        try {
+            return Class.forName(name, false, classLoader);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return null;
+        }
+    }
+
+    /**
+     * Generates a table switch on the index passed as the first parameter. The default branch throws {@link IllegalArgumentException}.
+     */
+    private static void addSwitch(CodeAttribute code, int count, IntConsumer caseGenerator) {
+        if (count > 0) {
+            code.iload(1);
+            TableSwitchBuilder builder = new TableSwitchBuilder(0, count - 1);
+            List<AtomicReference<BranchEnd>> cases = new ArrayList<AtomicReference<BranchEnd>>(count);
+            for (int i = 0; i < count; i++) {
+                cases.add(builder.add());
+            }
+            code.tableswitch(builder);
+            for (int i = 0; i < count; i++) {
+                code.branchEnd(cases.get(i).get());
+                caseGenerator.accept(i);
+            }
+            code.branchEnd(builder.getDefaultBranchEnd().get());
+        }
+        code.newInstruction(IllegalArgumentException.class);
+        code.dup();
+        code.invokespecial(IllegalArgumentException.class.getName(), INIT, NO_ARG_VOID_DESCRIPTOR);
+        code.athrow();
+    }
+
+    private static void loadParameters(CodeAttribute code, int arrayVariable, Class<?>[] parameterTypes) {
+        for (int i = 0; i < parameterTypes.length; i++) {
+            code.aload(arrayVariable);
+            code.iconst(i);
+            code.aaload();
+            cast(code, parameterTypes[i]);
+        }
+    }
+
+    private static void cast(CodeAttribute code, Class<?> type) {
+        if (type.isPrimitive()) {
+            Boxing.unbox(code, DescriptorUtils.makeDescriptor(type));
+        } else if (!Object.class.equals(type)) {
+            code.checkcast(type);
+        }
+    }
+
+    private static <M extends Member> List<M> sort(List<M> members) {
+        Collections.sort(members, MEMBER_COMPARATOR);
+        return ImmutableList.copyOf(members);
+    }
+
+    private static List<Constructor<?>> getSupportedConstructors(Class<?> javaClass) {
+        List<Constructor<?>> constructors = new ArrayList<Constructor<?>>();
+        if (Modifier.isAbstract(javaClass.getModifiers())) {
+            return constructors;
+        }
+        for (Constructor<?> constructor : AccessController.doPrivileged(new GetDeclaredConstructorsAction(javaClass))) {
+            if ((constructor.getParameterCount() == 0 || constructor.isAnnotationPresent(Inject.class)) && isSupported(constructor)
+                    && areAccessible(constructor.getParameterTypes(), javaClass)) {
+                constructors.add(constructor);
+            }
+        }
+        return constructors;
+    }
+
+    private static List<Field> getSupportedFields(Class<?> javaClass) {
+        List<Field> fields = new ArrayList<Field>();
+        for (Field field : AccessController.doPrivileged(new GetDeclaredFieldsAction(javaClass))) {
+            int modifiers = field.getModifiers();
+            if (field.isAnnotationPresent(Inject.class) && isSupported(field) && !Modifier.isStatic(modifiers) && !Modifier.isFinal(modifiers)
+                    && !isWide(field.getType()) && isAccessible(field.getType(), javaClass)) {
+                fields.add(field);
+            }
+        }
+        return fields;
+    }
+
+    private static List<Method> getSupportedMethods(Class<?> javaClass) {
+        List<Method> methods = new ArrayList<Method>();
+        for (Method method : AccessController.doPrivileged(new GetDeclaredMethodsAction(javaClass))) {
+            if (isAnnotationPresent(method, SUPPORTED_METHOD_ANNOTATIONS) && isSupported(method) && !method.isBridge()
+                    && !Modifier.isAbstract(method.getModifiers()) && areAccessible(method.getParameterTypes(), javaClass)) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    private static boolean isAnnotationPresent(Method method, List<Class<? extends Annotation>> annotations) {
+        for (Class<? extends Annotation> annotation : annotations) {
+            if (method.isAnnotationPresent(annotation)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The stack tracking of the class file writer does not support putfield with a long or double value.
+     */
+    private static boolean isWide(Class<?> type) {
+        return long.class.equals(type) || double.class.equals(type);
+    }
+
+    private static boolean isSupported(Member member) {
+        return !Modifier.isPrivate(member.getModifiers()) && !member.isSynthetic();
+    }
+
+    private static boolean areAccessible(Class<?>[] types, Class<?> javaClass) {
+        for (Class<?> type : types) {
+            if (!isAccessible(type, javaClass)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The generated class is in the runtime package of the given class. A type is accessible if it is public or if it is in the same runtime package.
+     * Nested types are treated conservatively - a nested type is only considered public if it and all its enclosing types are public.
+     */
+    private static boolean isAccessible(Class<?> type, Class<?> javaClass) {
+        while (type.isArray()) {
+            type = type.getComponentType();
+        }
+        if (type.isPrimitive()) {
+            return true;
+        }
+        boolean isPublic = true;
+        for (Class<?> clazz = type; clazz != null; clazz = clazz.getEnclosingClass()) {
+            if (!Modifier.isPublic(clazz.getModifiers())) {
+                isPublic = false;
+                break;
+            }
+        }
+        return isPublic || (type.getClassLoader() == javaClass.getClassLoader() && getPackageName(type).equals(getPackageName(javaClass)));
+    }
+
+    private static String getPackageName(Class<?> clazz) {
+        String name = clazz.getName();
+        int index = name.lastIndexOf('.');
+        return index == -1 ? "" : name.substring(0, index);
+    }
+
+}
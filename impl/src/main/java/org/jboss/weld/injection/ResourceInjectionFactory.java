@@ -17,13 +17,18 @@
 package org.jboss.weld.injection;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Member;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
 
 import javax.annotation.Resource;
 import javax.enterprise.inject.spi.Bean;
@@ -50,8 +55,12 @@ public final class ResourceInjectionFactory implements Service, Iterable<Resourc
 
     private final List<ResourceInjectionProcessor<?, ?>> resourceInjectionProcessors;
 
+    // one factory per resource injection point, i.e. per member and resource injection services
+    private final ConcurrentMap<CachedResourceReferenceKey, CachingResourceReferenceFactory<?>> cachedResourceReferenceFactories;
+
     public ResourceInjectionFactory() {
         this.resourceInjectionProcessors = new CopyOnWriteArrayList<>();
+        this.cachedResourceReferenceFactories = new ConcurrentHashMap<>();
         initializeProcessors();
     }
 
@@ -260,6 +269,27 @@ public final class ResourceInjectionFactory implements Service, Iterable<Resourc
 
     @Override
     public void cleanup() {
+        for (Iterator<CachingResourceReferenceFactory<?>> iterator = cachedResourceReferenceFactories.values().iterator(); iterator.hasNext();) {
+            iterator.next().release();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * The factory is shared by all the instances of the declaring bean the given resource injection point is injected into, no matter how many
+     * injection targets are built. Its reference is released when the container is shut down.
+     *
+     * @param injectionServices
+     * @param injectionPoint
+     * @param delegate the supplier of the factory registered with the injection services, only used if there is no factory for the injection point
+     *        yet
+     * @return the caching factory for the given resource injection point
+     * @see CacheableResourceInjectionServices
+     */
+    <T> ResourceReferenceFactory<T> getCachingResourceReferenceFactory(Object injectionServices, InjectionPoint injectionPoint,
+            Supplier<ResourceReferenceFactory<T>> delegate) {
+        CachedResourceReferenceKey key = new CachedResourceReferenceKey(injectionServices, injectionPoint.getBean(), injectionPoint.getMember());
+        return Reflections.cast(cachedResourceReferenceFactories.computeIfAbsent(key, (k) -> new CachingResourceReferenceFactory<T>(delegate.get())));
     }
 
     @Override
@@ -267,4 +297,41 @@ public final class ResourceInjectionFactory implements Service, Iterable<Resourc
         return resourceInjectionProcessors.iterator();
     }
 
+    /**
+     * Identifies what the integrator may resolve a resource reference from - the injection services, the declaring bean and the member. The bean
+     * distinguishes components sharing an inherited resource injection point, it is null for non-contextual components.
+     */
+    private static final class CachedResourceReferenceKey {
+
+        // the integrator may provide different services for different modules
+        private final Object injectionServices;
+
+        private final Bean<?> bean;
+
+        private final Member member;
+
+        private CachedResourceReferenceKey(Object injectionServices, Bean<?> bean, Member member) {
+            this.injectionServices = injectionServices;
+            this.bean = bean;
+            this.member = member;
+        }
+
+        @Override
+        public int hashCode() {
+            return (System.identityHashCode(injectionServices) * 31 + Objects.hashCode(bean)) * 31 + member.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CachedResourceReferenceKey)) {
+                return false;
+            }
+            CachedResourceReferenceKey that = (CachedResourceReferenceKey) obj;
+            return injectionServices == that.injectionServices && Objects.equals(bean, that.bean) && member.equals(that.member);
+        }
+    }
+
 }
@@ -58,7 +58,7 @@ public abstract class ResourceInjectionProcessor<S extends Service, C> {
         C processorContext = getProcessorContext(beanManager);
 
         if (injectionServices != null && fieldInjectionPoint.getAnnotated().isAnnotationPresent(getMarkerAnnotation(processorContext))) {
-            return createFieldResourceInjection(fieldInjectionPoint, injectionServices, processorContext);
+            return createFieldResourceInjection(fieldInjectionPoint, injectionServices, processorContext, beanManager);
         }
         return null;
     }
@@ -94,9 +94,10 @@ public abstract class ResourceInjectionProcessor<S extends Service, C> {
      * @param beanManager
      * @return {@link ResourceInjection} for the given field
      */
-    private <T, X> ResourceInjection<T> createFieldResourceInjection(FieldInjectionPoint<T, X> fieldInjectionPoint, S injectionServices, C processorContext) {
-        return new FieldResourceInjection<T, X>(fieldInjectionPoint, Reflections.<ResourceReferenceFactory<T>> cast(getResourceReferenceFactory(
-                fieldInjectionPoint, injectionServices, processorContext)));
+    private <T, X> ResourceInjection<T> createFieldResourceInjection(FieldInjectionPoint<T, X> fieldInjectionPoint, S injectionServices, C processorContext,
+            BeanManagerImpl manager) {
+        return new FieldResourceInjection<T, X>(fieldInjectionPoint, initResourceReferenceFactory(fieldInjectionPoint, injectionServices, processorContext,
+                manager));
     }
 
     /**
@@ -106,9 +107,28 @@ public abstract class ResourceInjectionProcessor<S extends Service, C> {
      * @return {@link ResourceInjection} for the given setter method
      */
     private <T, X> ResourceInjection<T> createSetterResourceInjection(ParameterInjectionPoint<T, X> parameterInjectionPoint, S injectionServices,
-            C processorContext) {
-        return new SetterResourceInjection<T, X>(parameterInjectionPoint, Reflections.<ResourceReferenceFactory<T>> cast(getResourceReferenceFactory(
-                parameterInjectionPoint, injectionServices, processorContext)));
+            C processorContext, BeanManagerImpl manager) {
+        return new SetterResourceInjection<T, X>(parameterInjectionPoint, initResourceReferenceFactory(parameterInjectionPoint, injectionServices,
+                processorContext, manager));
+    }
+
+    /**
+     *
+     * @param injectionPoint
+     * @param injectionServices
+     * @param processorContext
+     * @param manager
+     * @return the factory, the reference is cached if the injection services declare it cacheable
+     * @see CacheableResourceInjectionServices
+     */
+    private <T> ResourceReferenceFactory<T> initResourceReferenceFactory(InjectionPoint injectionPoint, S injectionServices, C processorContext,
+            BeanManagerImpl manager) {
+        if (injectionServices instanceof CacheableResourceInjectionServices
+                && ((CacheableResourceInjectionServices) injectionServices).isResourceReferenceCacheable(injectionPoint)) {
+            return manager.getServices().get(ResourceInjectionFactory.class).getCachingResourceReferenceFactory(injectionServices, injectionPoint,
+                    () -> Reflections.cast(getResourceReferenceFactory(injectionPoint, injectionServices, processorContext)));
+        }
+        return Reflections.cast(getResourceReferenceFactory(injectionPoint, injectionServices, processorContext));
     }
 
     public Class<? extends Annotation> getMarkerAnnotation(BeanManagerImpl manager) {
@@ -133,7 +153,7 @@ public abstract class ResourceInjectionProcessor<S extends Service, C> {
         for (EnhancedAnnotatedField<?, ? super T> field : fields) {
             resourceInjections.add(createFieldResourceInjection(
                     InjectionPointFactory.silentInstance().createFieldInjectionPoint(field, declaringBean, declaringClass, manager), injectionServices,
-                    processorContext));
+                    processorContext, manager));
         }
         for (EnhancedAnnotatedMethod<?, ?> method : methods) {
             if (method.getParameters().size() != 1) {
@@ -141,7 +161,7 @@ public abstract class ResourceInjectionProcessor<S extends Service, C> {
             }
             resourceInjections.add(createSetterResourceInjection(
                     InjectionPointFactory.silentInstance().createParameterInjectionPoint(method.getEnhancedParameters().get(0), declaringBean,
-                            declaringClass, manager), injectionServices, processorContext));
+                            declaringClass, manager), injectionServices, processorContext, manager));
         }
         return resourceInjections.build();
     }
@@ -48,6 +48,8 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
     private final int specialInjectionPointIndex;
     private final AnnotatedMethod<X> annotatedMethod;
     final Method accessibleMethod;
+    private final MemberAccess access;
+    private final boolean isStatic;
 
     StaticMethodInjectionPoint(EnhancedAnnotatedMethod<T, X> enhancedMethod, Bean<?> declaringBean, Class<?> declaringComponentClass,
             Class<? extends Annotation> specialParameterMarker, InjectionPointFactory factory, BeanManagerImpl manager) {
@@ -55,6 +57,8 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
         this.accessibleMethod = SecurityActions.getAccessibleCopyOfMethod(enhancedMethod.getJavaMember());
         this.annotatedMethod = enhancedMethod.slim();
         this.specialInjectionPointIndex = initSpecialInjectionPointIndex(enhancedMethod, specialParameterMarker);
+        this.access = MemberAccessors.getAccess(manager, enhancedMethod.getJavaMember());
+        this.isStatic = enhancedMethod.isStatic();
     }
 
     private static <X> int initSpecialInjectionPointIndex(EnhancedAnnotatedMethod<?, X> enhancedMethod, Class<? extends Annotation> specialParameterMarker) {
@@ -84,6 +88,15 @@ class StaticMethodInjectionPoint<T, X> extends MethodInjectionPoint<T, X> {
     }
 
     public T invoke(Object receiver, Object[] parameters, Class<? extends RuntimeException> exceptionTypeToThrow) {
+        if (access != null && (isStatic || accessibleMethod.getDeclaringClass().isInstance(receiver)) && access.isAvailable()) {
+            // the receiver might also be a proxy which does not extend the declaring class, see VirtualMethodInjectionPoint
+            try {
+                return cast(access.invoke(receiver, parameters));
+            } catch (Throwable e) {
+                rethrowException(e, exceptionTypeToThrow);
+            }
+            return null;
+        }
         try {
             return cast(getMethod(receiver).invoke(receiver, parameters));
         } catch (IllegalArgumentException e) {
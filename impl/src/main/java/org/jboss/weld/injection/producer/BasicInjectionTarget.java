@@ -102,7 +102,7 @@ public class BasicInjectionTarget<T> extends AbstractProducer<T> implements Weld
     }
 
     protected BasicInjectionTarget(EnhancedAnnotatedType<T> type, Bean<T> bean, BeanManagerImpl beanManager, Instantiator<T> instantiator) {
-        this(type, bean, beanManager, DefaultInjector.of(type, bean, beanManager), DefaultLifecycleCallbackInvoker.of(type), instantiator);
+        this(type, bean, beanManager, DefaultInjector.of(type, bean, beanManager), DefaultLifecycleCallbackInvoker.of(type, beanManager), instantiator);
     }
 
     protected void checkType(EnhancedAnnotatedType<T> type) {
@@ -113,7 +113,7 @@ public class BasicInjectionTarget<T> extends AbstractProducer<T> implements Weld
 
     @Override
     public T produce(CreationalContext<T> ctx) {
-        return instantiator.newInstance(ctx, beanManager);
+        return getInstantiator().newInstance(ctx, beanManager);
     }
 
     @Override
@@ -123,12 +123,12 @@ public class BasicInjectionTarget<T> extends AbstractProducer<T> implements Weld
 
     @Override
     public void postConstruct(T instance) {
-        invoker.postConstruct(instance, instantiator);
+        invoker.postConstruct(instance, getInstantiator());
     }
 
     @Override
     public void preDestroy(T instance) {
-        invoker.preDestroy(instance, instantiator);
+        invoker.preDestroy(instance, getInstantiator());
     }
 
     @Override
@@ -158,11 +158,11 @@ public class BasicInjectionTarget<T> extends AbstractProducer<T> implements Weld
     }
 
     public boolean hasInterceptors() {
-        return instantiator.hasInterceptorSupport();
+        return getInstantiator().hasInterceptorSupport();
     }
 
     public boolean hasDecorators() {
-        return instantiator.hasDecoratorSupport();
+        return getInstantiator().hasDecoratorSupport();
     }
 
     protected void initializeAfterBeanDiscovery(EnhancedAnnotatedType<T> annotatedType) {
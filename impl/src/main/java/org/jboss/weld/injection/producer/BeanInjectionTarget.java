@@ -31,6 +31,8 @@ import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedType;
 import org.jboss.weld.bean.CustomDecoratorWrapper;
 import org.jboss.weld.bean.DecoratorImpl;
 import org.jboss.weld.bean.proxy.ProxyInstantiator;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.interceptor.spi.model.InterceptionModel;
 import org.jboss.weld.logging.BeanLogger;
 import org.jboss.weld.manager.BeanManagerImpl;
@@ -52,6 +54,10 @@ public class BeanInjectionTarget<T> extends BasicInjectionTarget<T> {
 
     private final Bean<T> bean;
 
+    /*
+     * Non-null if the enhanced subclass has not been created yet
+     */
+    private volatile DeferredSubclassInitialization deferredSubclassInitialization;
 
     public BeanInjectionTarget(EnhancedAnnotatedType<T> type, Bean<T> bean, BeanManagerImpl beanManager, Injector<T> injector, LifecycleCallbackInvoker<T> invoker) {
         super(type, bean, beanManager, injector, invoker);
@@ -59,7 +65,7 @@ public class BeanInjectionTarget<T> extends BasicInjectionTarget<T> {
     }
 
     public BeanInjectionTarget(EnhancedAnnotatedType<T> type, Bean<T> bean, BeanManagerImpl beanManager) {
-        this(type, bean, beanManager, ResourceInjector.of(type, bean, beanManager), DefaultLifecycleCallbackInvoker.of(type));
+        this(type, bean, beanManager, ResourceInjector.of(type, bean, beanManager), DefaultLifecycleCallbackInvoker.of(type, beanManager));
     }
 
     @Override
@@ -113,17 +119,15 @@ public class BeanInjectionTarget<T> extends BasicInjectionTarget<T> {
         }
 
         if (hasNonConstructorInterceptors || hasDecorators) {
-            if (!(getInstantiator() instanceof DefaultInstantiator<?>)) {
-                throw new java.lang.IllegalStateException("Unexpected instantiator " + getInstantiator());
+            if (!(super.getInstantiator() instanceof DefaultInstantiator<?>)) {
+                throw new java.lang.IllegalStateException("Unexpected instantiator " + super.getInstantiator());
             }
-            DefaultInstantiator<T> delegate = (DefaultInstantiator<T>) getInstantiator();
-            setInstantiator(SubclassedComponentInstantiator.forInterceptedDecoratedBean(annotatedType, getBean(), delegate, beanManager));
-            if (hasDecorators) {
-                setInstantiator(new SubclassDecoratorApplyingInstantiator<T>(getBeanManager().getContextId(), getInstantiator(), getBean(), decorators));
-            }
-            if (hasNonConstructorInterceptors) {
-                setInstantiator(new InterceptorApplyingInstantiator<T>(getInstantiator(), interceptionModel, getType()));
+            if (beanManager.getServices().get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.LAZY_BEAN_INITIALIZATION)) {
+                // The enhanced subclass is not needed for validation - generate it when the first instance is requested
+                this.deferredSubclassInitialization = new DeferredSubclassInitialization(interceptionModel, hasNonConstructorInterceptors, hasDecorators ? decorators : null);
+                return;
             }
+            initializeSubclassInstantiator(annotatedType, interceptionModel, hasNonConstructorInterceptors, hasDecorators ? decorators : null);
         }
 
         if (isInterceptionCandidate()) {
@@ -131,9 +135,42 @@ public class BeanInjectionTarget<T> extends BasicInjectionTarget<T> {
         }
     }
 
+    private void initializeSubclassInstantiator(EnhancedAnnotatedType<T> annotatedType, InterceptionModel interceptionModel, boolean hasNonConstructorInterceptors,
+            List<Decorator<?>> decorators) {
+        DefaultInstantiator<T> delegate = (DefaultInstantiator<T>) super.getInstantiator();
+        setInstantiator(SubclassedComponentInstantiator.forInterceptedDecoratedBean(annotatedType, getBean(), delegate, beanManager));
+        if (decorators != null) {
+            setInstantiator(new SubclassDecoratorApplyingInstantiator<T>(getBeanManager().getContextId(), super.getInstantiator(), getBean(), decorators));
+        }
+        if (hasNonConstructorInterceptors) {
+            setInstantiator(new InterceptorApplyingInstantiator<T>(super.getInstantiator(), interceptionModel, getType()));
+        }
+    }
+
+    private void initializeDeferredSubclassInstantiator() {
+        synchronized (this) {
+            DeferredSubclassInitialization deferred = this.deferredSubclassInitialization;
+            if (deferred != null) {
+                // the EnhancedAnnotatedType may have been released after bootstrap - obtain it again
+                EnhancedAnnotatedType<T> annotatedType = beanManager.getServices().get(ClassTransformer.class).getEnhancedAnnotatedType(getType());
+                initializeSubclassInstantiator(annotatedType, deferred.interceptionModel, deferred.hasNonConstructorInterceptors, deferred.decorators);
+                setupConstructorInterceptionInstantiator(deferred.interceptionModel);
+                this.deferredSubclassInitialization = null;
+            }
+        }
+    }
+
+    @Override
+    public Instantiator<T> getInstantiator() {
+        if (deferredSubclassInitialization != null) {
+            initializeDeferredSubclassInstantiator();
+        }
+        return super.getInstantiator();
+    }
+
     protected void setupConstructorInterceptionInstantiator(InterceptionModel interceptionModel) {
         if (interceptionModel != null && interceptionModel.hasExternalConstructorInterceptors()) {
-            setInstantiator(new ConstructorInterceptionInstantiator<T>(getInstantiator(), interceptionModel, getType()));
+            setInstantiator(new ConstructorInterceptionInstantiator<T>(super.getInstantiator(), interceptionModel, getType()));
         }
     }
 
@@ -190,4 +227,22 @@ public class BeanInjectionTarget<T> extends BasicInjectionTarget<T> {
     public Bean<T> getBean() {
         return bean;
     }
+
+    /**
+     * Holds the information needed to build the instantiator of an intercepted and/or decorated bean lazily.
+     *
+     * @see ConfigurationKey#LAZY_BEAN_INITIALIZATION
+     */
+    private static class DeferredSubclassInitialization {
+
+        private final InterceptionModel interceptionModel;
+        private final boolean hasNonConstructorInterceptors;
+        private final List<Decorator<?>> decorators;
+
+        private DeferredSubclassInitialization(InterceptionModel interceptionModel, boolean hasNonConstructorInterceptors, List<Decorator<?>> decorators) {
+            this.interceptionModel = interceptionModel;
+            this.hasNonConstructorInterceptors = hasNonConstructorInterceptors;
+            this.decorators = decorators;
+        }
+    }
 }
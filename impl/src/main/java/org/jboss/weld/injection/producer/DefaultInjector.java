@@ -25,11 +25,14 @@ import javax.enterprise.inject.spi.InjectionPoint;
 import javax.enterprise.inject.spi.InjectionTarget;
 import javax.inject.Inject;
 
+import org.jboss.weld.Container;
+import org.jboss.weld.ContainerState;
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedType;
 import org.jboss.weld.annotated.slim.SlimAnnotatedType;
 import org.jboss.weld.injection.MethodInjectionPoint;
 import org.jboss.weld.injection.FieldInjectionPoint;
 import org.jboss.weld.injection.InjectionContextImpl;
+import org.jboss.weld.injection.InjectionPlan;
 import org.jboss.weld.injection.InjectionPointFactory;
 import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.util.BeanMethods;
@@ -51,6 +54,7 @@ public class DefaultInjector<T> implements Injector<T> {
 
     private final List<Set<FieldInjectionPoint<?, ?>>> injectableFields;
     private final List<Set<MethodInjectionPoint<?, ?>>> initializerMethods;
+    private volatile InjectionPlan injectionPlan;
 
     public DefaultInjector(EnhancedAnnotatedType<T> type, Bean<T> bean, BeanManagerImpl beanManager) {
         this.injectableFields = InjectionPointFactory.instance().getFieldInjectionPoints(bean, type, beanManager);
@@ -68,11 +72,44 @@ public class DefaultInjector<T> implements Injector<T> {
         new InjectionContextImpl<T>(manager, injectionTarget, type, instance) {
             @Override
             public void proceed() {
-                Beans.injectFieldsAndInitializers(instance, ctx, manager, injectableFields, initializerMethods);
+                injectFieldsAndInitializers(instance, ctx, manager);
             }
         }.run();
     }
 
+    /**
+     * Injects the fields and calls the initializer methods. The {@link InjectionPlan} is used once the deployment is validated.
+     *
+     * @param instance
+     * @param ctx
+     * @param manager
+     */
+    protected void injectFieldsAndInitializers(T instance, CreationalContext<T> ctx, BeanManagerImpl manager) {
+        InjectionPlan plan = getInjectionPlan(manager);
+        if (plan != null) {
+            plan.inject(instance, ctx, manager);
+        } else {
+            Beans.injectFieldsAndInitializers(instance, ctx, manager, injectableFields, initializerMethods);
+        }
+    }
+
+    private InjectionPlan getInjectionPlan(BeanManagerImpl manager) {
+        InjectionPlan plan = injectionPlan;
+        if (plan == null) {
+            // Note that a container which is not available any more (e.g. shut down) might still be used to inject an instance
+            if (Container.available(manager.getContextId()) && isValidated(Container.instance(manager).getState())) {
+                // The resolution is final, multiple threads may compile the plan concurrently but the result is equivalent
+                plan = InjectionPlan.compile(injectableFields, initializerMethods, manager);
+                injectionPlan = plan;
+            }
+        }
+        return plan;
+    }
+
+    private static boolean isValidated(ContainerState state) {
+        return ContainerState.VALIDATED.equals(state) || ContainerState.INITIALIZED.equals(state);
+    }
+
     @Override
     public List<Set<FieldInjectionPoint<?, ?>>> getInjectableFields() {
         return injectableFields;
@@ -16,6 +16,7 @@
  */
 package org.jboss.weld.injection.producer;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.util.List;
@@ -25,10 +26,14 @@ import javax.annotation.PreDestroy;
 import javax.enterprise.inject.spi.AnnotatedMethod;
 
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedType;
+import org.jboss.weld.injection.MemberAccess;
+import org.jboss.weld.injection.MemberAccessors;
 import org.jboss.weld.interceptor.util.InterceptionUtils;
 import org.jboss.weld.logging.BeanLogger;
+import org.jboss.weld.manager.BeanManagerImpl;
 import org.jboss.weld.security.GetAccessibleCopyOfMember;
 import org.jboss.weld.util.BeanMethods;
+import org.jboss.weld.util.collections.Arrays2;
 import org.jboss.weld.util.collections.ImmutableList;
 
 /**
@@ -45,16 +50,29 @@ public class DefaultLifecycleCallbackInvoker<T> implements LifecycleCallbackInvo
         return new DefaultLifecycleCallbackInvoker<T>(type);
     }
 
-    private final List<Method> accessiblePostConstructMethods;
-    private final List<Method> accessiblePreDestroyMethods;
+    public static <T> DefaultLifecycleCallbackInvoker<T> of(EnhancedAnnotatedType<T> type, BeanManagerImpl manager) {
+        return new DefaultLifecycleCallbackInvoker<T>(type, manager.getServices().get(MemberAccessors.class));
+    }
+
+    private final List<LifecycleCallback> postConstructCallbacks;
+    private final List<LifecycleCallback> preDestroyCallbacks;
 
     public DefaultLifecycleCallbackInvoker(EnhancedAnnotatedType<T> type) {
-        this.accessiblePostConstructMethods = initMethodList(BeanMethods.getPostConstructMethods(type));
-        this.accessiblePreDestroyMethods = initMethodList(BeanMethods.getPreDestroyMethods(type));
+        this(type, null);
+    }
+
+    /**
+     *
+     * @param type
+     * @param accessors used to invoke the callbacks without reflection, may be null
+     */
+    public DefaultLifecycleCallbackInvoker(EnhancedAnnotatedType<T> type, MemberAccessors accessors) {
+        this.postConstructCallbacks = initCallbacks(BeanMethods.getPostConstructMethods(type), accessors);
+        this.preDestroyCallbacks = initCallbacks(BeanMethods.getPreDestroyMethods(type), accessors);
     }
 
-    private List<Method> initMethodList(List<? extends AnnotatedMethod<?>> methods) {
-        return methods.stream().map((method) -> AccessController.doPrivileged(new GetAccessibleCopyOfMember<Method>(method.getJavaMember()))).collect(ImmutableList.collector());
+    private List<LifecycleCallback> initCallbacks(List<? extends AnnotatedMethod<?>> methods, MemberAccessors accessors) {
+        return methods.stream().map((method) -> new LifecycleCallback(method.getJavaMember(), accessors)).collect(ImmutableList.collector());
     }
 
     @Override
@@ -63,7 +81,7 @@ public class DefaultLifecycleCallbackInvoker<T> implements LifecycleCallbackInvo
         if (instantiator != null && instantiator.hasInterceptorSupport()) {
             InterceptionUtils.executePostConstruct(instance);
         } else {
-            invokeMethods(accessiblePostConstructMethods, instance);
+            invokeCallbacks(postConstructCallbacks, instance);
         }
     }
 
@@ -73,27 +91,59 @@ public class DefaultLifecycleCallbackInvoker<T> implements LifecycleCallbackInvo
         if (instantiator != null && instantiator.hasInterceptorSupport()) {
             InterceptionUtils.executePredestroy(instance);
         } else {
-            invokeMethods(accessiblePreDestroyMethods, instance);
+            invokeCallbacks(preDestroyCallbacks, instance);
         }
     }
 
-    private void invokeMethods(List<Method> methods, T instance) {
-        for (Method method : methods) {
-            try {
-                method.invoke(instance);
-            } catch (Exception e) {
-                throw BeanLogger.LOG.invocationError(method, instance, e);
-            }
+    private void invokeCallbacks(List<LifecycleCallback> callbacks, T instance) {
+        for (LifecycleCallback callback : callbacks) {
+            callback.invoke(instance);
         }
     }
 
     @Override
     public boolean hasPreDestroyMethods() {
-        return !accessiblePreDestroyMethods.isEmpty();
+        return !preDestroyCallbacks.isEmpty();
     }
 
     @Override
     public boolean hasPostConstructMethods() {
-        return !accessiblePostConstructMethods.isEmpty();
+        return !postConstructCallbacks.isEmpty();
+    }
+
+    /**
+     * A lifecycle callback method invoked through a generated {@link MemberAccess} if available, or reflectively otherwise.
+     */
+    private static final class LifecycleCallback {
+
+        private final Method method;
+
+        private final MemberAccess access;
+
+        private LifecycleCallback(Method method, MemberAccessors accessors) {
+            this.access = accessors != null ? accessors.getAccess(method) : null;
+            this.method = AccessController.doPrivileged(new GetAccessibleCopyOfMember<Method>(method));
+        }
+
+        private void invoke(Object instance) {
+            try {
+                if (access != null && access.isAvailable()) {
+                    // exceptions are not wrapped in InvocationTargetException
+                    access.invoke(instance, Arrays2.EMPTY_ARRAY);
+                } else {
+                    method.invoke(instance);
+                }
+            } catch (InvocationTargetException e) {
+                // unwrap so that the callback fails the same way no matter how it is invoked
+                Throwable cause = e.getCause();
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw BeanLogger.LOG.invocationError(method, instance, cause);
+            } catch (Exception e) {
+                throw BeanLogger.LOG.invocationError(method, instance, e);
+            }
+        }
+
     }
-}
\ No newline at end of file
+}
@@ -122,7 +122,7 @@ public class WeldInjectionTargetBuilderImpl<T> implements WeldInjectionTargetBui
 
     private LifecycleCallbackInvoker<T> buildInvoker() {
         if (targetClassLifecycleCallbacksEnabled) {
-            return DefaultLifecycleCallbackInvoker.of(type);
+            return DefaultLifecycleCallbackInvoker.of(type, manager);
         } else {
             return NoopLifecycleCallbackInvoker.<T>getInstance();
         }
@@ -0,0 +1,47 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.interceptor;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an interceptor class which holds no state specific to the intercepted instance. By default, a new interceptor instance is created for every
+ * intercepted instance. A single instance of a shared interceptor is created lazily per deployment and reused for all the intercepted instances,
+ * which saves the allocation and injection of the interceptor per intercepted instance. The instance is destroyed when the container is shut down.
+ * If an intercepted instance is passivated, the interceptor is serialized with it, but the activated instance uses the shared instance again.
+ *
+ * <p>
+ * The annotation may be used for both the CDI interceptors and the interceptors bound using {@link javax.interceptor.Interceptors}. A shared
+ * interceptor may only inject beans whose scope is not {@link javax.enterprise.context.Dependent} (e.g. normal-scoped beans) and built-in beans other
+ * than the bean metadata, such as <code>@Intercepted Bean&lt;?&gt;</code>.
+ * </p>
+ *
+ * <p>
+ * Note that sharing the interceptor instances is not portable - the CDI specification defines an interceptor instance as a dependent object of the
+ * intercepted instance.
+ * </p>
+ */
+@Documented
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface SharedInterceptor {
+}
@@ -25,11 +25,15 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.jboss.weld.interceptor.proxy.InterceptionChainTemplate;
 import org.jboss.weld.interceptor.reader.TargetClassInterceptorMetadata;
 import org.jboss.weld.interceptor.spi.metadata.InterceptorClassMetadata;
 import org.jboss.weld.interceptor.spi.model.InterceptionModel;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
 import org.jboss.weld.util.collections.ImmutableMap;
 import org.jboss.weld.util.collections.ImmutableSet;
 
@@ -44,6 +48,8 @@ import org.jboss.weld.util.collections.ImmutableSet;
  */
 class InterceptionModelImpl implements InterceptionModel {
 
+    private static final String LIFECYCLE_CALLBACK_WITH_METHOD = "On a lifecycle callback, the associated method must be null";
+
     private final Map<InterceptionType, List<InterceptorClassMetadata<?>>> globalInterceptors;
 
     private final Map<InterceptionType, Map<Method, List<InterceptorClassMetadata<?>>>> methodBoundInterceptors;
@@ -60,6 +66,14 @@ class InterceptionModelImpl implements InterceptionModel {
 
     private final Set<Annotation> classInterceptorBindings;
 
+    private final AtomicInteger chainTemplateCount;
+
+    private final Map<InterceptionType, InterceptionChainTemplate> lifecycleChainTemplates;
+
+    private final ComputingCache<Method, InterceptionChainTemplate> aroundInvokeChainTemplates;
+
+    private final ComputingCache<Method, InterceptionChainTemplate> aroundTimeoutChainTemplates;
+
     InterceptionModelImpl(InterceptionModelBuilder builder) {
         this.hasExternalNonConstructorInterceptors = builder.isHasExternalNonConstructorInterceptors();
         this.globalInterceptors = ImmutableMap.<InterceptionType, List<InterceptorClassMetadata<?>>>copyOf(builder.getGlobalInterceptors());
@@ -69,6 +83,22 @@ class InterceptionModelImpl implements InterceptionModel {
         this.targetClassInterceptorMetadata = builder.getTargetClassInterceptorMetadata();
         this.memberInterceptorBindings = ImmutableMap.<Member, Set<Annotation>>copyOf(builder.getMemberInterceptorBindings());
         this.classInterceptorBindings = ImmutableSet.copyOf(builder.getClassInterceptorBindings());
+        this.chainTemplateCount = new AtomicInteger();
+        ImmutableMap.Builder<InterceptionType, InterceptionChainTemplate> lifecycleChainTemplates = ImmutableMap.builder();
+        for (InterceptionType interceptionType : InterceptionType.values()) {
+            if (interceptionType.isLifecycleCallback() && interceptionType != InterceptionType.AROUND_CONSTRUCT) {
+                lifecycleChainTemplates.put(interceptionType, createChainTemplate(interceptionType, null));
+            }
+        }
+        this.lifecycleChainTemplates = lifecycleChainTemplates.build();
+        ComputingCacheBuilder cacheBuilder = ComputingCacheBuilder.newBuilder();
+        this.aroundInvokeChainTemplates = cacheBuilder.build((method) -> createChainTemplate(InterceptionType.AROUND_INVOKE, method));
+        this.aroundTimeoutChainTemplates = cacheBuilder.build((method) -> createChainTemplate(InterceptionType.AROUND_TIMEOUT, method));
+    }
+
+    private InterceptionChainTemplate createChainTemplate(InterceptionType interceptionType, Method method) {
+        return new InterceptionChainTemplate(chainTemplateCount.getAndIncrement(), interceptionType, getInterceptors(interceptionType, method),
+                targetClassInterceptorMetadata, method != null ? getMemberInterceptorBindings(method) : classInterceptorBindings);
     }
 
     @Override
@@ -77,7 +107,7 @@ class InterceptionModelImpl implements InterceptionModel {
             throw new IllegalStateException("Cannot use getInterceptors() for @AroundConstruct interceptor lookup. Use getConstructorInvocationInterceptors() instead.");
         }
         if (interceptionType.isLifecycleCallback() && method != null) {
-            throw new IllegalArgumentException("On a lifecycle callback, the associated method must be null");
+            throw new IllegalArgumentException(LIFECYCLE_CALLBACK_WITH_METHOD);
         }
 
         if (!interceptionType.isLifecycleCallback() && method == null) {
@@ -148,4 +178,28 @@ class InterceptionModelImpl implements InterceptionModel {
         return memberInterceptorBindings.get(member);
     }
 
+    @Override
+    public InterceptionChainTemplate getChainTemplate(InterceptionType interceptionType, Method method) {
+        switch (interceptionType) {
+            case AROUND_INVOKE:
+                return aroundInvokeChainTemplates.getValue(method);
+            case AROUND_TIMEOUT:
+                return aroundTimeoutChainTemplates.getValue(method);
+            default:
+                if (method != null) {
+                    throw new IllegalArgumentException(LIFECYCLE_CALLBACK_WITH_METHOD);
+                }
+                InterceptionChainTemplate template = lifecycleChainTemplates.get(interceptionType);
+                if (template == null) {
+                    throw new IllegalStateException("Cannot use getChainTemplate() for " + interceptionType + " interceptor lookup.");
+                }
+                return template;
+        }
+    }
+
+    @Override
+    public int getChainTemplateCount() {
+        return chainTemplateCount.get();
+    }
+
 }
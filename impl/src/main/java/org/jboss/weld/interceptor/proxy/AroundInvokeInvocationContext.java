@@ -42,7 +42,11 @@ import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
  * <li>interception to continue in a different thread - implementing {@link Asynchronous} with interceptors</li>
  * </ul>
  *
- * This however also requires that for each interceptor in the chain we create a new instance of {@link AroundInvokeInvocationContext}.
+ * This however also requires that for each interceptor in the chain we create a new instance of {@link AroundInvokeInvocationContext}. In order to
+ * keep this cheap, the context data map is shared by the whole chain and is only allocated once an interceptor calls {@link #getContextData()} -
+ * interceptors which do not use the context data do not pay for it. The concrete implementations are final so that the call sites in
+ * {@link #proceed()} stay at most bimorphic.
+ *
  * Context data and method parameters are mutable. We do not guard them anyhow - the expectation for them is to be effectively immutable
  * by only being modified before or after dispatch. We also assume that the dispatch safely propagates the state of {@link InvocationContext}
  * from one thread to the other.
@@ -58,7 +62,7 @@ abstract class AroundInvokeInvocationContext extends AbstractInvocationContext {
             Set<Annotation> interceptorBindings, Stack stack) {
         CombinedInterceptorAndDecoratorStackMethodHandler currentHandler = (stack == null) ? null : stack.peek();
         if (chain.size() == 1) {
-            return new TerminalAroundInvokeInvocationContext(instance, method, proceed, args, null, interceptorBindings, currentHandler);
+            return new TerminalAroundInvokeInvocationContext(instance, method, proceed, args, interceptorBindings, currentHandler);
         } else {
             return new NonTerminalAroundInvokeInvocationContext(instance, method, proceed, args, interceptorBindings, chain, currentHandler);
         }
@@ -66,10 +70,30 @@ abstract class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
     final CombinedInterceptorAndDecoratorStackMethodHandler currentHandler;
 
-    AroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters, Map<String, Object> contextData,
-            Set<Annotation> interceptorBindings, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
-        super(target, method, proceed, parameters, contextData, interceptorBindings);
+    /**
+     * The context passed to the first interceptor in the chain. It holds the context data shared by the whole chain.
+     */
+    private final AroundInvokeInvocationContext first;
+
+    AroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters, Set<Annotation> interceptorBindings,
+            CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
+        super(target, method, proceed, parameters, null, interceptorBindings);
         this.currentHandler = currentHandler;
+        this.first = this;
+    }
+
+    AroundInvokeInvocationContext(AroundInvokeInvocationContext previous) {
+        super(previous.target, previous.method, previous.proceed, previous.parameters, null, previous.interceptorBindings);
+        this.currentHandler = previous.currentHandler;
+        this.first = previous.first;
+    }
+
+    @Override
+    public Map<String, Object> getContextData() {
+        if (first != this) {
+            return first.getContextData();
+        }
+        return super.getContextData();
     }
 
     @Override
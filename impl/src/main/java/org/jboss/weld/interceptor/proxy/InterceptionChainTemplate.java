@@ -0,0 +1,118 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.interceptor.proxy;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.weld.interceptor.reader.TargetClassInterceptorMetadata;
+import org.jboss.weld.interceptor.spi.metadata.InterceptorClassMetadata;
+import org.jboss.weld.interceptor.spi.model.InterceptionType;
+import org.jboss.weld.util.collections.ImmutableList;
+
+/**
+ * An immutable description of the interceptor chain of a single intercepted method or lifecycle callback - the ordered interceptor metadata and the
+ * interceptor bindings. A template is computed once per {@link org.jboss.weld.interceptor.spi.model.InterceptionModel} and shared by all the
+ * intercepted instances. An intercepted instance only binds its interceptor instances to the template, see {@link #bind(InterceptionContext, Object)}.
+ *
+ * @see org.jboss.weld.interceptor.spi.model.InterceptionModel#getChainTemplate(InterceptionType, java.lang.reflect.Method)
+ */
+public final class InterceptionChainTemplate {
+
+    private final int index;
+
+    private final InterceptionType interceptionType;
+
+    private final List<InterceptorClassMetadata<?>> interceptors;
+
+    private final TargetClassInterceptorMetadata targetClassInterceptorMetadata;
+
+    private final Set<Annotation> interceptorBindings;
+
+    /**
+     *
+     * @param index the index of the template, unique within the interception model
+     * @param interceptionType
+     * @param interceptors the external interceptors in the order of invocation
+     * @param targetClassInterceptorMetadata the target class interceptor metadata, may be null
+     * @param interceptorBindings
+     */
+    public InterceptionChainTemplate(int index, InterceptionType interceptionType, List<InterceptorClassMetadata<?>> interceptors,
+            TargetClassInterceptorMetadata targetClassInterceptorMetadata, Set<Annotation> interceptorBindings) {
+        this.index = index;
+        this.interceptionType = interceptionType;
+        this.interceptors = ImmutableList.copyOf(interceptors);
+        this.targetClassInterceptorMetadata = targetClassInterceptorMetadata != null && targetClassInterceptorMetadata.isEligible(interceptionType)
+                ? targetClassInterceptorMetadata : null;
+        this.interceptorBindings = interceptorBindings;
+    }
+
+    /**
+     *
+     * @return the index of the template, unique within the interception model
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    public InterceptionType getInterceptionType() {
+        return interceptionType;
+    }
+
+    public List<InterceptorClassMetadata<?>> getInterceptors() {
+        return interceptors;
+    }
+
+    public Set<Annotation> getInterceptorBindings() {
+        return interceptorBindings;
+    }
+
+    /**
+     *
+     * @return <code>true</code> if there are no interceptor methods to invoke
+     */
+    public boolean isEmpty() {
+        return interceptors.isEmpty() && targetClassInterceptorMetadata == null;
+    }
+
+    /**
+     * Binds the interceptor instances held by the given context and the intercepted instance to this template.
+     *
+     * @param ctx
+     * @param instance the intercepted instance
+     * @return the interceptor method invocations in the order of invocation
+     */
+    public List<InterceptorMethodInvocation> bind(InterceptionContext ctx, Object instance) {
+        ImmutableList.Builder<InterceptorMethodInvocation> builder = ImmutableList.builder();
+        for (InterceptorClassMetadata<?> interceptorMetadata : interceptors) {
+            builder.addAll(interceptorMetadata.getInterceptorInvocation(ctx.getInterceptorInstance(interceptorMetadata), interceptionType)
+                    .getInterceptorMethodInvocations());
+        }
+        if (targetClassInterceptorMetadata != null) {
+            builder.addAll(targetClassInterceptorMetadata.getInterceptorInvocation(instance, interceptionType).getInterceptorMethodInvocations());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public String toString() {
+        return "InterceptionChainTemplate [interceptionType=" + interceptionType + ", interceptors=" + interceptors + ", targetClass="
+                + (targetClassInterceptorMetadata != null) + "]";
+    }
+
+}
@@ -36,7 +36,6 @@ import java.util.Set;
 import javax.enterprise.context.spi.CreationalContext;
 
 import org.jboss.weld.annotated.slim.SlimAnnotatedType;
-import org.jboss.weld.interceptor.reader.TargetClassInterceptorMetadata;
 import org.jboss.weld.interceptor.spi.metadata.InterceptorClassMetadata;
 import org.jboss.weld.interceptor.spi.model.InterceptionModel;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
@@ -88,7 +87,12 @@ public class InterceptionContext implements Serializable {
         for (InterceptorClassMetadata<?> interceptor : model.getAllInterceptors()) {
             for (InterceptionType interceptionType : interceptionTypes) {
                 if (interceptor.isEligible(interceptionType)) {
-                    interceptorInstances.put(interceptor.getJavaClass(), interceptor.getInterceptorFactory().create(ctx, manager));
+                    if (interceptor.isShared()) {
+                        interceptorInstances.put(interceptor.getJavaClass(), manager.getServices().get(SharedInterceptorInstances.class).getInstance(interceptor, manager));
+                    } else {
+                        interceptorInstances.put(interceptor.getJavaClass(), interceptor.getInterceptorFactory().create(ctx, manager));
+                    }
+                    break;
                 }
             }
         }
@@ -105,22 +109,27 @@ public class InterceptionContext implements Serializable {
 
     private Object readResolve() throws ObjectStreamException {
         InterceptionModel interceptionModel = manager.getInterceptorModelRegistry().get(annotatedType);
-        return new InterceptionContext(interceptorInstances, manager, interceptionModel, annotatedType);
+        return new InterceptionContext(resolveSharedInterceptorInstances(interceptionModel), manager, interceptionModel, annotatedType);
     }
 
-    public List<InterceptorMethodInvocation> buildInterceptorMethodInvocations(Object instance, Method method, InterceptionType interceptionType) {
-        List<? extends InterceptorClassMetadata<?>> interceptorList = interceptionModel.getInterceptors(interceptionType, method);
-        List<InterceptorMethodInvocation> interceptorInvocations = new ArrayList<InterceptorMethodInvocation>(interceptorList.size());
-        for (InterceptorClassMetadata<?> interceptorMetadata : interceptorList) {
-            interceptorInvocations.addAll(interceptorMetadata.getInterceptorInvocation(getInterceptorInstance(interceptorMetadata), interceptionType)
-                    .getInterceptorMethodInvocations());
-        }
-        TargetClassInterceptorMetadata targetClassInterceptorMetadata = getInterceptionModel().getTargetClassInterceptorMetadata();
-        if (targetClassInterceptorMetadata != null && targetClassInterceptorMetadata.isEligible(interceptionType)) {
-            interceptorInvocations
-                    .addAll(targetClassInterceptorMetadata.getInterceptorInvocation(instance, interceptionType).getInterceptorMethodInvocations());
+    /**
+     * The deserialized copies of the shared interceptor instances are replaced with the instances shared within this deployment.
+     */
+    private Map<Class<?>, Object> resolveSharedInterceptorInstances(InterceptionModel interceptionModel) {
+        Map<Class<?>, Object> instances = null;
+        for (InterceptorClassMetadata<?> interceptor : interceptionModel.getAllInterceptors()) {
+            if (interceptor.isShared() && interceptorInstances.containsKey(interceptor.getJavaClass())) {
+                if (instances == null) {
+                    instances = new HashMap<Class<?>, Object>(interceptorInstances);
+                }
+                instances.put(interceptor.getJavaClass(), manager.getServices().get(SharedInterceptorInstances.class).getInstance(interceptor, manager));
+            }
         }
-        return ImmutableList.copyOf(interceptorInvocations);
+        return instances != null ? WeldCollections.immutableMapView(instances) : interceptorInstances;
+    }
+
+    public List<InterceptorMethodInvocation> buildInterceptorMethodInvocations(Object instance, Method method, InterceptionType interceptionType) {
+        return interceptionModel.getChainTemplate(interceptionType, method).bind(this, instance);
     }
 
     public List<InterceptorMethodInvocation> buildInterceptorMethodInvocationsForConstructorInterception() {
@@ -4,13 +4,10 @@ import static org.jboss.weld.interceptor.proxy.AroundInvokeInvocationContext.cre
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
-import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.jboss.weld.bean.proxy.InterceptionDecorationContext;
 import org.jboss.weld.bean.proxy.InterceptionDecorationContext.Stack;
@@ -31,11 +28,15 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
     private static final long serialVersionUID = 1L;
 
     private final InterceptionContext ctx;
-    private final transient ConcurrentMap<Method, CachedInterceptionChain> cachedChains;
+
+    /**
+     * The interceptor method invocations bound to this instance, indexed by {@link InterceptionChainTemplate#getIndex()}. Lazily initialized, only
+     * non-empty around-invoke chains are bound.
+     */
+    private transient volatile AtomicReferenceArray<List<InterceptorMethodInvocation>> boundChains;
 
     public InterceptorMethodHandler(InterceptionContext ctx) {
         this.ctx = ctx;
-        this.cachedChains = new ConcurrentHashMap<Method, CachedInterceptionChain>();
     }
 
     @Override
@@ -61,8 +62,8 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
     }
 
     protected Object executeInterception(Object instance, Method method, Method proceed, Object[] args, InterceptionType interceptionType, Stack stack) throws Throwable {
-        CachedInterceptionChain chain = getInterceptionChain(instance, method, interceptionType);
-        if (chain.interceptorMethods.isEmpty()) {
+        InterceptionChainTemplate template = ctx.getInterceptionModel().getChainTemplate(interceptionType, method);
+        if (template.isEmpty()) {
             // shortcut if there are no interceptors
             if (proceed == null) {
                 return null;
@@ -71,38 +72,58 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
             }
         }
         if (InterceptionType.AROUND_INVOKE == interceptionType) {
-            return executeAroundInvoke(instance, method, proceed, args, chain, stack);
+            return executeAroundInvoke(instance, method, proceed, args, template, stack);
         } else {
-            return executeLifecycleInterception(instance, method, proceed, args, chain, stack);
+            return executeLifecycleInterception(instance, method, proceed, args, template, stack);
         }
     }
-    protected Object executeLifecycleInterception(Object instance, Method method, Method proceed, Object[] args, CachedInterceptionChain chain, Stack stack) throws Throwable {
-        return new WeldInvocationContext(instance, method, proceed, args, chain.interceptorMethods, chain.interceptorBindings, stack).proceed();
+
+    protected Object executeLifecycleInterception(Object instance, Method method, Method proceed, Object[] args, InterceptionChainTemplate template, Stack stack)
+            throws Throwable {
+        // Lifecycle callbacks are invoked at most once per instance - do not keep the bound chain
+        return new WeldInvocationContext(instance, method, proceed, args, template.bind(ctx, instance), template.getInterceptorBindings(), stack).proceed();
     }
 
-    protected Object executeAroundInvoke(Object instance, Method method, Method proceed, Object[] args, CachedInterceptionChain chain, Stack stack) throws Throwable {
-        ExperimentalInvocationContext ctx = create(instance, method, proceed, args, chain.interceptorMethods, chain.interceptorBindings, stack);
+    protected Object executeAroundInvoke(Object instance, Method method, Method proceed, Object[] args, InterceptionChainTemplate template, Stack stack)
+            throws Throwable {
+        List<InterceptorMethodInvocation> chain = getBoundChain(instance, template);
+        ExperimentalInvocationContext ctx = create(instance, method, proceed, args, chain, template.getInterceptorBindings(), stack);
         try {
-            return chain.interceptorMethods.get(0).invoke(ctx);
+            return chain.get(0).invoke(ctx);
         } catch (InvocationTargetException e) {
             throw e.getCause();
         }
     }
 
-    private CachedInterceptionChain getInterceptionChain(Object instance, Method method, InterceptionType interceptionType) {
-        if (method != null) {
-            CachedInterceptionChain cachedChain = cachedChains.get(method);
-            if (cachedChain == null) {
-                cachedChain = new CachedInterceptionChain(ctx.buildInterceptorMethodInvocations(instance, method, interceptionType), ctx.getInterceptionModel()
-                        .getMemberInterceptorBindings(method));
-                CachedInterceptionChain old = cachedChains.putIfAbsent(method, cachedChain);
-                if (old != null) {
-                    cachedChain = old;
+    private List<InterceptorMethodInvocation> getBoundChain(Object instance, InterceptionChainTemplate template) {
+        int index = template.getIndex();
+        AtomicReferenceArray<List<InterceptorMethodInvocation>> chains = boundChains;
+        if (chains == null || index >= chains.length()) {
+            chains = growBoundChains(index);
+        }
+        List<InterceptorMethodInvocation> chain = chains.get(index);
+        if (chain == null) {
+            // Binding is idempotent - a concurrent invocation may only create an equivalent chain
+            chain = template.bind(ctx, instance);
+            chains.set(index, chain);
+        }
+        return chain;
+    }
+
+    private synchronized AtomicReferenceArray<List<InterceptorMethodInvocation>> growBoundChains(int index) {
+        AtomicReferenceArray<List<InterceptorMethodInvocation>> chains = boundChains;
+        if (chains == null || index >= chains.length()) {
+            AtomicReferenceArray<List<InterceptorMethodInvocation>> newChains = new AtomicReferenceArray<List<InterceptorMethodInvocation>>(Math.max(index + 1,
+                    ctx.getInterceptionModel().getChainTemplateCount()));
+            if (chains != null) {
+                for (int i = 0; i < chains.length(); i++) {
+                    newChains.set(i, chains.get(i));
                 }
             }
-            return cachedChain;
+            boundChains = newChains;
+            chains = newChains;
         }
-        return new CachedInterceptionChain(ctx.buildInterceptorMethodInvocations(instance, null, interceptionType), ctx.getInterceptionModel().getClassInterceptorBindings());
+        return chains;
     }
 
     private boolean isInterceptorMethod(Method method) {
@@ -112,15 +133,4 @@ public class InterceptorMethodHandler implements StackAwareMethodHandler, Serial
     private Object readResolve() throws ObjectStreamException {
         return new InterceptorMethodHandler(ctx);
     }
-
-    private static class CachedInterceptionChain {
-
-        private final List<InterceptorMethodInvocation> interceptorMethods;
-        private final Set<Annotation> interceptorBindings;
-
-        public CachedInterceptionChain(List<InterceptorMethodInvocation> chain, Set<Annotation> interceptorBindings) {
-            this.interceptorMethods = chain;
-            this.interceptorBindings = interceptorBindings;
-        }
-    }
 }
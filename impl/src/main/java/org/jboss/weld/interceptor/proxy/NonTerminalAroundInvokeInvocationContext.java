@@ -19,7 +19,6 @@ package org.jboss.weld.interceptor.proxy;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 import javax.interceptor.InvocationContext;
@@ -37,41 +36,34 @@ import org.jboss.weld.experimental.ExperimentalInvocationContext;
  * @see AroundInvokeInvocationContext
  *
  */
-class NonTerminalAroundInvokeInvocationContext extends AroundInvokeInvocationContext {
+final class NonTerminalAroundInvokeInvocationContext extends AroundInvokeInvocationContext {
 
     private final int position;
     private final List<InterceptorMethodInvocation> chain;
 
     public NonTerminalAroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters, Set<Annotation> interceptorBindings,
             List<InterceptorMethodInvocation> chain, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
-        this(target, method, proceed, parameters, newContextData(interceptorBindings), interceptorBindings, 0, chain, currentHandler);
+        super(target, method, proceed, parameters, interceptorBindings, currentHandler);
+        this.position = 0;
+        this.chain = chain;
     }
 
     public NonTerminalAroundInvokeInvocationContext(NonTerminalAroundInvokeInvocationContext ctx) {
-        this(ctx.getTarget(), ctx.getMethod(), ctx.getProceed(), ctx.getParameters(), ctx.contextData, ctx.getInterceptorBindings(), ctx.position + 1,
-                ctx.chain, ctx.currentHandler);
-    }
-
-    private NonTerminalAroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters, Map<String, Object> contextData,
-            Set<Annotation> interceptorBindings, int position, List<InterceptorMethodInvocation> chain,
-            CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
-        super(target, method, proceed, parameters, contextData, interceptorBindings, currentHandler);
-        this.position = position;
-        this.chain = chain;
+        super(ctx);
+        this.position = ctx.position + 1;
+        this.chain = ctx.chain;
     }
 
     @Override
     public Object proceedInternal() throws Exception {
-        ExperimentalInvocationContext ctx = createNextContext();
-        return chain.get(position + 1).invoke(ctx);
-    }
-
-    private ExperimentalInvocationContext createNextContext() {
-        if (position + 2 == chain.size()) {
-            return new TerminalAroundInvokeInvocationContext(this);
+        final int next = position + 1;
+        final ExperimentalInvocationContext ctx;
+        if (next + 1 == chain.size()) {
+            ctx = new TerminalAroundInvokeInvocationContext(this);
         } else {
-            return new NonTerminalAroundInvokeInvocationContext(this);
+            ctx = new NonTerminalAroundInvokeInvocationContext(this);
         }
+        return chain.get(next).invoke(ctx);
     }
 
     @Override
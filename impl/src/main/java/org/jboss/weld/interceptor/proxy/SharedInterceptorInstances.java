@@ -0,0 +1,92 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.interceptor.proxy;
+
+import static org.jboss.weld.util.reflection.Reflections.cast;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.enterprise.context.spi.CreationalContext;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.interceptor.spi.metadata.InterceptorClassMetadata;
+import org.jboss.weld.manager.BeanManagerImpl;
+
+/**
+ * Holds the instances of the shared interceptors. An instance is created lazily when first needed and destroyed when the container is shut down.
+ *
+ * <p>
+ * The instances are keyed by the interceptor class, i.e. there is a single instance per interceptor class and deployment, even if the interceptor
+ * is used in multiple bean archives. The instance is created using the bean manager of the bean archive in which it is first needed.
+ * </p>
+ *
+ * @see org.jboss.weld.interceptor.SharedInterceptor
+ */
+public class SharedInterceptorInstances implements Service {
+
+    private final ConcurrentMap<Class<?>, SharedInstance<?>> instances;
+
+    public SharedInterceptorInstances() {
+        this.instances = new ConcurrentHashMap<Class<?>, SharedInstance<?>>();
+    }
+
+    /**
+     *
+     * @param interceptor
+     * @param manager
+     * @return the instance of the given shared interceptor
+     */
+    public <T> T getInstance(InterceptorClassMetadata<T> interceptor, BeanManagerImpl manager) {
+        SharedInstance<T> instance = cast(instances.get(interceptor.getJavaClass()));
+        if (instance == null) {
+            // Do not use computeIfAbsent() - the creation of the interceptor instance may be reentrant
+            CreationalContext<T> ctx = manager.createCreationalContext(null);
+            SharedInstance<T> newInstance = new SharedInstance<T>(interceptor.getInterceptorFactory().create(ctx, manager), ctx);
+            instance = cast(instances.putIfAbsent(interceptor.getJavaClass(), newInstance));
+            if (instance == null) {
+                instance = newInstance;
+            } else {
+                // Another thread was faster
+                ctx.release();
+            }
+        }
+        return instance.instance;
+    }
+
+    @Override
+    public void cleanup() {
+        for (SharedInstance<?> instance : instances.values()) {
+            instance.ctx.release();
+        }
+        instances.clear();
+    }
+
+    private static class SharedInstance<T> {
+
+        private final T instance;
+
+        private final CreationalContext<T> ctx;
+
+        private SharedInstance(T instance, CreationalContext<T> ctx) {
+            this.instance = instance;
+            this.ctx = ctx;
+        }
+
+    }
+
+}
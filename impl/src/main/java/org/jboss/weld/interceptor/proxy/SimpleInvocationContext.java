@@ -39,6 +39,9 @@ public class SimpleInvocationContext extends AbstractInvocationContext {
 
     public SimpleInvocationContext(Constructor<?> constructor, Object[] parameters, Map<String, Object> contextData, Set<Annotation> interceptorBindings) {
         super(null, null, null, constructor, parameters, null, contextData, interceptorBindings);
+        if (contextData != null) {
+            contextData.put(InterceptorMethodHandler.INTERCEPTOR_BINDINGS_KEY, interceptorBindings);
+        }
     }
 
     @Override
@@ -18,8 +18,6 @@ package org.jboss.weld.interceptor.proxy;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Set;
 
 import javax.interceptor.InvocationContext;
@@ -35,20 +33,20 @@ import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandl
  * @see AroundInvokeInvocationContext
  *
  */
-class TerminalAroundInvokeInvocationContext extends AroundInvokeInvocationContext {
+final class TerminalAroundInvokeInvocationContext extends AroundInvokeInvocationContext {
 
-    public TerminalAroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters, Map<String, Object> contextData,
-            Set<Annotation> interceptorBindings, CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
-        super(target, method, proceed, parameters, (contextData == null) ? null : new HashMap<String, Object>(contextData), interceptorBindings, currentHandler);
+    public TerminalAroundInvokeInvocationContext(Object target, Method method, Method proceed, Object[] parameters, Set<Annotation> interceptorBindings,
+            CombinedInterceptorAndDecoratorStackMethodHandler currentHandler) {
+        super(target, method, proceed, parameters, interceptorBindings, currentHandler);
     }
 
     public TerminalAroundInvokeInvocationContext(NonTerminalAroundInvokeInvocationContext ctx) {
-        super(ctx.getTarget(), ctx.getMethod(), ctx.getProceed(), ctx.getParameters(), ctx.contextData, ctx.getInterceptorBindings(), ctx.currentHandler);
+        super(ctx);
     }
 
     @Override
     public Object proceedInternal() throws Exception {
-        return getProceed().invoke(getTarget(), getParameters());
+        return proceed.invoke(target, parameters);
     }
 
     @Override
@@ -71,7 +71,10 @@ public class WeldInvocationContext extends ForwardingInvocationContext implement
         } else {
             this.interceptorBindings = interceptorBindings;
         }
-        getContextData().put(InterceptorMethodHandler.INTERCEPTOR_BINDINGS_KEY, interceptorBindings);
+        if (!(delegate instanceof AbstractInvocationContext)) {
+            // AbstractInvocationContext registers the interceptor bindings itself once the context data is accessed
+            getContextData().put(InterceptorMethodHandler.INTERCEPTOR_BINDINGS_KEY, interceptorBindings);
+        }
     }
 
     @Override
@@ -19,12 +19,17 @@ package org.jboss.weld.interceptor.reader;
 
 import java.lang.reflect.Method;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.jboss.weld.injection.MemberAccess;
+import org.jboss.weld.injection.MemberAccessors;
+
 import org.jboss.weld.interceptor.proxy.InterceptorInvocation;
 import org.jboss.weld.interceptor.spi.metadata.InterceptorMetadata;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
+import org.jboss.weld.util.collections.ImmutableMap;
 
 
 /**
@@ -34,9 +39,36 @@ import org.jboss.weld.interceptor.spi.model.InterceptionType;
 public abstract class AbstractInterceptorMetadata implements InterceptorMetadata {
 
     protected final Map<InterceptionType, List<Method>> interceptorMethodMap;
+    private final Map<Method, MemberAccess> interceptorMethodAccess;
 
     public AbstractInterceptorMetadata(Map<InterceptionType, List<Method>> interceptorMethodMap) {
+        this(interceptorMethodMap, null);
+    }
+
+    /**
+     *
+     * @param interceptorMethodMap
+     * @param accessors used to invoke the interceptor methods without reflection, may be null
+     */
+    public AbstractInterceptorMetadata(Map<InterceptionType, List<Method>> interceptorMethodMap, MemberAccessors accessors) {
         this.interceptorMethodMap = interceptorMethodMap;
+        this.interceptorMethodAccess = initInterceptorMethodAccess(interceptorMethodMap, accessors);
+    }
+
+    private static Map<Method, MemberAccess> initInterceptorMethodAccess(Map<InterceptionType, List<Method>> interceptorMethodMap, MemberAccessors accessors) {
+        if (interceptorMethodMap == null || accessors == null || !accessors.isEnabled()) {
+            return Collections.emptyMap();
+        }
+        Map<Method, MemberAccess> result = new HashMap<Method, MemberAccess>();
+        for (List<Method> methods : interceptorMethodMap.values()) {
+            for (Method method : methods) {
+                MemberAccess access = accessors.getAccess(method);
+                if (access != null) {
+                    result.put(method, access);
+                }
+            }
+        }
+        return ImmutableMap.copyOf(result);
     }
 
     public List<Method> getInterceptorMethods(InterceptionType interceptionType) {
@@ -60,7 +92,8 @@ public abstract class AbstractInterceptorMetadata implements InterceptorMetadata
 
     @Override
     public InterceptorInvocation getInterceptorInvocation(Object interceptorInstance, InterceptionType interceptionType) {
-        return new SimpleInterceptorInvocation(interceptorInstance, interceptionType, getInterceptorMethods(interceptionType), isTargetClassInterceptor());
+        return new SimpleInterceptorInvocation(interceptorInstance, interceptionType, getInterceptorMethods(interceptionType), isTargetClassInterceptor(),
+                interceptorMethodAccess);
     }
 
     protected abstract boolean isTargetClassInterceptor();
@@ -20,6 +20,8 @@ import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
 
+import org.jboss.weld.injection.MemberAccessors;
+import org.jboss.weld.interceptor.SharedInterceptor;
 import org.jboss.weld.interceptor.spi.metadata.InterceptorClassMetadata;
 import org.jboss.weld.interceptor.spi.metadata.InterceptorFactory;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
@@ -35,11 +37,23 @@ public class InterceptorMetadataImpl<T> extends AbstractInterceptorMetadata impl
 
     private final InterceptorFactory<T> reference;
     private final Class<T> javaClass;
+    private final boolean shared;
 
     public InterceptorMetadataImpl(Class<T> javaClass, InterceptorFactory<T> reference, Map<InterceptionType, List<Method>> interceptorMethodMap) {
-        super(interceptorMethodMap);
+        this(javaClass, reference, interceptorMethodMap, javaClass.isAnnotationPresent(SharedInterceptor.class));
+    }
+
+    public InterceptorMetadataImpl(Class<T> javaClass, InterceptorFactory<T> reference, Map<InterceptionType, List<Method>> interceptorMethodMap,
+            boolean shared) {
+        this(javaClass, reference, interceptorMethodMap, shared, null);
+    }
+
+    public InterceptorMetadataImpl(Class<T> javaClass, InterceptorFactory<T> reference, Map<InterceptionType, List<Method>> interceptorMethodMap,
+            boolean shared, MemberAccessors accessors) {
+        super(interceptorMethodMap, accessors);
         this.reference = reference;
         this.javaClass = javaClass;
+        this.shared = shared;
     }
 
     @Override
@@ -47,6 +61,11 @@ public class InterceptorMetadataImpl<T> extends AbstractInterceptorMetadata impl
         return reference;
     }
 
+    @Override
+    public boolean isShared() {
+        return shared;
+    }
+
     @Override
     protected boolean isTargetClassInterceptor() {
         return false;
@@ -7,6 +7,8 @@ import javax.enterprise.inject.spi.Interceptor;
 import org.jboss.weld.annotated.enhanced.EnhancedAnnotatedType;
 import org.jboss.weld.bean.InterceptorImpl;
 import org.jboss.weld.bean.interceptor.CustomInterceptorMetadata;
+import org.jboss.weld.injection.MemberAccessors;
+import org.jboss.weld.interceptor.SharedInterceptor;
 import org.jboss.weld.interceptor.spi.metadata.InterceptorClassMetadata;
 import org.jboss.weld.interceptor.spi.metadata.InterceptorFactory;
 import org.jboss.weld.manager.BeanManagerImpl;
@@ -39,7 +41,8 @@ public class InterceptorMetadataReader {
             public InterceptorClassMetadata<?> apply(Class<?> key) {
                 EnhancedAnnotatedType<?> type = manager.getServices().get(ClassTransformer.class).getEnhancedAnnotatedType(key, manager.getId());
                 InterceptorFactory<?> factory = PlainInterceptorFactory.of(key, manager);
-                return new InterceptorMetadataImpl(key, factory, InterceptorMetadataUtils.buildMethodMap(type, false, manager));
+                return new InterceptorMetadataImpl(key, factory, InterceptorMetadataUtils.buildMethodMap(type, false, manager),
+                        type.isAnnotationPresent(SharedInterceptor.class), manager.getServices().get(MemberAccessors.class));
             }
         });
 
@@ -57,7 +60,7 @@ public class InterceptorMetadataReader {
     }
 
     public <T> TargetClassInterceptorMetadata getTargetClassInterceptorMetadata(EnhancedAnnotatedType<T> type) {
-        return TargetClassInterceptorMetadata.of(InterceptorMetadataUtils.buildMethodMap(type, true, manager));
+        return TargetClassInterceptorMetadata.of(InterceptorMetadataUtils.buildMethodMap(type, true, manager), manager.getServices().get(MemberAccessors.class));
     }
 
     public <T> InterceptorClassMetadata<T> getCdiInterceptorMetadata(Interceptor<T> interceptor) {
@@ -17,14 +17,21 @@
 
 package org.jboss.weld.interceptor.reader;
 
+import static org.jboss.weld.util.reflection.Reflections.unwrapInvocationTargetException;
+
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import javax.interceptor.InvocationContext;
 
+import org.jboss.weld.injection.MemberAccess;
 import org.jboss.weld.interceptor.proxy.InterceptorInvocation;
 import org.jboss.weld.interceptor.proxy.InterceptorMethodInvocation;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
+import org.jboss.weld.util.collections.Arrays2;
 import org.jboss.weld.util.collections.ImmutableList;
 
 /**
@@ -38,17 +45,24 @@ class SimpleInterceptorInvocation implements InterceptorInvocation {
     private final InterceptionType interceptionType;
 
     public SimpleInterceptorInvocation(Object instance, InterceptionType interceptionType, List<Method> interceptorMethods, boolean targetClass) {
+        this(instance, interceptionType, interceptorMethods, targetClass, Collections.<Method, MemberAccess> emptyMap());
+    }
+
+    public SimpleInterceptorInvocation(Object instance, InterceptionType interceptionType, List<Method> interceptorMethods, boolean targetClass,
+            Map<Method, MemberAccess> interceptorMethodAccess) {
         this.instance = instance;
         this.interceptionType = interceptionType;
         this.targetClass = targetClass;
 
         if (interceptorMethods.size() == 1) {
             // Very often there will be only one interceptor method
-            interceptorMethodInvocations = ImmutableList.<InterceptorMethodInvocation> of(new SimpleMethodInvocation(interceptorMethods.get(0)));
+            Method method = interceptorMethods.get(0);
+            interceptorMethodInvocations = ImmutableList.<InterceptorMethodInvocation> of(new SimpleMethodInvocation(method,
+                    interceptorMethodAccess.get(method)));
         } else {
             ImmutableList.Builder<InterceptorMethodInvocation> builder = ImmutableList.builder();
             for (Method method : interceptorMethods) {
-                builder.add(new SimpleMethodInvocation(method));
+                builder.add(new SimpleMethodInvocation(method, interceptorMethodAccess.get(method)));
             }
             interceptorMethodInvocations = builder.build();
         }
@@ -62,18 +76,28 @@ class SimpleInterceptorInvocation implements InterceptorInvocation {
     class SimpleMethodInvocation implements InterceptorMethodInvocation {
 
         private final Method method;
+        private final MemberAccess access;
 
-        SimpleMethodInvocation(Method method) {
+        SimpleMethodInvocation(Method method, MemberAccess access) {
             this.method = method;
+            this.access = access;
         }
 
         @Override
         public Object invoke(InvocationContext invocationContext) throws Exception {
-            if (invocationContext != null) {
-                return method.invoke(instance, invocationContext);
+            if (access != null && access.isAvailable()) {
+                // exceptions are not wrapped in InvocationTargetException
+                return access.invoke(instance, invocationContext != null ? new Object[] { invocationContext } : Arrays2.EMPTY_ARRAY);
             }
-            else {
-                return method.invoke(instance);
+            try {
+                if (invocationContext != null) {
+                    return method.invoke(instance, invocationContext);
+                } else {
+                    return method.invoke(instance);
+                }
+            } catch (InvocationTargetException e) {
+                // unwrap so that the interceptor method fails the same way no matter how it is invoked
+                throw unwrapInvocationTargetException(e);
             }
         }
 
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.jboss.weld.injection.MemberAccessors;
 import org.jboss.weld.interceptor.spi.model.InterceptionType;
 import org.jboss.weld.util.collections.ImmutableSet;
 
@@ -36,16 +37,30 @@ public class TargetClassInterceptorMetadata extends AbstractInterceptorMetadata
     public static final TargetClassInterceptorMetadata EMPTY_INSTANCE = new TargetClassInterceptorMetadata(Collections.<InterceptionType, List<Method>>emptyMap());
 
     public static TargetClassInterceptorMetadata of(Map<InterceptionType, List<Method>> interceptorMethodMap) {
+        return of(interceptorMethodMap, null);
+    }
+
+    /**
+     *
+     * @param interceptorMethodMap
+     * @param accessors used to invoke the interceptor methods without reflection, may be null
+     * @return the metadata
+     */
+    public static TargetClassInterceptorMetadata of(Map<InterceptionType, List<Method>> interceptorMethodMap, MemberAccessors accessors) {
         if (interceptorMethodMap.isEmpty()) {
             return EMPTY_INSTANCE;
         }
-        return new TargetClassInterceptorMetadata(interceptorMethodMap);
+        return new TargetClassInterceptorMetadata(interceptorMethodMap, accessors);
     }
 
     private final Set<Method> interceptorMethods;
 
     private TargetClassInterceptorMetadata(Map<InterceptionType, List<Method>> interceptorMethodMap) {
-        super(interceptorMethodMap);
+        this(interceptorMethodMap, null);
+    }
+
+    private TargetClassInterceptorMetadata(Map<InterceptionType, List<Method>> interceptorMethodMap, MemberAccessors accessors) {
+        super(interceptorMethodMap, accessors);
         this.interceptorMethods = initInterceptorMethods(interceptorMethodMap);
     }
 
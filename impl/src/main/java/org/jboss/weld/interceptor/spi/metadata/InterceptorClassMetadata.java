@@ -40,4 +40,14 @@ public interface InterceptorClassMetadata<T> extends InterceptorMetadata {
      * @return
      */
     Class<T> getJavaClass();
+
+    /**
+     * Indicates whether a single instance of this interceptor is shared by all the intercepted instances.
+     *
+     * @return <code>true</code> if the interceptor is shared, <code>false</code> otherwise
+     * @see org.jboss.weld.interceptor.SharedInterceptor
+     */
+    default boolean isShared() {
+        return false;
+    }
 }
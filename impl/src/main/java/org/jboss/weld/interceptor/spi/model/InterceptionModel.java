@@ -25,6 +25,7 @@ import java.util.Set;
 
 import javax.interceptor.AroundConstruct;
 
+import org.jboss.weld.interceptor.proxy.InterceptionChainTemplate;
 import org.jboss.weld.interceptor.reader.TargetClassInterceptorMetadata;
 import org.jboss.weld.interceptor.spi.metadata.InterceptorClassMetadata;
 
@@ -93,4 +94,21 @@ public interface InterceptionModel {
      */
     Set<Annotation> getMemberInterceptorBindings(Member member);
 
+    /**
+     * Returns the immutable chain template for the given interception type and method. The template is computed once and shared by all the
+     * intercepted instances.
+     *
+     * @param interceptionType
+     * @param method - null if the interception type is lifecycle
+     * @return the chain template
+     * @see #getInterceptors(InterceptionType, Method)
+     */
+    InterceptionChainTemplate getChainTemplate(InterceptionType interceptionType, Method method);
+
+    /**
+     *
+     * @return the number of chain templates computed so far, an upper bound of {@link InterceptionChainTemplate#getIndex()}
+     */
+    int getChainTemplateCount();
+
 }
@@ -492,4 +492,12 @@ public interface BeanLogger extends WeldLogger {
 
     @Message(id = 1560, value = "Bean builder {0} does not define a destroy lifecycle callback.", format = Format.MESSAGE_FORMAT)
     DefinitionException beanBuilderInvalidDestroyCallback(Object param1);
-}
\ No newline at end of file
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 1561, value = "Generated member accessor {0}", format = Format.MESSAGE_FORMAT)
+    void generatedMemberAccessor(Object param1);
+
+    @LogMessage(level = Level.DEBUG)
+    @Message(id = 1562, value = "Unable to generate the member accessor for {0}, reflection is used instead", format = Format.MESSAGE_FORMAT)
+    void memberAccessorNotGenerated(Object param1, @Cause Throwable cause);
+}
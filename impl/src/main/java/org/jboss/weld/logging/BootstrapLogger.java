@@ -194,4 +194,20 @@ public interface BootstrapLogger extends WeldLogger {
     @LogMessage(level = Logger.Level.DEBUG)
     @Message(id = 145, value = "Bean identifier index built:\n{0}", format = Format.MESSAGE_FORMAT)
     void beanIdentifierIndexBuilt(Object info);
-}
\ No newline at end of file
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 146, value = "Bootstrap task graph {0} executed in {1} ms, critical path: {2}", format = Format.MESSAGE_FORMAT)
+    void taskGraphExecuted(Object graph, Object time, Object criticalPath);
+
+    @LogMessage(level = Logger.Level.INFO)
+    @Message(id = 147, value = "Bootstrap profile: {0}", format = Format.MESSAGE_FORMAT)
+    void bootstrapProfile(Object report);
+
+    @LogMessage(level = Logger.Level.WARN)
+    @Message(id = 148, value = "Unable to eagerly initialize {0}", format = Format.MESSAGE_FORMAT)
+    void unableToEagerlyInitialize(Object bean, @Cause Throwable cause);
+
+    @LogMessage(level = Logger.Level.DEBUG)
+    @Message(id = 149, value = "{0} beans eagerly initialized in {1} ms", format = Format.MESSAGE_FORMAT)
+    void beansEagerlyInitialized(Object count, Object time);
+}
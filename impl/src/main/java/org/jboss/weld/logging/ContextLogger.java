@@ -122,4 +122,8 @@ public interface ContextLogger extends WeldLogger {
     @Message(id = 227, value = "Bean identifier index inconsistency detected - the distributed container probably does not work with identical applications\nExpected hash: {0}\nCurrent index: {1}", format = Format.MESSAGE_FORMAT)
     IllegalStateException beanIdentifierIndexInconsistencyDetected(Object hash, Object index);
 
+    @LogMessage(level = Level.WARN)
+    @Message(id = 228, value = "Possible dependent instance leak detected - {0} dependent instances are held by {1}, the last one was obtained through {2}", format = Format.MESSAGE_FORMAT)
+    void dependentInstanceLeakDetected(int size, Object owner, Object injectionPoint);
+
 }
\ No newline at end of file
@@ -264,4 +264,7 @@ public interface ValidatorLogger extends WeldLogger {
     @Message(id = 1479, value = "Decorator {0} is enabled for the application and for the bean archive {1}. It will only be invoked in the @Priority part of the chain.", format = Format.MESSAGE_FORMAT)
     void decoratorEnabledForApplicationAndBeanArchive(Object decorator, Object beanArchive);
 
+    @Message(id = 1480, value = "The shared interceptor {0} may not inject {1} into {2} - only beans whose scope is not @Dependent and stateless built-in beans may be injected", format = Format.MESSAGE_FORMAT)
+    DefinitionException sharedInterceptorInjectsDependentBean(Object interceptor, Object bean, Object injectionPoint);
+
 }
\ No newline at end of file
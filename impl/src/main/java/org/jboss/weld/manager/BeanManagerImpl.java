@@ -131,7 +131,7 @@ import org.jboss.weld.metadata.cache.StereotypeModel;
 import org.jboss.weld.module.EjbSupport;
 import org.jboss.weld.module.ExpressionLanguageService;
 import org.jboss.weld.module.ObserverNotifierFactory;
-import org.jboss.weld.resolution.BeanTypeAssignabilityRules;
+import org.jboss.weld.resolution.AssignabilityRules;
 import org.jboss.weld.resolution.DecoratorResolvableBuilder;
 import org.jboss.weld.resolution.InterceptorResolvable;
 import org.jboss.weld.resolution.InterceptorResolvableBuilder;
@@ -139,6 +139,7 @@ import org.jboss.weld.resolution.NameBasedResolver;
 import org.jboss.weld.resolution.QualifierInstance;
 import org.jboss.weld.resolution.Resolvable;
 import org.jboss.weld.resolution.ResolvableBuilder;
+import org.jboss.weld.resolution.SharedAssignabilityRules;
 import org.jboss.weld.resolution.TypeSafeBeanResolver;
 import org.jboss.weld.resolution.TypeSafeDecoratorResolver;
 import org.jboss.weld.resolution.TypeSafeInterceptorResolver;
@@ -285,6 +286,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
      */
     private final transient CurrentInjectionPoint currentInjectionPoint;
     private final transient boolean clientProxyOptimization;
+    private final transient AssignabilityRules beanTypeAssignabilityRules;
 
     /**
      * Create a new, root, manager
@@ -378,7 +380,8 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         this.weldELResolver = services.getOptional(ExpressionLanguageService.class).map(el -> el.createElResolver(this)).orElse(null);
 
         TypeSafeObserverResolver accessibleObserverResolver = new TypeSafeObserverResolver(getServices().get(MetaAnnotationStore.class),
-                createDynamicAccessibleIterable(ObserverMethodTransform.INSTANCE), getServices().get(WeldConfiguration.class));
+                createDynamicAccessibleIterable(ObserverMethodTransform.INSTANCE), getServices().get(WeldConfiguration.class),
+                getServices().get(SharedAssignabilityRules.class).getEventTypeRules());
         this.accessibleLenientObserverNotifier = getServices().get(ObserverNotifierFactory.class).create(contextId, accessibleObserverResolver, getServices(), false);
         GlobalObserverNotifierService globalObserverNotifierService = services.get(GlobalObserverNotifierService.class);
         this.globalLenientObserverNotifier = globalObserverNotifierService.getGlobalLenientObserverNotifier();
@@ -387,6 +390,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         this.containerLifecycleEvents = serviceRegistry.get(ContainerLifecycleEvents.class);
         this.registry = getServices().get(SpecializationAndEnablementRegistry.class);
         this.currentInjectionPoint = getServices().get(CurrentInjectionPoint.class);
+        this.beanTypeAssignabilityRules = getServices().get(SharedAssignabilityRules.class).getBeanTypeRules();
         this.clientProxyOptimization = getServices().get(WeldConfiguration.class).getBooleanProperty(ConfigurationKey.INJECTABLE_REFERENCE_OPTIMIZATION);
     }
 
@@ -709,6 +713,26 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         }
     }
 
+    /**
+     * Returns the injectable reference for the given injection point and resolved bean if the reference does not depend on the state of the contexts
+     * at the time of injection, i.e. if a client proxy is always injected.
+     *
+     * @param injectionPoint
+     * @param resolvedBean
+     * @return the client proxy or <code>null</code> if the injectable reference has to be obtained for each injection
+     * @see #getInjectableReference(InjectionPoint, Bean, CreationalContext)
+     */
+    public Object getClientProxyReference(InjectionPoint injectionPoint, Bean<?> resolvedBean) {
+        if (injectionPoint.isDelegate() || !isProxyRequired(resolvedBean)) {
+            return null;
+        }
+        if (clientProxyOptimization && injectionPoint.getBean() != null && !injectionPoint.getBean().equals(resolvedBean)) {
+            // The contextual instance may be injected directly
+            return null;
+        }
+        return clientProxyProvider.getClientProxy(resolvedBean, injectionPoint.getType());
+    }
+
     private boolean isProxyRequired(Bean<?> bean) {
         if (bean instanceof RIBean<?>) {
             return ((RIBean<?>) bean).isProxyRequired();
@@ -722,7 +746,7 @@ public class BeanManagerImpl implements WeldManager, Serializable {
         Preconditions.checkArgumentNotNull(bean, "bean");
         Preconditions.checkArgumentNotNull(requestedType, "requestedType");
         Preconditions.checkArgumentNotNull(creationalContext, CREATIONAL_CONTEXT);
-        if (!BeanTypeAssignabilityRules.instance().matches(requestedType, bean.getTypes())) {
+        if (!beanTypeAssignabilityRules.matches(requestedType, bean.getTypes())) {
             throw BeanManagerLogger.LOG.specifiedTypeNotBeanType(requestedType, bean);
         }
         // Ensure that there is no injection point associated
@@ -19,14 +19,22 @@ package org.jboss.weld.metadata.cache;
 import java.lang.annotation.Annotation;
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Default;
 import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.ObserverMethod;
 import javax.inject.Named;
 
 import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.event.ObserverMethodImpl;
 import org.jboss.weld.resolution.QualifierInstance;
+import org.jboss.weld.resolution.QualifierSet;
 import org.jboss.weld.resources.ClassTransformer;
 import org.jboss.weld.resources.SharedObjectCache;
 import org.jboss.weld.util.cache.ComputingCache;
@@ -40,6 +48,16 @@ import org.jboss.weld.util.collections.ImmutableSet;
  */
 public class MetaAnnotationStore implements Service {
 
+    /**
+     * The fixed id of {@link Any}
+     */
+    public static final int ANY_QUALIFIER_ID = 0;
+
+    /**
+     * The fixed id of {@link Default}
+     */
+    public static final int DEFAULT_QUALIFIER_ID = 1;
+
     private abstract static class AbstractMetaAnnotationFunction<M extends AnnotationModel<Annotation>> implements
             Function<Class<Annotation>, M> {
 
@@ -136,6 +154,10 @@ public class MetaAnnotationStore implements Service {
 
     private final SharedObjectCache sharedObjectCache;
 
+    // The dense ids of the qualifiers without binding members, see QualifierSet
+    private final ConcurrentMap<Class<? extends Annotation>, Integer> qualifierIds;
+    private final AtomicInteger qualifierIdGenerator;
+
     public MetaAnnotationStore(ClassTransformer classTransformer) {
         ComputingCacheBuilder cacheBuilder = ComputingCacheBuilder.newBuilder();
         this.stereotypes = cacheBuilder.build(new StereotypeFunction(classTransformer));
@@ -144,6 +166,8 @@ public class MetaAnnotationStore implements Service {
         this.interceptorBindings = cacheBuilder.build(new InterceptorBindingFunction(classTransformer));
         this.qualifierInstanceCache = cacheBuilder.build(new QualifierInstanceFunction(this));
         this.sharedObjectCache = classTransformer.getSharedObjectCache();
+        this.qualifierIds = new ConcurrentHashMap<Class<? extends Annotation>, Integer>();
+        this.qualifierIdGenerator = new AtomicInteger(DEFAULT_QUALIFIER_ID + 1);
     }
 
     /**
@@ -252,6 +276,46 @@ public class MetaAnnotationStore implements Service {
         return useSharedCache ? sharedObjectCache.getSharedSet(builder.build()) : builder.build();
     }
 
+    /**
+     * Returns the dense id of the given qualifier. The ids of {@link javax.enterprise.inject.Any} and {@link javax.enterprise.inject.Default} are fixed,
+     * see {@link #ANY_QUALIFIER_ID} and {@link #DEFAULT_QUALIFIER_ID}.
+     *
+     * @param qualifier
+     * @return the id of the qualifier
+     */
+    public int getQualifierId(Class<? extends Annotation> qualifier) {
+        if (Any.class.equals(qualifier)) {
+            return ANY_QUALIFIER_ID;
+        } else if (Default.class.equals(qualifier)) {
+            return DEFAULT_QUALIFIER_ID;
+        }
+        return qualifierIds.computeIfAbsent(qualifier, (key) -> qualifierIdGenerator.getAndIncrement());
+    }
+
+    /**
+     *
+     * @param bean
+     * @return the qualifier set of the given bean, uses caches if possible
+     */
+    public QualifierSet getQualifierSet(final Bean<?> bean) {
+        if (bean instanceof RIBean) {
+            return ((RIBean<?>) bean).getQualifierSet();
+        }
+        return QualifierSet.of(getQualifierInstances(bean.getQualifiers()), this);
+    }
+
+    /**
+     *
+     * @param observer
+     * @return the qualifier set of the qualifiers observed by the given observer method, uses caches if possible
+     */
+    public QualifierSet getQualifierSet(final ObserverMethod<?> observer) {
+        if (observer instanceof ObserverMethodImpl) {
+            return ((ObserverMethodImpl<?, ?>) observer).getObservedQualifierSet();
+        }
+        return QualifierSet.of(getQualifierInstances(observer.getObservedQualifiers()), this);
+    }
+
     /**
      * Gets a string representation
      *
@@ -267,6 +331,7 @@ public class MetaAnnotationStore implements Service {
         buffer.append("Registered stereotype models: ").append(stereotypes.size()).append(newLine);
         buffer.append("Registered interceptor binding models: ").append(interceptorBindings.size()).append(newLine);
         buffer.append("Cached qualifier instances: ").append(qualifierInstanceCache.size()).append(newLine);
+        buffer.append("Qualifier ids: ").append(qualifierIds.size()).append(newLine);
         return buffer.toString();
     }
 
@@ -277,6 +342,7 @@ public class MetaAnnotationStore implements Service {
         this.stereotypes.clear();
         this.interceptorBindings.clear();
         this.qualifierInstanceCache.clear();
+        this.qualifierIds.clear();
     }
 
 
@@ -24,8 +24,10 @@ import static java.lang.annotation.ElementType.TYPE;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Target;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.security.AccessController;
 import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import javax.enterprise.inject.spi.AnnotatedMethod;
@@ -38,6 +40,7 @@ import org.jboss.weld.logging.MetadataLogger;
 import org.jboss.weld.logging.ReflectionLogger;
 import org.jboss.weld.security.SetAccessibleAction;
 import org.jboss.weld.util.collections.Arrays2;
+import org.jboss.weld.util.collections.ImmutableList;
 import org.jboss.weld.util.reflection.Reflections;
 
 /**
@@ -49,6 +52,8 @@ public class QualifierModel<T extends Annotation> extends AbstractBindingModel<T
 
     private static final Set<Class<? extends Annotation>> META_ANNOTATIONS = Collections.<Class<? extends Annotation>>singleton(Qualifier.class);
 
+    private volatile List<Method> bindingMembers;
+
     /**
      * Constructor
      *
@@ -103,6 +108,33 @@ public class QualifierModel<T extends Annotation> extends AbstractBindingModel<T
         return getNonBindingMembers().size() > 0;
     }
 
+    /**
+     * Gets the binding members, i.e. the members not annotated with {@link javax.enterprise.util.Nonbinding}. The members are made accessible so that
+     * the values may be read without any further checks.
+     *
+     * @return the binding members
+     */
+    public List<Method> getBindingMembers() {
+        List<Method> members = this.bindingMembers;
+        if (members == null) {
+            ImmutableList.Builder<Method> builder = ImmutableList.builder();
+            for (AnnotatedMethod<?> annotatedMethod : getAnnotatedAnnotation().getMethods()) {
+                if (!getNonBindingMembers().contains(annotatedMethod)) {
+                    Method member = annotatedMethod.getJavaMember();
+                    if (System.getSecurityManager() != null) {
+                        AccessController.doPrivileged(SetAccessibleAction.of(member));
+                    } else {
+                        member.setAccessible(true);
+                    }
+                    builder.add(member);
+                }
+            }
+            members = builder.build();
+            this.bindingMembers = members;
+        }
+        return members;
+    }
+
     /**
      * Comparator for checking equality
      *
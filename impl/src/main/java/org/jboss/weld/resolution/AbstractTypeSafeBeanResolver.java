@@ -60,6 +60,7 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
     private final ComputingCache<Set<Bean<?>>, Set<Bean<?>>> disambiguatedBeans;
     private final SpecializationAndEnablementRegistry registry;
     private final MetaAnnotationStore store;
+    private final SharedAssignabilityRules assignabilityRules;
 
     private final LazyValueHolder<Map<Type, ArrayList<T>>> beansByType;
 
@@ -134,6 +135,7 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
         this.registry = beanManager.getServices().get(SpecializationAndEnablementRegistry.class);
         this.disambiguatedBeans = ComputingCacheBuilder.newBuilder().build(new BeanDisambiguation());
         this.store = beanManager.getServices().get(MetaAnnotationStore.class);
+        this.assignabilityRules = beanManager.getServices().get(SharedAssignabilityRules.class);
         // beansByType stores a map of a type to all beans that are assignable to
         // that type. This means that it most cases we do not need to loop through
         // every bean in the system when performing resolution
@@ -195,12 +197,12 @@ public abstract class AbstractTypeSafeBeanResolver<T extends Bean<?>, C extends
     protected boolean matches(Resolvable resolvable, T bean) {
         AssignabilityRules rules = null;
         if (resolvable.isDelegate()) {
-            rules = DelegateInjectionPointAssignabilityRules.instance();
+            rules = assignabilityRules.getDelegateInjectionPointRules();
         } else {
-            rules = BeanTypeAssignabilityRules.instance();
+            rules = assignabilityRules.getBeanTypeRules();
         }
         return rules.matches(resolvable.getTypes(), bean.getTypes())
-                && Beans.containsAllQualifiers(resolvable.getQualifiers(), QualifierInstance.of(bean, store));
+                && store.getQualifierSet(bean).containsAll(resolvable.getQualifierSet(store));
     }
 
     @Override
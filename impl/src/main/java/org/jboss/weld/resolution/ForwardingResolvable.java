@@ -21,6 +21,8 @@ import java.util.Set;
 
 import javax.enterprise.inject.spi.Bean;
 
+import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+
 public abstract class ForwardingResolvable implements Resolvable {
 
     protected abstract Resolvable delegate();
@@ -30,6 +32,11 @@ public abstract class ForwardingResolvable implements Resolvable {
         return delegate().getQualifiers();
     }
 
+    @Override
+    public QualifierSet getQualifierSet(MetaAnnotationStore store) {
+        return delegate().getQualifierSet(store);
+    }
+
     @Override
     public Set<Type> getTypes() {
         return delegate().getTypes();
@@ -18,23 +18,21 @@ package org.jboss.weld.resolution;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
-import java.security.AccessController;
+import java.lang.reflect.Method;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
 import javax.enterprise.inject.Any;
 import javax.enterprise.inject.Default;
-import javax.enterprise.inject.spi.AnnotatedMethod;
 import javax.enterprise.inject.spi.Bean;
 import javax.inject.Named;
 
 import org.jboss.weld.bean.RIBean;
 import org.jboss.weld.exceptions.WeldException;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
-import org.jboss.weld.metadata.cache.QualifierModel;
-import org.jboss.weld.security.SetAccessibleAction;
 import org.jboss.weld.util.collections.ImmutableMap;
 import org.jboss.weld.util.collections.ImmutableSet;
 
@@ -103,29 +101,21 @@ public class QualifierInstance {
 
     private static Map<String, Object> createValues(final Annotation instance, final MetaAnnotationStore store) {
 
-        final Class<? extends Annotation> annotationClass = instance.annotationType();
-        final QualifierModel<? extends Annotation> model = store.getBindingTypeModel(annotationClass);
+        final List<Method> members = store.getBindingTypeModel(instance.annotationType()).getBindingMembers();
 
-        if(model.getAnnotatedAnnotation().getMethods().size() == 0) {
+        if (members.isEmpty()) {
             return Collections.emptyMap();
         }
 
         final ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
 
-        for (final AnnotatedMethod<?> method : model.getAnnotatedAnnotation().getMethods()) {
-            if(!model.getNonBindingMembers().contains(method)) {
-                try {
-                    if (System.getSecurityManager() != null) {
-                        AccessController.doPrivileged(SetAccessibleAction.of(method.getJavaMember()));
-                    } else {
-                        method.getJavaMember().setAccessible(true);
-                    }
-                    builder.put(method.getJavaMember().getName(), method.getJavaMember().invoke(instance));
-                } catch (IllegalAccessException e) {
-                    throw new WeldException(e);
-                } catch (InvocationTargetException e) {
-                    throw new WeldException(e);
-                }
+        for (final Method member : members) {
+            try {
+                builder.put(member.getName(), member.invoke(instance));
+            } catch (IllegalAccessException e) {
+                throw new WeldException(e);
+            } catch (InvocationTargetException e) {
+                throw new WeldException(e);
             }
         }
         return builder.build();
@@ -156,6 +146,14 @@ public class QualifierInstance {
         return annotationClass;
     }
 
+    /**
+     *
+     * @return <code>true</code> if the qualifier instance holds any binding member values, <code>false</code> otherwise
+     */
+    boolean hasValues() {
+        return !values.isEmpty();
+    }
+
     @Override
     public int hashCode() {
         return hashCode;
@@ -0,0 +1,120 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+
+import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+import org.jboss.weld.util.collections.ImmutableSet;
+
+/**
+ * A compact representation of a set of {@link QualifierInstance}s used to match qualifiers during typesafe resolution.
+ * <p>
+ * A qualifier instance without binding member values is identified by its annotation class only. Such qualifiers are represented by a bit in a bitset,
+ * the position of the bit is the dense id assigned by {@link MetaAnnotationStore#getQualifierId(Class)}. Qualifier instances with binding member values
+ * (e.g. {@link javax.inject.Named}) may have arbitrary many distinct values and are therefore kept in a regular set.
+ * <p>
+ * Note that two qualifier sets may only be compared if both were created using the same {@link MetaAnnotationStore}.
+ *
+ * @see MetaAnnotationStore#getQualifierSet(javax.enterprise.inject.spi.Bean)
+ * @see MetaAnnotationStore#getQualifierSet(javax.enterprise.inject.spi.ObserverMethod)
+ */
+public final class QualifierSet {
+
+    private static final long[] EMPTY_BITS = new long[0];
+
+    // 2^6 = 64 bits per word
+    private static final int ADDRESS_BITS_PER_WORD = 6;
+
+    /**
+     * The set containing {@link javax.enterprise.inject.Any} only. The id of the qualifier is fixed and so the set may be shared by all the stores.
+     */
+    public static final QualifierSet ANY = new QualifierSet(Collections.singleton(QualifierInstance.ANY), null);
+
+    private final long[] bits;
+
+    private final Set<QualifierInstance> instancesWithValues;
+
+    private QualifierSet(Set<QualifierInstance> qualifiers, MetaAnnotationStore store) {
+        long[] bits = EMPTY_BITS;
+        ImmutableSet.Builder<QualifierInstance> instancesWithValues = null;
+        for (QualifierInstance qualifier : qualifiers) {
+            if (qualifier.hasValues()) {
+                if (instancesWithValues == null) {
+                    instancesWithValues = ImmutableSet.builder();
+                }
+                instancesWithValues.add(qualifier);
+            } else {
+                int id = getQualifierId(qualifier, store);
+                int word = id >>> ADDRESS_BITS_PER_WORD;
+                if (word >= bits.length) {
+                    bits = Arrays.copyOf(bits, word + 1);
+                }
+                bits[word] |= 1L << id;
+            }
+        }
+        this.bits = bits;
+        this.instancesWithValues = instancesWithValues != null ? instancesWithValues.build() : Collections.<QualifierInstance> emptySet();
+    }
+
+    /**
+     *
+     * @param qualifiers
+     * @param store the store which assigns the ids to the qualifiers
+     * @return the qualifier set
+     */
+    public static QualifierSet of(Set<QualifierInstance> qualifiers, MetaAnnotationStore store) {
+        return new QualifierSet(qualifiers, store);
+    }
+
+    private static int getQualifierId(QualifierInstance qualifier, MetaAnnotationStore store) {
+        if (QualifierInstance.ANY.equals(qualifier)) {
+            return MetaAnnotationStore.ANY_QUALIFIER_ID;
+        }
+        if (QualifierInstance.DEFAULT.equals(qualifier)) {
+            return MetaAnnotationStore.DEFAULT_QUALIFIER_ID;
+        }
+        return store.getQualifierId(qualifier.getAnnotationClass());
+    }
+
+    /**
+     *
+     * @param required
+     * @return <code>true</code> if this set contains all the qualifiers of the given set, <code>false</code> otherwise
+     */
+    public boolean containsAll(QualifierSet required) {
+        long[] requiredBits = required.bits;
+        if (requiredBits.length > bits.length) {
+            // Trailing words are never empty
+            return false;
+        }
+        for (int i = 0; i < requiredBits.length; i++) {
+            if ((bits[i] & requiredBits[i]) != requiredBits[i]) {
+                return false;
+            }
+        }
+        return required.instancesWithValues.isEmpty() || instancesWithValues.containsAll(required.instancesWithValues);
+    }
+
+    @Override
+    public String toString() {
+        return "QualifierSet [bits=" + Arrays.toString(bits) + ", instancesWithValues=" + instancesWithValues + "]";
+    }
+
+}
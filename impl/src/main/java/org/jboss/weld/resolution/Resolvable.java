@@ -21,6 +21,8 @@ import java.util.Set;
 
 import javax.enterprise.inject.spi.Bean;
 
+import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+
 /**
  * Something that is resolvable by the resolver. A resolvable is defined by it's
  * bindings and type closure
@@ -37,6 +39,17 @@ public interface Resolvable {
      */
     Set<QualifierInstance> getQualifiers();
 
+    /**
+     * Get the qualifier set used to match the qualifiers during typesafe resolution.
+     *
+     * @param store the store which assigns the qualifier ids
+     * @return the qualifier set
+     * @see #getQualifiers()
+     */
+    default QualifierSet getQualifierSet(MetaAnnotationStore store) {
+        return QualifierSet.of(getQualifiers(), store);
+    }
+
     /**
      * The types that this resolvable may be assigned to
      *
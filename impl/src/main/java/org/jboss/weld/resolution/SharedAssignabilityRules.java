@@ -0,0 +1,148 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.resolution;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jboss.weld.bootstrap.api.Service;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
+
+/**
+ * Holds the {@link AssignabilityRules} shared by all the typesafe resolvers of a deployment. The rules memoize the result of each (required type, bean
+ * type) check which involves a non-raw type, i.e. a parameterized type, a type variable, a wildcard or a generic array. Checking the assignability of
+ * such types is expensive and the same pairs are checked repeatedly during bootstrap validation and the first resolutions.
+ * <p>
+ * The results are held by two levels of caches. The outer level is keyed by the type held by the container for the lifetime of the deployment, i.e. the
+ * bean type, or the observed type in case of the event type rules, and holds the keys strongly. The inner level is keyed weakly by the other type,
+ * which may be provided by the application at runtime, e.g. the type passed to {@link javax.enterprise.inject.Instance#select(Class,
+ * java.lang.annotation.Annotation...)} or the runtime type of an event, so that the results do not prevent its class loader from being garbage
+ * collected. The total number of results memoized by each set of rules is bounded by {@link org.jboss.weld.config.ConfigurationKey#RESOLUTION_CACHE_SIZE}.
+ */
+public class SharedAssignabilityRules implements Service {
+
+    private final CachingAssignabilityRules beanTypeRules;
+
+    private final CachingAssignabilityRules delegateInjectionPointRules;
+
+    private final CachingAssignabilityRules eventTypeRules;
+
+    public SharedAssignabilityRules(long maxSize) {
+        this.beanTypeRules = new CachingAssignabilityRules(BeanTypeAssignabilityRules.instance(), false, maxSize);
+        this.delegateInjectionPointRules = new CachingAssignabilityRules(DelegateInjectionPointAssignabilityRules.instance(), false, maxSize);
+        // the observed type is held by the observer method, the event type may be provided at runtime
+        this.eventTypeRules = new CachingAssignabilityRules(EventTypeAssignabilityRules.instance(), true, maxSize);
+    }
+
+    /**
+     *
+     * @return the memoizing variant of {@link BeanTypeAssignabilityRules}
+     */
+    public AssignabilityRules getBeanTypeRules() {
+        return beanTypeRules;
+    }
+
+    /**
+     *
+     * @return the memoizing variant of {@link DelegateInjectionPointAssignabilityRules}
+     */
+    public AssignabilityRules getDelegateInjectionPointRules() {
+        return delegateInjectionPointRules;
+    }
+
+    /**
+     *
+     * @return the memoizing variant of {@link EventTypeAssignabilityRules}
+     */
+    public AssignabilityRules getEventTypeRules() {
+        return eventTypeRules;
+    }
+
+    @Override
+    public void cleanup() {
+        beanTypeRules.clear();
+        delegateInjectionPointRules.clear();
+        eventTypeRules.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "SharedAssignabilityRules [beanTypeRules=" + beanTypeRules.size() + ", delegateInjectionPointRules=" + delegateInjectionPointRules.size()
+                + ", eventTypeRules=" + eventTypeRules.size() + "]";
+    }
+
+    private static class CachingAssignabilityRules extends AbstractAssignabilityRules {
+
+        private final AssignabilityRules delegate;
+
+        // true if the outer level is keyed by the required type, false if it is keyed by the bean type
+        private final boolean keyedByRequiredType;
+
+        // type held by the container -> type possibly provided at runtime -> result
+        private final ComputingCache<Type, ComputingCache<Type, Boolean>> results;
+
+        private final long maxSize;
+
+        // the number of results computed since the last clear, results whose weak key was garbage collected are still counted
+        private final AtomicLong size;
+
+        private CachingAssignabilityRules(AssignabilityRules delegate, boolean keyedByRequiredType, long maxSize) {
+            this.delegate = delegate;
+            this.keyedByRequiredType = keyedByRequiredType;
+            this.maxSize = maxSize;
+            this.size = new AtomicLong();
+            this.results = ComputingCacheBuilder.newBuilder().build((containerType) -> ComputingCacheBuilder.newBuilder().setWeakKeys()
+                    .build((Type runtimeType) -> computeResult(containerType, runtimeType)));
+        }
+
+        private Boolean computeResult(Type containerType, Type runtimeType) {
+            // the same policy as the resolver cache - all the results are discarded once the bound is exceeded
+            if (size.incrementAndGet() > maxSize) {
+                clear();
+            }
+            return keyedByRequiredType ? delegate.matches(containerType, runtimeType) : delegate.matches(runtimeType, containerType);
+        }
+
+        @Override
+        public boolean matches(Type requiredType, Type beanType) {
+            if (requiredType instanceof Class<?> && beanType instanceof Class<?>) {
+                // Raw types are cheap to check
+                return delegate.matches(requiredType, beanType);
+            }
+            if (keyedByRequiredType) {
+                return results.getValue(requiredType).getValue(beanType);
+            }
+            return results.getValue(beanType).getValue(requiredType);
+        }
+
+        long size() {
+            long size = 0;
+            for (ComputingCache<Type, Boolean> requiredTypes : results.getAllPresentValues()) {
+                size += requiredTypes.size();
+            }
+            return size;
+        }
+
+        void clear() {
+            results.clear();
+            size.set(0);
+        }
+
+    }
+
+}
@@ -30,8 +30,12 @@ public class TypeSafeDisposerResolver extends TypeSafeResolver<Resolvable, Dispo
     private final AssignabilityRules rules;
 
     public TypeSafeDisposerResolver(Iterable<DisposalMethod<?, ?>> disposers, WeldConfiguration configuration) {
+        this(disposers, configuration, BeanTypeAssignabilityRules.instance());
+    }
+
+    public TypeSafeDisposerResolver(Iterable<DisposalMethod<?, ?>> disposers, WeldConfiguration configuration, AssignabilityRules rules) {
         super(disposers, configuration);
-        this.rules = BeanTypeAssignabilityRules.instance();
+        this.rules = rules;
     }
 
     @Override
@@ -34,7 +34,6 @@ import org.jboss.weld.event.ExtensionObserverMethodImpl;
 import org.jboss.weld.event.ResolvedObservers;
 import org.jboss.weld.experimental.ExperimentalObserverMethod;
 import org.jboss.weld.metadata.cache.MetaAnnotationStore;
-import org.jboss.weld.util.Beans;
 import org.jboss.weld.util.Observers;
 import org.jboss.weld.util.reflection.Reflections;
 
@@ -61,9 +60,14 @@ public class TypeSafeObserverResolver extends TypeSafeResolver<Resolvable, Obser
     private final AssignabilityRules rules;
 
     public TypeSafeObserverResolver(MetaAnnotationStore metaAnnotationStore, Iterable<ObserverMethod<?>> observers, WeldConfiguration configuration) {
+        this(metaAnnotationStore, observers, configuration, EventTypeAssignabilityRules.instance());
+    }
+
+    public TypeSafeObserverResolver(MetaAnnotationStore metaAnnotationStore, Iterable<ObserverMethod<?>> observers, WeldConfiguration configuration,
+            AssignabilityRules rules) {
         super(observers, configuration);
         this.metaAnnotationStore = metaAnnotationStore;
-        this.rules = EventTypeAssignabilityRules.instance();
+        this.rules = rules;
     }
 
     @Override
@@ -71,7 +75,7 @@ public class TypeSafeObserverResolver extends TypeSafeResolver<Resolvable, Obser
         if (!rules.matches(observer.getObservedType(), resolvable.getTypes())) {
             return false;
         }
-        if (!Beans.containsAllQualifiers(QualifierInstance.of(observer.getObservedQualifiers(), metaAnnotationStore), resolvable.getQualifiers())) {
+        if (!resolvable.getQualifierSet(metaAnnotationStore).containsAll(metaAnnotationStore.getQualifierSet(observer))) {
             return false;
         }
         if (observer instanceof ExtensionObserverMethodImpl<?, ?>) {
@@ -22,6 +22,7 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 import org.jboss.weld.config.ConfigurationKey;
@@ -59,13 +60,28 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
     // The beans to search
     private final Iterable<? extends T> allBeans;
     private final ResolvableToBeanCollection<R, T, C, F> resolverFunction;
+    // The cache statistics, only maintained if the runtime metrics are enabled
+    private final LongAdder cacheLookups;
+    private final LongAdder cacheMisses;
 
     /**
      * Constructor
      */
     public TypeSafeResolver(Iterable<? extends T> allBeans, WeldConfiguration configuration) {
         this.resolverFunction = new ResolvableToBeanCollection<R, T, C, F>(this);
-        this.resolved = ComputingCacheBuilder.newBuilder().setMaxSize(configuration.getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE)).build(resolverFunction);
+        ComputingCacheBuilder cacheBuilder = ComputingCacheBuilder.newBuilder().setMaxSize(configuration.getLongProperty(ConfigurationKey.RESOLUTION_CACHE_SIZE));
+        if (configuration.getBooleanProperty(ConfigurationKey.RUNTIME_METRICS)) {
+            this.cacheLookups = new LongAdder();
+            this.cacheMisses = new LongAdder();
+            this.resolved = cacheBuilder.build((R resolvable) -> {
+                cacheMisses.increment();
+                return resolverFunction.apply(resolvable);
+            });
+        } else {
+            this.cacheLookups = null;
+            this.cacheMisses = null;
+            this.resolved = cacheBuilder.build(resolverFunction);
+        }
         this.allBeans = allBeans;
     }
 
@@ -85,6 +101,9 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
     public F resolve(R resolvable, boolean cache) {
         R wrappedResolvable = wrap(resolvable);
         if (cache) {
+            if (cacheLookups != null) {
+                cacheLookups.increment();
+            }
             return resolved.getValue(wrappedResolvable);
         } else {
             return resolverFunction.apply(wrappedResolvable);
@@ -142,6 +161,31 @@ public abstract class TypeSafeResolver<R extends Resolvable, T, C extends Collec
         return resolved.getValueIfPresent(wrap(resolvable)) != null;
     }
 
+    /**
+     *
+     * @return the number of cached resolutions
+     */
+    public long getCacheSize() {
+        return resolved.size();
+    }
+
+    /**
+     *
+     * @return the number of cached resolution requests, or <code>0</code> if the runtime metrics are disabled
+     */
+    public long getCacheLookups() {
+        return cacheLookups != null ? cacheLookups.sum() : 0L;
+    }
+
+    /**
+     *
+     * @return the number of cached resolution requests which required the resolution to be performed, or <code>0</code> if the runtime metrics are
+     *         disabled
+     */
+    public long getCacheMisses() {
+        return cacheMisses != null ? cacheMisses.sum() : 0L;
+    }
+
     /**
      * Gets a string representation
      *
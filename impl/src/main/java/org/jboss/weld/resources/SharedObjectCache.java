@@ -57,14 +57,18 @@ public class SharedObjectCache implements BootstrapService {
         }
     });
 
-    private final ComputingCache<Type, LazyValueHolder<Set<Type>>> typeClosureHolders = ComputingCacheBuilder.newBuilder().build(
+    // The type closures are also computed for the runtime types of events after bootstrap. A type closure refers to its type so weak values are
+    // needed as well. The holders are referenced by the annotated types during bootstrap.
+    private final ComputingCache<Type, LazyValueHolder<Set<Type>>> typeClosureHolders = ComputingCacheBuilder.newBuilder().setWeakKeys().setWeakValues().build(
             new Function<Type, LazyValueHolder<Set<Type>>>() {
         @Override
                 public LazyValueHolder<Set<Type>> apply(Type input) {
-            return new TypeClosureLazyValueHolder(input);
+            return new TypeClosureLazyValueHolder(input, SharedObjectCache.this);
         }
     });
 
+    private final ComputingCache<Type, Type> sharedTypes = ComputingCacheBuilder.newBuilder().setWeakKeys().setWeakValues().build(Function.identity());
+
     public <T> Set<T> getSharedSet(Set<T> set) {
         return sharedSets.getCastValue(set);
     }
@@ -73,6 +77,21 @@ public class SharedObjectCache implements BootstrapService {
         return sharedMaps.getCastValue(map);
     }
 
+    /**
+     * Interns the given type. Equal types are represented by the same instance so that comparing them during typesafe resolution is reduced to an
+     * identity check in the common case.
+     *
+     * @param type
+     * @return the shared instance equal to the given type
+     */
+    public Type getSharedType(Type type) {
+        if (type instanceof Class<?>) {
+            // Classes are unique already
+            return type;
+        }
+        return sharedTypes.getValue(type);
+    }
+
     public LazyValueHolder<Set<Type>> getTypeClosureHolder(Type type) {
         return typeClosureHolders.getCastValue(type);
     }
@@ -82,6 +101,7 @@ public class SharedObjectCache implements BootstrapService {
         sharedSets.clear();
         sharedMaps.clear();
         typeClosureHolders.clear();
+        sharedTypes.clear();
     }
 
     @Override
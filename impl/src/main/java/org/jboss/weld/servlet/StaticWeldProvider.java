@@ -19,6 +19,8 @@ package org.jboss.weld.servlet;
 import javax.enterprise.inject.spi.CDI;
 import javax.enterprise.inject.spi.CDIProvider;
 
+import org.jboss.weld.Container;
+import org.jboss.weld.ContainerState;
 import org.jboss.weld.SimpleCDI;
 import org.jboss.weld.manager.BeanManagerImpl;
 
@@ -26,6 +28,10 @@ public class StaticWeldProvider implements CDIProvider {
 
     private static class EnhancedCDI extends SimpleCDI {
 
+        private EnhancedCDI(Container container) {
+            super(container);
+        }
+
         @Override
         protected BeanManagerImpl unsatisfiedBeanManager(String callerClassName) {
             /*
@@ -37,10 +43,28 @@ public class StaticWeldProvider implements CDIProvider {
             }
             return super.unsatisfiedBeanManager(callerClassName);
         }
+
+        @Override
+        protected BeanManagerImpl getFlatBeanManager() {
+            // every caller ends up with the only BeanManager we have, no need to identify the caller
+            if (getContainer().beanDeploymentArchives().values().size() == 1) {
+                return getContainer().beanDeploymentArchives().values().iterator().next();
+            }
+            return null;
+        }
     }
 
     @Override
     public CDI<Object> getCDI() {
-        return new EnhancedCDI();
+        // CDI.current() asks for a new instance every time, reuse the one created for the current container once it's initialized
+        Container container = Container.instance();
+        SimpleCDI cdi = container.getCDI();
+        if (!(cdi instanceof EnhancedCDI)) {
+            cdi = new EnhancedCDI(container);
+            if (container.getState() == ContainerState.INITIALIZED) {
+                container.setCDI(cdi);
+            }
+        }
+        return cdi;
     }
 }
@@ -19,6 +19,7 @@ package org.jboss.weld.util.cache;
 import java.lang.ref.WeakReference;
 import java.util.function.Function;
 
+import org.jboss.weld.util.LazyValueHolder;
 import org.jboss.weld.util.WeakLazyValueHolder;
 
 /**
@@ -33,6 +34,8 @@ public final class ComputingCacheBuilder {
 
     private boolean weakValues;
 
+    private boolean weakKeys;
+
     private ComputingCacheBuilder() {
     }
 
@@ -64,12 +67,27 @@ public final class ComputingCacheBuilder {
         return this;
     }
 
+    /**
+     * Keys stored in the cache should be wrapped in a {@link WeakReference}. An entry is removed once its key is garbage collected. Use this if the
+     * keys are classes (or types) provided by the application at runtime so that the cache does not prevent their class loaders from being garbage
+     * collected. The values must not hold a strong reference to their keys - consider using {@link #setWeakValues()} as well.
+     *
+     * @return self
+     */
+    public ComputingCacheBuilder setWeakKeys() {
+        this.weakKeys = true;
+        return this;
+    }
+
     /**
      *
      * @param computingFunction
      * @return a new ComputingCache instance
      */
     public <K, V> ComputingCache<K, V> build(Function<K, V> computingFunction) {
+        if (weakKeys) {
+            return new WeakKeyComputingCache<>(computingFunction, weakValues ? WeakLazyValueHolder::forSupplier : LazyValueHolder::forSupplier, maxSize);
+        }
         if (weakValues) {
             return new ReentrantMapBackedComputingCache<>(computingFunction, WeakLazyValueHolder::forSupplier, maxSize);
         }
@@ -0,0 +1,254 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.util.cache;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.jboss.weld.util.ValueHolder;
+
+/**
+ * A reentrant {@link ComputingCache} which only holds weak references to its keys. An entry is removed once its key is garbage collected. Keys are
+ * compared using {@link Object#equals(Object)}.
+ * <p>
+ * This cache is suitable for keys provided by the application at runtime, e.g. event types. A strong reference to such a key would prevent the
+ * class loader which defined the key from being garbage collected. Note that the values must not hold a strong reference to their keys, otherwise
+ * the keys are never collected. A cache whose values refer to the keys should also use weak values, see
+ * {@link ComputingCacheBuilder#setWeakValues()}.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ * @see ReentrantMapBackedComputingCache
+ */
+class WeakKeyComputingCache<K, V> implements ComputingCache<K, V>, Iterable<V> {
+
+    private final ConcurrentMap<Object, ValueHolder<V>> map;
+    private final ReferenceQueue<K> queue;
+    private final Long maxSize;
+    private final Function<K, V> computingFunction;
+    private final Function<WeakKey<K>, ValueHolder<V>> function;
+
+    WeakKeyComputingCache(Function<K, V> computingFunction, Function<Supplier<V>, ValueHolder<V>> valueHolderFunction, Long maxSize) {
+        this.map = new ConcurrentHashMap<>();
+        this.queue = new ReferenceQueue<>();
+        this.maxSize = maxSize;
+        this.computingFunction = computingFunction;
+        // The value holder must not capture the key itself
+        this.function = (weakKey) -> valueHolderFunction.apply(() -> {
+            K key = weakKey.get();
+            return key != null ? computingFunction.apply(key) : null;
+        });
+    }
+
+    @Override
+    public V getValue(final K key) {
+        ValueHolder<V> value = map.get(new LookupKey(key));
+        if (value == null) {
+            expungeStaleEntries();
+            WeakKey<K> weakKey = new WeakKey<K>(key, queue);
+            value = function.apply(weakKey);
+            ValueHolder<V> previous = map.putIfAbsent(weakKey, value);
+            if (previous != null) {
+                value = previous;
+            }
+            // finally, check that we are not over the bound
+            if (maxSize != null && size() > maxSize) {
+                clear();
+            }
+        }
+        V result = value.get();
+        if (result == null) {
+            // The key held by the entry was garbage collected in the meantime
+            result = computingFunction.apply(key);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getCastValue(Object key) {
+        return (T) getValue((K) key);
+    }
+
+    @Override
+    public V getValueIfPresent(K key) {
+        ValueHolder<V> value = map.get(new LookupKey(key));
+        if (value == null) {
+            return null;
+        }
+        return value.getIfPresent();
+    }
+
+    @Override
+    public long size() {
+        expungeStaleEntries();
+        return map.size();
+    }
+
+    @Override
+    public void clear() {
+        map.clear();
+        // The references enqueued so far no longer refer to any entry
+        while (queue.poll() != null) {
+            // No-op
+        }
+    }
+
+    @Override
+    public void invalidate(Object key) {
+        map.remove(new LookupKey(key));
+    }
+
+    @Override
+    public Iterable<V> getAllPresentValues() {
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return map.toString();
+    }
+
+    @Override
+    public void forEachValue(Consumer<? super V> consumer) {
+        for (ValueHolder<V> valueHolder : map.values()) {
+            V value = valueHolder.getIfPresent();
+            if (value != null) {
+                consumer.accept(value);
+            }
+        }
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        return new Iterator<V>() {
+
+            private final Iterator<ValueHolder<V>> delegate = map.values().iterator();
+            private V next = findNext();
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            private V findNext() {
+                while (delegate.hasNext()) {
+                    V next = delegate.next().getIfPresent();
+                    if (next != null) {
+                        return next;
+                    }
+                }
+                return null;
+            }
+
+            @Override
+            public V next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                V current = next;
+                this.next = findNext();
+                return current;
+            }
+        };
+    }
+
+    private void expungeStaleEntries() {
+        Reference<? extends K> reference;
+        while ((reference = queue.poll()) != null) {
+            // A cleared key is only equal to itself
+            map.remove(reference);
+        }
+    }
+
+    /**
+     * Used to look up an entry without allocating a weak reference.
+     */
+    private static final class LookupKey {
+
+        private final Object key;
+
+        private LookupKey(Object key) {
+            this.key = key;
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof WeakKey) {
+                Object other = ((WeakKey<?>) obj).get();
+                return key == other || key.equals(other);
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return key.toString();
+        }
+
+    }
+
+    private static final class WeakKey<K> extends WeakReference<K> {
+
+        private final int hashCode;
+
+        private WeakKey(K key, ReferenceQueue<K> queue) {
+            super(key, queue);
+            this.hashCode = key.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof LookupKey) {
+                return obj.equals(this);
+            }
+            if (obj instanceof WeakKey) {
+                Object key = get();
+                return key != null && key.equals(((WeakKey<?>) obj).get());
+            }
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(get());
+        }
+
+    }
+
+}
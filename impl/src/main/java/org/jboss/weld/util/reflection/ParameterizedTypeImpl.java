@@ -32,6 +32,8 @@ public class ParameterizedTypeImpl implements ParameterizedType, Serializable {
     private final Type[] actualTypeArguments;
     private final Type rawType;
     private final Type ownerType;
+    // Type instances are frequently used as map keys during resolution
+    private transient int hashCode;
 
     @SuppressWarnings("EI_EXPOSE_REP")
     public ParameterizedTypeImpl(Type rawType, Type... actualTypeArguments) {
@@ -59,7 +61,12 @@ public class ParameterizedTypeImpl implements ParameterizedType, Serializable {
 
     @Override
     public int hashCode() {
-        return Arrays.hashCode(actualTypeArguments) ^ (ownerType == null ? 0 : ownerType.hashCode()) ^ (rawType == null ? 0 : rawType.hashCode());
+        int hashCode = this.hashCode;
+        if (hashCode == 0) {
+            hashCode = Arrays.hashCode(actualTypeArguments) ^ (ownerType == null ? 0 : ownerType.hashCode()) ^ (rawType == null ? 0 : rawType.hashCode());
+            this.hashCode = hashCode;
+        }
+        return hashCode;
     }
 
     @Override
@@ -0,0 +1,68 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.bean.builtin;
+
+import static org.junit.Assert.assertEquals;
+
+import javax.enterprise.context.spi.CreationalContext;
+
+import org.jboss.weld.bean.DependentInstanceTracking;
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.bean.builtin.AbstractBuiltInBean;
+import org.junit.Test;
+
+/**
+ * Verifies that the instances of a built-in bean are always recorded if the bean overrides destroy(), and only if they have dependents otherwise.
+ */
+public class BuiltInBeanDependentInstanceTrackingTest {
+
+    @Test
+    public void testTrivialDestruction() {
+        assertEquals(DependentInstanceTracking.IF_HAS_DEPENDENTS, new PlainBean().getDependentInstanceTracking());
+    }
+
+    @Test
+    public void testDestroyOverridden() {
+        assertEquals(DependentInstanceTracking.ALWAYS, new DestroyingBean().getDependentInstanceTracking());
+        // the override is inherited
+        assertEquals(DependentInstanceTracking.ALWAYS, new DestroyingBean() {
+        }.getDependentInstanceTracking());
+    }
+
+    static class PlainBean extends AbstractBuiltInBean<String> {
+
+        PlainBean() {
+            super(new StringBeanIdentifier(PlainBean.class.getName()), null, String.class);
+        }
+
+        @Override
+        public String create(CreationalContext<String> creationalContext) {
+            return "plain";
+        }
+
+    }
+
+    static class DestroyingBean extends PlainBean {
+
+        @Override
+        public void destroy(String instance, CreationalContext<String> creationalContext) {
+            creationalContext.release();
+        }
+
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.bootstrap;
+
+import java.util.Map;
+
+import javax.enterprise.context.RequestScoped;
+
+import org.jboss.weld.bootstrap.RuntimeMetrics;
+import org.jboss.weld.bootstrap.RuntimeMetrics.ScopeMetrics;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link RuntimeMetrics}.
+ */
+public class RuntimeMetricsTest {
+
+    private static final String CONTEXT_ID = RuntimeMetricsTest.class.getName();
+
+    @Test
+    public void testDisabled() {
+        RuntimeMetrics metrics = new RuntimeMetrics(false, CONTEXT_ID);
+        Assert.assertNull(metrics.getScopeMetrics(RequestScoped.class));
+        metrics.eventFired(String.class);
+        metrics.sessionCreated();
+        Assert.assertTrue(metrics.collect().isEmpty());
+        Assert.assertEquals("", metrics.getPrometheusText());
+    }
+
+    @Test
+    public void testCounters() {
+        RuntimeMetrics metrics = new RuntimeMetrics(true, CONTEXT_ID);
+        ScopeMetrics request = metrics.getScopeMetrics(RequestScoped.class);
+        Assert.assertSame(request, metrics.getScopeMetrics(RequestScoped.class));
+        request.contextActivated();
+        request.instanceCreated();
+        request.instanceCreated();
+        request.instanceDestroyed();
+        metrics.eventFired(String.class);
+        metrics.eventFired(String.class);
+        metrics.eventFired(Integer.class);
+        metrics.sessionCreated();
+        metrics.sessionCreated();
+        metrics.sessionDestroyed();
+        metrics.conversationBegun();
+        metrics.asyncEventSubmitted();
+        metrics.asyncEventSubmitted();
+        metrics.asyncEventDelivered();
+
+        Map<String, Long> values = metrics.getMetrics();
+        Assert.assertEquals(Long.valueOf(2), values.get("weld_instances_created_total{scope=\"javax.enterprise.context.RequestScoped\"}"));
+        Assert.assertEquals(Long.valueOf(1), values.get("weld_instances_destroyed_total{scope=\"javax.enterprise.context.RequestScoped\"}"));
+        Assert.assertEquals(Long.valueOf(1), values.get("weld_context_activations_total{scope=\"javax.enterprise.context.RequestScoped\"}"));
+        Assert.assertEquals(Long.valueOf(2), values.get("weld_events_fired_total{type=\"java.lang.String\"}"));
+        Assert.assertEquals(Long.valueOf(1), values.get("weld_events_fired_total{type=\"java.lang.Integer\"}"));
+        Assert.assertEquals(Long.valueOf(2), values.get("weld_sessions_created_total"));
+        Assert.assertEquals(Long.valueOf(1), values.get("weld_sessions_active"));
+        Assert.assertEquals(Long.valueOf(1), values.get("weld_conversations_active"));
+        Assert.assertEquals(Long.valueOf(2), values.get("weld_async_events_total"));
+        Assert.assertEquals(Long.valueOf(1), values.get("weld_async_events_pending"));
+    }
+
+    @Test
+    public void testPrometheusText() {
+        RuntimeMetrics metrics = new RuntimeMetrics(true, CONTEXT_ID);
+        metrics.sessionCreated();
+        metrics.eventFired(String.class);
+        String text = metrics.getPrometheusText();
+        Assert.assertTrue(text, text.contains("# HELP weld_sessions_active Active HTTP sessions\n# TYPE weld_sessions_active gauge\nweld_sessions_active 1\n"));
+        Assert.assertTrue(text, text.contains("# TYPE weld_events_fired_total counter\nweld_events_fired_total{type=\"java.lang.String\"} 1\n"));
+        for (String line : text.split("\n")) {
+            Assert.assertTrue(line, line.startsWith("# ") || line.matches("weld_[a-z_]+(\\{[a-z]+=\"[^\"]*\"\\})? -?\\d+"));
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.cdi;
+
+import javax.enterprise.inject.spi.BeanManager;
+
+import org.jboss.weld.AbstractCDI;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link AbstractCDI#getCallingClassName()}.
+ */
+public class CallingClassNameTest {
+
+    private static class RecordingCDI extends AbstractCDI<Object> {
+
+        private String callingClassName;
+
+        @Override
+        public BeanManager getBeanManager() {
+            callingClassName = getCallingClassName();
+            return null;
+        }
+    }
+
+    private static class Caller {
+
+        static String call(RecordingCDI cdi) {
+            cdi.getBeanManager();
+            return cdi.callingClassName;
+        }
+    }
+
+    @Test
+    public void testCallingClassIdentified() {
+        RecordingCDI cdi = new RecordingCDI();
+        Assert.assertEquals(Caller.class.getName(), Caller.call(cdi));
+        cdi.getBeanManager();
+        Assert.assertEquals(CallingClassNameTest.class.getName(), cdi.callingClassName);
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.context;
+
+import java.util.List;
+
+import javax.enterprise.context.spi.Contextual;
+import javax.enterprise.context.spi.CreationalContext;
+
+import org.jboss.weld.context.CreationalContextImpl;
+import org.jboss.weld.context.DependentInstanceLeakDetector;
+import org.jboss.weld.context.DependentInstanceLeakDetector.Leak;
+import org.jboss.weld.context.api.ContextualInstance;
+import org.jboss.weld.injection.CurrentInjectionPoint;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link DependentInstanceLeakDetector}.
+ */
+public class DependentInstanceLeakDetectorTest {
+
+    @Test
+    public void testDisabledByDefault() {
+        DependentInstanceLeakDetector detector = new DependentInstanceLeakDetector(0, new CurrentInjectionPoint());
+        Assert.assertFalse(detector.isEnabled());
+        CreationalContextImpl<Object> owner = new CreationalContextImpl<Object>(new DummyContextual("owner"));
+        for (int i = 0; i < 10; i++) {
+            addDependentInstance(owner, detector);
+        }
+        Assert.assertTrue(detector.getLeaks().isEmpty());
+    }
+
+    @Test
+    public void testLeakReportedAtThresholdAndWhenDoubled() {
+        DummyContextual ownerBean = new DummyContextual("owner");
+        DependentInstanceLeakDetector detector = new DependentInstanceLeakDetector(4, new CurrentInjectionPoint());
+        CreationalContextImpl<Object> owner = new CreationalContextImpl<Object>(ownerBean);
+
+        for (int i = 0; i < 3; i++) {
+            addDependentInstance(owner, detector);
+        }
+        Assert.assertTrue(detector.getLeaks().isEmpty());
+
+        addDependentInstance(owner, detector);
+        List<Leak> leaks = detector.getLeaks();
+        Assert.assertEquals(1, leaks.size());
+        Leak leak = leaks.get(0);
+        Assert.assertSame(ownerBean, leak.getOwner());
+        Assert.assertEquals(4, leak.getSize());
+        Assert.assertEquals(1, leak.getWarnings());
+
+        // 5 to 8 - the second warning is logged once the size is doubled
+        for (int i = 0; i < 3; i++) {
+            addDependentInstance(owner, detector);
+        }
+        Assert.assertEquals(1, leak.getWarnings());
+        addDependentInstance(owner, detector);
+        Assert.assertEquals(2, leak.getWarnings());
+        Assert.assertEquals(8, leak.getSize());
+
+        // 9 to 15 - no more warnings, 12 is not the threshold multiplied by a power of two
+        for (int i = 0; i < 7; i++) {
+            addDependentInstance(owner, detector);
+        }
+        Assert.assertEquals(2, leak.getWarnings());
+        addDependentInstance(owner, detector);
+        Assert.assertEquals(3, leak.getWarnings());
+        Assert.assertEquals(16, leak.getSize());
+        Assert.assertEquals(1, detector.getLeaks().size());
+
+        Assert.assertEquals(1, detector.clear());
+        Assert.assertTrue(detector.getLeaks().isEmpty());
+    }
+
+    @Test
+    public void testContextsAreWatchedSeparately() {
+        DependentInstanceLeakDetector detector = new DependentInstanceLeakDetector(4, new CurrentInjectionPoint());
+        CreationalContextImpl<Object> first = new CreationalContextImpl<Object>(new DummyContextual("first"));
+        CreationalContextImpl<Object> second = new CreationalContextImpl<Object>(new DummyContextual("second"));
+        for (int i = 0; i < 3; i++) {
+            addDependentInstance(first, detector);
+            addDependentInstance(second, detector);
+        }
+        Assert.assertTrue(detector.getLeaks().isEmpty());
+        addDependentInstance(second, detector);
+        Assert.assertEquals(1, detector.getLeaks().size());
+        Assert.assertEquals("second", detector.getLeaks().get(0).getOwner().toString());
+    }
+
+    private static void addDependentInstance(CreationalContextImpl<Object> owner, DependentInstanceLeakDetector detector) {
+        DummyContextual dependent = new DummyContextual("dependent");
+        final CreationalContextImpl<Object> ctx = owner.getCreationalContext(dependent);
+        final Object instance = new Object();
+        ctx.addDependentInstance(new ContextualInstance<Object>() {
+
+            @Override
+            public Object getInstance() {
+                return instance;
+            }
+
+            @Override
+            public CreationalContext<Object> getCreationalContext() {
+                return ctx;
+            }
+
+            @Override
+            public Contextual<Object> getContextual() {
+                return dependent;
+            }
+        });
+        detector.dependentInstanceAdded(ctx);
+    }
+
+    private static class DummyContextual implements Contextual<Object> {
+
+        private final String name;
+
+        DummyContextual(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return new Object();
+        }
+
+        @Override
+        public void destroy(Object instance, CreationalContext<Object> creationalContext) {
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.context;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.enterprise.context.SessionScoped;
+
+import org.jboss.weld.bean.StringBeanIdentifier;
+import org.jboss.weld.context.LockContentionMonitor;
+import org.jboss.weld.context.LockContentionMonitor.LockStatistics;
+import org.jboss.weld.context.beanstore.LockStore;
+import org.jboss.weld.context.beanstore.LockedBean;
+import org.jboss.weld.serialization.spi.BeanIdentifier;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link LockContentionMonitor} and the wait time reported by {@link LockStore}.
+ */
+public class LockContentionMonitorTest {
+
+    @Test
+    public void testDisabled() {
+        LockContentionMonitor monitor = new LockContentionMonitor(false);
+        monitor.beanLockContended("foo", SessionScoped.class, 100);
+        monitor.conversationLockContended("1", 100);
+        monitor.conversationBusy("1");
+        Assert.assertTrue(monitor.getBeanLocks().isEmpty());
+        Assert.assertTrue(monitor.getConversationLocks().isEmpty());
+        Assert.assertEquals(0, monitor.getBeanTotals().getContentions());
+        Assert.assertEquals(0, monitor.getConversationTotals().getTimeouts());
+    }
+
+    @Test
+    public void testStatistics() {
+        LockContentionMonitor monitor = new LockContentionMonitor(true);
+        monitor.beanLockContended("foo", SessionScoped.class, 100);
+        monitor.beanLockContended("foo", SessionScoped.class, 300);
+        monitor.beanLockContended("bar", SessionScoped.class, 1000);
+        monitor.conversationLockContended("1", 50);
+        monitor.conversationBusy("1");
+        monitor.conversationLockContended(null, 10);
+
+        List<LockStatistics> beans = monitor.getBeanLocks();
+        Assert.assertEquals(2, beans.size());
+        // The longest wait time first
+        Assert.assertEquals("bar", beans.get(0).getKey());
+        LockStatistics foo = beans.get(1);
+        Assert.assertEquals("foo", foo.getKey());
+        Assert.assertEquals(SessionScoped.class, foo.getScope());
+        Assert.assertEquals(2, foo.getContentions());
+        Assert.assertEquals(400, foo.getWaitTime());
+        Assert.assertEquals(300, foo.getMaxWaitTime());
+        Assert.assertEquals(3, monitor.getBeanTotals().getContentions());
+        Assert.assertEquals(1400, monitor.getBeanTotals().getWaitTime());
+
+        List<LockStatistics> conversations = monitor.getConversationLocks();
+        Assert.assertEquals(1, conversations.size());
+        Assert.assertEquals(1, conversations.get(0).getContentions());
+        Assert.assertEquals(1, conversations.get(0).getTimeouts());
+        // A transient conversation has no id, only the totals are updated
+        Assert.assertEquals(2, monitor.getConversationTotals().getContentions());
+        Assert.assertEquals(1, monitor.getConversationTotals().getTimeouts());
+
+        Assert.assertEquals(3, monitor.clear());
+        Assert.assertTrue(monitor.getBeanLocks().isEmpty());
+        Assert.assertEquals(0, monitor.getBeanTotals().getWaitTime());
+    }
+
+    @Test
+    public void testLockStoreWaitTime() throws InterruptedException {
+        final LockStore lockStore = new LockStore();
+        final BeanIdentifier id = new StringBeanIdentifier("foo");
+        LockedBean lock = lockStore.lock(id);
+        Assert.assertEquals(0, lock.getWaitTime());
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicLong waitTime = new AtomicLong(-1);
+        Thread thread = new Thread(() -> {
+            started.countDown();
+            LockedBean contended = lockStore.lock(id);
+            waitTime.set(contended.getWaitTime());
+            contended.unlock();
+        });
+        thread.start();
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        // Wait until the thread is blocked in LockStore.lock()
+        long deadline = System.currentTimeMillis() + 5000;
+        while (thread.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+        lock.unlock();
+        thread.join(5000);
+        Assert.assertTrue(String.valueOf(waitTime.get()), waitTime.get() > 0);
+
+        // The lock was released by both threads
+        lock = lockStore.lock(id);
+        Assert.assertEquals(0, lock.getWaitTime());
+        lock.unlock();
+    }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.executor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jboss.weld.executor.FixedThreadPoolExecutorServices;
+import org.jboss.weld.executor.TaskGraph;
+import org.jboss.weld.manager.api.ExecutorServices;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link TaskGraph}.
+ */
+public class TaskGraphTest {
+
+    private ExecutorServices executor;
+
+    @Before
+    public void init() {
+        executor = new FixedThreadPoolExecutorServices(4);
+    }
+
+    @After
+    public void cleanup() {
+        executor.cleanup();
+    }
+
+    @Test
+    public void testSequentialExecution() {
+        final List<String> log = new ArrayList<String>();
+        TaskGraph graph = new TaskGraph("test");
+        TaskGraph.Task a = graph.add("a", new Recorder(log, "a"));
+        graph.add("b", new Recorder(log, "b"), a);
+        graph.add("c", new Recorder(log, "c"));
+        graph.execute(null);
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), log);
+    }
+
+    @Test
+    public void testDependenciesRespected() {
+        final List<String> log = Collections.synchronizedList(new ArrayList<String>());
+        TaskGraph graph = new TaskGraph("test");
+        TaskGraph.Task a = graph.add("a", new Recorder(log, "a"));
+        TaskGraph.Task b = graph.add("b", new Recorder(log, "b"), a);
+        TaskGraph.Task c = graph.add("c", new Recorder(log, "c"), a);
+        graph.add("d", new Recorder(log, "d"), b, c);
+        graph.execute(executor);
+        Assert.assertEquals(4, log.size());
+        Assert.assertEquals("a", log.get(0));
+        Assert.assertEquals("d", log.get(3));
+    }
+
+    @Test(timeout = 10000)
+    public void testIndependentTasksNotBlocked() {
+        // "fast" depends on nothing and must be able to finish while "slow" is still running
+        final CountDownLatch fastFinished = new CountDownLatch(1);
+        final AtomicBoolean slowObservedFast = new AtomicBoolean();
+        TaskGraph graph = new TaskGraph("test");
+        graph.add("slow", new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    slowObservedFast.set(fastFinished.await(5, TimeUnit.SECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        TaskGraph.Task fast = graph.add("fast", null);
+        graph.add("afterFast", new Runnable() {
+            @Override
+            public void run() {
+                fastFinished.countDown();
+            }
+        }, fast);
+        graph.execute(executor);
+        Assert.assertTrue(slowObservedFast.get());
+    }
+
+    @Test
+    public void testFailurePropagated() {
+        final AtomicBoolean dependentExecuted = new AtomicBoolean();
+        TaskGraph graph = new TaskGraph("test");
+        TaskGraph.Task failing = graph.add("failing", new Runnable() {
+            @Override
+            public void run() {
+                throw new IllegalStateException("expected");
+            }
+        });
+        graph.add("dependent", new Runnable() {
+            @Override
+            public void run() {
+                dependentExecuted.set(true);
+            }
+        }, failing);
+        try {
+            graph.execute(executor);
+            Assert.fail();
+        } catch (IllegalStateException expected) {
+            Assert.assertEquals("expected", expected.getMessage());
+        }
+        Assert.assertFalse(dependentExecuted.get());
+    }
+
+    @Test
+    public void testCriticalPath() {
+        TaskGraph graph = new TaskGraph("test");
+        TaskGraph.Task a = graph.add("a", new Sleeper(10));
+        TaskGraph.Task b = graph.add("b", new Sleeper(100), a);
+        TaskGraph.Task c = graph.add("c", new Sleeper(1), a);
+        TaskGraph.Task d = graph.add("d", null, b, c);
+        graph.execute(executor);
+        Assert.assertEquals(Arrays.asList(a, b, d), graph.getCriticalPath());
+    }
+
+    @Test
+    public void testPartition() {
+        Assert.assertEquals(Collections.emptyList(), TaskGraph.partition(Collections.emptyList(), 2));
+        Assert.assertEquals(Arrays.asList(Arrays.asList(1, 2), Arrays.asList(3)), TaskGraph.partition(Arrays.asList(1, 2, 3), 2));
+    }
+
+    private static class Recorder implements Runnable {
+
+        private final List<String> log;
+        private final String name;
+
+        Recorder(List<String> log, String name) {
+            this.log = log;
+            this.name = name;
+        }
+
+        @Override
+        public void run() {
+            log.add(name);
+        }
+    }
+
+    private static class Sleeper implements Runnable {
+
+        private final long millis;
+
+        Sleeper(long millis) {
+            this.millis = millis;
+        }
+
+        @Override
+        public void run() {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.injection;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.List;
+
+import javax.annotation.PostConstruct;
+
+import org.jboss.weld.annotated.slim.AnnotatedTypeIdentifier;
+import org.jboss.weld.bootstrap.api.helpers.RegistrySingletonProvider;
+import org.jboss.weld.exceptions.WeldException;
+import org.jboss.weld.injection.MemberAccessors;
+import org.jboss.weld.injection.producer.DefaultLifecycleCallbackInvoker;
+import org.jboss.weld.interceptor.proxy.InterceptorMethodInvocation;
+import org.jboss.weld.interceptor.reader.TargetClassInterceptorMetadata;
+import org.jboss.weld.interceptor.spi.model.InterceptionType;
+import org.jboss.weld.metadata.TypeStore;
+import org.jboss.weld.resources.ClassTransformer;
+import org.jboss.weld.resources.ReflectionCacheFactory;
+import org.jboss.weld.resources.SharedObjectCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests that lifecycle callbacks and interceptor methods fail the same way whether they are invoked through the generated accessor or reflectively.
+ */
+public class CallbackExceptionTest {
+
+    private final TypeStore typeStore = new TypeStore();
+    private final ClassTransformer transformer = new ClassTransformer(typeStore, new SharedObjectCache(), ReflectionCacheFactory.newInstance(typeStore),
+            RegistrySingletonProvider.STATIC_INSTANCE);
+
+    @Test
+    public void testLifecycleCallbackException() {
+        for (MemberAccessors accessors : getAccessors()) {
+            DefaultLifecycleCallbackInvoker<Target> invoker = new DefaultLifecycleCallbackInvoker<Target>(transformer.getEnhancedAnnotatedType(Target.class,
+                    AnnotatedTypeIdentifier.NULL_BDA_ID), accessors);
+            Target target = new Target();
+            target.exception = new IllegalStateException();
+            try {
+                invoker.postConstruct(target, null);
+                Assert.fail();
+            } catch (WeldException e) {
+                Assert.assertSame(target.exception, e.getCause());
+            }
+        }
+    }
+
+    @Test
+    public void testLifecycleCallbackError() {
+        for (MemberAccessors accessors : getAccessors()) {
+            DefaultLifecycleCallbackInvoker<Target> invoker = new DefaultLifecycleCallbackInvoker<Target>(transformer.getEnhancedAnnotatedType(Target.class,
+                    AnnotatedTypeIdentifier.NULL_BDA_ID), accessors);
+            Target target = new Target();
+            target.error = new CallbackError();
+            try {
+                invoker.postConstruct(target, null);
+                Assert.fail();
+            } catch (CallbackError e) {
+                Assert.assertSame(target.error, e);
+            }
+        }
+    }
+
+    @Test
+    public void testInterceptorMethodException() throws Exception {
+        for (MemberAccessors accessors : getAccessors()) {
+            Target target = new Target();
+            target.exception = new IllegalStateException();
+            try {
+                getInterceptorMethodInvocation(accessors, target).invoke(null);
+                Assert.fail();
+            } catch (IllegalStateException e) {
+                Assert.assertSame(target.exception, e);
+            }
+        }
+    }
+
+    @Test
+    public void testInterceptorMethodError() throws Exception {
+        for (MemberAccessors accessors : getAccessors()) {
+            Target target = new Target();
+            target.error = new CallbackError();
+            try {
+                getInterceptorMethodInvocation(accessors, target).invoke(null);
+                Assert.fail();
+            } catch (CallbackError e) {
+                Assert.assertSame(target.error, e);
+            }
+        }
+    }
+
+    private InterceptorMethodInvocation getInterceptorMethodInvocation(MemberAccessors accessors, Target target) throws Exception {
+        // interceptor methods are made accessible when the interceptor metadata is read
+        Method method = Target.class.getDeclaredMethod("postConstruct");
+        method.setAccessible(true);
+        List<Method> methods = Collections.singletonList(method);
+        TargetClassInterceptorMetadata metadata = TargetClassInterceptorMetadata.of(Collections.singletonMap(InterceptionType.POST_CONSTRUCT, methods),
+                accessors);
+        return metadata.getInterceptorInvocation(target, InterceptionType.POST_CONSTRUCT).getInterceptorMethodInvocations().get(0);
+    }
+
+    /**
+     * The generated accessors and reflection
+     */
+    private static MemberAccessors[] getAccessors() {
+        MemberAccessors accessors = new MemberAccessors(true);
+        try {
+            Assert.assertTrue(accessors.getAccess(Target.class.getDeclaredMethod("postConstruct")).isAvailable());
+        } catch (NoSuchMethodException e) {
+            throw new AssertionError(e);
+        }
+        return new MemberAccessors[] { accessors, new MemberAccessors(false) };
+    }
+
+    static class Target {
+
+        RuntimeException exception;
+
+        Error error;
+
+        @PostConstruct
+        void postConstruct() {
+            if (exception != null) {
+                throw exception;
+            }
+            if (error != null) {
+                throw error;
+            }
+        }
+
+    }
+
+    @SuppressWarnings("serial")
+    static class CallbackError extends Error {
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.injection;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.InvocationContext;
+
+import org.jboss.weld.injection.MemberAccess;
+import org.jboss.weld.injection.MemberAccessors;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link MemberAccessors}.
+ */
+public class MemberAccessorsTest {
+
+    @Test
+    public void testGeneratedAccess() throws Exception {
+        MemberAccessors accessors = new MemberAccessors(true);
+
+        MemberAccess constructor = accessors.getAccess(Target.class.getDeclaredConstructor(String.class, int.class));
+        Assert.assertNotNull(constructor);
+        Assert.assertTrue(constructor.isAvailable());
+        Target target = (Target) constructor.newInstance(new Object[] { "foo", 10 });
+        Assert.assertEquals("foo10", target.constructed);
+
+        MemberAccess field = accessors.getAccess(Target.class.getDeclaredField("field"));
+        field.set(target, "bar");
+        Assert.assertEquals("bar", target.field);
+        MemberAccess primitiveField = accessors.getAccess(Target.class.getDeclaredField("primitiveField"));
+        primitiveField.set(target, true);
+        Assert.assertTrue(target.primitiveField);
+
+        MemberAccess method = accessors.getAccess(Target.class.getDeclaredMethod("init", String.class, long.class));
+        Assert.assertNull(method.invoke(target, new Object[] { "baz", 5L }));
+        Assert.assertEquals("baz5", target.initialized);
+        Assert.assertEquals(42, accessors.getAccess(Target.class.getDeclaredMethod("compute")).invoke(target, new Object[0]));
+        Assert.assertEquals("static", accessors.getAccess(Target.class.getDeclaredMethod("staticMethod")).invoke(null, new Object[0]));
+
+        // Exceptions are not wrapped
+        try {
+            accessors.getAccess(Target.class.getDeclaredMethod("fail")).invoke(target, new Object[0]);
+            Assert.fail();
+        } catch (Exception e) {
+            Assert.assertEquals(IllegalStateException.class, e.getClass());
+        }
+        accessors.cleanup();
+    }
+
+    @Test
+    public void testLifecycleCallbacksAndInterceptorMethods() throws Exception {
+        MemberAccessors accessors = new MemberAccessors(true);
+        Target target = new Target();
+        MemberAccess postConstruct = accessors.getAccess(Target.class.getDeclaredMethod("postConstruct"));
+        Assert.assertNotNull(postConstruct);
+        postConstruct.invoke(target, new Object[0]);
+        Assert.assertEquals("postConstruct", target.initialized);
+        MemberAccess aroundInvoke = accessors.getAccess(Target.class.getDeclaredMethod("aroundInvoke", InvocationContext.class));
+        Assert.assertNotNull(aroundInvoke);
+        Assert.assertEquals("aroundInvoke", aroundInvoke.invoke(target, new Object[] { null }));
+        Assert.assertNull(accessors.getAccess(Target.class.getDeclaredMethod("preDestroy")));
+    }
+
+    @Test
+    public void testUnsupportedMembers() throws Exception {
+        MemberAccessors accessors = new MemberAccessors(true);
+        Assert.assertNull(accessors.getAccess(Target.class.getDeclaredField("privateField")));
+        Assert.assertNull(accessors.getAccess(Target.class.getDeclaredField("finalField")));
+        Assert.assertNull(accessors.getAccess(Target.class.getDeclaredField("notInjected")));
+        Assert.assertNull(accessors.getAccess(Target.class.getDeclaredMethod("privateInit")));
+        Assert.assertNull(accessors.getAccess(String.class.getDeclaredConstructor()));
+        Assert.assertNull(new MemberAccessors(false).getAccess(Target.class.getDeclaredField("field")));
+    }
+
+    static class Target {
+
+        @Inject
+        String field;
+
+        @Inject
+        boolean primitiveField;
+
+        @Inject
+        private String privateField;
+
+        @Inject
+        final String finalField = null;
+
+        String notInjected;
+
+        String constructed;
+
+        String initialized;
+
+        Target() {
+        }
+
+        @Inject
+        Target(String value, int number) {
+            this.constructed = value + number;
+        }
+
+        @Inject
+        protected void init(String value, long number) {
+            this.initialized = value + number;
+        }
+
+        @Inject
+        int compute() {
+            return 42;
+        }
+
+        @Inject
+        static String staticMethod() {
+            return "static";
+        }
+
+        @Inject
+        void fail() {
+            throw new IllegalStateException();
+        }
+
+        @Inject
+        private void privateInit() {
+        }
+
+        @PostConstruct
+        void postConstruct() {
+            this.initialized = "postConstruct";
+        }
+
+        @PreDestroy
+        private void preDestroy() {
+        }
+
+        @AroundInvoke
+        Object aroundInvoke(InvocationContext ctx) throws Exception {
+            return "aroundInvoke";
+        }
+
+    }
+
+}
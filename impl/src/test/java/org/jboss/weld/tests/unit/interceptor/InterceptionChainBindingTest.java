@@ -0,0 +1,268 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.interceptor;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.PostConstruct;
+import javax.enterprise.inject.spi.InterceptionType;
+import javax.interceptor.InvocationContext;
+
+import org.jboss.weld.bean.proxy.CombinedInterceptorAndDecoratorStackMethodHandler;
+import org.jboss.weld.bean.proxy.InterceptionDecorationContext;
+import org.jboss.weld.interceptor.builder.InterceptionModelBuilder;
+import org.jboss.weld.interceptor.proxy.InterceptionChainTemplate;
+import org.jboss.weld.interceptor.proxy.InterceptionContext;
+import org.jboss.weld.interceptor.proxy.InterceptorInvocation;
+import org.jboss.weld.interceptor.proxy.InterceptorMethodHandler;
+import org.jboss.weld.interceptor.proxy.InterceptorMethodInvocation;
+import org.jboss.weld.interceptor.reader.TargetClassInterceptorMetadata;
+import org.jboss.weld.interceptor.spi.metadata.InterceptorClassMetadata;
+import org.jboss.weld.interceptor.spi.metadata.InterceptorFactory;
+import org.jboss.weld.interceptor.spi.model.InterceptionModel;
+import org.jboss.weld.interceptor.util.InterceptionUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests that {@link InterceptorMethodHandler} binds the shared {@link InterceptionChainTemplate}s to an intercepted instance once per around-invoke
+ * chain and on every invocation of a lifecycle callback chain.
+ */
+public class InterceptionChainBindingTest {
+
+    private CountingInterceptorMetadata interceptor;
+
+    private InterceptionModel model;
+
+    private Method ping;
+
+    private Method pong;
+
+    private Method unintercepted;
+
+    private Method postConstruct;
+
+    @Before
+    public void init() throws Exception {
+        interceptor = new CountingInterceptorMetadata();
+        ping = Target.class.getMethod("ping");
+        pong = Target.class.getMethod("pong");
+        unintercepted = Target.class.getMethod("unintercepted");
+        postConstruct = Target.class.getMethod(InterceptionUtils.POST_CONSTRUCT);
+        InterceptionModelBuilder builder = new InterceptionModelBuilder();
+        List<InterceptorClassMetadata<?>> interceptors = Collections.<InterceptorClassMetadata<?>> singletonList(interceptor);
+        builder.interceptMethod(InterceptionType.AROUND_INVOKE, ping, interceptors, null);
+        builder.interceptMethod(InterceptionType.AROUND_INVOKE, pong, interceptors, null);
+        builder.interceptGlobal(InterceptionType.POST_CONSTRUCT, null, interceptors, null);
+        builder.setTargetClassInterceptorMetadata(TargetClassInterceptorMetadata.EMPTY_INSTANCE);
+        builder.setClassInterceptorBindings(Collections.emptySet());
+        model = builder.build();
+    }
+
+    @Test
+    public void testMethodWithoutInterceptorsTakesShortcut() throws Throwable {
+        Assert.assertTrue(model.getChainTemplate(org.jboss.weld.interceptor.spi.model.InterceptionType.AROUND_INVOKE, unintercepted).isEmpty());
+        Target target = new Target();
+        CombinedInterceptorAndDecoratorStackMethodHandler handler = newHandler();
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals("unintercepted", invoke(handler, target, unintercepted));
+        }
+        Assert.assertEquals(0, interceptor.binds.get());
+        Assert.assertEquals(0, interceptor.invocations.get());
+    }
+
+    @Test
+    public void testChainBoundOncePerInstance() throws Throwable {
+        Target target = new Target();
+        CombinedInterceptorAndDecoratorStackMethodHandler handler = newHandler();
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals("ping", invoke(handler, target, ping));
+        }
+        Assert.assertEquals(1, interceptor.binds.get());
+        Assert.assertEquals(3, interceptor.invocations.get());
+        // another instance binds its own chain
+        CombinedInterceptorAndDecoratorStackMethodHandler otherHandler = newHandler();
+        Assert.assertEquals("ping", invoke(otherHandler, new Target(), ping));
+        Assert.assertEquals(2, interceptor.binds.get());
+    }
+
+    @Test
+    public void testBoundChainsGrow() throws Throwable {
+        Target target = new Target();
+        CombinedInterceptorAndDecoratorStackMethodHandler handler = newHandler();
+        Assert.assertEquals("ping", invoke(handler, target, ping));
+        // the template of pong() is created after the bound chains were first allocated
+        int allocatedLength = model.getChainTemplateCount();
+        Assert.assertTrue(model.getChainTemplate(org.jboss.weld.interceptor.spi.model.InterceptionType.AROUND_INVOKE, pong).getIndex() >= allocatedLength);
+        Assert.assertEquals("pong", invoke(handler, target, pong));
+        Assert.assertEquals(2, interceptor.binds.get());
+        // the chains bound before the growth are kept
+        Assert.assertEquals("ping", invoke(handler, target, ping));
+        Assert.assertEquals("pong", invoke(handler, target, pong));
+        Assert.assertEquals(2, interceptor.binds.get());
+        Assert.assertEquals(4, interceptor.invocations.get());
+    }
+
+    @Test
+    public void testLifecycleChainBoundPerCall() throws Throwable {
+        Target target = new Target();
+        CombinedInterceptorAndDecoratorStackMethodHandler handler = newHandler();
+        handler.invoke(null, target, postConstruct, null, new Object[0]);
+        handler.invoke(null, target, postConstruct, null, new Object[0]);
+        Assert.assertEquals(2, interceptor.binds.get());
+        Assert.assertEquals(2, interceptor.invocations.get());
+    }
+
+    @Test
+    public void testConcurrentFirstInvocation() throws Exception {
+        final Target target = new Target();
+        final CombinedInterceptorAndDecoratorStackMethodHandler handler = newHandler();
+        final int threads = 8;
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Object>> results = new ArrayList<Future<Object>>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(new Callable<Object>() {
+                    @Override
+                    public Object call() throws Exception {
+                        start.await();
+                        try {
+                            return invoke(handler, target, ping);
+                        } catch (Throwable e) {
+                            throw new IllegalStateException(e);
+                        }
+                    }
+                }));
+            }
+            start.countDown();
+            for (Future<Object> result : results) {
+                Assert.assertEquals("ping", result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(threads, interceptor.invocations.get());
+        // concurrent invocations may bind equivalent chains but one of them is kept
+        int binds = interceptor.binds.get();
+        Assert.assertTrue(binds >= 1 && binds <= threads);
+        try {
+            Assert.assertEquals("ping", invoke(handler, target, ping));
+        } catch (Throwable e) {
+            throw new AssertionError(e);
+        }
+        Assert.assertEquals(binds, interceptor.binds.get());
+    }
+
+    private CombinedInterceptorAndDecoratorStackMethodHandler newHandler() {
+        CombinedInterceptorAndDecoratorStackMethodHandler handler = new CombinedInterceptorAndDecoratorStackMethodHandler();
+        handler.setInterceptorMethodHandler(new InterceptorMethodHandler(InterceptionContext.forNonConstructorInterception(model, null, null, null)));
+        return handler;
+    }
+
+    private static Object invoke(CombinedInterceptorAndDecoratorStackMethodHandler handler, Target target, Method method) throws Throwable {
+        // the intercepted subclass uses the method itself as proceed
+        return handler.invoke(InterceptionDecorationContext.getStack(), target, method, method, new Object[0]);
+    }
+
+    public static class Target {
+
+        public String ping() {
+            return "ping";
+        }
+
+        public String pong() {
+            return "pong";
+        }
+
+        public String unintercepted() {
+            return "unintercepted";
+        }
+
+        // the name of the method the intercepted subclass invokes the post construct interceptors with
+        public void lifecycle_mixin_$$_postConstruct() {
+        }
+
+    }
+
+    static class CountingInterceptor {
+    }
+
+    /**
+     * Counts the chains bound to the interceptor and its invocations.
+     */
+    static class CountingInterceptorMetadata implements InterceptorClassMetadata<CountingInterceptor> {
+
+        private final AtomicInteger binds = new AtomicInteger();
+
+        private final AtomicInteger invocations = new AtomicInteger();
+
+        @Override
+        public boolean isEligible(org.jboss.weld.interceptor.spi.model.InterceptionType interceptionType) {
+            return interceptionType == org.jboss.weld.interceptor.spi.model.InterceptionType.AROUND_INVOKE
+                    || interceptionType == org.jboss.weld.interceptor.spi.model.InterceptionType.POST_CONSTRUCT;
+        }
+
+        @Override
+        public InterceptorInvocation getInterceptorInvocation(Object interceptorInstance,
+                org.jboss.weld.interceptor.spi.model.InterceptionType interceptionType) {
+            binds.incrementAndGet();
+            final InterceptorMethodInvocation invocation = new InterceptorMethodInvocation() {
+
+                @Override
+                public Object invoke(InvocationContext invocationContext) throws Exception {
+                    invocations.incrementAndGet();
+                    return invocationContext.proceed();
+                }
+
+                @Override
+                public boolean expectsInvocationContext() {
+                    return true;
+                }
+            };
+            return new InterceptorInvocation() {
+
+                @Override
+                public List<InterceptorMethodInvocation> getInterceptorMethodInvocations() {
+                    return Collections.singletonList(invocation);
+                }
+            };
+        }
+
+        @Override
+        public InterceptorFactory<CountingInterceptor> getInterceptorFactory() {
+            return (ctx, manager) -> new CountingInterceptor();
+        }
+
+        @Override
+        public Class<CountingInterceptor> getJavaClass() {
+            return CountingInterceptor.class;
+        }
+
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.resolution;
+
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import javax.enterprise.util.AnnotationLiteral;
+import javax.enterprise.util.Nonbinding;
+import javax.inject.Qualifier;
+
+import org.jboss.weld.bootstrap.api.helpers.RegistrySingletonProvider;
+import org.jboss.weld.literal.AnyLiteral;
+import org.jboss.weld.literal.DefaultLiteral;
+import org.jboss.weld.literal.NamedLiteral;
+import org.jboss.weld.metadata.TypeStore;
+import org.jboss.weld.metadata.cache.MetaAnnotationStore;
+import org.jboss.weld.resolution.QualifierSet;
+import org.jboss.weld.resources.ClassTransformer;
+import org.jboss.weld.resources.ReflectionCacheFactory;
+import org.jboss.weld.resources.SharedObjectCache;
+import org.jboss.weld.util.collections.ImmutableSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link QualifierSet}.
+ */
+public class QualifierSetTest {
+
+    private final TypeStore typeStore = new TypeStore();
+    private final MetaAnnotationStore store = new MetaAnnotationStore(new ClassTransformer(typeStore, new SharedObjectCache(),
+            ReflectionCacheFactory.newInstance(typeStore), RegistrySingletonProvider.STATIC_INSTANCE));
+
+    @Test
+    public void testQualifierIds() {
+        Assert.assertEquals(MetaAnnotationStore.ANY_QUALIFIER_ID, store.getQualifierId(AnyLiteral.INSTANCE.annotationType()));
+        Assert.assertEquals(MetaAnnotationStore.DEFAULT_QUALIFIER_ID, store.getQualifierId(DefaultLiteral.INSTANCE.annotationType()));
+        int fast = store.getQualifierId(Fast.class);
+        Assert.assertTrue(fast > MetaAnnotationStore.DEFAULT_QUALIFIER_ID);
+        Assert.assertEquals(fast, store.getQualifierId(Fast.class));
+        Assert.assertEquals(fast + 1, store.getQualifierId(Color.class));
+    }
+
+    @Test
+    public void testContainsAll() {
+        QualifierSet bean = of(AnyLiteral.INSTANCE, new FastLiteral(), new ColorLiteral("red", "foo"), new NamedLiteral("bar"));
+        Assert.assertTrue(bean.containsAll(of(AnyLiteral.INSTANCE)));
+        Assert.assertTrue(bean.containsAll(of(new FastLiteral())));
+        Assert.assertTrue(bean.containsAll(of(new FastLiteral(), new ColorLiteral("red", "baz"))));
+        Assert.assertTrue(bean.containsAll(of(new NamedLiteral("bar"), AnyLiteral.INSTANCE)));
+        Assert.assertTrue(bean.containsAll(of()));
+        Assert.assertTrue(bean.containsAll(QualifierSet.ANY));
+        Assert.assertFalse(bean.containsAll(of(DefaultLiteral.INSTANCE)));
+        Assert.assertFalse(bean.containsAll(of(new FastLiteral(), new ColorLiteral("blue", "foo"))));
+        Assert.assertFalse(bean.containsAll(of(new NamedLiteral("baz"))));
+        Assert.assertFalse(of(new FastLiteral()).containsAll(bean));
+        Assert.assertFalse(QualifierSet.ANY.containsAll(of(AnyLiteral.INSTANCE, new FastLiteral())));
+    }
+
+    @Test
+    public void testManyQualifiers() throws Exception {
+        // Load the same annotation through distinct class loaders so that the qualifier ids exceed the first word of the bitset
+        URL location = Fast.class.getProtectionDomain().getCodeSource().getLocation();
+        for (int i = 0; i < 100; i++) {
+            try (URLClassLoader classLoader = new URLClassLoader(new URL[] { location }, null)) {
+                store.getQualifierId(classLoader.loadClass(Fast.class.getName()).asSubclass(Annotation.class));
+            }
+        }
+        Assert.assertTrue(store.getQualifierId(Fast.class) > 64);
+        QualifierSet fast = of(new FastLiteral());
+        Assert.assertTrue(of(DefaultLiteral.INSTANCE, new FastLiteral()).containsAll(fast));
+        Assert.assertTrue(of(AnyLiteral.INSTANCE, new FastLiteral()).containsAll(of(AnyLiteral.INSTANCE)));
+        Assert.assertFalse(of(DefaultLiteral.INSTANCE).containsAll(fast));
+        Assert.assertFalse(fast.containsAll(of(DefaultLiteral.INSTANCE)));
+    }
+
+    private QualifierSet of(Annotation... qualifiers) {
+        return QualifierSet.of(store.getQualifierInstances(ImmutableSet.of(qualifiers)), store);
+    }
+
+    @Qualifier
+    @Retention(RUNTIME)
+    public @interface Fast {
+    }
+
+    @Qualifier
+    @Retention(RUNTIME)
+    public @interface Color {
+
+        String value();
+
+        @Nonbinding
+        String comment() default "";
+
+    }
+
+    @SuppressWarnings("all")
+    static class FastLiteral extends AnnotationLiteral<Fast> implements Fast {
+    }
+
+    @SuppressWarnings("all")
+    static class ColorLiteral extends AnnotationLiteral<Color> implements Color {
+
+        private final String value;
+
+        private final String comment;
+
+        ColorLiteral(String value, String comment) {
+            this.value = value;
+            this.comment = comment;
+        }
+
+        @Override
+        public String value() {
+            return value;
+        }
+
+        @Override
+        public String comment() {
+            return comment;
+        }
+
+    }
+
+}
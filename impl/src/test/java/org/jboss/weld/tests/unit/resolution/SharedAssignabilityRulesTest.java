@@ -0,0 +1,138 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.resolution;
+
+import java.io.Serializable;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import javax.enterprise.util.TypeLiteral;
+
+import org.jboss.weld.resolution.AssignabilityRules;
+import org.jboss.weld.resolution.BeanTypeAssignabilityRules;
+import org.jboss.weld.resolution.SharedAssignabilityRules;
+import org.jboss.weld.resources.SharedObjectCache;
+import org.jboss.weld.util.reflection.ParameterizedTypeImpl;
+import org.jboss.weld.util.reflection.WildcardTypeImpl;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link SharedAssignabilityRules} and type interning.
+ */
+public class SharedAssignabilityRulesTest {
+
+    @Test
+    public void testMemoizedResults() {
+        AssignabilityRules rules = new SharedAssignabilityRules(10).getBeanTypeRules();
+        Type fooRepository = new TypeLiteral<Repository<Foo, Long>>() {
+        }.getType();
+        Type wildcardRepository = new TypeLiteral<Repository<? extends Foo, ?>>() {
+        }.getType();
+        Type barRepository = new TypeLiteral<Repository<Bar, String>>() {
+        }.getType();
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(rules.matches(wildcardRepository, fooRepository));
+            Assert.assertTrue(rules.matches(wildcardRepository, new ParameterizedTypeImpl(Repository.class, new Type[] { Bar.class, String.class }, null)));
+            Assert.assertFalse(rules.matches(fooRepository, barRepository));
+            Assert.assertFalse(rules.matches(barRepository, wildcardRepository));
+            Assert.assertFalse(rules.matches(Repository.class, fooRepository));
+            Assert.assertTrue(rules.matches(Collections.<Type> singleton(wildcardRepository), Collections.<Type> singleton(barRepository)));
+            Assert.assertEquals(BeanTypeAssignabilityRules.instance().matches(int.class, Integer.class), rules.matches(int.class, Integer.class));
+        }
+        // Exceed the bound
+        for (int i = 0; i < 20; i++) {
+            Assert.assertFalse(rules.matches(new ParameterizedTypeImpl(List.class, new Type[] { Foo.class }, null),
+                    new ParameterizedTypeImpl(Set.class, new Type[] { Foo.class }, null)));
+            Assert.assertTrue(rules.matches(wildcardRepository, fooRepository));
+        }
+    }
+
+    @Test
+    public void testTotalNumberOfResultsBounded() {
+        SharedAssignabilityRules sharedRules = new SharedAssignabilityRules(10);
+        AssignabilityRules rules = sharedRules.getBeanTypeRules();
+        Type wildcardRepository = new TypeLiteral<Repository<? extends Foo, ?>>() {
+        }.getType();
+        // every bean type is checked against several required types
+        for (int i = 0; i < 20; i++) {
+            Type beanType = new ParameterizedTypeImpl(Repository.class, new Type[] { Foo.class, nestedList(i) }, null);
+            Assert.assertTrue(rules.matches(wildcardRepository, beanType));
+            for (int j = 0; j < 5; j++) {
+                Assert.assertFalse(rules.matches(nestedList(j), beanType));
+            }
+            Assert.assertTrue(sharedRules.toString(), getBeanTypeRulesSize(sharedRules) <= 10);
+        }
+    }
+
+    private static Type nestedList(int depth) {
+        Type type = Foo.class;
+        for (int i = 0; i < depth; i++) {
+            type = new ParameterizedTypeImpl(List.class, new Type[] { type }, null);
+        }
+        return type;
+    }
+
+    private static long getBeanTypeRulesSize(SharedAssignabilityRules sharedRules) {
+        String description = sharedRules.toString();
+        int start = description.indexOf("beanTypeRules=") + "beanTypeRules=".length();
+        return Long.parseLong(description.substring(start, description.indexOf(',', start)));
+    }
+
+    @Test
+    public void testSharedTypes() {
+        SharedObjectCache cache = new SharedObjectCache();
+        ParameterizedType type = (ParameterizedType) new TypeLiteral<Repository<Foo, Long>>() {
+        }.getType();
+        ParameterizedType equalType = new ParameterizedTypeImpl(Repository.class, type.getActualTypeArguments(), type.getOwnerType());
+        Assert.assertEquals(type, equalType);
+        Assert.assertSame(type, cache.getSharedType(type));
+        Assert.assertSame(type, cache.getSharedType(equalType));
+        Assert.assertSame(Foo.class, cache.getSharedType(Foo.class));
+        Assert.assertTrue(cache.getTypeClosureHolder(FooRepository.class).get().contains(type));
+        for (Type closureType : cache.getTypeClosureHolder(FooRepository.class).get()) {
+            Assert.assertSame(closureType, cache.getSharedType(closureType));
+        }
+    }
+
+    @Test
+    public void testWildcardTypeEquality() {
+        WildcardType wildcard = (WildcardType) ((ParameterizedType) new TypeLiteral<Repository<? extends Foo, ?>>() {
+        }.getType()).getActualTypeArguments()[0];
+        Assert.assertEquals(wildcard, WildcardTypeImpl.withUpperBound(Foo.class));
+        Assert.assertEquals(WildcardTypeImpl.withUpperBound(Foo.class), wildcard);
+        Assert.assertEquals(wildcard.hashCode(), WildcardTypeImpl.withUpperBound(Foo.class).hashCode());
+        Assert.assertFalse(WildcardTypeImpl.withLowerBound(Foo.class).equals(wildcard));
+    }
+
+    static class Foo {
+    }
+
+    static class Bar extends Foo {
+    }
+
+    interface Repository<E, I extends Serializable> {
+    }
+
+    static class FooRepository implements Repository<Foo, Long> {
+    }
+
+}
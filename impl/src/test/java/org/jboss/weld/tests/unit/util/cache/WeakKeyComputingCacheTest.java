@@ -0,0 +1,100 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.unit.util.cache;
+
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Testcase for {@link ComputingCacheBuilder#setWeakKeys()}
+ */
+public class WeakKeyComputingCacheTest {
+
+    @Test
+    public void testEqualKeys() {
+        AtomicInteger computations = new AtomicInteger();
+        ComputingCache<String, Integer> cache = ComputingCacheBuilder.newBuilder().setWeakKeys().build((x) -> {
+            computations.incrementAndGet();
+            return x.length();
+        });
+        String foo = new String("foo");
+        Assert.assertEquals(Integer.valueOf(3), cache.getValue(foo));
+        Assert.assertEquals(Integer.valueOf(3), cache.getValue(new String("foo")));
+        Assert.assertEquals(Integer.valueOf(3), cache.getValueIfPresent(new String("foo")));
+        Assert.assertNull(cache.getValueIfPresent("bar"));
+        Assert.assertEquals(1, computations.get());
+        Assert.assertEquals(1, cache.size());
+        cache.invalidate(new String("foo"));
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(Integer.valueOf(3), cache.getValue(foo));
+        Assert.assertEquals(2, computations.get());
+        cache.clear();
+        Assert.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testReentrantComputation() {
+        AtomicReference<ComputingCache<Class<?>, Integer>> reference = new AtomicReference<>();
+        reference.set(ComputingCacheBuilder.newBuilder().setWeakKeys()
+                .build((Class<?> clazz) -> clazz.getSuperclass() == null ? 0 : 1 + reference.get().getValue(clazz.getSuperclass())));
+        Assert.assertEquals(Integer.valueOf(2), reference.get().getValue(Integer.class));
+        Assert.assertEquals(3, reference.get().size());
+    }
+
+    @Test
+    public void testCollectedKeys() throws Exception {
+        ComputingCache<Class<?>, String> cache = ComputingCacheBuilder.newBuilder().setWeakKeys().build((x) -> x.getName());
+        // Values referring to the keys must be held weakly
+        ComputingCache<Class<?>, List<Class<?>>> weakValuesCache = ComputingCacheBuilder.newBuilder().setWeakKeys().setWeakValues()
+                .build((x) -> Collections.<Class<?>> singletonList(x));
+        WeakReference<ClassLoader> classLoaderReference = loadAndCache(cache, weakValuesCache);
+        for (int i = 0; i < 50 && (classLoaderReference.get() != null || cache.size() > 0); i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        Assert.assertNull(classLoaderReference.get());
+        Assert.assertEquals(0, cache.size());
+        Assert.assertEquals(0, weakValuesCache.size());
+        Assert.assertEquals(Foo.class.getName(), cache.getValue(Foo.class));
+    }
+
+    private WeakReference<ClassLoader> loadAndCache(ComputingCache<Class<?>, String> cache, ComputingCache<Class<?>, List<Class<?>>> weakValuesCache)
+            throws Exception {
+        URL location = Foo.class.getProtectionDomain().getCodeSource().getLocation();
+        URLClassLoader classLoader = new URLClassLoader(new URL[] { location }, null);
+        Class<?> foo = classLoader.loadClass(Foo.class.getName());
+        Assert.assertEquals(Foo.class.getName(), cache.getValue(foo));
+        Assert.assertSame(foo, weakValuesCache.getValue(foo).get(0));
+        Assert.assertEquals(1, cache.size());
+        classLoader.close();
+        return new WeakReference<ClassLoader>(classLoader);
+    }
+
+    public static class Foo {
+    }
+
+}
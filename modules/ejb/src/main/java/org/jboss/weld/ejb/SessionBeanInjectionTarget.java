@@ -49,7 +49,7 @@ import org.jboss.weld.util.Types;
 class SessionBeanInjectionTarget<T> extends BeanInjectionTarget<T> {
 
     public static <T> SessionBeanInjectionTarget<T> of(EnhancedAnnotatedType<T> type, SessionBean<T> bean, BeanManagerImpl beanManager) {
-        LifecycleCallbackInvoker<T> invoker = DefaultLifecycleCallbackInvoker.of(type);
+        LifecycleCallbackInvoker<T> invoker = DefaultLifecycleCallbackInvoker.of(type, beanManager);
         Injector<T> injector;
         if (bean.getEjbDescriptor().isStateless()) {
             injector = new StatelessSessionBeanInjector<T>(type, bean, beanManager);
@@ -22,6 +22,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpSession;
 
 import org.jboss.weld.Container;
+import org.jboss.weld.bootstrap.RuntimeMetrics;
 import org.jboss.weld.bootstrap.api.Service;
 import org.jboss.weld.context.BoundContext;
 import org.jboss.weld.context.ManagedContext;
@@ -81,6 +82,8 @@ public class HttpContextLifecycle implements Service {
 
     private final Container container;
 
+    private final RuntimeMetrics metrics;
+
     private static final ThreadLocal<Counter> nestedInvocationGuard = new ThreadLocal<HttpContextLifecycle.Counter>();
     private final boolean nestedInvocationGuardEnabled;
 
@@ -105,6 +108,7 @@ public class HttpContextLifecycle implements Service {
         this.servletContextService = beanManager.getServices().get(ServletContextService.class);
         this.nestedInvocationGuardEnabled = nestedInvocationGuardEnabled;
         this.container = Container.instance(beanManager);
+        this.metrics = beanManager.getServices().get(RuntimeMetrics.class);
     }
 
     private HttpSessionDestructionContext getSessionDestructionContext() {
@@ -145,9 +149,11 @@ public class HttpContextLifecycle implements Service {
         SessionHolder.sessionCreated(session);
         conversationContextActivator.sessionCreated(session);
         sessionInitializedEvent.fire(session);
+        metrics.sessionCreated();
     }
 
     public void sessionDestroyed(HttpSession session) {
+        metrics.sessionDestroyed();
         // Mark the session context and conversation contexts to destroy
         // instances when appropriate
         deactivateSessionDestructionContext(session);
@@ -206,10 +206,49 @@ public final class Invocation {
 
         private boolean ignoreIfNoChildren;
 
+        /**
+         * The number of monitored invocations in progress, only used for a skipped invocation tree
+         */
+        private int skippedDepth;
+
         static Builder newBuilder(Integer idx) {
             return new Builder(idx);
         }
 
+        /**
+         * The invocation tree of a skipped entry point is not recorded at all. The nested invocations share the same builder.
+         *
+         * @return a builder of a skipped entry point
+         */
+        static Builder newSkippedBuilder() {
+            Builder builder = new Builder(null);
+            builder.skippedDepth = 1;
+            return builder;
+        }
+
+        boolean isSkipped() {
+            return skippedDepth > 0;
+        }
+
+        /**
+         * A nested invocation of a skipped entry point starts.
+         *
+         * @return self
+         */
+        Builder enterSkipped() {
+            skippedDepth++;
+            return this;
+        }
+
+        /**
+         * An invocation of a skipped entry point ends.
+         *
+         * @return <code>true</code> if the skipped entry point itself ended, <code>false</code> otherwise
+         */
+        boolean leaveSkipped() {
+            return --skippedDepth == 0;
+        }
+
         Builder newChild() {
             Invocation.Builder child = newBuilder(null);
             addChild(child);
@@ -60,19 +60,27 @@ public class InvocationMonitor implements Serializable {
      *
      * @return a new entry point or a child
      */
-    static Invocation.Builder initBuilder() {
-        return initBuilder(true);
+    static Invocation.Builder initBuilder(Probe probe) {
+        return initBuilder(probe, true);
     }
 
     /**
+     * If there is no entry point yet, the probe decides whether the invocation tree should be recorded. If not, a skipped builder is returned.
      *
-     * @return a new entry point or a child or <code>null</code>
+     * @return a new entry point, a child, the current builder or a skipped builder
+     * @see Invocation.Builder#isSkipped()
      */
-    static Invocation.Builder initBuilder(boolean initChild) {
+    static Invocation.Builder initBuilder(Probe probe, boolean initChild) {
         Invocation.Builder builder = INVOCATIONS.get();
         if (builder == null) {
-            builder = Invocation.Builder.newBuilder(INVOCATION_ID_GENERATOR.incrementAndGet());
+            if (probe.isInvocationTreeRecorded()) {
+                builder = Invocation.Builder.newBuilder(INVOCATION_ID_GENERATOR.incrementAndGet());
+            } else {
+                builder = Invocation.Builder.newSkippedBuilder();
+            }
             INVOCATIONS.set(builder);
+        } else if (builder.isSkipped()) {
+            builder.enterSkipped();
         } else if (initChild) {
             builder = builder.newChild();
             INVOCATIONS.set(builder);
@@ -106,16 +114,32 @@ public class InvocationMonitor implements Serializable {
             return ctx.proceed();
         }
 
-        final Invocation.Builder builder = initBuilder();
+        final MethodStatistics statistics = probe.getMethodStatistics(interceptedBean, ctx.getMethod());
+        final long start = System.nanoTime();
+        try {
+            if (probe.isInvocationAggregation()) {
+                // Only the aggregated statistics are recorded
+                return ctx.proceed();
+            }
+            return monitorInvocation(ctx);
+        } finally {
+            statistics.record(System.nanoTime() - start);
+        }
+    }
+
+    private Object monitorInvocation(InvocationContext ctx) throws Exception {
+        final Invocation.Builder builder = initBuilder(probe);
 
-        if (interceptedBean != null) {
-            builder.setInterceptedBean(interceptedBean);
-        } else {
-            builder.setDeclaringClassName(ctx.getMethod().getDeclaringClass().getName());
+        if (!builder.isSkipped()) {
+            if (interceptedBean != null) {
+                builder.setInterceptedBean(interceptedBean);
+            } else {
+                builder.setDeclaringClassName(ctx.getMethod().getDeclaringClass().getName());
+            }
+            builder.guessType(ctx);
+            builder.setStart(System.currentTimeMillis());
+            builder.setMethodName(ctx.getMethod().getName());
         }
-        builder.guessType(ctx);
-        builder.setStart(System.currentTimeMillis());
-        builder.setMethodName(ctx.getMethod().getName());
 
         return INTERCEPTOR_ACTION.perform(builder, probe, ctx);
     }
@@ -147,6 +171,15 @@ public class InvocationMonitor implements Serializable {
     abstract static class Action<T> {
 
         Object perform(Invocation.Builder builder, Probe probe, T context) throws Exception {
+            if (builder.isSkipped()) {
+                try {
+                    return proceed(context);
+                } finally {
+                    if (builder.leaveSkipped()) {
+                        INVOCATIONS.remove();
+                    }
+                }
+            }
             try {
                 long start = System.nanoTime();
                 Object result = proceed(context);
@@ -16,6 +16,7 @@
  */
 package org.jboss.weld.probe;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -30,6 +31,11 @@ import org.jboss.weld.util.Preconditions;
 /**
  * Simple JSON generator. A third-party library is not used intentionally - we don't need any other dependencies.
  *
+ * <p>
+ * A builder may be serialized directly to a {@link java.io.Writer} (see {@link JsonBuilder#appendTo(Appendable)}) so that no intermediate strings are
+ * allocated for nested builders. Note that this is not a streaming generator - the whole tree of builders is kept in memory until it's serialized.
+ * </p>
+ *
  * @author Martin Kouba
  */
 final class Json {
@@ -111,7 +117,25 @@ final class Json {
          *
          * @return a string representation
          */
-        abstract String build();
+        String build() {
+            StringBuilder builder = new StringBuilder();
+            try {
+                appendTo(builder);
+            } catch (IOException e) {
+                // StringBuilder does not throw IOException
+                throw new IllegalStateException(e);
+            }
+            return builder.toString();
+        }
+
+        /**
+         * Serializes the already built JSON representation to the given appendable. Nested builders are appended recursively, i.e. not converted to
+         * strings first.
+         *
+         * @param out
+         * @throws IOException
+         */
+        abstract void appendTo(Appendable out) throws IOException;
 
         /**
          *
@@ -198,8 +222,7 @@ final class Json {
             return isValuesEmpty(values);
         }
 
-        String build() {
-            StringBuilder builder = new StringBuilder();
+        void appendTo(Appendable builder) throws IOException {
             builder.append(ARRAY_START);
             int idx = 0;
             for (ListIterator<Object> iterator = values.listIterator(); iterator.hasNext();) {
@@ -213,7 +236,6 @@ final class Json {
                 appendValue(builder, value);
             }
             builder.append(ARRAY_END);
-            return builder.toString();
         }
 
         @Override
@@ -281,8 +303,7 @@ final class Json {
             return isValuesEmpty(properties.values());
         }
 
-        String build() {
-            StringBuilder builder = new StringBuilder();
+        void appendTo(Appendable builder) throws IOException {
             builder.append(OBJECT_START);
             int idx = 0;
             for (Iterator<Entry<String, Object>> iterator = properties.entrySet().iterator(); iterator.hasNext();) {
@@ -298,7 +319,6 @@ final class Json {
                 appendValue(builder, entry.getValue());
             }
             builder.append(OBJECT_END);
-            return builder.toString();
         }
 
         @Override
@@ -308,11 +328,9 @@ final class Json {
 
     }
 
-    static void appendValue(StringBuilder builder, Object value) {
-        if (value instanceof JsonObjectBuilder) {
-            builder.append(((JsonObjectBuilder) value).build());
-        } else if (value instanceof JsonArrayBuilder) {
-            builder.append(((JsonArrayBuilder) value).build());
+    static void appendValue(Appendable builder, Object value) throws IOException {
+        if (value instanceof JsonBuilder) {
+            ((JsonBuilder<?>) value).appendTo(builder);
         } else if (value instanceof String) {
             appendStringValue(builder, value.toString());
         } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long) {
@@ -322,9 +340,9 @@ final class Json {
         }
     }
 
-    static void appendStringValue(StringBuilder builder, String value) {
+    static void appendStringValue(Appendable builder, String value) throws IOException {
         builder.append(CHAR_QUOTATION_MARK);
-        builder.append(escape(value));
+        escape(value, builder);
         builder.append(CHAR_QUOTATION_MARK);
     }
 
@@ -332,25 +350,22 @@ final class Json {
      * TODO control characters (U+0000 through U+001F)
      *
      * @param value
-     * @return escaped value
+     * @param builder the escaped value is appended to the builder
      * @see <a href="http://www.ietf.org/rfc/rfc4627.txt">http://www.ietf.org/rfc/rfc4627.txt</a>
      */
-    static String escape(String value) {
-        StringBuilder builder = new StringBuilder();
+    private static void escape(String value, Appendable builder) throws IOException {
+        // Append the unescaped chars in chunks
+        int start = 0;
         for (int i = 0; i < value.length(); i++) {
             char c = value.charAt(i);
-            switch (c) {
-                case CHAR_REVERSE_SOLIDUS:
-                case CHAR_QUOTATION_MARK:
-                    builder.append(CHAR_REVERSE_SOLIDUS);
-                    builder.append(c);
-                    break;
-                default:
-                    builder.append(c);
-                    break;
+            if (c == CHAR_REVERSE_SOLIDUS || c == CHAR_QUOTATION_MARK) {
+                builder.append(value, start, i);
+                builder.append(CHAR_REVERSE_SOLIDUS);
+                builder.append(c);
+                start = i + 1;
             }
         }
-        return builder.toString();
+        builder.append(value, start, value.length());
     }
 
 }
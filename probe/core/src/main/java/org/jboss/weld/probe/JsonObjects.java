@@ -23,16 +23,23 @@ import static org.jboss.weld.probe.Strings.APPLICATION;
 import static org.jboss.weld.probe.Strings.AS_STRING;
 import static org.jboss.weld.probe.Strings.BDAS;
 import static org.jboss.weld.probe.Strings.BDA_ID;
+import static org.jboss.weld.probe.Strings.BEAN;
 import static org.jboss.weld.probe.Strings.BEANS;
 import static org.jboss.weld.probe.Strings.BEAN_CLASS;
 import static org.jboss.weld.probe.Strings.BEAN_DISCOVERY_MODE;
+import static org.jboss.weld.probe.Strings.BEAN_IDENTIFIER;
+import static org.jboss.weld.probe.Strings.BUSY;
 import static org.jboss.weld.probe.Strings.CHILDREN;
+import static org.jboss.weld.probe.Strings.CID;
 import static org.jboss.weld.probe.Strings.CIDS;
 import static org.jboss.weld.probe.Strings.CLASS;
 import static org.jboss.weld.probe.Strings.CONFIGURATION;
 import static org.jboss.weld.probe.Strings.CONTAINER;
+import static org.jboss.weld.probe.Strings.CONTENTIONS;
 import static org.jboss.weld.probe.Strings.CONTEXTS;
 import static org.jboss.weld.probe.Strings.CONTEXT_ID;
+import static org.jboss.weld.probe.Strings.CONVERSATIONS;
+import static org.jboss.weld.probe.Strings.COUNT;
 import static org.jboss.weld.probe.Strings.DATA;
 import static org.jboss.weld.probe.Strings.DECLARED_OBSERVERS;
 import static org.jboss.weld.probe.Strings.DECLARED_PRODUCERS;
@@ -47,18 +54,32 @@ import static org.jboss.weld.probe.Strings.DISPOSAL_METHOD;
 import static org.jboss.weld.probe.Strings.EJB_NAME;
 import static org.jboss.weld.probe.Strings.ENABLEMENT;
 import static org.jboss.weld.probe.Strings.EVENT_INFO;
+import static org.jboss.weld.probe.Strings.FIRST_DETECTED;
+import static org.jboss.weld.probe.Strings.FIRST_FIRED;
 import static org.jboss.weld.probe.Strings.ID;
+import static org.jboss.weld.probe.Strings.INJECTION_POINT;
 import static org.jboss.weld.probe.Strings.INSTANCES;
 import static org.jboss.weld.probe.Strings.INTERCEPTED_BEAN;
 import static org.jboss.weld.probe.Strings.INTERCEPTORS;
 import static org.jboss.weld.probe.Strings.IS_ALTERNATIVE;
 import static org.jboss.weld.probe.Strings.KIND;
+import static org.jboss.weld.probe.Strings.LAST_DETECTED;
+import static org.jboss.weld.probe.Strings.LAST_FIRED;
 import static org.jboss.weld.probe.Strings.LAST_PAGE;
+import static org.jboss.weld.probe.Strings.LEAKS;
+import static org.jboss.weld.probe.Strings.MAX;
+import static org.jboss.weld.probe.Strings.MAX_WAIT_TIME;
+import static org.jboss.weld.probe.Strings.MEAN;
+import static org.jboss.weld.probe.Strings.MEAN_RATE;
 import static org.jboss.weld.probe.Strings.METHOD;
 import static org.jboss.weld.probe.Strings.METHOD_NAME;
 import static org.jboss.weld.probe.Strings.NAME;
 import static org.jboss.weld.probe.Strings.OBSERVED_TYPE;
 import static org.jboss.weld.probe.Strings.OBSERVERS;
+import static org.jboss.weld.probe.Strings.OWNER;
+import static org.jboss.weld.probe.Strings.P50;
+import static org.jboss.weld.probe.Strings.P90;
+import static org.jboss.weld.probe.Strings.P99;
 import static org.jboss.weld.probe.Strings.PAGE;
 import static org.jboss.weld.probe.Strings.PRIORITY;
 import static org.jboss.weld.probe.Strings.PRIORITY_RANGE;
@@ -68,20 +89,26 @@ import static org.jboss.weld.probe.Strings.PRODUCER_INFO;
 import static org.jboss.weld.probe.Strings.PRODUCER_METHOD;
 import static org.jboss.weld.probe.Strings.PROPERTIES;
 import static org.jboss.weld.probe.Strings.QUALIFIERS;
+import static org.jboss.weld.probe.Strings.RECENT_RATE;
 import static org.jboss.weld.probe.Strings.RECEPTION;
 import static org.jboss.weld.probe.Strings.REQUIRED_TYPE;
 import static org.jboss.weld.probe.Strings.SCOPE;
 import static org.jboss.weld.probe.Strings.SESSION_BEAN_TYPE;
+import static org.jboss.weld.probe.Strings.SIZE;
 import static org.jboss.weld.probe.Strings.START;
 import static org.jboss.weld.probe.Strings.STEREOTYPES;
+import static org.jboss.weld.probe.Strings.THRESHOLD;
 import static org.jboss.weld.probe.Strings.TIME;
 import static org.jboss.weld.probe.Strings.TIMESTAMP;
 import static org.jboss.weld.probe.Strings.TOTAL;
+import static org.jboss.weld.probe.Strings.TOTAL_TIME;
 import static org.jboss.weld.probe.Strings.TX_PHASE;
 import static org.jboss.weld.probe.Strings.TYPE;
 import static org.jboss.weld.probe.Strings.TYPES;
 import static org.jboss.weld.probe.Strings.VALUE;
 import static org.jboss.weld.probe.Strings.VERSION;
+import static org.jboss.weld.probe.Strings.WAIT_TIME;
+import static org.jboss.weld.probe.Strings.WARNINGS;
 
 import java.beans.BeanInfo;
 import java.beans.IntrospectionException;
@@ -103,6 +130,7 @@ import java.util.Set;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.ConversationScoped;
 import javax.enterprise.context.spi.Context;
+import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.inject.Any;
 import javax.enterprise.inject.Default;
 import javax.enterprise.inject.spi.AnnotatedField;
@@ -125,6 +153,10 @@ import org.jboss.weld.bootstrap.spi.BeansXml;
 import org.jboss.weld.config.ConfigurationKey;
 import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.context.AbstractConversationContext;
+import org.jboss.weld.context.DependentInstanceLeakDetector;
+import org.jboss.weld.context.DependentInstanceLeakDetector.Leak;
+import org.jboss.weld.context.LockContentionMonitor;
+import org.jboss.weld.context.LockContentionMonitor.LockStatistics;
 import org.jboss.weld.context.ManagedConversation;
 import org.jboss.weld.event.ObserverMethodImpl;
 import org.jboss.weld.experimental.Prioritized;
@@ -136,8 +168,10 @@ import org.jboss.weld.probe.Components.Dependency;
 import org.jboss.weld.probe.Json.JsonArrayBuilder;
 import org.jboss.weld.probe.Json.JsonObjectBuilder;
 import org.jboss.weld.probe.ProbeObserver.EventInfo;
+import org.jboss.weld.probe.ProbeObserver.EventTypeStatistics;
 import org.jboss.weld.probe.Queries.Page;
 import org.jboss.weld.probe.Resource.Representation;
+import org.jboss.weld.serialization.spi.ContextualStore;
 import org.jboss.weld.util.AnnotationApiAbstraction;
 import org.jboss.weld.util.collections.Sets;
 import org.jboss.weld.util.reflection.Formats;
@@ -157,7 +191,7 @@ final class JsonObjects {
      * @param beanManager
      * @return the root resource representation
      */
-    static String createDeploymentJson(BeanManagerImpl beanManager, Probe probe) {
+    static JsonObjectBuilder createDeploymentJson(BeanManagerImpl beanManager, Probe probe) {
 
         Map<BeanDeploymentArchive, BeanManagerImpl> beanDeploymentArchivesMap = Container.instance(beanManager).beanDeploymentArchives();
         JsonObjectBuilder deploymentBuilder = Json.objectBuilder();
@@ -238,7 +272,7 @@ final class JsonObjects {
         // INSPECTABLE CONTEXTS
         deploymentBuilder.add(CONTEXTS, createContextsJson(beanManager, probe));
 
-        return deploymentBuilder.build();
+        return deploymentBuilder;
     }
 
     static Bean<?> findEnabledBean(Class<?> beanClass, BeanKind kind, Probe probe) {
@@ -281,7 +315,7 @@ final class JsonObjects {
      * @param representation
      * @return the collection of all beans of the given page, using the given representation
      */
-    static String createBeansJson(Page<Bean<?>> page, Probe probe, BeanManagerImpl beanManager, Representation representation) {
+    static JsonObjectBuilder createBeansJson(Page<Bean<?>> page, Probe probe, BeanManagerImpl beanManager, Representation representation) {
         JsonArrayBuilder beansBuilder = Json.arrayBuilder();
         for (Bean<?> bean : page.getData()) {
             switch (representation) {
@@ -339,7 +373,7 @@ final class JsonObjects {
      * @param probe
      * @return the full bean representation
      */
-    static String createFullBeanJson(Bean<?> bean, boolean transientDependencies, boolean transientDependents, BeanManagerImpl beanManager, Probe probe) {
+    static JsonObjectBuilder createFullBeanJson(Bean<?> bean, boolean transientDependencies, boolean transientDependents, BeanManagerImpl beanManager, Probe probe) {
         JsonObjectBuilder beanBuilder = createBasicBeanJson(bean, probe);
         // NAME
         if (bean.getName() != null) {
@@ -454,7 +488,7 @@ final class JsonObjects {
             }
             beanBuilder.add(ENABLEMENT, enablementBuilder);
         }
-        return beanBuilder.build();
+        return beanBuilder;
     }
 
     private static boolean isSelectedAlternative(ModuleEnablement enablement, Bean<?> bean) {
@@ -593,7 +627,7 @@ final class JsonObjects {
      * @param probe
      * @return the collection of all observer methods, using basic representation
      */
-    static String createInvocationsJson(Page<Invocation> page, Probe probe) {
+    static JsonObjectBuilder createInvocationsJson(Page<Invocation> page, Probe probe) {
         JsonArrayBuilder invocationsBuilder = Json.arrayBuilder();
         for (Invocation invocation : page.getData()) {
             invocationsBuilder.add(createBasicInvocationJson(invocation, probe));
@@ -620,6 +654,37 @@ final class JsonObjects {
         return invocationBuilder;
     }
 
+    /**
+     * All the times are in nanoseconds.
+     *
+     * @param page
+     * @param probe
+     * @return the page of method statistics
+     */
+    static JsonObjectBuilder createMethodStatisticsJson(Page<MethodStatistics> page, Probe probe) {
+        JsonArrayBuilder statisticsBuilder = Json.arrayBuilder();
+        for (MethodStatistics statistics : page.getData()) {
+            JsonObjectBuilder builder = Json.objectBuilder();
+            if (statistics.getInterceptedBean() != null) {
+                builder.add(INTERCEPTED_BEAN, createSimpleBeanJson(statistics.getInterceptedBean(), probe));
+            } else {
+                builder.add(DECLARING_CLASS, statistics.getBeanClass());
+            }
+            builder.add(METHOD_NAME, statistics.getMethodName());
+            long count = statistics.getCount();
+            long totalTime = statistics.getTotalTime();
+            builder.add(COUNT, count);
+            builder.add(TOTAL_TIME, totalTime);
+            builder.add(MEAN, count > 0 ? totalTime / count : 0L);
+            builder.add(P50, statistics.getPercentile(MethodStatistics.MEDIAN));
+            builder.add(P90, statistics.getPercentile(MethodStatistics.PERCENTILE_90));
+            builder.add(P99, statistics.getPercentile(MethodStatistics.PERCENTILE_99));
+            builder.add(MAX, statistics.getMax());
+            statisticsBuilder.add(builder);
+        }
+        return createPageJson(page, statisticsBuilder);
+    }
+
     /**
      *
      * @param invocation
@@ -644,7 +709,7 @@ final class JsonObjects {
      * @param probe
      * @return the collection of all observer methods, using basic representation
      */
-    static String createObserversJson(Page<ObserverMethod<?>> page, Probe probe) {
+    static JsonObjectBuilder createObserversJson(Page<ObserverMethod<?>> page, Probe probe) {
         JsonArrayBuilder observersBuilder = Json.arrayBuilder();
         for (ObserverMethod<?> observerMethod : page.getData()) {
             observersBuilder.add(createBasicObserverJson(observerMethod, probe));
@@ -658,13 +723,13 @@ final class JsonObjects {
      * @param probe
      * @return
      */
-    static String createFullObserverJson(ObserverMethod<?> observerMethod, Probe probe) {
+    static JsonObjectBuilder createFullObserverJson(ObserverMethod<?> observerMethod, Probe probe) {
         JsonObjectBuilder observerBuilder = createBasicObserverJson(observerMethod, probe);
         if (observerMethod instanceof ObserverMethodImpl) {
             ObserverMethodImpl<?, ?> observerMethodImpl = (ObserverMethodImpl<?, ?>) observerMethod;
             observerBuilder.add(ANNOTATED_METHOD, annotatedMethodToString(observerMethodImpl.getMethod().getAnnotated(), observerMethodImpl.getBeanClass()));
         }
-        return observerBuilder.build();
+        return observerBuilder;
     }
 
     static JsonObjectBuilder createBasicObserverJson(ObserverMethod<?> observerMethod, Probe probe) {
@@ -698,7 +763,7 @@ final class JsonObjects {
         return observerBuilder;
     }
 
-    static String createContextualInstanceJson(Bean<?> bean, Object contextualInstance, Probe probe) {
+    static JsonObjectBuilder createContextualInstanceJson(Bean<?> bean, Object contextualInstance, Probe probe) {
         try {
             JsonObjectBuilder builder = createSimpleBeanJson(bean, probe);
             builder.add(SCOPE, simplifiedScope(bean.getScope()));
@@ -731,7 +796,7 @@ final class JsonObjects {
                         .add(Json.objectBuilder().add(NAME, propertyDescriptor.getDisplayName()).add(VALUE, value != null ? value.toString() : "null"));
             }
             builder.add(PROPERTIES, propertiesBuilder);
-            return builder.build();
+            return builder;
 
         } catch (IntrospectionException e) {
             ProbeLogger.LOG.introspectionProblem(bean, e);
@@ -845,8 +910,8 @@ final class JsonObjects {
         return builder;
     }
 
-    static String createPageJson(Page<?> page, JsonArrayBuilder data) {
-        return Json.objectBuilder().add(PAGE, page.getIdx()).add(LAST_PAGE, page.getLastIdx()).add(TOTAL, page.getTotal()).add(DATA, data).build();
+    static JsonObjectBuilder createPageJson(Page<?> page, JsonArrayBuilder data) {
+        return Json.objectBuilder().add(PAGE, page.getIdx()).add(LAST_PAGE, page.getLastIdx()).add(TOTAL, page.getTotal()).add(DATA, data);
     }
 
     static String annotatedMethodToString(AnnotatedMethod<?> method, Class<?> beanClass) {
@@ -884,11 +949,11 @@ final class JsonObjects {
         JsonObjectBuilder builder = Json.objectBuilder();
         builder.add(TYPE, Formats.formatType(event.type, false));
         builder.add(QUALIFIERS, createQualifiers(event.qualifiers, true));
-        builder.add(EVENT_INFO, event.eventString);
+        builder.add(EVENT_INFO, event.getEventString());
         builder.add(KIND, (event.containerEvent ? CONTAINER : APPLICATION).toUpperCase());
         builder.add(TIMESTAMP, event.timestamp);
         JsonArrayBuilder observersBuilder = Json.arrayBuilder();
-        for (ObserverMethod<?> observer : event.observers) {
+        for (ObserverMethod<?> observer : event.getObservers()) {
             JsonObjectBuilder b = createSimpleObserverJson(observer, probe);
             if (observer instanceof ObserverMethodImpl<?, ?>) {
                 ObserverMethodImpl<?, ?> weldObserver = (ObserverMethodImpl<?, ?>) observer;
@@ -901,7 +966,29 @@ final class JsonObjects {
         return builder;
     }
 
-    static String createEventsJson(Page<EventInfo> page, Probe probe) {
+    /**
+     * The rates are expressed in events per minute.
+     *
+     * @param page
+     * @return the page of event type statistics
+     */
+    static JsonObjectBuilder createEventTypeStatisticsJson(Page<EventTypeStatistics> page) {
+        long now = System.currentTimeMillis();
+        JsonArrayBuilder statisticsBuilder = Json.arrayBuilder();
+        for (EventTypeStatistics statistics : page.getData()) {
+            JsonObjectBuilder builder = Json.objectBuilder();
+            builder.add(TYPE, statistics.type);
+            builder.add(COUNT, statistics.getCount());
+            builder.add(FIRST_FIRED, statistics.getFirstFired());
+            builder.add(LAST_FIRED, statistics.getLastFired());
+            builder.add(MEAN_RATE, statistics.getMeanRate(now));
+            builder.add(RECENT_RATE, statistics.getRecentRate(now));
+            statisticsBuilder.add(builder);
+        }
+        return createPageJson(page, statisticsBuilder);
+    }
+
+    static JsonObjectBuilder createEventsJson(Page<EventInfo> page, Probe probe) {
         JsonArrayBuilder eventsBuilder = Json.arrayBuilder();
         for (EventInfo event : page.getData()) {
             eventsBuilder.add(createEventJson(event, probe));
@@ -909,6 +996,56 @@ final class JsonObjects {
         return createPageJson(page, eventsBuilder);
     }
 
+    static JsonObjectBuilder createLeaksJson(DependentInstanceLeakDetector detector, Probe probe) {
+        JsonArrayBuilder leaksBuilder = Json.arrayBuilder();
+        for (Leak leak : detector.getLeaks()) {
+            JsonObjectBuilder leakBuilder = Json.objectBuilder();
+            Contextual<?> owner = leak.getOwner();
+            if (owner instanceof Bean<?> && probe.getBeanId((Bean<?>) owner) != null) {
+                leakBuilder.add(OWNER, createSimpleBeanJson((Bean<?>) owner, probe));
+            } else {
+                leakBuilder.add(OWNER, Json.objectBuilder().add(AS_STRING, String.valueOf(owner)));
+            }
+            leakBuilder.add(INJECTION_POINT, leak.getInjectionPoint());
+            leakBuilder.add(SIZE, leak.getSize());
+            leakBuilder.add(WARNINGS, leak.getWarnings());
+            leakBuilder.add(FIRST_DETECTED, leak.getFirstDetected());
+            leakBuilder.add(LAST_DETECTED, leak.getLastDetected());
+            leaksBuilder.add(leakBuilder);
+        }
+        return Json.objectBuilder().add(THRESHOLD, detector.getThreshold()).add(LEAKS, leaksBuilder);
+    }
+
+    static JsonObjectBuilder createLocksJson(LockContentionMonitor monitor, ContextualStore contextualStore, Probe probe) {
+        JsonArrayBuilder beansBuilder = Json.arrayBuilder();
+        for (LockStatistics statistics : monitor.getBeanLocks()) {
+            JsonObjectBuilder lockBuilder = createLockStatisticsJson(statistics);
+            lockBuilder.add(BEAN_IDENTIFIER, statistics.getKey());
+            lockBuilder.add(SCOPE, simplifiedScope(statistics.getScope()));
+            Contextual<?> contextual = contextualStore.getContextual(statistics.getKey());
+            if (contextual instanceof Bean<?> && probe.getBeanId((Bean<?>) contextual) != null) {
+                lockBuilder.add(BEAN, createSimpleBeanJson((Bean<?>) contextual, probe));
+            }
+            beansBuilder.add(lockBuilder);
+        }
+        JsonArrayBuilder conversationsBuilder = Json.arrayBuilder();
+        for (LockStatistics statistics : monitor.getConversationLocks()) {
+            conversationsBuilder.add(createLockStatisticsJson(statistics).add(CID, statistics.getKey()).add(BUSY, statistics.getTimeouts()));
+        }
+        JsonObjectBuilder totalBuilder = Json.objectBuilder();
+        totalBuilder.add(BEANS, createLockStatisticsJson(monitor.getBeanTotals()));
+        totalBuilder.add(CONVERSATIONS, createLockStatisticsJson(monitor.getConversationTotals()).add(BUSY, monitor.getConversationTotals().getTimeouts()));
+        return Json.objectBuilder().add(TOTAL, totalBuilder).add(BEANS, beansBuilder).add(CONVERSATIONS, conversationsBuilder);
+    }
+
+    private static JsonObjectBuilder createLockStatisticsJson(LockStatistics statistics) {
+        JsonObjectBuilder builder = Json.objectBuilder();
+        builder.add(CONTENTIONS, statistics.getContentions());
+        builder.add(WAIT_TIME, statistics.getWaitTime());
+        builder.add(MAX_WAIT_TIME, statistics.getMaxWaitTime());
+        return builder;
+    }
+
     static JsonObjectBuilder createSimpleBdaJson(String bdaId) {
         JsonObjectBuilder bdaBuilder = Json.objectBuilder(true);
         bdaBuilder.add(BDA_ID, bdaId);
@@ -0,0 +1,207 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.probe;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.enterprise.inject.spi.Bean;
+
+import org.jboss.weld.util.reflection.Formats;
+
+/**
+ * Aggregated statistics of the invocations of a single business method of a single bean - the number of invocations, the total time and a
+ * latency histogram. The memory used does not depend on the number of invocations.
+ *
+ * @see Histogram
+ */
+final class MethodStatistics {
+
+    static final double MEDIAN = 0.5;
+
+    static final double PERCENTILE_90 = 0.9;
+
+    static final double PERCENTILE_99 = 0.99;
+
+    static final Comparator<MethodStatistics> TOTAL_TIME_COMPARATOR = new Comparator<MethodStatistics>() {
+        @Override
+        public int compare(MethodStatistics o1, MethodStatistics o2) {
+            return Long.compare(o2.getTotalTime(), o1.getTotalTime());
+        }
+    };
+
+    private final Bean<?> interceptedBean;
+
+    private final String declaringClassName;
+
+    private final String methodName;
+
+    private final Histogram histogram;
+
+    private final LongAdder totalTime;
+
+    MethodStatistics(Bean<?> interceptedBean, Method method) {
+        this.interceptedBean = interceptedBean;
+        this.declaringClassName = method.getDeclaringClass().getName();
+        this.methodName = method.getName() + "(" + Formats.formatTypes(Arrays.asList(method.getParameterTypes())) + ")";
+        this.histogram = new Histogram();
+        this.totalTime = new LongAdder();
+    }
+
+    /**
+     *
+     * @param duration the duration in nanoseconds
+     */
+    void record(long duration) {
+        histogram.record(duration);
+        totalTime.add(duration);
+    }
+
+    Bean<?> getInterceptedBean() {
+        return interceptedBean;
+    }
+
+    String getBeanClass() {
+        return interceptedBean != null ? interceptedBean.getBeanClass().getName() : declaringClassName;
+    }
+
+    String getMethodName() {
+        return methodName;
+    }
+
+    long getCount() {
+        return histogram.getCount();
+    }
+
+    /**
+     * @return the total time in nanoseconds
+     */
+    long getTotalTime() {
+        return totalTime.sum();
+    }
+
+    /**
+     * @return the maximum duration in nanoseconds
+     */
+    long getMax() {
+        return histogram.getMax();
+    }
+
+    /**
+     *
+     * @param quantile the quantile, e.g. 0.99
+     * @return the approximate value in nanoseconds
+     */
+    long getPercentile(double quantile) {
+        return histogram.getPercentile(quantile);
+    }
+
+    /**
+     * A fixed-memory latency histogram. Each power of two is split into {@value #SUB_BUCKETS} linear sub-buckets, therefore a reported percentile
+     * is at most 25% higher than the actual value.
+     */
+    static final class Histogram {
+
+        private static final int SUB_BUCKET_BITS = 2;
+
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+        private final AtomicLongArray buckets;
+
+        private final LongAdder count;
+
+        private final AtomicLong max;
+
+        Histogram() {
+            this.buckets = new AtomicLongArray(Long.SIZE * SUB_BUCKETS);
+            this.count = new LongAdder();
+            this.max = new AtomicLong();
+        }
+
+        void record(long value) {
+            if (value < 0) {
+                value = 0;
+            }
+            buckets.incrementAndGet(bucketIndex(value));
+            count.increment();
+            long currentMax = max.get();
+            while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+                currentMax = max.get();
+            }
+        }
+
+        long getCount() {
+            return count.sum();
+        }
+
+        long getMax() {
+            return max.get();
+        }
+
+        /**
+         *
+         * @param quantile
+         * @return the upper bound of the bucket which contains the given quantile, or <code>0</code> if no value was recorded
+         */
+        long getPercentile(double quantile) {
+            long total = 0;
+            long[] counts = new long[buckets.length()];
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(quantile * total);
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= rank) {
+                    return Math.min(bucketUpperBound(i), getMax());
+                }
+            }
+            return getMax();
+        }
+
+        static int bucketIndex(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+            int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return exponent * SUB_BUCKETS + subBucket;
+        }
+
+        static long bucketUpperBound(int index) {
+            if (index < SUB_BUCKETS) {
+                return index;
+            }
+            int exponent = index / SUB_BUCKETS;
+            int subBucket = index % SUB_BUCKETS;
+            long upperBound = ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+            // Avoid overflow for the last bucket
+            return upperBound < 0 ? Long.MAX_VALUE : upperBound;
+        }
+
+    }
+
+}
@@ -19,6 +19,7 @@ package org.jboss.weld.probe;
 import static org.jboss.weld.probe.Strings.ADDITIONAL_BDA_SUFFIX;
 import static org.jboss.weld.probe.Strings.WEB_INF_CLASSES;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -26,9 +27,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.enterprise.inject.spi.Bean;
 import javax.enterprise.inject.spi.Decorator;
@@ -40,6 +41,8 @@ import org.jboss.weld.bean.builtin.AbstractBuiltInBean;
 import org.jboss.weld.bean.builtin.ExtensionBean;
 import org.jboss.weld.bootstrap.api.Service;
 import org.jboss.weld.bootstrap.spi.BeanDeploymentArchive;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.event.ObserverMethodImpl;
 import org.jboss.weld.exceptions.IllegalStateException;
 import org.jboss.weld.manager.BeanManagerImpl;
@@ -56,12 +59,21 @@ import org.jboss.weld.serialization.spi.ContextualStore;
  */
 public class Probe implements Service {
 
-    // If needed make this configurable
-    private static final int DEFAULT_INVOCATIONS_LIMIT = 5000;
-
     private volatile Mappings mappings;
 
-    private final ConcurrentMap<Integer, Invocation> invocations;
+    private volatile RingBuffer<Invocation> invocations;
+
+    private volatile boolean invocationsLimitExceeded;
+
+    private volatile int invocationSampling;
+
+    private volatile boolean invocationAggregation;
+
+    private volatile String deploymentTag;
+
+    private final AtomicLong entryPoints;
+
+    private final ConcurrentMap<Object, ConcurrentMap<Method, MethodStatistics>> methodStatistics;
 
     private final Comparator<Bean<?>> beanComparator;
 
@@ -73,7 +85,8 @@ public class Probe implements Service {
      * Create a partially initialized instance.
      */
     public Probe() {
-        this.invocations = new ConcurrentHashMap<Integer, Invocation>();
+        this.entryPoints = new AtomicLong();
+        this.methodStatistics = new ConcurrentHashMap<Object, ConcurrentMap<Method, MethodStatistics>>();
         this.beanComparator = new Comparator<Bean<?>>() {
             @Override
             public int compare(Bean<?> o1, Bean<?> o2) {
@@ -123,6 +136,11 @@ public class Probe implements Service {
             throw new IllegalStateException("Probe already initialized!");
         }
         mappings = new Mappings(beanManager);
+        WeldConfiguration configuration = beanManager.getServices().get(WeldConfiguration.class);
+        invocations = new RingBuffer<Invocation>(configuration.getIntegerProperty(ConfigurationKey.PROBE_INVOCATION_MONITOR_CAPACITY));
+        invocationSampling = configuration.getIntegerProperty(ConfigurationKey.PROBE_INVOCATION_MONITOR_SAMPLING);
+        invocationAggregation = configuration.getBooleanProperty(ConfigurationKey.PROBE_INVOCATION_MONITOR_AGGREGATION);
+        deploymentTag = Long.toHexString(System.currentTimeMillis()) + Integer.toHexString(System.identityHashCode(this));
     }
 
     /**
@@ -214,20 +232,11 @@ public class Probe implements Service {
         if (!invocation.isEntryPoint()) {
             throw new IllegalStateException("Invocation is not an entry point!");
         }
-        // Remove some old data if the limit is exceeded
-        if (invocations.size() > DEFAULT_INVOCATIONS_LIMIT) {
-            synchronized (this) {
-                if (invocations.size() > DEFAULT_INVOCATIONS_LIMIT) {
-                    Set<Integer> keySet = invocations.keySet();
-                    List<Integer> sorted = new ArrayList<Integer>(keySet);
-                    Collections.sort(sorted, Collections.reverseOrder());
-                    if (keySet.removeAll(sorted.subList(DEFAULT_INVOCATIONS_LIMIT / 2, sorted.size()))) {
-                        ProbeLogger.LOG.monitoringLimitExceeded(Invocation.class.getSimpleName(), DEFAULT_INVOCATIONS_LIMIT);
-                    }
-                }
-            }
+        if (invocations.add(invocation) && !invocationsLimitExceeded) {
+            // The oldest data are replaced from now on
+            invocationsLimitExceeded = true;
+            ProbeLogger.LOG.monitoringLimitExceeded(Invocation.class.getSimpleName(), invocations.capacity());
         }
-        invocations.put(invocation.getEntryPointIdx(), invocation);
     }
 
     /**
@@ -236,7 +245,7 @@ public class Probe implements Service {
      */
     public List<Invocation> getInvocations() {
         checkInitialized();
-        List<Invocation> sorted = new ArrayList<Invocation>(invocations.values());
+        List<Invocation> sorted = invocations.snapshot();
         Collections.sort(sorted, Invocation.Comparators.ENTRY_POINT_IDX);
         return sorted;
     }
@@ -248,11 +257,105 @@ public class Probe implements Service {
      */
     Invocation getInvocation(String id) {
         checkInitialized();
+        final Integer idx;
         try {
-            return invocations.get(Integer.valueOf(id));
+            idx = Integer.valueOf(id);
         } catch (NumberFormatException e) {
             return null;
         }
+        for (Invocation invocation : invocations.snapshot()) {
+            if (idx.equals(invocation.getEntryPointIdx())) {
+                return invocation;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Decides whether the invocation tree of a new entry point should be recorded.
+     *
+     * @return <code>true</code> if the invocation tree should be recorded, <code>false</code> otherwise
+     * @see ConfigurationKey#PROBE_INVOCATION_MONITOR_SAMPLING
+     * @see ConfigurationKey#PROBE_INVOCATION_MONITOR_AGGREGATION
+     */
+    boolean isInvocationTreeRecorded() {
+        if (invocationAggregation) {
+            return false;
+        }
+        return invocationSampling <= 1 || entryPoints.getAndIncrement() % invocationSampling == 0;
+    }
+
+    /**
+     *
+     * @return <code>true</code> if only the aggregated method statistics are recorded
+     */
+    boolean isInvocationAggregation() {
+        return invocationAggregation;
+    }
+
+    /**
+     * The beans, observers and bean deployment archives do not change after the Probe is initialized.
+     *
+     * @return the tag identifying the current deployment, e.g. to be used as an entity tag
+     */
+    String getDeploymentTag() {
+        checkInitialized();
+        return deploymentTag;
+    }
+
+    /**
+     *
+     * @param interceptedBean the intercepted bean, may be <code>null</code>
+     * @param method
+     * @return the statistics for the given business method
+     */
+    MethodStatistics getMethodStatistics(Bean<?> interceptedBean, Method method) {
+        Object key = interceptedBean != null ? interceptedBean : method.getDeclaringClass().getName();
+        ConcurrentMap<Method, MethodStatistics> beanStatistics = methodStatistics.get(key);
+        if (beanStatistics == null) {
+            beanStatistics = new ConcurrentHashMap<Method, MethodStatistics>();
+            ConcurrentMap<Method, MethodStatistics> previous = methodStatistics.putIfAbsent(key, beanStatistics);
+            if (previous != null) {
+                beanStatistics = previous;
+            }
+        }
+        MethodStatistics statistics = beanStatistics.get(method);
+        if (statistics == null) {
+            statistics = new MethodStatistics(interceptedBean, method);
+            MethodStatistics previous = beanStatistics.putIfAbsent(method, statistics);
+            if (previous != null) {
+                statistics = previous;
+            }
+        }
+        return statistics;
+    }
+
+    /**
+     *
+     * @return the method statistics, the highest total time first
+     */
+    List<MethodStatistics> getMethodStatistics() {
+        checkInitialized();
+        List<MethodStatistics> data = new ArrayList<MethodStatistics>();
+        for (ConcurrentMap<Method, MethodStatistics> beanStatistics : methodStatistics.values()) {
+            data.addAll(beanStatistics.values());
+        }
+        Collections.sort(data, MethodStatistics.TOTAL_TIME_COMPARATOR);
+        return data;
+    }
+
+    /**
+     *
+     * @return the number of removed method statistics
+     */
+    int clearMethodStatistics() {
+        checkInitialized();
+        int size = 0;
+        for (ConcurrentMap<Method, MethodStatistics> beanStatistics : methodStatistics.values()) {
+            size += beanStatistics.size();
+        }
+        methodStatistics.clear();
+        return size;
     }
 
     /**
@@ -260,9 +363,7 @@ public class Probe implements Service {
     */
     int clearInvocations() {
         checkInitialized();
-        int size = invocations.size();
-        invocations.clear();
-        return size;
+        return invocations.clear();
     }
 
     /**
@@ -278,6 +379,10 @@ public class Probe implements Service {
         if (mappings != null) {
             mappings.clear();
         }
+        if (invocations != null) {
+            invocations.clear();
+        }
+        methodStatistics.clear();
     }
 
     private void checkInitialized() {
@@ -125,8 +125,8 @@ public class ProbeFilter implements Filter {
         final Invocation.Builder builder;
         if (probe != null) {
             // Don't initialize a new builder if an entry point already exists
-            builder = InvocationMonitor.initBuilder(false);
-            if (builder != null) {
+            builder = InvocationMonitor.initBuilder(probe, false);
+            if (!builder.isSkipped()) {
                 builder.setDeclaringClassName(ProbeFilter.class.getName());
                 builder.setStart(System.currentTimeMillis());
                 builder.setMethodName("doFilter");
@@ -157,7 +157,7 @@ public class ProbeFilter implements Filter {
                         CharArrayWriter writer = new CharArrayWriter();
                         writer.write(captured.substring(0, idx));
                         writer.write(snippetBase);
-                        if (builder != null && !builder.isIgnored()) {
+                        if (isInvocationTreeRecorded(builder)) {
                             writer.write("See <a style=\"color:#337ab7;text-decoration:underline;\" href=\"");
                             writer.write(request.getServletContext().getContextPath());
                             // This path must be hardcoded unless we find an easy way to reference the client-specific configuration
@@ -180,6 +180,16 @@ public class ProbeFilter implements Filter {
     public void destroy() {
     }
 
+    /**
+     * The link to the invocation tree is only rendered if the tree is recorded, i.e. the builder is neither skipped nor ignored.
+     *
+     * @param builder
+     * @return <code>true</code> if the invocation tree of the given builder is recorded, <code>false</code> otherwise
+     */
+    static boolean isInvocationTreeRecorded(Invocation.Builder builder) {
+        return builder != null && !builder.isSkipped() && !builder.isIgnored();
+    }
+
     private String getDescription(HttpServletRequest req) {
         StringBuilder builder = new StringBuilder();
         builder.append(req.getMethod());
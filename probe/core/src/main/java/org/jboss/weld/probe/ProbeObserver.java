@@ -22,6 +22,11 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.regex.Pattern;
 
 import javax.enterprise.context.Destroyed;
@@ -34,11 +39,15 @@ import javax.enterprise.inject.spi.ObserverMethod;
 import javax.interceptor.Interceptor;
 import javax.servlet.http.HttpServletRequest;
 
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.config.WeldConfiguration;
 import org.jboss.weld.event.CurrentEventMetadata;
 import org.jboss.weld.event.ObserverNotifier;
 import org.jboss.weld.event.ResolvedObservers;
 import org.jboss.weld.experimental.Prioritized;
 import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.util.cache.ComputingCache;
+import org.jboss.weld.util.cache.ComputingCacheBuilder;
 import org.jboss.weld.util.collections.ImmutableList;
 import org.jboss.weld.util.reflection.Formats;
 
@@ -50,60 +59,189 @@ import org.jboss.weld.util.reflection.Formats;
  */
 class ProbeObserver implements ObserverMethod<Object>, Prioritized {
 
-    // If needed make this configurable
-    private static final int DEFAULT_EVENTS_LIMIT = 5000;
-
     private static final int PRIORITY_OFFSET = 100;
 
     private final Pattern excludePattern;
 
+    /**
+     * Information about a single fired event. The event object is rendered when the event is fired and is not retained, the list of observers is only
+     * computed when needed, i.e. typically not at all if the event is replaced before the data are displayed.
+     */
     static class EventInfo {
 
+        /**
+         * The description of an event object is truncated to this number of characters
+         */
+        static final int MAX_EVENT_STRING_LENGTH = 1000;
+
         final boolean containerEvent;
         final Type type;
         final Set<Annotation> qualifiers;
-        final String eventString;
         final InjectionPoint injectionPoint;
-        final List<ObserverMethod<?>> observers;
         final long timestamp;
 
-        private EventInfo(Type type, Set<Annotation> qualifiers, Object event, InjectionPoint injectionPoint, List<ObserverMethod<?>> observers,
-                boolean containerEvent, long timestamp) {
+        private final ProbeObserver probeObserver;
+        private final String eventString;
+        private volatile List<ObserverMethod<?>> observers;
+
+        private EventInfo(Type type, Set<Annotation> qualifiers, Object event, InjectionPoint injectionPoint, boolean containerEvent, long timestamp,
+                ProbeObserver probeObserver) {
             this.type = type;
             this.qualifiers = qualifiers;
             this.injectionPoint = injectionPoint;
             this.containerEvent = containerEvent;
-            this.eventString = initEventString(event, containerEvent);
-            this.observers = observers;
             this.timestamp = timestamp;
+            this.probeObserver = probeObserver;
+            this.eventString = initEventString(event, containerEvent);
+        }
+
+        /**
+         * The description reflects the state of the event object at the time the event was fired.
+         *
+         * @return the description of the event object
+         */
+        String getEventString() {
+            return eventString;
+        }
+
+        List<ObserverMethod<?>> getObservers() {
+            List<ObserverMethod<?>> result = observers;
+            if (result == null) {
+                result = probeObserver.resolveObservers(type, qualifiers, containerEvent);
+                observers = result;
+            }
+            return result;
+        }
+
+        static String initEventString(Object event, boolean containerEvent) {
+            if (containerEvent && event instanceof HttpServletRequest) {
+                // The request object may be recycled once the request is processed
+                return initRequestString((HttpServletRequest) event);
+            }
+            String eventString = String.valueOf(event);
+            if (eventString.length() > MAX_EVENT_STRING_LENGTH) {
+                return eventString.substring(0, MAX_EVENT_STRING_LENGTH) + "...";
+            }
+            return eventString;
         }
 
         /*
          * Workaround for Undertow's ugly toString(). TODO: also check Tomcat/Jetty and consider removing this if appropriate
          */
-        private String initEventString(Object event, boolean containerEvent) {
-            if (containerEvent && event instanceof HttpServletRequest) {
-                HttpServletRequest request = (HttpServletRequest) event;
-                StringBuilder builder = new StringBuilder();
-                builder.append(HttpServletRequest.class.getSimpleName());
-                builder.append(' ');
-                builder.append(request.getMethod());
-                builder.append(' ');
-                builder.append(request.getRequestURI());
-                return builder.toString();
+        private static String initRequestString(HttpServletRequest request) {
+            StringBuilder builder = new StringBuilder();
+            builder.append(HttpServletRequest.class.getSimpleName());
+            builder.append(' ');
+            builder.append(request.getMethod());
+            builder.append(' ');
+            builder.append(request.getRequestURI());
+            return builder.toString();
+        }
+    }
+
+    /**
+     * Counters of a single event type. Unlike {@link EventInfo}, these are never replaced.
+     */
+    static class EventTypeStatistics {
+
+        /**
+         * The length of the window used to compute the recent rate (events per minute), in seconds
+         */
+        static final int RATE_WINDOW = 60;
+
+        /**
+         * The formatted event type
+         */
+        final String type;
+
+        private final LongAdder count;
+        private final long firstFired;
+        private volatile long lastFired;
+
+        // Per-second counts within the rate window, the slot for a given second is reused after RATE_WINDOW seconds
+        private final AtomicLongArray slotSeconds;
+        private final AtomicLongArray slotCounts;
+
+        EventTypeStatistics(String type, long timestamp) {
+            this.type = type;
+            this.count = new LongAdder();
+            this.firstFired = timestamp;
+            this.slotSeconds = new AtomicLongArray(RATE_WINDOW);
+            this.slotCounts = new AtomicLongArray(RATE_WINDOW);
+        }
+
+        void record(long timestamp) {
+            count.increment();
+            lastFired = timestamp;
+            long second = TimeUnit.MILLISECONDS.toSeconds(timestamp);
+            int slot = (int) (second % RATE_WINDOW);
+            long slotSecond = slotSeconds.get(slot);
+            if (slotSecond != second && slotSeconds.compareAndSet(slot, slotSecond, second)) {
+                // The slot is reused - a concurrent increment may be lost, which is acceptable
+                slotCounts.set(slot, 0);
             }
-            return event.toString();
+            slotCounts.incrementAndGet(slot);
+        }
+
+        long getCount() {
+            return count.sum();
+        }
+
+        long getFirstFired() {
+            return firstFired;
+        }
+
+        long getLastFired() {
+            return lastFired;
+        }
+
+        /**
+         *
+         * @param now the current time in milliseconds
+         * @return the average number of events per minute since the first event was fired
+         */
+        long getMeanRate(long now) {
+            long elapsed = now - firstFired;
+            long minute = TimeUnit.MINUTES.toMillis(1);
+            return elapsed > minute ? getCount() * minute / elapsed : getCount();
+        }
+
+        /**
+         *
+         * @param now the current time in milliseconds
+         * @return the number of events fired within the last {@value #RATE_WINDOW} seconds
+         */
+        long getRecentRate(long now) {
+            long currentSecond = TimeUnit.MILLISECONDS.toSeconds(now);
+            long sum = 0;
+            for (int i = 0; i < RATE_WINDOW; i++) {
+                long slotSecond = slotSeconds.get(i);
+                if (slotSecond <= currentSecond && currentSecond - slotSecond < RATE_WINDOW) {
+                    sum += slotCounts.get(i);
+                }
+            }
+            return sum;
         }
     }
 
-    private final List<EventInfo> events = Collections.synchronizedList(new ArrayList<EventInfo>());
+    private final RingBuffer<EventInfo> events;
+    // The event types are provided by the application at runtime, only the formatted types are retained
+    private final ComputingCache<Type, String> eventTypeNames;
+    private final ConcurrentMap<String, EventTypeStatistics> eventTypeStatistics;
+    private final ConcurrentMap<String, Boolean> excludedTypes;
     private final CurrentEventMetadata currentEventMetadata;
     private final BeanManagerImpl manager;
+    private volatile boolean limitExceeded;
 
     ProbeObserver(BeanManagerImpl manager, Pattern excludePattern) {
         this.currentEventMetadata = manager.getServices().get(CurrentEventMetadata.class);
         this.manager = manager;
         this.excludePattern = excludePattern;
+        this.events = new RingBuffer<EventInfo>(manager.getServices().get(WeldConfiguration.class)
+                .getIntegerProperty(ConfigurationKey.PROBE_EVENT_MONITOR_CAPACITY));
+        this.eventTypeNames = ComputingCacheBuilder.newBuilder().setWeakKeys().build((type) -> Formats.formatType(type, false));
+        this.eventTypeStatistics = new ConcurrentHashMap<String, EventTypeStatistics>();
+        this.excludedTypes = new ConcurrentHashMap<String, Boolean>();
     }
 
     @Override
@@ -134,31 +272,50 @@ class ProbeObserver implements ObserverMethod<Object>, Prioritized {
     @Override
     public void notify(Object event) {
         EventMetadata metadata = currentEventMetadata.peek();
-        if (excludePattern != null && excludePattern.matcher(Formats.formatType(metadata.getType(), false)).matches()) {
+        String typeName = eventTypeNames.getValue(metadata.getType());
+        if (isExcluded(typeName)) {
             ProbeLogger.LOG.eventExcluded(metadata.getType());
             return;
         }
-        boolean containerEvent = isContainerEvent(metadata.getQualifiers());
-        List<ObserverMethod<?>> observers = resolveObservers(metadata, containerEvent);
-        EventInfo info = new EventInfo(metadata.getType(), metadata.getQualifiers(), event, metadata.getInjectionPoint(), observers, containerEvent,
-                System.currentTimeMillis());
-
-        // Remove some old data if the limit is exceeded
-        if (events.size() > DEFAULT_EVENTS_LIMIT) {
-            synchronized (this) {
-                if (events.size() > DEFAULT_EVENTS_LIMIT) {
-                    events.subList(DEFAULT_EVENTS_LIMIT / 2, events.size()).clear();
-                    ProbeLogger.LOG.monitoringLimitExceeded(EventInfo.class.getSimpleName(), DEFAULT_EVENTS_LIMIT);
-                }
+        long timestamp = System.currentTimeMillis();
+        getEventTypeStatistics(typeName, timestamp).record(timestamp);
+        EventInfo info = new EventInfo(metadata.getType(), metadata.getQualifiers(), event, metadata.getInjectionPoint(),
+                isContainerEvent(metadata.getQualifiers()), timestamp, this);
+        if (events.add(info) && !limitExceeded) {
+            // The oldest data are replaced from now on
+            limitExceeded = true;
+            ProbeLogger.LOG.monitoringLimitExceeded(EventInfo.class.getSimpleName(), events.capacity());
+        }
+    }
+
+    private boolean isExcluded(String typeName) {
+        if (excludePattern == null) {
+            return false;
+        }
+        Boolean excluded = excludedTypes.get(typeName);
+        if (excluded == null) {
+            excluded = excludePattern.matcher(typeName).matches();
+            excludedTypes.put(typeName, excluded);
+        }
+        return excluded;
+    }
+
+    private EventTypeStatistics getEventTypeStatistics(String type, long timestamp) {
+        EventTypeStatistics statistics = eventTypeStatistics.get(type);
+        if (statistics == null) {
+            statistics = new EventTypeStatistics(type, timestamp);
+            EventTypeStatistics previous = eventTypeStatistics.putIfAbsent(type, statistics);
+            if (previous != null) {
+                statistics = previous;
             }
         }
-        events.add(0, info);
+        return statistics;
     }
 
-    private List<ObserverMethod<?>> resolveObservers(EventMetadata metadata, boolean containerEvent) {
+    private List<ObserverMethod<?>> resolveObservers(Type type, Set<Annotation> qualifiers, boolean containerEvent) {
         List<ObserverMethod<?>> observers = new ArrayList<ObserverMethod<?>>();
         final ObserverNotifier notifier = (containerEvent) ? manager.getAccessibleLenientObserverNotifier() : manager.getGlobalLenientObserverNotifier();
-        ResolvedObservers<?> resolvedObservers = notifier.resolveObserverMethods(metadata.getType(), metadata.getQualifiers());
+        ResolvedObservers<?> resolvedObservers = notifier.resolveObserverMethods(type, qualifiers);
         for (ObserverMethod<?> observer : resolvedObservers.getAllObservers()) {
             // do not show ProbeObserver
             if (getBeanClass() != observer.getBeanClass()) {
@@ -174,14 +331,14 @@ class ProbeObserver implements ObserverMethod<Object>, Prioritized {
     }
 
     /**
-     * Returns a mutable copy of the captured event information.
+     * Returns a mutable copy of the captured event information, the most recent event first.
      *
      * @return mutable copy of the captured event information
      */
     public List<EventInfo> getEvents() {
-        synchronized (events) {
-            return new ArrayList<EventInfo>(events);
-        }
+        List<EventInfo> result = events.snapshot();
+        Collections.reverse(result);
+        return result;
     }
 
     /**
@@ -190,11 +347,27 @@ class ProbeObserver implements ObserverMethod<Object>, Prioritized {
      * @return the number of captured events before the state is cleared.
      */
     public int clear() {
-        synchronized (events) {
-            int count = events.size();
-            events.clear();
-            return count;
-        }
+        return events.clear();
+    }
+
+    /**
+     *
+     * @return the statistics of all the observed event types, the most frequent event type first
+     */
+    List<EventTypeStatistics> getEventTypeStatistics() {
+        List<EventTypeStatistics> result = new ArrayList<EventTypeStatistics>(eventTypeStatistics.values());
+        Collections.sort(result, (o1, o2) -> Long.compare(o2.getCount(), o1.getCount()));
+        return result;
+    }
+
+    /**
+     *
+     * @return the number of removed event type statistics
+     */
+    int clearEventTypeStatistics() {
+        int count = eventTypeStatistics.size();
+        eventTypeStatistics.clear();
+        return count;
     }
 
     private boolean isContainerEvent(Set<Annotation> qualifiers) {
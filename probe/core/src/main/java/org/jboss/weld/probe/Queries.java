@@ -457,8 +457,8 @@ final class Queries {
 
         @Override
         boolean test(EventInfo event) {
-            return testContainsIgnoreCase(eventInfo, event.eventString) && testContainsIgnoreCase(type, event.type)
-                    && testContainsIgnoreCase(qualifiers, event.qualifiers) && (container == null || container == event.containerEvent);
+            return testContainsIgnoreCase(type, event.type) && testContainsIgnoreCase(qualifiers, event.qualifiers)
+                    && (container == null || container == event.containerEvent) && (eventInfo == null || testContainsIgnoreCase(eventInfo, event.getEventString()));
         }
 
         @Override
@@ -23,15 +23,21 @@ import static org.jboss.weld.probe.Strings.ENCODING_UTF8;
 import static org.jboss.weld.probe.Strings.FILE_CLIENT_HTML;
 import static org.jboss.weld.probe.Strings.FILTERS;
 import static org.jboss.weld.probe.Strings.HTTP_HEADER_CACHE_CONTROL;
+import static org.jboss.weld.probe.Strings.HTTP_HEADER_ETAG;
+import static org.jboss.weld.probe.Strings.HTTP_HEADER_IF_NONE_MATCH;
 import static org.jboss.weld.probe.Strings.IMG_ICO;
 import static org.jboss.weld.probe.Strings.IMG_PNG;
 import static org.jboss.weld.probe.Strings.IMG_SVG;
+import static org.jboss.weld.probe.Strings.NULL;
 import static org.jboss.weld.probe.Strings.PAGE;
 import static org.jboss.weld.probe.Strings.PAGE_SIZE;
 import static org.jboss.weld.probe.Strings.PARAM_TRANSIENT_DEPENDENCIES;
 import static org.jboss.weld.probe.Strings.PARAM_TRANSIENT_DEPENDENTS;
 import static org.jboss.weld.probe.Strings.PATH_META_INF_CLIENT;
 import static org.jboss.weld.probe.Strings.REMOVED_INVOCATIONS;
+import static org.jboss.weld.probe.Strings.REMOVED_LEAKS;
+import static org.jboss.weld.probe.Strings.REMOVED_LOCKS;
+import static org.jboss.weld.probe.Strings.REMOVED_STATISTICS;
 import static org.jboss.weld.probe.Strings.REPRESENTATION;
 import static org.jboss.weld.probe.Strings.RESOURCE_PARAM_END;
 import static org.jboss.weld.probe.Strings.RESOURCE_PARAM_START;
@@ -50,6 +56,7 @@ import static org.jboss.weld.probe.Strings.TEXT_CSS;
 import static org.jboss.weld.probe.Strings.TEXT_HTML;
 import static org.jboss.weld.probe.Strings.TEXT_JAVASCRIPT;
 import static org.jboss.weld.probe.Strings.TEXT_PLAIN;
+import static org.jboss.weld.probe.Strings.TEXT_PLAIN_METRICS;
 
 import java.io.IOException;
 import java.lang.annotation.Annotation;
@@ -61,12 +68,19 @@ import javax.enterprise.inject.spi.ObserverMethod;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
+import org.jboss.weld.Container;
+import org.jboss.weld.bootstrap.BootstrapProfiler;
+import org.jboss.weld.bootstrap.RuntimeMetrics;
+import org.jboss.weld.context.DependentInstanceLeakDetector;
+import org.jboss.weld.context.LockContentionMonitor;
 import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.probe.Json.JsonBuilder;
 import org.jboss.weld.probe.Queries.BeanFilters;
 import org.jboss.weld.probe.Queries.EventsFilters;
 import org.jboss.weld.probe.Queries.Filters;
 import org.jboss.weld.probe.Queries.InvocationsFilters;
 import org.jboss.weld.probe.Queries.ObserverFilters;
+import org.jboss.weld.serialization.spi.ContextualStore;
 
 /**
  * Enum of resources.
@@ -79,16 +93,42 @@ enum Resource {
      * A deployment info.
      */
     DEPLOYMENT("/deployment", new Handler() {
+        @Override
+        protected boolean isDeploymentStatic() {
+            return true;
+        }
+
+        @Override
+        protected void handleGet(BeanManagerImpl beanManager, Probe probe, String[] pathInfoParts, HttpServletRequest req, HttpServletResponse resp)
+                throws IOException {
+            writeJson(resp, JsonObjects.createDeploymentJson(beanManager, probe));
+        }
+    }),
+    /**
+     * The bootstrap profiling report.
+     */
+    BOOTSTRAP("/bootstrap", new Handler() {
         @Override
         protected void handleGet(BeanManagerImpl beanManager, Probe probe, String[] pathInfoParts, HttpServletRequest req, HttpServletResponse resp)
                 throws IOException {
-            resp.getWriter().append(JsonObjects.createDeploymentJson(beanManager, probe));
+            BootstrapProfiler profiler = Container.instance(beanManager).services().get(BootstrapProfiler.class);
+            if (profiler == null || profiler.getReport() == null) {
+                // Bootstrap profiling is not enabled
+                resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            resp.getWriter().append(profiler.getReport());
         }
     }),
     /**
      * A collection of beans.
      */
     BEANS("/beans", new Handler() {
+        @Override
+        protected boolean isDeploymentStatic() {
+            return true;
+        }
+
         @Override
         protected void handleGet(BeanManagerImpl beanManager, Probe probe, String[] pathInfoParts, HttpServletRequest req, HttpServletResponse resp)
                 throws IOException {
@@ -96,23 +136,27 @@ enum Resource {
             if (representation == null) {
                 representation = Representation.BASIC;
             }
-            resp.getWriter().append(
-                    JsonObjects.createBeansJson(Queries.find(probe.getBeans(), getPage(req), getPageSize(req), initFilters(req, new BeanFilters(probe))),
-                            probe, beanManager, representation));
+            writeJson(resp, JsonObjects.createBeansJson(
+                    Queries.find(probe.getBeans(), getPage(req), getPageSize(req), initFilters(req, new BeanFilters(probe))), probe, beanManager,
+                    representation));
         }
     }),
     /**
      * A single bean detail.
      */
     BEAN("/beans/{.+}", new Handler() {
+        @Override
+        protected boolean isDeploymentStatic() {
+            return true;
+        }
+
         @Override
         protected void handleGet(BeanManagerImpl beanManager, Probe probe, String[] pathInfoParts, HttpServletRequest req, HttpServletResponse resp)
                 throws IOException {
             Bean<?> bean = probe.getBean(pathInfoParts[1]);
             if (bean != null) {
-                resp.getWriter().append(
-                        JsonObjects.createFullBeanJson(bean, Boolean.valueOf(req.getParameter(PARAM_TRANSIENT_DEPENDENCIES)),
-                                Boolean.valueOf(req.getParameter(PARAM_TRANSIENT_DEPENDENTS)), beanManager, probe));
+                writeJson(resp, JsonObjects.createFullBeanJson(bean, Boolean.valueOf(req.getParameter(PARAM_TRANSIENT_DEPENDENCIES)),
+                        Boolean.valueOf(req.getParameter(PARAM_TRANSIENT_DEPENDENTS)), beanManager, probe));
             } else {
                 resp.sendError(HttpServletResponse.SC_NOT_FOUND);
             }
@@ -129,7 +173,7 @@ enum Resource {
             if (bean != null && Components.isInspectableScope(bean.getScope())) {
                 Object instance = Components.findContextualInstance(bean, beanManager);
                 if (instance != null) {
-                    resp.getWriter().append(JsonObjects.createContextualInstanceJson(bean, instance, probe));
+                    writeJson(resp, JsonObjects.createContextualInstanceJson(bean, instance, probe));
                 } else {
                     resp.sendError(HttpServletResponse.SC_NOT_FOUND);
                 }
@@ -142,24 +186,33 @@ enum Resource {
      * A collection of observers methods.
      */
     OBSERVERS("/observers", new Handler() {
+        @Override
+        protected boolean isDeploymentStatic() {
+            return true;
+        }
+
         @Override
         protected void handleGet(BeanManagerImpl beanManager, Probe probe, String[] pathInfoParts, HttpServletRequest req, HttpServletResponse resp)
                 throws IOException {
-            resp.getWriter().append(
-                    JsonObjects.createObserversJson(
-                            Queries.find(probe.getObservers(), getPage(req), getPageSize(req), initFilters(req, new ObserverFilters(probe))), probe));
+            writeJson(resp, JsonObjects.createObserversJson(
+                    Queries.find(probe.getObservers(), getPage(req), getPageSize(req), initFilters(req, new ObserverFilters(probe))), probe));
         }
     }),
     /**
      * A single observer.
      */
     OBSERVER("/observers/{.+}", new Handler() {
+        @Override
+        protected boolean isDeploymentStatic() {
+            return true;
+        }
+
         @Override
         protected void handleGet(BeanManagerImpl beanManager, Probe probe, String[] pathInfoParts, HttpServletRequest req, HttpServletResponse resp)
                 throws IOException {
             ObserverMethod<?> observer = probe.getObserver(pathInfoParts[1]);
             if (observer != null) {
-                resp.getWriter().append(JsonObjects.createFullObserverJson(observer, probe));
+                writeJson(resp, JsonObjects.createFullObserverJson(observer, probe));
             } else {
                 resp.sendError(HttpServletResponse.SC_NOT_FOUND);
             }
@@ -172,7 +225,7 @@ enum Resource {
         @Override
         protected void handleGet(BeanManagerImpl beanManager, Probe probe, String[] pathInfoParts, HttpServletRequest req, HttpServletResponse resp)
                 throws IOException {
-            resp.getWriter().append(JsonObjects.createContextsJson(beanManager, probe).build());
+            writeJson(resp, JsonObjects.createContextsJson(beanManager, probe));
         }
     }),
     /**
@@ -185,7 +238,7 @@ enum Resource {
             final String id = pathInfoParts[1];
             final Class<? extends Annotation> scope = Components.INSPECTABLE_SCOPES.get(id);
             if (scope != null) {
-                resp.getWriter().append(JsonObjects.createContextJson(id, scope, beanManager, probe, req).build());
+                writeJson(resp, JsonObjects.createContextJson(id, scope, beanManager, probe, req));
             } else {
                 resp.sendError(HttpServletResponse.SC_NOT_FOUND);
             }
@@ -199,15 +252,31 @@ enum Resource {
         @Override
         protected void handleGet(BeanManagerImpl beanManager, Probe probe, String[] pathInfoParts, HttpServletRequest req, HttpServletResponse resp)
                 throws IOException {
-            resp.getWriter().append(
-                    JsonObjects.createInvocationsJson(
-                            Queries.find(probe.getInvocations(), getPage(req), getPageSize(req), initFilters(req, new InvocationsFilters(probe))), probe));
+            writeJson(resp, JsonObjects.createInvocationsJson(
+                    Queries.find(probe.getInvocations(), getPage(req), getPageSize(req), initFilters(req, new InvocationsFilters(probe))), probe));
+        }
+
+        @Override
+        protected void handleDelete(BeanManagerImpl beanManager, Probe probe, String[] pathInfoParts, HttpServletRequest req, HttpServletResponse resp)
+                throws IOException {
+            writeJson(resp, Json.objectBuilder().add(REMOVED_INVOCATIONS, probe.clearInvocations()));
+        }
+    }),
+    /**
+     * The aggregated statistics per business method. This resource must be defined before {@link #INVOCATION}.
+     */
+    INVOCATION_STATISTICS("/invocations/statistics", new Handler() {
+        @Override
+        protected void handleGet(BeanManagerImpl beanManager, Probe probe, String[] pathInfoParts, HttpServletRequest req, HttpServletResponse resp)
+                throws IOException {
+            writeJson(resp,
+                    JsonObjects.createMethodStatisticsJson(Queries.find(probe.getMethodStatistics(), getPage(req), getPageSize(req), null), probe));
         }
 
         @Override
         protected void handleDelete(BeanManagerImpl beanManager, Probe probe, String[] pathInfoParts, HttpServletRequest req, HttpServletResponse resp)
                 throws IOException {
-            resp.getWriter().append(Json.objectBuilder().add(REMOVED_INVOCATIONS, probe.clearInvocations()).build());
+            writeJson(resp, Json.objectBuilder().add(REMOVED_STATISTICS, probe.clearMethodStatistics()));
         }
     }),
     /**
@@ -219,7 +288,7 @@ enum Resource {
                 throws IOException {
             Invocation entryPoint = probe.getInvocation(pathInfoParts[1]);
             if (entryPoint != null) {
-                resp.getWriter().append(JsonObjects.createFullInvocationJson(entryPoint, probe).build());
+                writeJson(resp, JsonObjects.createFullInvocationJson(entryPoint, probe));
             } else {
                 resp.sendError(HttpServletResponse.SC_NOT_FOUND);
             }
@@ -233,16 +302,101 @@ enum Resource {
         protected void handleGet(BeanManagerImpl beanManager, Probe probe, String[] pathInfoParts, HttpServletRequest req, HttpServletResponse resp)
                 throws IOException {
             ProbeObserver observer = beanManager.getExtension(ProbeExtension.class).getProbeObserver();
-            resp.getWriter().append(
-                    JsonObjects.createEventsJson(
-                            Queries.find(observer.getEvents(), getPage(req), getPageSize(req), initFilters(req, new EventsFilters(probe))), probe));
+            writeJson(resp, JsonObjects.createEventsJson(
+                    Queries.find(observer.getEvents(), getPage(req), getPageSize(req), initFilters(req, new EventsFilters(probe))), probe));
         }
 
         @Override
         protected void handleDelete(BeanManagerImpl beanManager, Probe probe, String[] pathInfoParts, HttpServletRequest req, HttpServletResponse resp)
                 throws IOException {
             ProbeObserver observer = beanManager.getExtension(ProbeExtension.class).getProbeObserver();
-            resp.getWriter().append(Json.objectBuilder().add("removedEvents", observer.clear()).build());
+            writeJson(resp, Json.objectBuilder().add("removedEvents", observer.clear()));
+        }
+    }),
+    /**
+     * The counters and rates per event type.
+     */
+    EVENT_STATISTICS("/events/statistics", new Handler() {
+        @Override
+        protected void handleGet(BeanManagerImpl beanManager, Probe probe, String[] pathInfoParts, HttpServletRequest req, HttpServletResponse resp)
+                throws IOException {
+            ProbeObserver observer = beanManager.getExtension(ProbeExtension.class).getProbeObserver();
+            writeJson(resp,
+                    JsonObjects.createEventTypeStatisticsJson(Queries.find(observer.getEventTypeStatistics(), getPage(req), getPageSize(req), null)));
+        }
+
+        @Override
+        protected void handleDelete(BeanManagerImpl beanManager, Probe probe, String[] pathInfoParts, HttpServletRequest req, HttpServletResponse resp)
+                throws IOException {
+            ProbeObserver observer = beanManager.getExtension(ProbeExtension.class).getProbeObserver();
+            writeJson(resp, Json.objectBuilder().add(REMOVED_STATISTICS, observer.clearEventTypeStatistics()));
+        }
+    }),
+    /**
+     * The dependent instance leaks.
+     */
+    LEAKS("/leaks", new Handler() {
+        @Override
+        protected void handleGet(BeanManagerImpl beanManager, Probe probe, String[] pathInfoParts, HttpServletRequest req, HttpServletResponse resp)
+                throws IOException {
+            DependentInstanceLeakDetector detector = Container.instance(beanManager).services().get(DependentInstanceLeakDetector.class);
+            if (detector == null || !detector.isEnabled()) {
+                // Leak detection is not enabled
+                resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            writeJson(resp, JsonObjects.createLeaksJson(detector, probe));
+        }
+
+        @Override
+        protected void handleDelete(BeanManagerImpl beanManager, Probe probe, String[] pathInfoParts, HttpServletRequest req, HttpServletResponse resp)
+                throws IOException {
+            DependentInstanceLeakDetector detector = Container.instance(beanManager).services().get(DependentInstanceLeakDetector.class);
+            writeJson(resp, Json.objectBuilder().add(REMOVED_LEAKS, detector != null ? detector.clear() : 0));
+        }
+    }),
+    /**
+     * The lock contention statistics.
+     */
+    LOCKS("/locks", new Handler() {
+        @Override
+        protected void handleGet(BeanManagerImpl beanManager, Probe probe, String[] pathInfoParts, HttpServletRequest req, HttpServletResponse resp)
+                throws IOException {
+            LockContentionMonitor monitor = Container.instance(beanManager).services().get(LockContentionMonitor.class);
+            if (monitor == null || !monitor.isEnabled()) {
+                // Lock monitoring is not enabled
+                resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            writeJson(resp, JsonObjects.createLocksJson(monitor, Container.instance(beanManager).services().get(ContextualStore.class), probe));
+        }
+
+        @Override
+        protected void handleDelete(BeanManagerImpl beanManager, Probe probe, String[] pathInfoParts, HttpServletRequest req, HttpServletResponse resp)
+                throws IOException {
+            LockContentionMonitor monitor = Container.instance(beanManager).services().get(LockContentionMonitor.class);
+            writeJson(resp, Json.objectBuilder().add(REMOVED_LOCKS, monitor != null ? monitor.clear() : 0));
+        }
+    }),
+    /**
+     * The container runtime metrics in the Prometheus text format.
+     */
+    METRICS("/metrics", new Handler() {
+        @Override
+        protected void handleGet(BeanManagerImpl beanManager, Probe probe, String[] pathInfoParts, HttpServletRequest req, HttpServletResponse resp)
+                throws IOException {
+            RuntimeMetrics metrics = Container.instance(beanManager).services().get(RuntimeMetrics.class);
+            if (metrics == null || !metrics.isEnabled()) {
+                // Runtime metrics are not enabled
+                resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+                return;
+            }
+            RuntimeMetrics.writePrometheusText(metrics.collect(), resp.getWriter());
+        }
+
+        @Override
+        protected String getContentType() {
+            return TEXT_PLAIN_METRICS;
         }
     }),
     /**
@@ -393,6 +547,9 @@ enum Resource {
             setHeaders(resp, getContentType());
             switch (method) {
                 case GET:
+                    if (isDeploymentStatic() && isNotModified(probe, req, resp)) {
+                        break;
+                    }
                     handleGet(beanManager, probe, pathInfoParts, req, resp);
                     break;
                 case POST:
@@ -460,6 +617,58 @@ enum Resource {
             return Strings.APPLICATION_JSON;
         }
 
+        /**
+         * The beans, observers and bean deployment archives do not change after the Probe is initialized. The representation of such a resource is
+         * tagged with {@link Probe#getDeploymentTag()} so that the client may use a cached copy.
+         *
+         * @return <code>true</code> if the representation of the resource only depends on the deployment, <code>false</code> otherwise
+         */
+        protected boolean isDeploymentStatic() {
+            return false;
+        }
+
+        /**
+         * Serializes the JSON directly to the response writer, i.e. without creating the intermediate string. The builder holds the complete
+         * representation, for paged resources only the current page.
+         *
+         * @param resp
+         * @param json
+         * @throws IOException
+         */
+        static void writeJson(HttpServletResponse resp, JsonBuilder<?> json) throws IOException {
+            if (json != null) {
+                json.appendTo(resp.getWriter());
+            } else {
+                resp.getWriter().append(NULL);
+            }
+        }
+
+        /**
+         * Sets the entity tag and checks the conditional request.
+         *
+         * @param probe
+         * @param req
+         * @param resp
+         * @return <code>true</code> if the client already has the current representation, <code>false</code> otherwise
+         */
+        static boolean isNotModified(Probe probe, HttpServletRequest req, HttpServletResponse resp) {
+            String etag = '"' + probe.getDeploymentTag() + '"';
+            resp.setHeader(HTTP_HEADER_ETAG, etag);
+            // The client must revalidate the cached representation
+            resp.setHeader(HTTP_HEADER_CACHE_CONTROL, "no-cache");
+            String ifNoneMatch = req.getHeader(HTTP_HEADER_IF_NONE_MATCH);
+            if (ifNoneMatch != null) {
+                for (String tag : ifNoneMatch.split(",")) {
+                    tag = tag.trim();
+                    if (etag.equals(tag) || "*".equals(tag)) {
+                        resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
         static void setHeaders(HttpServletResponse resp, String contentType) {
             resp.setCharacterEncoding(ENCODING_UTF8);
             resp.setContentType(contentType);
@@ -0,0 +1,99 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.probe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A fixed-size lock-free ring buffer. Once the buffer is full, a new element replaces the oldest one. Adding an element costs a single atomic
+ * increment and a volatile write, no matter how many elements were added before.
+ *
+ * <p>
+ * Reading is not atomic with respect to concurrent writes - a snapshot may miss an element which is being added or contain an element which is
+ * being replaced. This is fine for monitoring data.
+ * </p>
+ *
+ * @param <T> the type of elements
+ */
+final class RingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+
+    private final AtomicLong sequence;
+
+    RingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+        this.slots = new AtomicReferenceArray<T>(capacity);
+        this.sequence = new AtomicLong();
+    }
+
+    /**
+     *
+     * @param element
+     * @return <code>true</code> if the element replaced the element added {@link #capacity()} insertions before, <code>false</code> otherwise
+     */
+    boolean add(T element) {
+        long seq = sequence.getAndIncrement();
+        slots.set(index(seq), element);
+        return seq >= slots.length();
+    }
+
+    /**
+     *
+     * @return the elements, the oldest element first
+     */
+    List<T> snapshot() {
+        long end = sequence.get();
+        long start = Math.max(0, end - slots.length());
+        List<T> result = new ArrayList<T>((int) (end - start));
+        for (long seq = start; seq < end; seq++) {
+            T element = slots.get(index(seq));
+            if (element != null) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+
+    /**
+     *
+     * @return the number of removed elements
+     */
+    int clear() {
+        int removed = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.getAndSet(i, null) != null) {
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    int capacity() {
+        return slots.length();
+    }
+
+    private int index(long seq) {
+        return (int) (seq % slots.length());
+    }
+
+}
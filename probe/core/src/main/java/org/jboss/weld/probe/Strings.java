@@ -99,6 +99,36 @@ public final class Strings {
     public static final String DATA = "data";
     public static final String FILTERS = "filters";
     public static final String REPRESENTATION = "representation";
+    public static final String THRESHOLD = "threshold";
+    public static final String LEAKS = "leaks";
+    public static final String OWNER = "owner";
+    public static final String INJECTION_POINT = "injectionPoint";
+    public static final String SIZE = "size";
+    public static final String WARNINGS = "warnings";
+    public static final String FIRST_DETECTED = "firstDetected";
+    public static final String LAST_DETECTED = "lastDetected";
+    public static final String REMOVED_LEAKS = "removedLeaks";
+    public static final String COUNT = "count";
+    public static final String TOTAL_TIME = "totalTime";
+    public static final String MEAN = "mean";
+    public static final String P50 = "p50";
+    public static final String P90 = "p90";
+    public static final String P99 = "p99";
+    public static final String MAX = "max";
+    public static final String REMOVED_STATISTICS = "removedStatistics";
+    public static final String FIRST_FIRED = "firstFired";
+    public static final String LAST_FIRED = "lastFired";
+    public static final String MEAN_RATE = "meanRate";
+    public static final String RECENT_RATE = "recentRate";
+    public static final String CONVERSATIONS = "conversations";
+    public static final String BEAN = "bean";
+    public static final String BEAN_IDENTIFIER = "beanIdentifier";
+    public static final String CID = "cid";
+    public static final String CONTENTIONS = "contentions";
+    public static final String WAIT_TIME = "waitTime";
+    public static final String MAX_WAIT_TIME = "maxWaitTime";
+    public static final String BUSY = "busy";
+    public static final String REMOVED_LOCKS = "removedLocks";
 
     public static final String PARAM_TRANSIENT_DEPENDENCIES = "transientDependencies";
     public static final String PARAM_TRANSIENT_DEPENDENTS = "transientDependents";
@@ -115,6 +145,8 @@ public final class Strings {
     static final String TEXT_CSS = "text/css";
     static final String TEXT_HTML = "text/html";
     static final String TEXT_PLAIN = "text/plain";
+    // Prometheus text exposition format
+    static final String TEXT_PLAIN_METRICS = "text/plain; version=0.0.4";
     static final String IMG_PNG = "image/png";
     static final String IMG_SVG = "image/svg+xml";
     static final String IMG_ICO = " image/x-icon";
@@ -148,6 +180,10 @@ public final class Strings {
     static final String SET_PREFIX = "set";
 
     static final String HTTP_HEADER_CACHE_CONTROL = "Cache-Control";
+    static final String HTTP_HEADER_ETAG = "ETag";
+    static final String HTTP_HEADER_IF_NONE_MATCH = "If-None-Match";
+
+    static final String NULL = "null";
 
     private Strings() {
     }
@@ -0,0 +1,50 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.probe;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.weld.probe.ProbeObserver.EventTypeStatistics;
+import org.junit.Test;
+
+public class EventTypeStatisticsTest {
+
+    @Test
+    public void testCountersAndRates() {
+        long start = TimeUnit.HOURS.toMillis(1);
+        EventTypeStatistics statistics = new EventTypeStatistics(String.class.getName(), start);
+        // 10 events per second for two minutes
+        for (int second = 0; second < 120; second++) {
+            for (int i = 0; i < 10; i++) {
+                statistics.record(start + TimeUnit.SECONDS.toMillis(second) + i);
+            }
+        }
+        long now = start + TimeUnit.SECONDS.toMillis(120);
+        assertEquals(1200, statistics.getCount());
+        assertEquals(start, statistics.getFirstFired());
+        assertEquals(now - 1000 + 9, statistics.getLastFired());
+        assertEquals(600, statistics.getMeanRate(now));
+        // The last 60 seconds, i.e. 61..119 are within the window, the slot for the current second (120) is empty
+        assertEquals(590, statistics.getRecentRate(now));
+        // No events for a while
+        assertEquals(0, statistics.getRecentRate(now + TimeUnit.MINUTES.toMillis(2)));
+        assertEquals(1200, statistics.getCount());
+    }
+
+}
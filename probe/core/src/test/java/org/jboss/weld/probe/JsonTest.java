@@ -19,6 +19,9 @@ package org.jboss.weld.probe;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 
+import java.io.IOException;
+import java.io.StringWriter;
+
 import org.jboss.weld.probe.Json.JsonArrayBuilder;
 import org.jboss.weld.probe.Json.JsonObjectBuilder;
 import org.junit.Test;
@@ -62,4 +65,14 @@ public class JsonTest {
         assertEquals("{\"items\":[1,2],\"name\":\"Foo\",\"parent\":{\"name\":\"Martin\",\"age\":100,\"active\":true}}", builder.build());
     }
 
+    @Test
+    public void testAppendToWriter() throws IOException {
+        JsonObjectBuilder builder = Json.objectBuilder().add("name", "say \"hello\" to C:\\").add("items",
+                Json.arrayBuilder().add(Json.objectBuilder().add("id", 1L)));
+        StringWriter writer = new StringWriter();
+        builder.appendTo(writer);
+        assertEquals("{\"name\":\"say \\\"hello\\\" to C:\\\\\",\"items\":[{\"id\":1}]}", writer.toString());
+        assertEquals(writer.toString(), builder.build());
+    }
+
 }
@@ -0,0 +1,72 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.probe;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.jboss.weld.probe.MethodStatistics.Histogram;
+import org.junit.Test;
+
+public class MethodStatisticsTest {
+
+    @Test
+    public void testBuckets() {
+        int lastIndex = -1;
+        for (long value : new long[] { 0, 1, 3, 4, 5, 7, 8, 100, 1000, 123456789, Long.MAX_VALUE }) {
+            int index = Histogram.bucketIndex(value);
+            assertTrue(index >= lastIndex);
+            long upperBound = Histogram.bucketUpperBound(index);
+            assertTrue(value + " > " + upperBound, value <= upperBound);
+            assertTrue(value + " * 1.25 < " + upperBound, upperBound - value <= value / 4);
+            lastIndex = index;
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getPercentile(0.5));
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1000000, histogram.getMax());
+        assertApproximately(500000, histogram.getPercentile(0.5));
+        assertApproximately(900000, histogram.getPercentile(0.9));
+        assertApproximately(990000, histogram.getPercentile(0.99));
+        assertEquals(1000000, histogram.getPercentile(1.0));
+    }
+
+    @Test
+    public void testSkippedBuilder() {
+        Invocation.Builder builder = Invocation.Builder.newSkippedBuilder();
+        assertTrue(builder.isSkipped());
+        builder.enterSkipped();
+        assertFalse(builder.leaveSkipped());
+        assertTrue(builder.leaveSkipped());
+        assertFalse(Invocation.Builder.newBuilder(1).isSkipped());
+    }
+
+    private static void assertApproximately(long expected, long actual) {
+        // The reported value is the upper bound of the bucket
+        assertTrue(actual + " < " + expected, actual >= expected);
+        assertTrue(actual + " > " + expected, actual <= expected * 1.25);
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.probe;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class ProbeFilterTest {
+
+    @Test
+    public void testInvocationTreeOfSkippedBuilderNotLinked() {
+        assertFalse(ProbeFilter.isInvocationTreeRecorded(null));
+        assertFalse(ProbeFilter.isInvocationTreeRecorded(Invocation.Builder.newSkippedBuilder()));
+        assertFalse(ProbeFilter.isInvocationTreeRecorded(Invocation.Builder.newSkippedBuilder().enterSkipped()));
+    }
+
+    @Test
+    public void testInvocationTreeOfRecordedBuilderLinked() {
+        Invocation.Builder builder = Invocation.Builder.newBuilder(1).ignoreIfNoChildren();
+        assertFalse(ProbeFilter.isInvocationTreeRecorded(builder));
+        builder.newChild();
+        assertTrue(ProbeFilter.isInvocationTreeRecorded(builder));
+        assertTrue(ProbeFilter.isInvocationTreeRecorded(Invocation.Builder.newBuilder(2)));
+    }
+
+}
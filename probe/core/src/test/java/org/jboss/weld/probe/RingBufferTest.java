@@ -0,0 +1,78 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.probe;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class RingBufferTest {
+
+    @Test
+    public void testOldestElementsReplaced() {
+        RingBuffer<Integer> buffer = new RingBuffer<Integer>(3);
+        assertTrue(buffer.snapshot().isEmpty());
+        assertFalse(buffer.add(1));
+        assertFalse(buffer.add(2));
+        assertEquals(Arrays.asList(1, 2), buffer.snapshot());
+        assertFalse(buffer.add(3));
+        assertTrue(buffer.add(4));
+        assertTrue(buffer.add(5));
+        assertEquals(Arrays.asList(3, 4, 5), buffer.snapshot());
+        assertEquals(3, buffer.clear());
+        assertTrue(buffer.snapshot().isEmpty());
+        buffer.add(6);
+        assertEquals(Arrays.asList(6), buffer.snapshot());
+    }
+
+    @Test
+    public void testConcurrentWritersBounded() throws InterruptedException {
+        final int capacity = 100;
+        final int threads = 4;
+        final RingBuffer<Integer> buffer = new RingBuffer<Integer>(capacity);
+        final CountDownLatch latch = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                executor.execute(() -> {
+                    for (int j = 0; j < 10000; j++) {
+                        buffer.add(j);
+                    }
+                    latch.countDown();
+                });
+            }
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(capacity, buffer.snapshot().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidCapacity() {
+        new RingBuffer<Object>(0);
+    }
+
+}
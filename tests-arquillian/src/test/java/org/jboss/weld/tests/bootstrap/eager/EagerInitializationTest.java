@@ -0,0 +1,60 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.bootstrap.eager;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.ContainerState;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.tests.util.PropertiesBuilder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Verifies that the beans annotated with {@link org.jboss.weld.bootstrap.Eager} and the beans matching the configured pattern are initialized
+ * during bootstrap, dependencies first, and that the container is already initialized at that time.
+ *
+ * @see ConfigurationKey#EAGER_INITIALIZATION
+ */
+@RunWith(Arquillian.class)
+public class EagerInitializationTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ShrinkWrap.create(BeanArchive.class)
+                .addPackage(EagerInitializationTest.class.getPackage())
+                .addAsResource(PropertiesBuilder.newBuilder().set(ConfigurationKey.EAGER_INITIALIZATION.get(), ".*\\.Bravo").build(), "weld.properties");
+    }
+
+    @Test
+    public void testBeansInitializedDuringBootstrap() {
+        assertEquals(Arrays.asList(Bravo.class.getSimpleName(), Alpha.class.getSimpleName()), Recorder.INITIALIZED);
+    }
+
+    @Test
+    public void testContainerInitializedBeforeEagerInitialization() {
+        assertEquals(ContainerState.INITIALIZED, Recorder.containerState);
+    }
+
+}
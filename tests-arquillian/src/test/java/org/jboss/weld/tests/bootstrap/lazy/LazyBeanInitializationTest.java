@@ -0,0 +1,110 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.bootstrap.lazy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.arquillian.junit.InSequence;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.tests.util.PropertiesBuilder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Verifies that the subclass of an intercepted and decorated bean is not generated before the first instance is created if the lazy bean
+ * initialization is enabled, and that the bean works correctly.
+ *
+ * @see ConfigurationKey#LAZY_BEAN_INITIALIZATION
+ */
+@RunWith(Arquillian.class)
+public class LazyBeanInitializationTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ShrinkWrap.create(BeanArchive.class)
+                .addPackage(LazyBeanInitializationTest.class.getPackage())
+                .addAsResource(PropertiesBuilder.newBuilder().set(ConfigurationKey.LAZY_BEAN_INITIALIZATION.get(), "true").build(), "weld.properties");
+    }
+
+    // the name of the intercepted subclass Weld generates for SimpleGreeter
+    private static final String SUBCLASS_NAME = SimpleGreeter.class.getName() + "$Proxy$_$$_WeldSubclass";
+
+    @Inject
+    Instance<Greeter> greeterInstance;
+
+    @Test
+    @InSequence(1)
+    public void testSubclassNotGeneratedBeforeFirstUse() {
+        try {
+            Class.forName(SUBCLASS_NAME, false, SimpleGreeter.class.getClassLoader());
+            fail("The subclass of " + SimpleGreeter.class.getName() + " was generated during bootstrap");
+        } catch (ClassNotFoundException expected) {
+            // the subclass is only generated once the first instance is created
+        }
+    }
+
+    @Test
+    @InSequence(2)
+    public void testInterceptedAndDecoratedBean() throws Exception {
+        Greeter greeter = greeterInstance.get();
+        assertEquals("Hello dear World!", greeter.greet("World"));
+        assertEquals(SUBCLASS_NAME, greeter.getClass().getName());
+        assertEquals(greeter.getClass(), Class.forName(SUBCLASS_NAME, false, SimpleGreeter.class.getClassLoader()));
+    }
+
+    @Test
+    @InSequence(3)
+    public void testConcurrentFirstCreation() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<String>> tasks = new ArrayList<Callable<String>>();
+            for (int i = 0; i < 20; i++) {
+                tasks.add(new Callable<String>() {
+                    @Override
+                    public String call() throws Exception {
+                        Greeter greeter = greeterInstance.get();
+                        assertTrue(greeter instanceof SimpleGreeter);
+                        return greeter.greet("Weld");
+                    }
+                });
+            }
+            for (Future<String> result : executor.invokeAll(tasks)) {
+                assertEquals("Hello dear Weld!", result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.bootstrap.profiling;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import javax.enterprise.inject.spi.Extension;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bootstrap.BootstrapProfiler;
+import org.jboss.weld.config.ConfigurationKey;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.jboss.weld.tests.util.PropertiesBuilder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * @see ConfigurationKey#BOOTSTRAP_PROFILING
+ */
+@RunWith(Arquillian.class)
+public class BootstrapProfilingTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ShrinkWrap.create(BeanArchive.class)
+                .addPackage(BootstrapProfilingTest.class.getPackage())
+                .addAsServiceProvider(Extension.class, CollectingExtension.class)
+                .addAsResource(PropertiesBuilder.newBuilder().set(ConfigurationKey.BOOTSTRAP_PROFILING.get(), "true").build(), "weld.properties");
+    }
+
+    @Inject
+    BeanManagerImpl beanManager;
+
+    @Inject
+    Counter counter;
+
+    @Test
+    public void testReport() {
+        assertEquals(1, counter.increment());
+        BootstrapProfiler profiler = beanManager.getServices().get(BootstrapProfiler.class);
+        assertNotNull(profiler);
+        assertTrue(profiler.isEnabled());
+        String report = profiler.getReport();
+        assertNotNull(report);
+        for (String phase : new String[] { "startContainer", "startInitialization", "deployBeans", "validateBeans", "endInitialization" }) {
+            assertTrue(report, report.contains("\"name\":\"" + phase + "\""));
+        }
+        assertTrue(report, report.contains("\"createClasses\":{\"count\":"));
+        assertTrue(report, report.contains("\"extension\":\"" + CollectingExtension.class.getName() + "\""));
+        assertTrue(report, report.contains("\"ProcessAnnotatedType\":{\"count\":"));
+    }
+}
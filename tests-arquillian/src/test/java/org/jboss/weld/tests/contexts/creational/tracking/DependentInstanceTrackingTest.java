@@ -0,0 +1,86 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.contexts.creational.tracking;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.Bean;
+import javax.enterprise.inject.spi.BeanManager;
+import javax.enterprise.inject.spi.Extension;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bean.DependentInstanceTracking;
+import org.jboss.weld.context.WeldCreationalContext;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Verifies that a dependent instance is only recorded by the creational context of the instance it belongs to if it needs to be destroyed.
+ *
+ * @see DependentInstanceTracking
+ */
+@RunWith(Arquillian.class)
+public class DependentInstanceTrackingTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ShrinkWrap.create(BeanArchive.class).decorate(GreetingDecorator.class).addPackage(DependentInstanceTrackingTest.class.getPackage())
+                .addAsServiceProvider(Extension.class, SyntheticBeanExtension.class);
+    }
+
+    @Inject
+    BeanManager beanManager;
+
+    @Test
+    public void testTrivialDestructionNotTracked() {
+        assertEquals(0, getTrackedInstances(Plain.class));
+        assertEquals(0, getTrackedInstances(InjectionPointAware.class));
+        assertEquals(0, getTrackedInstances(Greeting.class));
+        assertEquals(0, getTrackedInstances(Synthetic.class));
+    }
+
+    @Test
+    public void testDestructionTracked() {
+        assertEquals(1, getTrackedInstances(Destroyable.class));
+        // transitive dependency with @PreDestroy
+        assertEquals(1, getTrackedInstances(Holder.class));
+    }
+
+    @Test
+    public void testTransitiveDependencyDestroyed() {
+        Destroyable.destroyed = false;
+        CreationalContext<?> ctx = beanManager.createCreationalContext(null);
+        beanManager.getReference(beanManager.resolve(beanManager.getBeans(Holder.class)), Holder.class, ctx);
+        ctx.release();
+        assertTrue(Destroyable.destroyed);
+    }
+
+    private int getTrackedInstances(Class<?> type) {
+        CreationalContext<?> ctx = beanManager.createCreationalContext(null);
+        Bean<?> bean = beanManager.resolve(beanManager.getBeans(type));
+        beanManager.getReference(bean, type, ctx);
+        return ((WeldCreationalContext<?>) ctx).getDependentInstances().size();
+    }
+
+}
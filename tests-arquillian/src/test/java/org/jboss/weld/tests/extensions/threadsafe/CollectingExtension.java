@@ -0,0 +1,50 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.extensions.threadsafe;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.spi.Extension;
+import javax.enterprise.inject.spi.ProcessAnnotatedType;
+import javax.enterprise.inject.spi.ProcessManagedBean;
+
+import org.jboss.weld.bootstrap.events.ThreadSafeExtension;
+
+@ThreadSafeExtension
+public class CollectingExtension implements Extension {
+
+    private final Set<Class<?>> types = ConcurrentHashMap.newKeySet();
+    private final Set<Class<?>> beans = ConcurrentHashMap.newKeySet();
+
+    void collectType(@Observes ProcessAnnotatedType<?> event) {
+        types.add(event.getAnnotatedType().getJavaClass());
+    }
+
+    void collectBean(@Observes ProcessManagedBean<?> event) {
+        beans.add(event.getBean().getBeanClass());
+    }
+
+    public Set<Class<?>> getTypes() {
+        return types;
+    }
+
+    public Set<Class<?>> getBeans() {
+        return beans;
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.extensions.threadsafe;
+
+import static org.junit.Assert.assertTrue;
+
+import javax.enterprise.inject.spi.Extension;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bootstrap.events.ContainerLifecycleEvents;
+import org.jboss.weld.bootstrap.events.ThreadSafeExtension;
+import org.jboss.weld.manager.BeanManagerImpl;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Verifies that the container lifecycle events are delivered to a {@link ThreadSafeExtension} correctly.
+ */
+@RunWith(Arquillian.class)
+public class ThreadSafeExtensionTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(ThreadSafeExtensionTest.class.getPackage())
+                .addAsServiceProvider(Extension.class, CollectingExtension.class);
+    }
+
+    @Inject
+    CollectingExtension extension;
+
+    @Inject
+    BeanManagerImpl beanManager;
+
+    @Test
+    public void testAllEventsDelivered() {
+        for (Class<?> clazz : new Class<?>[] { Alpha.class, Bravo.class, Charlie.class }) {
+            assertTrue(extension.getTypes().contains(clazz));
+            assertTrue(extension.getBeans().contains(clazz));
+        }
+        assertTrue(beanManager.getServices().get(ContainerLifecycleEvents.class).isProcessBeanThreadSafe());
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.injectionTarget.plan;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Verifies that the compiled {@link org.jboss.weld.injection.InjectionPlan} injects the fields and calls the initializer methods in the right order.
+ */
+@RunWith(Arquillian.class)
+public class InjectionPlanTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(InjectionPlanTest.class.getPackage());
+    }
+
+    @Inject
+    Instance<Shop> shopInstance;
+
+    @Test
+    public void testInjection() {
+        // The first instances may be created before the plan is compiled
+        for (int i = 0; i < 3; i++) {
+            Shop shop = shopInstance.get();
+            assertEquals(Arrays.asList(AbstractShop.class.getSimpleName(), Shop.class.getSimpleName()), shop.initialized);
+            assertEquals("warehouse", shop.warehouse.getName());
+            // The same client proxy is injected
+            assertSame(shop.warehouse, shop.superWarehouse);
+            assertNotNull(shop.item);
+            assertNotNull(shop.transientItem);
+            assertNotSame(shop.item, shop.items.get());
+            Shop other = shopInstance.get();
+            assertSame(shop.warehouse, other.warehouse);
+            assertNotSame(shop.item, other.item);
+            shopInstance.destroy(shop);
+            shopInstance.destroy(other);
+        }
+    }
+
+}
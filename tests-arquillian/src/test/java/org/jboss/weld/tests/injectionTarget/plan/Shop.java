@@ -0,0 +1,46 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.injectionTarget.plan;
+
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.TransientReference;
+import javax.inject.Inject;
+
+@Dependent
+public class Shop extends AbstractShop {
+
+    @Inject
+    Warehouse warehouse;
+
+    @Inject
+    Item item;
+
+    @Inject
+    Instance<Item> items;
+
+    Item transientItem;
+
+    @Inject
+    void init(Warehouse warehouse, @TransientReference Item item) {
+        if (this.warehouse != null) {
+            initialized.add(Shop.class.getSimpleName());
+        }
+        this.transientItem = item;
+    }
+
+}
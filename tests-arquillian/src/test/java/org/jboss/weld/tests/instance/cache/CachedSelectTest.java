@@ -0,0 +1,91 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.instance.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.inject.UnsatisfiedResolutionException;
+import javax.enterprise.inject.spi.Bean;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.bean.builtin.WeldInstance;
+import org.jboss.weld.bean.builtin.WeldInstance.Handle;
+import org.jboss.weld.literal.DefaultLiteral;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests that the results of {@link Instance#select(Class, java.lang.annotation.Annotation...)} are cached and that {@link WeldInstance#getHandle()}
+ * works as expected.
+ */
+@RunWith(Arquillian.class)
+public class CachedSelectTest {
+
+    @Deployment
+    public static Archive<?> getDeployment() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(CachedSelectTest.class.getPackage());
+    }
+
+    @Inject
+    @Any
+    WeldInstance<Object> instance;
+
+    @Test
+    public void testSelectResultCached() {
+        Instance<Processor> fast = instance.select(Processor.class, Fast.Literal.INSTANCE);
+        assertSame(fast, instance.select(Processor.class, Fast.Literal.INSTANCE));
+        Instance<Processor> slow = instance.select(Processor.class, DefaultLiteral.INSTANCE);
+        assertNotSame(fast, slow);
+        assertEquals("fast foo", fast.get().process("foo"));
+        assertEquals("slow foo", slow.get().process("foo"));
+    }
+
+    @Test
+    public void testNormalScopedHandle() {
+        Handle<Processor> handle = instance.select(Processor.class, Fast.Literal.INSTANCE).getHandle();
+        Bean<?> bean = handle.getBean();
+        assertEquals(FastProcessor.class, bean.getBeanClass());
+        assertSame(handle.get(), handle.get());
+        assertEquals("fast bar", handle.get().process("bar"));
+    }
+
+    @Test
+    public void testDependentHandle() {
+        Handle<SlowProcessor> handle = instance.select(SlowProcessor.class).getHandle();
+        assertEquals(SlowProcessor.class, handle.getBean().getBeanClass());
+        assertNotSame(handle.get(), handle.get());
+    }
+
+    @Test
+    public void testUnsatisfiedHandle() {
+        try {
+            instance.select(String.class).getHandle();
+            fail();
+        } catch (UnsatisfiedResolutionException expected) {
+        }
+    }
+}
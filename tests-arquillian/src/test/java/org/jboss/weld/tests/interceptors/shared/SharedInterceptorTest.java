@@ -0,0 +1,70 @@
+/*
+ * JBoss, Home of Professional Open Source
+ * Copyright 2015, Red Hat, Inc., and individual contributors
+ * by the @authors tag. See the copyright.txt in the distribution for a
+ * full listing of individual contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jboss.weld.tests.interceptors.shared;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+import javax.enterprise.inject.Instance;
+import javax.inject.Inject;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.junit.Arquillian;
+import org.jboss.shrinkwrap.api.Archive;
+import org.jboss.shrinkwrap.api.BeanArchive;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.weld.interceptor.SharedInterceptor;
+import org.jboss.weld.test.util.Utils;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Verifies that all the intercepted instances use the same instance of a {@link SharedInterceptor}, including the activated ones.
+ */
+@RunWith(Arquillian.class)
+public class SharedInterceptorTest {
+
+    @Deployment
+    public static Archive<?> createTestArchive() {
+        return ShrinkWrap.create(BeanArchive.class).addPackage(SharedInterceptorTest.class.getPackage()).addClass(Utils.class);
+    }
+
+    @Inject
+    Instance<Ponger> pongerInstance;
+
+    @Test
+    public void testInterceptorInstanceShared() {
+        PingInterceptor.lastInstance = null;
+        assertEquals("pong", pongerInstance.get().ping());
+        PingInterceptor shared = PingInterceptor.lastInstance;
+        assertNotNull(shared);
+        assertEquals("pong", pongerInstance.get().ping());
+        assertSame(shared, PingInterceptor.lastInstance);
+    }
+
+    @Test
+    public void testActivatedInstanceUsesSharedInterceptor() throws Exception {
+        Ponger ponger = pongerInstance.get();
+        ponger.ping();
+        PingInterceptor shared = PingInterceptor.lastInstance;
+        Ponger activated = Utils.deserialize(Utils.serialize(ponger));
+        assertEquals("pong", activated.ping());
+        assertSame(shared, PingInterceptor.lastInstance);
+    }
+
+}